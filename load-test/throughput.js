@@ -0,0 +1,68 @@
+// Prueba de carga para comparar el modo de hilos de plataforma con el perfil vthreads.
+//
+//   k6 run -e BASE_URL=http://localhost:8081 -e EMAIL=admin@arka.com -e PASSWORD=secret load-test/throughput.js
+//
+// Ejecutarla dos veces contra la misma base de datos, una con SPRING_PROFILES_ACTIVE=dev y otra con
+// SPRING_PROFILES_ACTIVE=dev,vthreads, y comparar http_reqs/s, http_req_duration p(95) y http_req_failed.
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8081';
+const PEAK_RATE = Number(__ENV.PEAK_RATE || 2000);
+
+export const options = {
+  scenarios: {
+    catalog: {
+      executor: 'ramping-arrival-rate',
+      exec: 'catalog',
+      startRate: 50,
+      timeUnit: '1s',
+      preAllocatedVUs: 200,
+      maxVUs: 5000,
+      stages: [
+        { target: PEAK_RATE, duration: '1m' },
+        { target: PEAK_RATE, duration: '2m' },
+        { target: 0, duration: '30s' },
+      ],
+    },
+    orders: {
+      executor: 'ramping-arrival-rate',
+      exec: 'orders',
+      startRate: 10,
+      timeUnit: '1s',
+      preAllocatedVUs: 100,
+      maxVUs: 2000,
+      stages: [
+        { target: PEAK_RATE / 4, duration: '1m' },
+        { target: PEAK_RATE / 4, duration: '2m' },
+        { target: 0, duration: '30s' },
+      ],
+    },
+  },
+  thresholds: {
+    http_req_failed: ['rate<0.01'],
+  },
+};
+
+export function setup() {
+  const response = http.post(`${BASE_URL}/api/auth/login`,
+    JSON.stringify({ email: __ENV.EMAIL, password: __ENV.PASSWORD }),
+    { headers: { 'Content-Type': 'application/json' } });
+  check(response, { 'login 200': (r) => r.status === 200 });
+  return { token: response.json('jwt') };
+}
+
+// sin If-None-Match: cada lectura llega a la base de datos
+export function catalog() {
+  const page = Math.floor(Math.random() * 5);
+  const response = http.get(`${BASE_URL}/api/products?page=${page}&size=20`, { tags: { name: 'products' } });
+  check(response, { 'products 200': (r) => r.status === 200 });
+}
+
+export function orders(data) {
+  const response = http.get(`${BASE_URL}/api/orders/summary?size=20`, {
+    headers: { Authorization: `Bearer ${data.token}` },
+    tags: { name: 'order-summary' },
+  });
+  check(response, { 'orders 200': (r) => r.status === 200 });
+}
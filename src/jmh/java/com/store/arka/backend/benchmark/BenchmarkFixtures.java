@@ -0,0 +1,122 @@
+package com.store.arka.backend.benchmark;
+
+import com.store.arka.backend.domain.enums.*;
+import com.store.arka.backend.domain.model.*;
+import com.store.arka.backend.infrastructure.persistence.entity.CartEntity;
+import com.store.arka.backend.infrastructure.persistence.entity.CartItemEntity;
+import com.store.arka.backend.infrastructure.persistence.entity.CategoryEntity;
+import com.store.arka.backend.infrastructure.persistence.entity.ProductEntity;
+import jakarta.persistence.EntityManager;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * Datos deterministas para los benchmarks y un EntityManager mínimo que solo resuelve
+ * getReference, suficiente para los mappers y updaters sin levantar Hibernate.
+ */
+final class BenchmarkFixtures {
+  private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+  private BenchmarkFixtures() {
+  }
+
+  static EntityManager referenceOnlyEntityManager() {
+    return (EntityManager) Proxy.newProxyInstance(
+        EntityManager.class.getClassLoader(),
+        new Class<?>[]{EntityManager.class},
+        (proxy, method, args) -> {
+          if (method.getName().equals("getReference")) {
+            Object reference = ((Class<?>) args[0]).getDeclaredConstructor().newInstance();
+            reference.getClass().getMethod("setId", UUID.class).invoke(reference, args[1]);
+            return reference;
+          }
+          throw new UnsupportedOperationException(method.getName());
+        });
+  }
+
+  static <T> T withEntityManager(T target, EntityManager entityManager) {
+    try {
+      Field field = target.getClass().getDeclaredField("entityManager");
+      field.setAccessible(true);
+      field.set(target, entityManager);
+      return target;
+    } catch (ReflectiveOperationException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  static UUID uuid(long seed) {
+    return new UUID(0x4152_4b41L, seed);
+  }
+
+  static Category category(int index) {
+    return new Category(uuid(10_000 + index), "Category " + index, "Description " + index,
+        CategoryStatus.ACTIVE, NOW, NOW);
+  }
+
+  static Product product(int index) {
+    Set<Category> categories = new HashSet<>(List.of(category(index % 7), category(index % 11)));
+    return new Product(uuid(index), "SKU-" + index, "Product " + index, "Description " + index,
+        BigDecimal.valueOf(1_000 + index * 37L, 2), categories, 500, ProductStatus.ACTIVE, NOW, NOW);
+  }
+
+  static ProductEntity productEntity(int index) {
+    Set<CategoryEntity> categories = new HashSet<>();
+    for (Category category : product(index).getCategories()) {
+      categories.add(new CategoryEntity(category.getId(), category.getName(), category.getDescription(),
+          null, category.getStatus(), NOW, NOW));
+    }
+    return new ProductEntity(uuid(index), 0L, "SKU-" + index, "Product " + index, "Description " + index,
+        BigDecimal.valueOf(1_000 + index * 37L, 2), categories, 500, ProductStatus.ACTIVE, NOW, NOW);
+  }
+
+  static Customer customer() {
+    Document document = new Document(uuid(90_001), DocumentType.DNI, "1234567890", DocumentStatus.ACTIVE, NOW, NOW);
+    return new Customer(uuid(90_002), uuid(90_003), document, "maría josé", "pérez gómez", "maria@arka.com",
+        "3001234567", "Calle 1 # 2-3", "Bogotá", Country.COLOMBIA, CustomerStatus.ACTIVE, NOW, NOW);
+  }
+
+  static List<CartItem> cartItems(int lines) {
+    List<CartItem> items = new ArrayList<>(lines);
+    for (int i = 0; i < lines; i++) {
+      Product product = product(i);
+      items.add(new CartItem(uuid(20_000 + i), product.getId(), product, 1 + i % 5, NOW));
+    }
+    return items;
+  }
+
+  static Cart cart(int lines) {
+    return new Cart(uuid(30_000), customer(), cartItems(lines), CartStatus.ACTIVE, NOW, NOW, null);
+  }
+
+  static CartEntity cartEntity(Cart cart) {
+    CartEntity entity = new CartEntity();
+    entity.setId(cart.getId());
+    entity.setStatus(cart.getStatus());
+    List<CartItemEntity> items = new ArrayList<>(cart.getItems().size());
+    for (CartItem item : cart.getItems()) {
+      ProductEntity product = new ProductEntity();
+      product.setId(item.getProductId());
+      items.add(new CartItemEntity(item.getId(), product, item.getQuantity(), entity, NOW));
+    }
+    entity.setItems(items);
+    return entity;
+  }
+
+  static Order order(int lines) {
+    List<OrderItem> items = new ArrayList<>(lines);
+    for (int i = 0; i < lines; i++) {
+      Product product = product(i);
+      int quantity = 1 + i % 5;
+      BigDecimal subtotal = product.getPrice().multiply(BigDecimal.valueOf(quantity));
+      items.add(new OrderItem(uuid(40_000 + i), product.getId(), product, quantity, product.getPrice(), subtotal, NOW));
+    }
+    Order order = new Order(uuid(50_000), uuid(30_000), customer(), items, BigDecimal.ZERO, OrderStatus.CREATED, null, NOW, NOW);
+    order.recalculateTotal();
+    return order;
+  }
+}
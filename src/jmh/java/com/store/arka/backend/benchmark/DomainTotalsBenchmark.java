@@ -0,0 +1,38 @@
+package com.store.arka.backend.benchmark;
+
+import com.store.arka.backend.domain.model.Cart;
+import com.store.arka.backend.domain.model.CartItem;
+import com.store.arka.backend.domain.model.Order;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DomainTotalsBenchmark {
+  @Param({"1", "10", "50", "200", "500"})
+  private int lines;
+
+  private List<CartItem> cartItems;
+  private Order order;
+
+  @Setup
+  public void setUp() {
+    cartItems = BenchmarkFixtures.cartItems(lines);
+    order = BenchmarkFixtures.order(lines);
+  }
+
+  @Benchmark
+  public BigDecimal cartCalculateTotal() {
+    return Cart.calculateTotal(cartItems);
+  }
+
+  @Benchmark
+  public BigDecimal orderRecalculateTotal() {
+    order.recalculateTotal();
+    return order.getTotal();
+  }
+}
@@ -0,0 +1,24 @@
+package com.store.arka.backend.benchmark;
+
+import com.store.arka.backend.domain.enums.NotificationType;
+import com.store.arka.backend.shared.util.MessageNotificationType;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class NotificationMessageBenchmark {
+  private final UUID orderId = BenchmarkFixtures.uuid(50_000);
+  private final String customerName = "maría josé pérez gómez";
+
+  @Benchmark
+  public void defaultMessageForAllTypes(Blackhole blackhole) {
+    for (NotificationType type : NotificationType.values()) {
+      blackhole.consume(MessageNotificationType.defaultMessageFor(type, customerName, orderId));
+    }
+  }
+}
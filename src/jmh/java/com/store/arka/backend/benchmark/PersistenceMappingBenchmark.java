@@ -0,0 +1,68 @@
+package com.store.arka.backend.benchmark;
+
+import com.store.arka.backend.domain.model.Cart;
+import com.store.arka.backend.domain.model.Order;
+import com.store.arka.backend.domain.model.Product;
+import com.store.arka.backend.infrastructure.persistence.entity.CartEntity;
+import com.store.arka.backend.infrastructure.persistence.entity.OrderEntity;
+import com.store.arka.backend.infrastructure.persistence.entity.ProductEntity;
+import com.store.arka.backend.infrastructure.persistence.mapper.*;
+import com.store.arka.backend.infrastructure.persistence.updater.CartItemUpdater;
+import com.store.arka.backend.infrastructure.persistence.updater.CartUpdater;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PersistenceMappingBenchmark {
+  @Param({"1", "10", "50", "200", "500"})
+  private int lines;
+
+  private ProductMapper productMapper;
+  private OrderMapper orderMapper;
+  private CartUpdater cartUpdater;
+  private List<ProductEntity> productEntities;
+  private Order order;
+  private Cart cart;
+  private CartEntity cartEntity;
+
+  @Setup
+  public void setUp() {
+    EntityManager entityManager = BenchmarkFixtures.referenceOnlyEntityManager();
+    CategoryMapper categoryMapper = BenchmarkFixtures.withEntityManager(new CategoryMapper(), entityManager);
+    productMapper = BenchmarkFixtures.withEntityManager(new ProductMapper(categoryMapper), entityManager);
+    CustomerMapper customerMapper = BenchmarkFixtures.withEntityManager(
+        new CustomerMapper(new DocumentMapper(), BenchmarkFixtures.withEntityManager(new UserMapper(), entityManager)),
+        entityManager);
+    orderMapper = BenchmarkFixtures.withEntityManager(
+        new OrderMapper(customerMapper, new OrderItemMapper(productMapper)), entityManager);
+    cartUpdater = new CartUpdater(new CartItemUpdater());
+
+    productEntities = new ArrayList<>(lines);
+    for (int i = 0; i < lines; i++) productEntities.add(BenchmarkFixtures.productEntity(i));
+    order = BenchmarkFixtures.order(lines);
+    cart = BenchmarkFixtures.cart(lines);
+    cartEntity = BenchmarkFixtures.cartEntity(cart);
+  }
+
+  @Benchmark
+  public List<Product> productMapperToDomainList() {
+    return productMapper.toDomain(productEntities);
+  }
+
+  @Benchmark
+  public OrderEntity orderMapperToEntity() {
+    return orderMapper.toEntity(order);
+  }
+
+  /** Reconciliación sin cambios: mide el recorrido completo de ítems que hace merge en cada guardado. */
+  @Benchmark
+  public CartEntity cartUpdaterMerge() {
+    return cartUpdater.merge(cartEntity, cart);
+  }
+}
@@ -0,0 +1,11 @@
+package com.store.arka.backend.application.model;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+public record BulkOperationResult(
+    List<UUID> succeeded,
+    Map<UUID, String> failed
+) {
+}
@@ -0,0 +1,14 @@
+package com.store.arka.backend.application.model;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public record CategorySalesReport(
+    UUID categoryId,
+    String categoryName,
+    Long unitsSold,
+    BigDecimal revenue,
+    Long unitsPurchased,
+    BigDecimal purchaseCost
+) {
+}
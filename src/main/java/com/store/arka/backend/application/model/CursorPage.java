@@ -0,0 +1,10 @@
+package com.store.arka.backend.application.model;
+
+import java.util.List;
+
+public record CursorPage<T>(
+    List<T> items,
+    String nextCursor,
+    boolean hasNext
+) {
+}
@@ -0,0 +1,13 @@
+package com.store.arka.backend.application.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record DailySalesReport(
+    LocalDate date,
+    Long unitsSold,
+    BigDecimal revenue,
+    Long unitsPurchased,
+    BigDecimal purchaseCost
+) {
+}
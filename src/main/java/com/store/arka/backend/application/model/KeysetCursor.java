@@ -0,0 +1,38 @@
+package com.store.arka.backend.application.model;
+
+import com.store.arka.backend.domain.exception.InvalidArgumentException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Position inside a listing ordered by (timestamp, id). Travels to clients as an opaque Base64URL token.
+ */
+public record KeysetCursor(
+    LocalDateTime timestamp,
+    UUID id
+) {
+  private static final String SEPARATOR = "|";
+
+  public String encode() {
+    String raw = timestamp + SEPARATOR + id;
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  public static KeysetCursor decode(String cursor) {
+    if (cursor == null || cursor.isBlank()) return null;
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(cursor.trim()), StandardCharsets.UTF_8);
+      int separator = raw.indexOf(SEPARATOR);
+      return new KeysetCursor(
+          LocalDateTime.parse(raw.substring(0, separator)),
+          UUID.fromString(raw.substring(separator + 1))
+      );
+    } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException ex) {
+      throw new InvalidArgumentException("Invalid cursor " + cursor);
+    }
+  }
+}
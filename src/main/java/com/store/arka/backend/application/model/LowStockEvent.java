@@ -0,0 +1,12 @@
+package com.store.arka.backend.application.model;
+
+import java.util.UUID;
+
+/**
+ * A product whose stock dropped to or below {@code Product.LOW_STOCK_THRESHOLD} in a committed transaction.
+ */
+public record LowStockEvent(
+    UUID productId,
+    int stock
+) {
+}
@@ -0,0 +1,12 @@
+package com.store.arka.backend.application.model;
+
+import java.util.UUID;
+
+public record NotificationDelivery(
+    UUID notificationId,
+    UUID orderId,
+    String email,
+    String message,
+    int attempts
+) {
+}
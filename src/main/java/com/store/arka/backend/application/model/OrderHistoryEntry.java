@@ -0,0 +1,22 @@
+package com.store.arka.backend.application.model;
+
+import com.store.arka.backend.domain.enums.OrderStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Row of the per-customer order history projection, kept in sync from the order transitions.
+ */
+public record OrderHistoryEntry(
+    UUID orderId,
+    UUID customerId,
+    UUID customerUserId,
+    OrderStatus status,
+    BigDecimal total,
+    Integer itemCount,
+    LocalDateTime createdAt,
+    LocalDateTime updatedAt
+) {
+}
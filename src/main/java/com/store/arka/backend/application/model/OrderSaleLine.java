@@ -0,0 +1,15 @@
+package com.store.arka.backend.application.model;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Units and revenue of one product within a paid order; reversals carry negative values.
+ */
+public record OrderSaleLine(
+    UUID orderId,
+    UUID productId,
+    long unitsSold,
+    BigDecimal revenue
+) {
+}
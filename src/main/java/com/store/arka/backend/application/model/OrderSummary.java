@@ -0,0 +1,19 @@
+package com.store.arka.backend.application.model;
+
+import com.store.arka.backend.domain.enums.OrderStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record OrderSummary(
+    UUID id,
+    UUID customerId,
+    String customerFirstName,
+    String customerLastName,
+    Long itemCount,
+    BigDecimal total,
+    OrderStatus status,
+    LocalDateTime createdAt
+) {
+}
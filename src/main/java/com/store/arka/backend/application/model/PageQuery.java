@@ -0,0 +1,18 @@
+package com.store.arka.backend.application.model;
+
+/**
+ * Offset page request for list use cases. {@code sortBy} is a model property name checked by each
+ * service against its own allowlist; results are always tie-broken by id so pages stay stable.
+ */
+public record PageQuery(
+    int page,
+    int size,
+    String sortBy,
+    boolean descending
+) {
+  public static final int MAX_SIZE = 100;
+
+  public PageQuery withDefaultSort(String property) {
+    return sortBy != null ? this : new PageQuery(page, size, property, true);
+  }
+}
@@ -0,0 +1,19 @@
+package com.store.arka.backend.application.model;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * One slice of a list. There is no total count: {@code hasNext} comes from reading one row past the page.
+ */
+public record PageResult<T>(
+    List<T> items,
+    int page,
+    int size,
+    boolean hasNext
+) {
+  public <R> PageResult<R> map(Function<T, R> mapper) {
+    return new PageResult<>(items.stream().map(mapper).collect(Collectors.toList()), page, size, hasNext);
+  }
+}
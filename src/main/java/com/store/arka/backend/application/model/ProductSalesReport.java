@@ -0,0 +1,15 @@
+package com.store.arka.backend.application.model;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public record ProductSalesReport(
+    UUID productId,
+    String sku,
+    String productName,
+    Long unitsSold,
+    BigDecimal revenue,
+    Long unitsPurchased,
+    BigDecimal purchaseCost
+) {
+}
@@ -0,0 +1,26 @@
+package com.store.arka.backend.application.model;
+
+import com.store.arka.backend.domain.enums.ProductStatus;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Catalog search criteria. Every filter is optional except that a text or a category must be given.
+ */
+public record ProductSearchQuery(
+    String text,
+    UUID categoryId,
+    ProductStatus status,
+    BigDecimal minPrice,
+    BigDecimal maxPrice,
+    Sort sort,
+    int page,
+    int size
+) {
+  public enum Sort {
+    RELEVANCE,
+    PRICE_ASC,
+    PRICE_DESC
+  }
+}
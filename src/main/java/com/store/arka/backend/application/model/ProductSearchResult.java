@@ -0,0 +1,18 @@
+package com.store.arka.backend.application.model;
+
+import com.store.arka.backend.domain.model.Product;
+
+import java.util.List;
+
+/**
+ * One page of search hits plus facet counts computed over every product that matched the filters.
+ */
+public record ProductSearchResult(
+    List<Product> items,
+    long total,
+    int page,
+    int size,
+    List<SearchFacet> categories,
+    List<SearchFacet> statuses
+) {
+}
@@ -0,0 +1,13 @@
+package com.store.arka.backend.application.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * Validator of a readable resource: an opaque tag that changes with every write and the moment of
+ * the last change, when it is known.
+ */
+public record ResourceVersion(
+    String tag,
+    LocalDateTime lastModified
+) {
+}
@@ -0,0 +1,16 @@
+package com.store.arka.backend.application.model;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Signed change applied to a product's daily rollup; cancellations of paid orders carry negative values.
+ */
+public record RollupDelta(
+    UUID productId,
+    long unitsSold,
+    BigDecimal revenue,
+    long unitsPurchased,
+    BigDecimal purchaseCost
+) {
+}
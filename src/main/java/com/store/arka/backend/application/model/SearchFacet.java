@@ -0,0 +1,8 @@
+package com.store.arka.backend.application.model;
+
+public record SearchFacet(
+    String value,
+    String label,
+    long count
+) {
+}
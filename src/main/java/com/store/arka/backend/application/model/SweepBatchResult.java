@@ -0,0 +1,10 @@
+package com.store.arka.backend.application.model;
+
+/**
+ * Outcome of one batch of a background sweep: rows scanned from the index and rows actually changed.
+ */
+public record SweepBatchResult(
+    int scanned,
+    int affected
+) {
+}
@@ -1,8 +1,9 @@
 package com.store.arka.backend.application.port.in;
 
+import com.store.arka.backend.application.model.PageQuery;
+import com.store.arka.backend.application.model.PageResult;
 import com.store.arka.backend.domain.model.CartItem;
 
-import java.util.List;
 import java.util.UUID;
 
 public interface ICartItemUseCase {
@@ -10,9 +11,9 @@ public interface ICartItemUseCase {
 
   CartItem getCartItemById(UUID id);
 
-  List<CartItem> getAllCartItems();
+  PageResult<CartItem> getAllCartItems(PageQuery pageQuery);
 
-  List<CartItem> getAllCartItemsByProductId(UUID productId);
+  PageResult<CartItem> getAllCartItemsByProductId(UUID productId, PageQuery pageQuery);
 
   CartItem addQuantityById(UUID id, Integer quantity);
 
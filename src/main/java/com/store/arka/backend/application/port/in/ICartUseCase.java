@@ -1,9 +1,12 @@
 package com.store.arka.backend.application.port.in;
 
+import com.store.arka.backend.application.model.PageQuery;
+import com.store.arka.backend.application.model.PageResult;
+import com.store.arka.backend.application.model.SweepBatchResult;
 import com.store.arka.backend.domain.enums.CartStatus;
 import com.store.arka.backend.domain.model.Cart;
 
-import java.util.List;
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 public interface ICartUseCase {
@@ -13,13 +16,13 @@ public interface ICartUseCase {
 
   Cart getCartByIdSecure(UUID id);
 
-  List<Cart> getAllCarts();
+  PageResult<Cart> getAllCarts(PageQuery pageQuery);
 
-  List<Cart> getAllCartsByStatus(CartStatus status);
+  PageResult<Cart> getAllCartsByStatus(CartStatus status, PageQuery pageQuery);
 
-  List<Cart> getAllCartsByCustomerId(UUID customerId);
+  PageResult<Cart> getAllCartsByCustomerId(UUID customerId, PageQuery pageQuery);
 
-  List<Cart> getAllCartsByItemsProductId(UUID productId);
+  PageResult<Cart> getAllCartsByItemsProductId(UUID productId, PageQuery pageQuery);
 
   Cart addCartItem(UUID id, UUID productId, Integer quantity);
 
@@ -32,4 +35,6 @@ public interface ICartUseCase {
   String checkoutCart(UUID id);
 
   void deleteCart(UUID id);
+
+  SweepBatchResult abandonIdleCartsBatch(LocalDateTime cutoff, int batchSize);
 }
@@ -0,0 +1,7 @@
+package com.store.arka.backend.application.port.in;
+
+import com.store.arka.backend.application.model.ResourceVersion;
+
+public interface ICatalogVersionUseCase {
+  ResourceVersion getCatalogVersion();
+}
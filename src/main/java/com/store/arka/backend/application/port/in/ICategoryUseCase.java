@@ -1,9 +1,12 @@
 package com.store.arka.backend.application.port.in;
 
+import com.store.arka.backend.application.model.PageQuery;
+import com.store.arka.backend.application.model.PageResult;
+import com.store.arka.backend.application.model.ResourceVersion;
 import com.store.arka.backend.domain.enums.CategoryStatus;
 import com.store.arka.backend.domain.model.Category;
 
-import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 public interface ICategoryUseCase {
@@ -13,9 +16,13 @@ public interface ICategoryUseCase {
 
   Category getCategoryByName(String name);
 
-  List<Category> getAllCategories();
+  Optional<ResourceVersion> getCategoryVersionById(UUID id);
 
-  List<Category> getAllCategoriesByStatus(CategoryStatus status);
+  Optional<ResourceVersion> getCategoryVersionByName(String name);
+
+  PageResult<Category> getAllCategories(PageQuery pageQuery);
+
+  PageResult<Category> getAllCategoriesByStatus(CategoryStatus status, PageQuery pageQuery);
 
   Category updateDescription(UUID id, Category category);
 
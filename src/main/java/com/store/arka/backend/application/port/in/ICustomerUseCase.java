@@ -1,9 +1,10 @@
 package com.store.arka.backend.application.port.in;
 
+import com.store.arka.backend.application.model.PageQuery;
+import com.store.arka.backend.application.model.PageResult;
 import com.store.arka.backend.domain.enums.CustomerStatus;
 import com.store.arka.backend.domain.model.Customer;
 
-import java.util.List;
 import java.util.UUID;
 
 public interface ICustomerUseCase {
@@ -17,9 +18,9 @@ public interface ICustomerUseCase {
 
   Customer getCustomerByDocumentNumber(String number);
 
-  List<Customer> getAllCustomers();
+  PageResult<Customer> getAllCustomers(PageQuery pageQuery);
 
-  List<Customer> getAllCustomersByStatus(CustomerStatus status);
+  PageResult<Customer> getAllCustomersByStatus(CustomerStatus status, PageQuery pageQuery);
 
   Customer updateFieldsCustomer(UUID id, Customer customer);
 
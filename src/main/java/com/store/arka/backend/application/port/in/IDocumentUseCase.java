@@ -1,9 +1,10 @@
 package com.store.arka.backend.application.port.in;
 
+import com.store.arka.backend.application.model.PageQuery;
+import com.store.arka.backend.application.model.PageResult;
 import com.store.arka.backend.domain.enums.DocumentStatus;
 import com.store.arka.backend.domain.model.Document;
 
-import java.util.List;
 import java.util.UUID;
 
 public interface IDocumentUseCase {
@@ -13,9 +14,9 @@ public interface IDocumentUseCase {
 
   Document getDocumentByNumber(String number);
 
-  List<Document> getAllDocuments();
+  PageResult<Document> getAllDocuments(PageQuery pageQuery);
 
-  List<Document> getAllDocumentsByStatus(DocumentStatus status);
+  PageResult<Document> getAllDocumentsByStatus(DocumentStatus status, PageQuery pageQuery);
 
   Document updateDocument(UUID id, Document document);
 
@@ -1,5 +1,13 @@
 package com.store.arka.backend.application.port.in;
 
+import com.store.arka.backend.application.model.NotificationDelivery;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
 public interface IEmailService {
   void sendNotificationEmail(String to, String subject, String message);
+
+  Map<UUID, String> sendNotificationEmails(List<NotificationDelivery> deliveries);
 }
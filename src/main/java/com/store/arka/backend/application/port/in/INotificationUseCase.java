@@ -1,28 +1,41 @@
 package com.store.arka.backend.application.port.in;
 
+import com.store.arka.backend.application.model.CursorPage;
+import com.store.arka.backend.application.model.NotificationDelivery;
+import com.store.arka.backend.application.model.PageQuery;
+import com.store.arka.backend.application.model.PageResult;
 import com.store.arka.backend.domain.enums.NotificationStatus;
 import com.store.arka.backend.domain.enums.NotificationType;
 import com.store.arka.backend.domain.model.Notification;
 
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 public interface INotificationUseCase {
   Notification createNotification(Notification notification);
 
+  List<Notification> createNotifications(List<Notification> notifications);
+
   Notification getNotificationById(UUID id);
 
-  List<Notification> getAllNotifications();
+  PageResult<Notification> getAllNotifications(PageQuery pageQuery);
+
+  PageResult<Notification> getAllNotificationsByStatus(NotificationStatus status, PageQuery pageQuery);
 
-  List<Notification> getAllNotificationsByStatus(NotificationStatus status);
+  CursorPage<Notification> getNotificationsPage(String cursor, Integer size, NotificationStatus status);
 
-  List<Notification> getAllNotificationsByOrderId(UUID orderId);
+  PageResult<Notification> getAllNotificationsByOrderId(UUID orderId, PageQuery pageQuery);
 
-  List<Notification> getAllNotificationsByCustomerId(UUID customerId);
+  PageResult<Notification> getAllNotificationsByCustomerId(UUID customerId, PageQuery pageQuery);
 
-  List<Notification> getAllNotificationsByType(NotificationType type);
+  PageResult<Notification> getAllNotificationsByType(NotificationType type, PageQuery pageQuery);
 
-  List<Notification> getAllNotificationsByTypeAndStatus(NotificationType type, NotificationStatus status);
+  PageResult<Notification> getAllNotificationsByTypeAndStatus(NotificationType type, NotificationStatus status, PageQuery pageQuery);
 
   void markNotificationAsRead(UUID id);
+
+  List<NotificationDelivery> claimPendingDeliveries(int limit);
+
+  void completeDeliveries(List<NotificationDelivery> deliveries, Map<UUID, String> failures);
 }
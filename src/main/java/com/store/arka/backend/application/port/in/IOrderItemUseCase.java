@@ -1,8 +1,9 @@
 package com.store.arka.backend.application.port.in;
 
+import com.store.arka.backend.application.model.PageQuery;
+import com.store.arka.backend.application.model.PageResult;
 import com.store.arka.backend.domain.model.OrderItem;
 
-import java.util.List;
 import java.util.UUID;
 
 public interface IOrderItemUseCase {
@@ -10,11 +11,11 @@ public interface IOrderItemUseCase {
 
   OrderItem getOrderItemById(UUID id);
 
-  List<OrderItem> getAllOrderItems();
+  PageResult<OrderItem> getAllOrderItems(PageQuery pageQuery);
 
-  List<OrderItem> getAllOrderItemsByProductId(UUID productId);
+  PageResult<OrderItem> getAllOrderItemsByProductId(UUID productId, PageQuery pageQuery);
 
-  OrderItem addQuantityById(UUID id, Integer quantity);
+  OrderItem addQuantityById(UUID orderId, UUID id, Integer quantity);
 
-  OrderItem updateQuantity(UUID id, Integer quantity);
+  OrderItem updateQuantity(UUID orderId, UUID id, Integer quantity);
 }
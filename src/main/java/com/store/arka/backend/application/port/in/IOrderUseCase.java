@@ -1,5 +1,11 @@
 package com.store.arka.backend.application.port.in;
 
+import com.store.arka.backend.application.model.BulkOperationResult;
+import com.store.arka.backend.application.model.CursorPage;
+import com.store.arka.backend.application.model.OrderHistoryEntry;
+import com.store.arka.backend.application.model.OrderSummary;
+import com.store.arka.backend.application.model.PageQuery;
+import com.store.arka.backend.application.model.PageResult;
 import com.store.arka.backend.domain.enums.OrderStatus;
 import com.store.arka.backend.domain.model.Order;
 
@@ -13,13 +19,19 @@ public interface IOrderUseCase {
 
   Order getOrderByIdSecure(UUID id);
 
-  List<Order> getAllOrders();
+  PageResult<Order> getAllOrders(PageQuery pageQuery);
 
-  List<Order> getAllOrdersByStatus(OrderStatus status);
+  PageResult<Order> getAllOrdersByStatus(OrderStatus status, PageQuery pageQuery);
 
-  List<Order> getAllOrdersByCustomerId(UUID customerId);
+  CursorPage<Order> getOrdersPage(String cursor, Integer size, OrderStatus status);
 
-  List<Order> getAllOrdersByItemsProductId(UUID productId);
+  PageResult<Order> getAllOrdersByCustomerId(UUID customerId, PageQuery pageQuery);
+
+  PageResult<Order> getAllOrdersByItemsProductId(UUID productId, PageQuery pageQuery);
+
+  PageResult<OrderSummary> getOrderSummaries(OrderStatus status, PageQuery pageQuery);
+
+  CursorPage<OrderHistoryEntry> getOrderHistoryByCustomerId(UUID customerId, String cursor, Integer size);
 
   Order addOrderItem(UUID id, UUID productId, Integer quantity);
 
@@ -36,4 +48,12 @@ public interface IOrderUseCase {
   void deliverOrder(UUID id);
 
   void cancelOrder(UUID id);
+
+  BulkOperationResult confirmOrders(List<UUID> ids);
+
+  BulkOperationResult shipOrders(List<UUID> ids);
+
+  BulkOperationResult deliverOrders(List<UUID> ids);
+
+  BulkOperationResult cancelOrders(List<UUID> ids);
 }
@@ -1,10 +1,12 @@
 package com.store.arka.backend.application.port.in;
 
+import com.store.arka.backend.application.model.PageQuery;
+import com.store.arka.backend.application.model.PageResult;
+import com.store.arka.backend.application.model.SweepBatchResult;
 import com.store.arka.backend.domain.enums.PaymentMethod;
 import com.store.arka.backend.domain.enums.PaymentStatus;
 import com.store.arka.backend.domain.model.Payment;
 
-import java.util.List;
 import java.util.UUID;
 
 public interface IPaymentUseCase {
@@ -16,11 +18,13 @@ public interface IPaymentUseCase {
 
   Payment getPaymentByOrderId(UUID orderId);
 
-  List<Payment> getAllPaymentsByFilters(PaymentMethod method, PaymentStatus status);
+  PageResult<Payment> getAllPaymentsByFilters(PaymentMethod method, PaymentStatus status, PageQuery pageQuery);
 
   Payment confirmPayment(UUID id);
 
   Payment updateMethod(UUID id, Payment payment);
 
   Payment payAgain(UUID id);
+
+  SweepBatchResult expirePendingPaymentsBatch(int batchSize);
 }
@@ -1,11 +1,19 @@
 package com.store.arka.backend.application.port.in;
 
+import com.store.arka.backend.application.model.CursorPage;
+import com.store.arka.backend.application.model.PageQuery;
+import com.store.arka.backend.application.model.PageResult;
+import com.store.arka.backend.application.model.ProductSearchQuery;
+import com.store.arka.backend.application.model.ProductSearchResult;
+import com.store.arka.backend.application.model.ResourceVersion;
 import com.store.arka.backend.domain.enums.ProductStatus;
 import com.store.arka.backend.domain.model.Product;
 
-import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 public interface IProductUseCase {
   Product createProduct(Product product);
@@ -14,9 +22,25 @@ public interface IProductUseCase {
 
   Product getProductBySku(String sku);
 
-  List<Product> getAllProducts();
+  Map<UUID, Product> getProductsByIds(Set<UUID> ids);
 
-  List<Product> getAllProductsByStatus(ProductStatus status);
+  Map<UUID, Product> getAvailableProducts(Map<UUID, Integer> quantities);
+
+  Map<UUID, Integer> lockStockLevels(Set<UUID> ids);
+
+  Optional<ResourceVersion> getProductVersionById(UUID id);
+
+  Optional<ResourceVersion> getProductVersionBySku(String sku);
+
+  PageResult<Product> getAllProducts(PageQuery pageQuery);
+
+  PageResult<Product> getAllProductsByStatus(ProductStatus status, PageQuery pageQuery);
+
+  CursorPage<Product> getProductsPage(String cursor, Integer size, ProductStatus status);
+
+  ProductSearchResult searchProducts(ProductSearchQuery query);
+
+  void streamAllProducts(ProductStatus status, Consumer<Product> consumer);
 
   Product updateFieldsProduct(UUID id, Product product);
 
@@ -24,11 +48,17 @@ public interface IProductUseCase {
 
   void decreaseStock(UUID id, Integer quantity);
 
+  void decreaseStockInBatch(Map<UUID, Integer> quantities);
+
   void increaseStock(UUID id, Integer quantity);
 
+  void increaseStockInBatch(Map<UUID, Integer> quantities);
+
   void softDeleteProduct(UUID id);
 
   Product restoreProduct(UUID id);
 
   void validateAvailability(UUID id, Integer quantity);
+
+  void validateAvailabilityForOrder(UUID id, Integer quantity, UUID orderId);
 }
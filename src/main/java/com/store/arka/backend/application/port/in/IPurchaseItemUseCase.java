@@ -1,8 +1,9 @@
 package com.store.arka.backend.application.port.in;
 
+import com.store.arka.backend.application.model.PageQuery;
+import com.store.arka.backend.application.model.PageResult;
 import com.store.arka.backend.domain.model.PurchaseItem;
 
-import java.util.List;
 import java.util.UUID;
 
 public interface IPurchaseItemUseCase {
@@ -10,9 +11,9 @@ public interface IPurchaseItemUseCase {
 
   PurchaseItem getPurchaseItemById(UUID id);
 
-  List<PurchaseItem> getAllPurchaseItems();
+  PageResult<PurchaseItem> getAllPurchaseItems(PageQuery pageQuery);
 
-  List<PurchaseItem> getAllPurchaseItemsByProductId(UUID productId);
+  PageResult<PurchaseItem> getAllPurchaseItemsByProductId(UUID productId, PageQuery pageQuery);
 
   PurchaseItem addQuantity(UUID id, Integer quantity);
 
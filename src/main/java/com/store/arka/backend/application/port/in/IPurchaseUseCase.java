@@ -1,9 +1,10 @@
 package com.store.arka.backend.application.port.in;
 
+import com.store.arka.backend.application.model.PageQuery;
+import com.store.arka.backend.application.model.PageResult;
 import com.store.arka.backend.domain.enums.PurchaseStatus;
 import com.store.arka.backend.domain.model.Purchase;
 
-import java.util.List;
 import java.util.UUID;
 
 public interface IPurchaseUseCase {
@@ -11,13 +12,13 @@ public interface IPurchaseUseCase {
 
   Purchase getPurchaseById(UUID id);
 
-  List<Purchase> getAllPurchases();
+  PageResult<Purchase> getAllPurchases(PageQuery pageQuery);
 
-  List<Purchase> getAllPurchasesByStatus(PurchaseStatus status);
+  PageResult<Purchase> getAllPurchasesByStatus(PurchaseStatus status, PageQuery pageQuery);
 
-  List<Purchase> getAllPurchasesBySupplierId(UUID supplierId);
+  PageResult<Purchase> getAllPurchasesBySupplierId(UUID supplierId, PageQuery pageQuery);
 
-  List<Purchase> getAllPurchasesByItemsProductId(UUID productId);
+  PageResult<Purchase> getAllPurchasesByItemsProductId(UUID productId, PageQuery pageQuery);
 
   Purchase addPurchaseItem(UUID id, UUID productId, Integer quantity);
 
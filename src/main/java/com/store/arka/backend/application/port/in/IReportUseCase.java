@@ -0,0 +1,24 @@
+package com.store.arka.backend.application.port.in;
+
+import com.store.arka.backend.application.model.CategorySalesReport;
+import com.store.arka.backend.application.model.DailySalesReport;
+import com.store.arka.backend.application.model.ProductSalesReport;
+import com.store.arka.backend.domain.model.Order;
+import com.store.arka.backend.domain.model.Purchase;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface IReportUseCase {
+  void recordOrdersPaid(List<Order> orders);
+
+  void revertOrdersPaid(List<Order> orders);
+
+  void recordPurchaseReceived(Purchase purchase);
+
+  List<ProductSalesReport> getProductSales(LocalDate from, LocalDate to, int limit);
+
+  List<CategorySalesReport> getCategorySales(LocalDate from, LocalDate to);
+
+  List<DailySalesReport> getDailySales(LocalDate from, LocalDate to);
+}
@@ -0,0 +1,27 @@
+package com.store.arka.backend.application.port.in;
+
+import com.store.arka.backend.domain.model.Order;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+
+public interface IStockReservationUseCase {
+  void reserveForOrder(Order order);
+
+  boolean tryReserveForOrder(Order order);
+
+  void releaseForOrder(UUID orderId);
+
+  void convertForOrder(UUID orderId);
+
+  void convertForOrders(Collection<UUID> orderIds);
+
+  int getReservedQuantity(UUID productId);
+
+  Map<UUID, Integer> getReservedQuantities(Collection<UUID> productIds);
+
+  int getReservedQuantityExcluding(UUID productId, UUID orderId);
+
+  void releaseExpiredReservations();
+}
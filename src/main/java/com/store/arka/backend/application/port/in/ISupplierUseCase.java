@@ -1,9 +1,10 @@
 package com.store.arka.backend.application.port.in;
 
+import com.store.arka.backend.application.model.PageQuery;
+import com.store.arka.backend.application.model.PageResult;
 import com.store.arka.backend.domain.enums.SupplierStatus;
 import com.store.arka.backend.domain.model.Supplier;
 
-import java.util.List;
 import java.util.UUID;
 
 public interface ISupplierUseCase {
@@ -15,11 +16,11 @@ public interface ISupplierUseCase {
 
   Supplier getSupplierByTaxId(String taxId);
 
-  List<Supplier> getAllSuppliers();
+  PageResult<Supplier> getAllSuppliers(PageQuery pageQuery);
 
-  List<Supplier> getAllSuppliersByStatus(SupplierStatus status);
+  PageResult<Supplier> getAllSuppliersByStatus(SupplierStatus status, PageQuery pageQuery);
 
-  List<Supplier> getAllSuppliersByProductId(UUID productId);
+  PageResult<Supplier> getAllSuppliersByProductId(UUID productId, PageQuery pageQuery);
 
   Supplier updateFieldsSupplier(UUID id, Supplier supplier);
 
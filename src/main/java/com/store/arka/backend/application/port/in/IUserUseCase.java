@@ -1,10 +1,11 @@
 package com.store.arka.backend.application.port.in;
 
+import com.store.arka.backend.application.model.PageQuery;
+import com.store.arka.backend.application.model.PageResult;
 import com.store.arka.backend.domain.enums.UserRole;
 import com.store.arka.backend.domain.enums.UserStatus;
 import com.store.arka.backend.domain.model.User;
 
-import java.util.List;
 import java.util.UUID;
 
 public interface IUserUseCase {
@@ -16,7 +17,7 @@ public interface IUserUseCase {
 
   User getUserByEmail(String email);
 
-  List<User> getAllUsersByFilters(UserRole role, UserStatus status);
+  PageResult<User> getAllUsersByFilters(UserRole role, UserStatus status, PageQuery pageQuery);
 
   User updateStaffAccountRole(User user);
 
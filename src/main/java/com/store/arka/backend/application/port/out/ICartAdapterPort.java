@@ -1,8 +1,13 @@
 package com.store.arka.backend.application.port.out;
 
+import com.store.arka.backend.application.model.KeysetCursor;
+import com.store.arka.backend.application.model.PageQuery;
+import com.store.arka.backend.application.model.PageResult;
 import com.store.arka.backend.domain.enums.CartStatus;
 import com.store.arka.backend.domain.model.Cart;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -14,13 +19,17 @@ public interface ICartAdapterPort {
 
   Optional<Cart> findCartById(UUID id);
 
-  List<Cart> findAllCarts();
+  PageResult<Cart> findAllCarts(PageQuery pageQuery);
 
-  List<Cart> findAllCartsByStatus(CartStatus status);
+  PageResult<Cart> findAllCartsByStatus(CartStatus status, PageQuery pageQuery);
 
-  List<Cart> findAllCartsByCustomerId(UUID customerId);
+  PageResult<Cart> findAllCartsByCustomerId(UUID customerId, PageQuery pageQuery);
 
-  List<Cart> findAllCartsByItemsProductId(UUID productId);
+  PageResult<Cart> findAllCartsByItemsProductId(UUID productId, PageQuery pageQuery);
 
   void deleteCartById(UUID id);
+
+  List<KeysetCursor> findIdleActiveCartKeys(LocalDateTime cutoff, KeysetCursor after, int limit);
+
+  int abandonIdleCarts(Collection<UUID> ids, LocalDateTime cutoff);
 }
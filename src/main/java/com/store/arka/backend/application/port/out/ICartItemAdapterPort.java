@@ -1,8 +1,9 @@
 package com.store.arka.backend.application.port.out;
 
+import com.store.arka.backend.application.model.PageQuery;
+import com.store.arka.backend.application.model.PageResult;
 import com.store.arka.backend.domain.model.CartItem;
 
-import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -13,9 +14,9 @@ public interface ICartItemAdapterPort {
 
   Optional<CartItem> findCartItemById(UUID id);
 
-  List<CartItem> findAllCartItems();
+  PageResult<CartItem> findAllCartItems(PageQuery pageQuery);
 
-  List<CartItem> findAllCartItemsByProductId(UUID productId);
+  PageResult<CartItem> findAllCartItemsByProductId(UUID productId, PageQuery pageQuery);
 
   void deleteCartItemById(UUID id);
 }
@@ -0,0 +1,9 @@
+package com.store.arka.backend.application.port.out;
+
+import com.store.arka.backend.application.model.ResourceVersion;
+
+public interface ICatalogVersionAdapterPort {
+  ResourceVersion findCatalogVersion();
+
+  void bumpCatalogVersion();
+}
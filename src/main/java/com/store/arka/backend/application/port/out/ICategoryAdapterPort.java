@@ -1,9 +1,11 @@
 package com.store.arka.backend.application.port.out;
 
+import com.store.arka.backend.application.model.PageQuery;
+import com.store.arka.backend.application.model.PageResult;
+import com.store.arka.backend.application.model.ResourceVersion;
 import com.store.arka.backend.domain.enums.CategoryStatus;
 import com.store.arka.backend.domain.model.Category;
 
-import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -14,9 +16,13 @@ public interface ICategoryAdapterPort {
 
   Optional<Category> findCategoryByName(String name);
 
-  List<Category> findAllCategories();
+  Optional<ResourceVersion> findCategoryVersionById(UUID id);
 
-  List<Category> findAllCategoriesByStatus(CategoryStatus status);
+  Optional<ResourceVersion> findCategoryVersionByName(String name);
+
+  PageResult<Category> findAllCategories(PageQuery pageQuery);
+
+  PageResult<Category> findAllCategoriesByStatus(CategoryStatus status, PageQuery pageQuery);
 
   boolean existsCategoryByName(String name);
 }
@@ -1,9 +1,10 @@
 package com.store.arka.backend.application.port.out;
 
+import com.store.arka.backend.application.model.PageQuery;
+import com.store.arka.backend.application.model.PageResult;
 import com.store.arka.backend.domain.enums.CustomerStatus;
 import com.store.arka.backend.domain.model.Customer;
 
-import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -18,9 +19,9 @@ public interface ICustomerAdapterPort {
 
   Optional<Customer> findCustomerByDocumentNumber(String number);
 
-  List<Customer> findAllCustomers();
+  PageResult<Customer> findAllCustomers(PageQuery pageQuery);
 
-  List<Customer> findAllCustomersByStatus(CustomerStatus status);
+  PageResult<Customer> findAllCustomersByStatus(CustomerStatus status, PageQuery pageQuery);
 
   boolean existsCustomerByUserId(UUID userId);
 
@@ -1,9 +1,10 @@
 package com.store.arka.backend.application.port.out;
 
+import com.store.arka.backend.application.model.PageQuery;
+import com.store.arka.backend.application.model.PageResult;
 import com.store.arka.backend.domain.enums.DocumentStatus;
 import com.store.arka.backend.domain.model.Document;
 
-import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -14,9 +15,9 @@ public interface IDocumentAdapterPort {
 
   Optional<Document> findDocumentByNumber(String number);
 
-  List<Document> findAllDocuments();
+  PageResult<Document> findAllDocuments(PageQuery pageQuery);
 
-  List<Document> findAllDocumentsByStatus(DocumentStatus status);
+  PageResult<Document> findAllDocumentsByStatus(DocumentStatus status, PageQuery pageQuery);
 
   boolean existsDocumentByNumber(String number);
 }
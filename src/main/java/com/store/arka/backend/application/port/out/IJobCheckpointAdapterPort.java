@@ -0,0 +1,11 @@
+package com.store.arka.backend.application.port.out;
+
+import com.store.arka.backend.application.model.KeysetCursor;
+
+import java.util.Optional;
+
+public interface IJobCheckpointAdapterPort {
+  Optional<KeysetCursor> findCheckpoint(String jobName);
+
+  void saveCheckpoint(String jobName, KeysetCursor cursor);
+}
@@ -1,29 +1,51 @@
 package com.store.arka.backend.application.port.out;
 
+import com.store.arka.backend.application.model.KeysetCursor;
+import com.store.arka.backend.application.model.NotificationDelivery;
+import com.store.arka.backend.application.model.PageQuery;
+import com.store.arka.backend.application.model.PageResult;
+import com.store.arka.backend.domain.enums.NotificationDeliveryStatus;
 import com.store.arka.backend.domain.enums.NotificationStatus;
 import com.store.arka.backend.domain.enums.NotificationType;
 import com.store.arka.backend.domain.model.Notification;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 public interface INotificationAdapterPort {
   Notification saveNotification(Notification notification);
 
+  List<Notification> saveAllNotifications(List<Notification> notifications);
+
+  void updateNotificationStatus(UUID id, NotificationStatus status, LocalDateTime readAt);
+
   Optional<Notification> findNotificationById(UUID id);
 
-  List<Notification> findAllNotifications();
+  PageResult<Notification> findAllNotifications(PageQuery pageQuery);
 
-  List<Notification> findAllNotificationsByOrderId(UUID orderId);
+  PageResult<Notification> findAllNotificationsByOrderId(UUID orderId, PageQuery pageQuery);
 
-  List<Notification> findAllNotificationsByCustomerId(UUID customerId);
+  PageResult<Notification> findAllNotificationsByCustomerId(UUID customerId, PageQuery pageQuery);
 
-  List<Notification> findAllNotificationsByType(NotificationType type);
+  PageResult<Notification> findAllNotificationsByType(NotificationType type, PageQuery pageQuery);
 
-  List<Notification> findAllNotificationsByStatus(NotificationStatus status);
+  PageResult<Notification> findAllNotificationsByStatus(NotificationStatus status, PageQuery pageQuery);
 
-  List<Notification> findAllNotificationsByTypeAndStatus(NotificationType type, NotificationStatus status);
+  PageResult<Notification> findAllNotificationsByTypeAndStatus(NotificationType type, NotificationStatus status, PageQuery pageQuery);
+
+  List<Notification> findNotificationsAfter(KeysetCursor cursor, NotificationStatus status, int limit);
 
   boolean existsNotificationByOrderIdAndType(UUID orderId, NotificationType type);
+
+  Set<UUID> findOrderIdsWithNotificationType(Collection<UUID> orderIds, NotificationType type);
+
+  List<NotificationDelivery> claimPendingDeliveries(LocalDateTime now, LocalDateTime leaseUntil, int limit);
+
+  void markDeliveriesSent(Collection<UUID> ids, LocalDateTime sentAt);
+
+  void updateDelivery(UUID id, NotificationDeliveryStatus status, int attempts, LocalDateTime nextAttemptAt);
 }
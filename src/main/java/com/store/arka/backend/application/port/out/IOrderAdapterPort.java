@@ -1,8 +1,13 @@
 package com.store.arka.backend.application.port.out;
 
+import com.store.arka.backend.application.model.KeysetCursor;
+import com.store.arka.backend.application.model.OrderSummary;
+import com.store.arka.backend.application.model.PageQuery;
+import com.store.arka.backend.application.model.PageResult;
 import com.store.arka.backend.domain.enums.OrderStatus;
 import com.store.arka.backend.domain.model.Order;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -14,13 +19,19 @@ public interface IOrderAdapterPort {
 
   Optional<Order> findOrderById(UUID id);
 
-  List<Order> findAllOrders();
+  PageResult<Order> findAllOrders(PageQuery pageQuery);
 
-  List<Order> findAllOrdersByStatus(OrderStatus status);
+  List<Order> findAllOrdersByIds(Collection<UUID> ids);
 
-  List<Order> findAllOrdersByCustomerId(UUID customerId);
+  PageResult<Order> findAllOrdersByStatus(OrderStatus status, PageQuery pageQuery);
 
-  List<Order> findAllOrdersByItemsProductId(UUID productId);
+  PageResult<Order> findAllOrdersByCustomerId(UUID customerId, PageQuery pageQuery);
+
+  PageResult<Order> findAllOrdersByItemsProductId(UUID productId, PageQuery pageQuery);
+
+  List<Order> findOrdersAfter(KeysetCursor cursor, OrderStatus status, int limit);
+
+  PageResult<OrderSummary> findOrderSummaries(OrderStatus status, PageQuery pageQuery);
 
   boolean existsByCartId(UUID cartId);
 }
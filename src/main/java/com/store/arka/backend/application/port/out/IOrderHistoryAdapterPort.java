@@ -0,0 +1,14 @@
+package com.store.arka.backend.application.port.out;
+
+import com.store.arka.backend.application.model.KeysetCursor;
+import com.store.arka.backend.application.model.OrderHistoryEntry;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface IOrderHistoryAdapterPort {
+  void refreshOrderHistory(Collection<UUID> orderIds);
+
+  List<OrderHistoryEntry> findOrderHistoryAfter(UUID customerId, KeysetCursor cursor, int limit);
+}
@@ -1,8 +1,9 @@
 package com.store.arka.backend.application.port.out;
 
+import com.store.arka.backend.application.model.PageQuery;
+import com.store.arka.backend.application.model.PageResult;
 import com.store.arka.backend.domain.model.OrderItem;
 
-import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -13,7 +14,7 @@ public interface IOrderItemAdapterPort {
 
   Optional<OrderItem> findOrderItemById(UUID id);
 
-  List<OrderItem> findAllOrderItems();
+  PageResult<OrderItem> findAllOrderItems(PageQuery pageQuery);
 
-  List<OrderItem> findAllOrderItemsByProductId(UUID productId);
+  PageResult<OrderItem> findAllOrderItemsByProductId(UUID productId, PageQuery pageQuery);
 }
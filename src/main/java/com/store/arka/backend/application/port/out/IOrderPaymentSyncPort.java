@@ -1,8 +1,12 @@
 package com.store.arka.backend.application.port.out;
 
+import com.store.arka.backend.application.model.BulkOperationResult;
+
+import java.util.List;
 import java.util.UUID;
 
 public interface IOrderPaymentSyncPort {
   void markOrderPaid(UUID orderId);
   void markOrderCanceled(UUID orderId);
+  BulkOperationResult markOrdersCanceled(List<UUID> orderIds);
 }
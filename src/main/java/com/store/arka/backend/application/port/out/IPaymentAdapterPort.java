@@ -1,12 +1,13 @@
 package com.store.arka.backend.application.port.out;
 
+import com.store.arka.backend.application.model.PageQuery;
+import com.store.arka.backend.application.model.PageResult;
 import com.store.arka.backend.domain.enums.PaymentMethod;
 import com.store.arka.backend.domain.enums.PaymentStatus;
 import com.store.arka.backend.domain.model.Payment;
 
-import java.util.List;
-import java.util.Optional;
-import java.util.UUID;
+import java.time.LocalDateTime;
+import java.util.*;
 
 public interface IPaymentAdapterPort {
   Payment saveCreatePayment(Payment payment);
@@ -17,13 +18,17 @@ public interface IPaymentAdapterPort {
 
   Optional<Payment> findPaymentByOrderId(UUID orderId);
 
-  List<Payment> findAllPayments();
+  PageResult<Payment> findAllPayments(PageQuery pageQuery);
 
-  List<Payment> findAllPaymentsByMethod(PaymentMethod method);
+  PageResult<Payment> findAllPaymentsByMethod(PaymentMethod method, PageQuery pageQuery);
 
-  List<Payment> findAllPaymentsByStatus(PaymentStatus status);
+  PageResult<Payment> findAllPaymentsByStatus(PaymentStatus status, PageQuery pageQuery);
 
-  List<Payment> findAllPaymentsByMethodAndStatus(PaymentMethod method, PaymentStatus status);
+  PageResult<Payment> findAllPaymentsByMethodAndStatus(PaymentMethod method, PaymentStatus status, PageQuery pageQuery);
 
   boolean existsPaymentByOrderId(UUID orderId);
+
+  Map<UUID, UUID> claimExpiredPendingPayments(LocalDateTime cutoff, int limit);
+
+  int markPaymentsExpired(Collection<UUID> ids);
 }
@@ -1,24 +1,51 @@
 package com.store.arka.backend.application.port.out;
 
+import com.store.arka.backend.application.model.KeysetCursor;
+import com.store.arka.backend.application.model.PageQuery;
+import com.store.arka.backend.application.model.PageResult;
+import com.store.arka.backend.application.model.ResourceVersion;
 import com.store.arka.backend.domain.enums.ProductStatus;
 import com.store.arka.backend.domain.model.Product;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 public interface IProductAdapterPort {
   Product saveCreateProduct(Product product);
 
   Product saveUpdateProduct(Product product);
 
+  Map<UUID, Integer> decreaseStockInBatch(Map<UUID, Integer> quantities);
+
+  Map<UUID, Integer> increaseStockInBatch(Map<UUID, Integer> quantities);
+
   Optional<Product> findProductById(UUID id);
 
+  Optional<Product> findCurrentProductById(UUID id);
+
+  Map<UUID, Product> findProductsByIds(Set<UUID> ids);
+
+  Map<UUID, Product> findCurrentProductsByIds(Set<UUID> ids);
+
+  Map<UUID, Product> findCurrentProductsByIdsForUpdate(Set<UUID> ids);
+
   Optional<Product> findProductBySku(String sku);
 
-  List<Product> findAllProducts();
+  Optional<ResourceVersion> findProductVersionById(UUID id);
+
+  Optional<ResourceVersion> findProductVersionBySku(String sku);
+
+  PageResult<Product> findAllProducts(PageQuery pageQuery);
+
+  PageResult<Product> findAllProductsByStatus(ProductStatus status, PageQuery pageQuery);
+
+  List<Product> findProductsAfter(KeysetCursor cursor, ProductStatus status, int limit);
 
-  List<Product> findAllProductsByStatus(ProductStatus status);
+  void streamAllProducts(ProductStatus status, int chunkSize, Consumer<Product> consumer);
 
   boolean existsProductBySku(String sku);
 }
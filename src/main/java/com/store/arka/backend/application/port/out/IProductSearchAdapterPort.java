@@ -0,0 +1,16 @@
+package com.store.arka.backend.application.port.out;
+
+import com.store.arka.backend.application.model.ProductSearchQuery;
+import com.store.arka.backend.application.model.ProductSearchResult;
+
+import java.util.UUID;
+
+public interface IProductSearchAdapterPort {
+  void refreshEntry(UUID productId);
+
+  void refreshEntriesByCategory(UUID categoryId);
+
+  void deleteEntry(UUID productId);
+
+  ProductSearchResult search(ProductSearchQuery query);
+}
@@ -1,11 +1,11 @@
 package com.store.arka.backend.application.port.out;
 
+import com.store.arka.backend.application.model.PageQuery;
+import com.store.arka.backend.application.model.PageResult;
 import com.store.arka.backend.domain.enums.PurchaseStatus;
 import com.store.arka.backend.domain.model.Purchase;
 
-import java.util.List;
-import java.util.Optional;
-import java.util.UUID;
+import java.util.*;
 
 public interface IPurchaseAdapterPort {
   Purchase saveCreatePurchase(Purchase purchase);
@@ -14,15 +14,17 @@ public interface IPurchaseAdapterPort {
 
   Optional<Purchase> findPurchaseById(UUID id);
 
-  List<Purchase> findAllPurchases();
+  PageResult<Purchase> findAllPurchases(PageQuery pageQuery);
 
-  List<Purchase> findAllPurchasesByStatus(PurchaseStatus status);
+  PageResult<Purchase> findAllPurchasesByStatus(PurchaseStatus status, PageQuery pageQuery);
 
-  List<Purchase> findAllPurchasesBySupplierId(UUID supplierId);
+  PageResult<Purchase> findAllPurchasesBySupplierId(UUID supplierId, PageQuery pageQuery);
 
-  List<Purchase> findAllPurchasesByItemsProductId(UUID productId);
+  PageResult<Purchase> findAllPurchasesByItemsProductId(UUID productId, PageQuery pageQuery);
 
   List<Purchase> findAllPurchasesByItemsProductIdAndStatus(UUID productId, PurchaseStatus status);
 
+  Set<UUID> findProductIdsInPurchasesByStatus(Collection<UUID> productIds, Collection<PurchaseStatus> statuses);
+
   void deletePurchaseById(UUID id);
 }
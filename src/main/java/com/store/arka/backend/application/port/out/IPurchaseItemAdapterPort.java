@@ -1,8 +1,9 @@
 package com.store.arka.backend.application.port.out;
 
+import com.store.arka.backend.application.model.PageQuery;
+import com.store.arka.backend.application.model.PageResult;
 import com.store.arka.backend.domain.model.PurchaseItem;
 
-import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -13,7 +14,7 @@ public interface IPurchaseItemAdapterPort {
 
   Optional<PurchaseItem> findPurchaseItemById(UUID id);
 
-  List<PurchaseItem> findAllPurchaseItems();
+  PageResult<PurchaseItem> findAllPurchaseItems(PageQuery pageQuery);
 
-  List<PurchaseItem> findAllPurchaseItemsByProductId(UUID productId);
+  PageResult<PurchaseItem> findAllPurchaseItemsByProductId(UUID productId, PageQuery pageQuery);
 }
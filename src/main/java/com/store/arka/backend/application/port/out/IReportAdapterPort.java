@@ -0,0 +1,24 @@
+package com.store.arka.backend.application.port.out;
+
+import com.store.arka.backend.application.model.CategorySalesReport;
+import com.store.arka.backend.application.model.DailySalesReport;
+import com.store.arka.backend.application.model.OrderSaleLine;
+import com.store.arka.backend.application.model.ProductSalesReport;
+import com.store.arka.backend.application.model.RollupDelta;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface IReportAdapterPort {
+  void applyRollupDeltas(LocalDate date, List<RollupDelta> deltas);
+
+  void recordOrderSales(LocalDate date, List<OrderSaleLine> lines);
+
+  void revertOrderSales(LocalDate date, List<OrderSaleLine> lines);
+
+  List<ProductSalesReport> findProductSales(LocalDate from, LocalDate to, int limit);
+
+  List<CategorySalesReport> findCategorySales(LocalDate from, LocalDate to);
+
+  List<DailySalesReport> findDailySales(LocalDate from, LocalDate to);
+}
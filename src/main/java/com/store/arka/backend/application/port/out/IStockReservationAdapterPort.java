@@ -0,0 +1,26 @@
+package com.store.arka.backend.application.port.out;
+
+import com.store.arka.backend.domain.enums.ReservationStatus;
+import com.store.arka.backend.domain.model.StockReservation;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+public interface IStockReservationAdapterPort {
+  List<StockReservation> saveAllReservations(List<StockReservation> reservations);
+
+  List<StockReservation> findActiveReservationsByOrderIdForUpdate(UUID orderId);
+
+  List<StockReservation> findActiveReservationsByOrderIdsForUpdate(Collection<UUID> orderIds);
+
+  List<StockReservation> findExpiredActiveReservationsForUpdate(LocalDateTime now, int limit);
+
+  Map<UUID, Integer> sumActiveQuantitiesByProductIds(Collection<UUID> productIds);
+
+  Map<UUID, Integer> sumActiveQuantitiesByProductIdsExcludingOrder(Collection<UUID> productIds, UUID orderId);
+
+  void updateReservationsStatus(Collection<UUID> ids, ReservationStatus status);
+}
@@ -1,9 +1,12 @@
 package com.store.arka.backend.application.port.out;
 
+import com.store.arka.backend.application.model.PageQuery;
+import com.store.arka.backend.application.model.PageResult;
 import com.store.arka.backend.domain.enums.SupplierStatus;
 import com.store.arka.backend.domain.model.Supplier;
 
-import java.util.List;
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -18,11 +21,13 @@ public interface ISupplierAdapterPort {
 
   Optional<Supplier> findSupplierByTaxId(String taxId);
 
-  List<Supplier> findAllSuppliers();
+  PageResult<Supplier> findAllSuppliers(PageQuery pageQuery);
 
-  List<Supplier> findAllSuppliersByStatus(SupplierStatus status);
+  PageResult<Supplier> findAllSuppliersByStatus(SupplierStatus status, PageQuery pageQuery);
 
-  List<Supplier> findAllSuppliersByProductId(UUID productId);
+  PageResult<Supplier> findAllSuppliersByProductId(UUID productId, PageQuery pageQuery);
+
+  Map<UUID, UUID> findPreferredSupplierIdsByProductIds(Collection<UUID> productIds);
 
   boolean existsSupplierByEmail(String email);
 
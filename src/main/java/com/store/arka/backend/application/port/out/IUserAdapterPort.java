@@ -1,10 +1,11 @@
 package com.store.arka.backend.application.port.out;
 
+import com.store.arka.backend.application.model.PageQuery;
+import com.store.arka.backend.application.model.PageResult;
 import com.store.arka.backend.domain.enums.UserRole;
 import com.store.arka.backend.domain.enums.UserStatus;
 import com.store.arka.backend.domain.model.User;
 
-import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -19,13 +20,13 @@ public interface IUserAdapterPort {
 
   Optional<User> findUserByEmail(String email);
 
-  List<User> findAllUsers();
+  PageResult<User> findAllUsers(PageQuery pageQuery);
 
-  List<User> findAllUsersByRole(UserRole role);
+  PageResult<User> findAllUsersByRole(UserRole role, PageQuery pageQuery);
 
-  List<User> findAllUsersByStatus(UserStatus status);
+  PageResult<User> findAllUsersByStatus(UserStatus status, PageQuery pageQuery);
 
-  List<User> findAllUsersByRoleAndStatus(UserRole role, UserStatus status);
+  PageResult<User> findAllUsersByRoleAndStatus(UserRole role, UserStatus status, PageQuery pageQuery);
 
   boolean existsUserById(UUID id);
 
@@ -0,0 +1,7 @@
+package com.store.arka.backend.application.port.out;
+
+import java.util.UUID;
+
+public interface IUserStatusCachePort {
+  void evictUser(UUID userId);
+}
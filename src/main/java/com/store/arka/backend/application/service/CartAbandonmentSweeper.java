@@ -0,0 +1,64 @@
+package com.store.arka.backend.application.service;
+
+import com.store.arka.backend.application.model.SweepBatchResult;
+import com.store.arka.backend.application.port.in.ICartUseCase;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+
+/**
+ * Marks carts idle past the configured threshold as ABANDONED. Walks active carts by (updated_at, id)
+ * in fixed-size batches, one short transaction per batch, resuming from the last persisted checkpoint.
+ */
+@Slf4j
+@Service
+public class CartAbandonmentSweeper {
+  private final ICartUseCase cartUseCase;
+  private final DistributionSummary processedPerRun;
+  private final Counter abandonedCarts;
+  private final Timer runTimer;
+  @Value("${arka.carts.abandonment.idle-minutes:1440}")
+  private long idleMinutes;
+  @Value("${arka.carts.abandonment.batch-size:500}")
+  private int batchSize;
+  @Value("${arka.carts.abandonment.max-batches-per-run:20}")
+  private int maxBatchesPerRun;
+
+  public CartAbandonmentSweeper(ICartUseCase cartUseCase, MeterRegistry meterRegistry) {
+    this.cartUseCase = cartUseCase;
+    this.processedPerRun = DistributionSummary.builder("arka.carts.abandonment.processed")
+        .description("Carts scanned per sweep run").register(meterRegistry);
+    this.abandonedCarts = Counter.builder("arka.carts.abandonment.abandoned")
+        .description("Carts marked as abandoned").register(meterRegistry);
+    this.runTimer = Timer.builder("arka.carts.abandonment.duration").register(meterRegistry);
+  }
+
+  @Scheduled(fixedDelayString = "${arka.carts.abandonment.sweep-interval-ms:300000}")
+  public void sweepIdleCarts() {
+    runTimer.record(() -> {
+      LocalDateTime cutoff = LocalDateTime.now().minusMinutes(idleMinutes);
+      int scanned = 0;
+      int abandoned = 0;
+      SweepBatchResult batch;
+      int batches = 0;
+      do {
+        batch = cartUseCase.abandonIdleCartsBatch(cutoff, batchSize);
+        scanned += batch.scanned();
+        abandoned += batch.affected();
+        batches++;
+      } while (batch.scanned() == batchSize && batches < maxBatchesPerRun);
+      processedPerRun.record(scanned);
+      abandonedCarts.increment(abandoned);
+      if (scanned > 0) {
+        log.info("[CART_SWEEPER][SWEPT] Carts scanned=({}) abandoned=({}) in {} batches", scanned, abandoned, batches);
+      }
+    });
+  }
+}
@@ -1,5 +1,7 @@
 package com.store.arka.backend.application.service;
 
+import com.store.arka.backend.application.model.PageQuery;
+import com.store.arka.backend.application.model.PageResult;
 import com.store.arka.backend.application.port.in.ICartItemUseCase;
 import com.store.arka.backend.application.port.in.IProductUseCase;
 import com.store.arka.backend.application.port.out.ICartItemAdapterPort;
@@ -12,13 +14,14 @@ import org.springframework.transaction.annotation.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class CartItemService implements ICartItemUseCase {
+  private static final Set<String> SORT_FIELDS = Set.of("addedAt", "quantity");
   private final ICartItemAdapterPort cartItemAdapterPort;
   private final IProductUseCase productUseCase;
   private final SecurityUtils securityUtils;
@@ -48,17 +51,19 @@ public class CartItemService implements ICartItemUseCase {
 
   @Override
   @Transactional(readOnly = true)
-  public List<CartItem> getAllCartItems() {
+  public PageResult<CartItem> getAllCartItems(PageQuery pageQuery) {
+    ValidateAttributesUtils.validatePageQuery(pageQuery, SORT_FIELDS);
     log.info("[CART_ITEM_SERVICE][GET_ALL] Fetching all CartItems");
-    return cartItemAdapterPort.findAllCartItems();
+    return cartItemAdapterPort.findAllCartItems(pageQuery.withDefaultSort("addedAt"));
   }
 
   @Override
   @Transactional(readOnly = true)
-  public List<CartItem> getAllCartItemsByProductId(UUID productId) {
+  public PageResult<CartItem> getAllCartItemsByProductId(UUID productId, PageQuery pageQuery) {
+    ValidateAttributesUtils.validatePageQuery(pageQuery, SORT_FIELDS);
     ValidateAttributesUtils.validateId(productId, "Product ID in CartItem");
     log.info("[CART_ITEM_SERVICE][GET_ALL_BY_PRODUCT] Fetching all CartItems with Product(id={})", productId);
-    return cartItemAdapterPort.findAllCartItemsByProductId(productId);
+    return cartItemAdapterPort.findAllCartItemsByProductId(productId, pageQuery.withDefaultSort("addedAt"));
   }
 
   @Override
@@ -1,7 +1,12 @@
 package com.store.arka.backend.application.service;
 
+import com.store.arka.backend.application.model.KeysetCursor;
+import com.store.arka.backend.application.model.PageQuery;
+import com.store.arka.backend.application.model.PageResult;
+import com.store.arka.backend.application.model.SweepBatchResult;
 import com.store.arka.backend.application.port.in.*;
 import com.store.arka.backend.application.port.out.ICartAdapterPort;
+import com.store.arka.backend.application.port.out.IJobCheckpointAdapterPort;
 import com.store.arka.backend.domain.enums.CartStatus;
 import com.store.arka.backend.domain.exception.*;
 import com.store.arka.backend.domain.model.*;
@@ -13,13 +18,18 @@ import org.springframework.transaction.annotation.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
 import java.util.*;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class CartService implements ICartUseCase {
+  private static final Set<String> SORT_FIELDS = Set.of("createdAt", "updatedAt");
+  private static final String ABANDON_JOB_NAME = "cart-abandonment";
   private final ICartAdapterPort cartAdapterPort;
+  private final IJobCheckpointAdapterPort jobCheckpointAdapterPort;
   private final IProductUseCase productUseCase;
   private final ICustomerUseCase customerUseCase;
   private final ICartItemUseCase cartItemUseCase;
@@ -33,9 +43,9 @@ public class CartService implements ICartUseCase {
     securityUtils.requireOwnerOrRoles(customerFound.getUserId(), "ADMIN");
     ValidateAttributesUtils.validateModel(cart, "Cart");
     List<CartItem> cartItems = new ArrayList<>();
+    Map<UUID, Product> productsFound = findAvailableProductsOrThrow(cart.getItems());
     cart.getItems().forEach(item -> {
-      Product productFound = findProductOrThrow(item.getProductId());
-      productFound.validateAvailability(item.getQuantity());
+      Product productFound = productsFound.get(item.getProductId());
       cartItems.add(CartItem.create(productFound, item.getQuantity()));
     });
     Cart created = Cart.create(customerFound, cartItems);
@@ -65,32 +75,36 @@ public class CartService implements ICartUseCase {
 
   @Override
   @Transactional(readOnly = true)
-  public List<Cart> getAllCarts() {
+  public PageResult<Cart> getAllCarts(PageQuery pageQuery) {
+    ValidateAttributesUtils.validatePageQuery(pageQuery, SORT_FIELDS);
     log.info("[CART_SERVICE][GET_ALL] Fetching all Carts");
-    return cartAdapterPort.findAllCarts();
+    return cartAdapterPort.findAllCarts(pageQuery.withDefaultSort("createdAt"));
   }
 
   @Override
   @Transactional(readOnly = true)
-  public List<Cart> getAllCartsByStatus(CartStatus status) {
+  public PageResult<Cart> getAllCartsByStatus(CartStatus status, PageQuery pageQuery) {
+    ValidateAttributesUtils.validatePageQuery(pageQuery, SORT_FIELDS);
     log.info("[CART_SERVICE][GET_ALL_BY_STATUS] Fetching all Carts with status=({})", status);
-    return cartAdapterPort.findAllCartsByStatus(status);
+    return cartAdapterPort.findAllCartsByStatus(status, pageQuery.withDefaultSort("createdAt"));
   }
 
   @Override
   @Transactional(readOnly = true)
-  public List<Cart> getAllCartsByCustomerId(UUID customerId) {
+  public PageResult<Cart> getAllCartsByCustomerId(UUID customerId, PageQuery pageQuery) {
+    ValidateAttributesUtils.validatePageQuery(pageQuery, SORT_FIELDS);
     findCustomerOrThrow(customerId);
     log.info("[CART_SERVICE][GET_ALL_BY_CUSTOMER] Fetching all Carts with Customer(id={})", customerId);
-    return cartAdapterPort.findAllCartsByCustomerId(customerId);
+    return cartAdapterPort.findAllCartsByCustomerId(customerId, pageQuery.withDefaultSort("createdAt"));
   }
 
   @Override
   @Transactional(readOnly = true)
-  public List<Cart> getAllCartsByItemsProductId(UUID productId) {
+  public PageResult<Cart> getAllCartsByItemsProductId(UUID productId, PageQuery pageQuery) {
+    ValidateAttributesUtils.validatePageQuery(pageQuery, SORT_FIELDS);
     findProductOrThrow(productId);
     log.info("[CART_SERVICE][GET_ALL_BY_PRODUCT] Fetching all Carts with Product(id={})", productId);
-    return cartAdapterPort.findAllCartsByItemsProductId(productId);
+    return cartAdapterPort.findAllCartsByItemsProductId(productId, pageQuery.withDefaultSort("createdAt"));
   }
 
   @Override
@@ -104,10 +118,12 @@ public class CartService implements ICartUseCase {
     if (cartFound.containsProduct(productFound.getId())) {
       CartItem cartItem = findCartItemInCartOrThrow(productId, cartFound);
       CartItem saved = cartItemUseCase.addQuantityById(cartItem.getId(), quantity);
+      cartFound = getCartById(id);
       log.info("[CART_SERVICE][ADDED_ITEM] User(id={}) has added quantity {} in CartItem(id={})",
           securityUtils.getCurrentUserId(), quantity, saved.getId());
     } else {
       CartItem saved = cartItemUseCase.addCartItem(cartFound.getId(), CartItem.create(productFound, quantity));
+      cartFound.getItems().add(saved);
       log.info("[CART_SERVICE][ADDED_ITEM] User(id={}) has created new CartItem(id={}) whit Product(id={}) in cart(id={})",
           securityUtils.getCurrentUserId(), saved.getId(), productId, id);
     }
@@ -131,7 +147,8 @@ public class CartService implements ICartUseCase {
     }
     CartItem cartItem = findCartItemInCartOrThrow(productId, cartFound);
     cartItemUseCase.updateQuantity(cartItem.getId(), quantity);
-    Cart saved = cartAdapterPort.saveUpdateCart(cartFound);
+    Cart cartUpdated = getCartById(id);
+    Cart saved = cartAdapterPort.saveUpdateCart(cartUpdated);
     log.info("[CART_SERVICE][UPDATED_ITEM_QUANTITY] User(id={}) has updated quantity {} in CartItem(id={}) ",
         securityUtils.getCurrentUserId(), quantity, saved.getId());
     return saved;
@@ -191,6 +208,20 @@ public class CartService implements ICartUseCase {
         securityUtils.getCurrentUserId(), id);
   }
 
+  @Override
+  @Transactional
+  public SweepBatchResult abandonIdleCartsBatch(LocalDateTime cutoff, int batchSize) {
+    ValidateAttributesUtils.validateModel(cutoff, "Cutoff in Cart sweep");
+    KeysetCursor checkpoint = jobCheckpointAdapterPort.findCheckpoint(ABANDON_JOB_NAME).orElse(null);
+    List<KeysetCursor> keys = cartAdapterPort.findIdleActiveCartKeys(cutoff, checkpoint, batchSize);
+    if (keys.isEmpty()) return new SweepBatchResult(0, 0);
+    int abandoned = cartAdapterPort.abandonIdleCarts(keys.stream().map(KeysetCursor::id).collect(Collectors.toList()), cutoff);
+    // el checkpoint avanza en la misma transacción que el update: un reinicio retoma desde el último lote confirmado
+    jobCheckpointAdapterPort.saveCheckpoint(ABANDON_JOB_NAME, keys.get(keys.size() - 1));
+    log.info("[CART_SERVICE][ABANDONED_BATCH] {} Carts marked as abandoned out of {} scanned", abandoned, keys.size());
+    return new SweepBatchResult(keys.size(), abandoned);
+  }
+
   private Customer findCustomerOrThrow(UUID customerId) {
     ValidateAttributesUtils.validateId(customerId, "Customer ID in Cart");
     Customer customer = customerUseCase.getCustomerById(customerId);
@@ -205,6 +236,15 @@ public class CartService implements ICartUseCase {
     return product;
   }
 
+  private Map<UUID, Product> findAvailableProductsOrThrow(List<CartItem> items) {
+    Map<UUID, Integer> quantities = new LinkedHashMap<>();
+    items.forEach(item -> {
+      ValidateAttributesUtils.validateId(item.getProductId(), "Product ID in Cart");
+      quantities.merge(item.getProductId(), item.getQuantity(), Integer::sum);
+    });
+    return productUseCase.getAvailableProducts(quantities);
+  }
+
   private CartItem findCartItemInCartOrThrow(UUID productId, Cart cartFound) {
     return cartFound.getItems()
         .stream()
@@ -0,0 +1,35 @@
+package com.store.arka.backend.application.service;
+
+import com.store.arka.backend.application.model.ResourceVersion;
+import com.store.arka.backend.application.port.in.ICatalogVersionUseCase;
+import com.store.arka.backend.application.port.out.ICatalogVersionAdapterPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+@Service
+@RequiredArgsConstructor
+public class CatalogVersionService implements ICatalogVersionUseCase {
+  private final ICatalogVersionAdapterPort catalogVersionAdapterPort;
+  @Value("${arka.http-cache.catalog.stock-window-seconds:30}")
+  private long stockWindowSeconds;
+
+  @Override
+  @Transactional(readOnly = true)
+  public ResourceVersion getCatalogVersion() {
+    ResourceVersion catalog = catalogVersionAdapterPort.findCatalogVersion();
+    if (stockWindowSeconds <= 0) return catalog;
+    // los listados incluyen el stock, que no incrementa la versión: el validador cambia además una vez por ventana
+    long window = Instant.now().getEpochSecond() / stockWindowSeconds;
+    LocalDateTime windowStart = LocalDateTime.ofInstant(
+        Instant.ofEpochSecond(window * stockWindowSeconds), ZoneId.systemDefault());
+    LocalDateTime lastModified = catalog.lastModified() == null || catalog.lastModified().isBefore(windowStart)
+        ? windowStart : catalog.lastModified();
+    return new ResourceVersion(catalog.tag() + "-s" + window, lastModified);
+  }
+}
@@ -1,7 +1,11 @@
 package com.store.arka.backend.application.service;
 
+import com.store.arka.backend.application.model.PageQuery;
+import com.store.arka.backend.application.model.PageResult;
+import com.store.arka.backend.application.model.ResourceVersion;
 import com.store.arka.backend.application.port.in.ICategoryUseCase;
 import com.store.arka.backend.application.port.out.ICategoryAdapterPort;
+import com.store.arka.backend.application.port.out.IProductSearchAdapterPort;
 import com.store.arka.backend.domain.enums.CategoryStatus;
 import com.store.arka.backend.domain.exception.FieldAlreadyExistsException;
 import com.store.arka.backend.domain.exception.ModelNotFoundException;
@@ -13,14 +17,17 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class CategoryService implements ICategoryUseCase {
+  private static final Set<String> SORT_FIELDS = Set.of("name", "createdAt", "updatedAt");
   private final ICategoryAdapterPort categoryAdapterPort;
+  private final IProductSearchAdapterPort productSearchAdapterPort;
   private final SecurityUtils securityUtils;
 
   @Override
@@ -66,16 +73,31 @@ public class CategoryService implements ICategoryUseCase {
 
   @Override
   @Transactional(readOnly = true)
-  public List<Category> getAllCategories() {
+  public Optional<ResourceVersion> getCategoryVersionById(UUID id) {
+    ValidateAttributesUtils.validateId(id, "Category ID");
+    return categoryAdapterPort.findCategoryVersionById(id);
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public Optional<ResourceVersion> getCategoryVersionByName(String name) {
+    return categoryAdapterPort.findCategoryVersionByName(name);
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public PageResult<Category> getAllCategories(PageQuery pageQuery) {
+    ValidateAttributesUtils.validatePageQuery(pageQuery, SORT_FIELDS);
     log.info("[CATEGORY_SERVICE][GET_ALL] Fetching all categories");
-    return categoryAdapterPort.findAllCategories();
+    return categoryAdapterPort.findAllCategories(pageQuery.withDefaultSort("createdAt"));
   }
 
   @Override
   @Transactional(readOnly = true)
-  public List<Category> getAllCategoriesByStatus(CategoryStatus status) {
+  public PageResult<Category> getAllCategoriesByStatus(CategoryStatus status, PageQuery pageQuery) {
+    ValidateAttributesUtils.validatePageQuery(pageQuery, SORT_FIELDS);
     log.info("[CATEGORY_SERVICE][GET_ALL_BY_STATUS] Fetching all categories with status=({})", status);
-    return categoryAdapterPort.findAllCategoriesByStatus(status);
+    return categoryAdapterPort.findAllCategoriesByStatus(status, pageQuery.withDefaultSort("createdAt"));
   }
 
   @Override
@@ -84,6 +106,7 @@ public class CategoryService implements ICategoryUseCase {
     Category found = getCategoryById(id);
     found.update(category);
     Category saved = categoryAdapterPort.saveCategory(found);
+    productSearchAdapterPort.refreshEntriesByCategory(saved.getId());
     log.info("[CATEGORY_SERVICE][UPDATED] User(id={}) has updated category(id={}) with new description",
         securityUtils.getCurrentUserId(), saved.getId());
     return saved;
@@ -95,6 +118,7 @@ public class CategoryService implements ICategoryUseCase {
     Category found = getCategoryById(id);
     found.delete();
     categoryAdapterPort.saveCategory(found);
+    productSearchAdapterPort.refreshEntriesByCategory(id);
     log.info("[CATEGORY_SERVICE][DELETED] User(id={}) has marked as deleted Category(id={})",
         securityUtils.getCurrentUserId(), id);
   }
@@ -105,6 +129,7 @@ public class CategoryService implements ICategoryUseCase {
     Category found = getCategoryById(id);
     found.restore();
     Category restored = categoryAdapterPort.saveCategory(found);
+    productSearchAdapterPort.refreshEntriesByCategory(restored.getId());
     log.info("[CATEGORY_SERVICE][RESTORED] User(id={}) has restored Category(id={}) successfully",
         securityUtils.getCurrentUserId(), id);
     return restored;
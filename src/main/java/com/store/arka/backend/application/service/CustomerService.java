@@ -1,5 +1,7 @@
 package com.store.arka.backend.application.service;
 
+import com.store.arka.backend.application.model.PageQuery;
+import com.store.arka.backend.application.model.PageResult;
 import com.store.arka.backend.application.port.in.ICustomerUseCase;
 import com.store.arka.backend.application.port.in.IDocumentUseCase;
 import com.store.arka.backend.application.port.out.ICustomerAdapterPort;
@@ -16,13 +18,14 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class CustomerService implements ICustomerUseCase {
+  private static final Set<String> SORT_FIELDS = Set.of("firstName", "lastName", "email", "createdAt", "updatedAt");
   private final ICustomerAdapterPort customerAdapterPort;
   private final IDocumentUseCase documentUseCase;
   private final IUserAdapterPort userAdapterPort;
@@ -102,16 +105,18 @@ public class CustomerService implements ICustomerUseCase {
 
   @Override
   @Transactional(readOnly = true)
-  public List<Customer> getAllCustomers() {
+  public PageResult<Customer> getAllCustomers(PageQuery pageQuery) {
+    ValidateAttributesUtils.validatePageQuery(pageQuery, SORT_FIELDS);
     log.info("[CUSTOMER_SERVICE][GET_ALL] Fetching all customers");
-    return customerAdapterPort.findAllCustomers();
+    return customerAdapterPort.findAllCustomers(pageQuery.withDefaultSort("createdAt"));
   }
 
   @Override
   @Transactional(readOnly = true)
-  public List<Customer> getAllCustomersByStatus(CustomerStatus status) {
+  public PageResult<Customer> getAllCustomersByStatus(CustomerStatus status, PageQuery pageQuery) {
+    ValidateAttributesUtils.validatePageQuery(pageQuery, SORT_FIELDS);
     log.info("[CUSTOMER_SERVICE][GET_ALL_BY_STATUS] Fetching all Customers with status=({})", status);
-    return customerAdapterPort.findAllCustomersByStatus(status);
+    return customerAdapterPort.findAllCustomersByStatus(status, pageQuery.withDefaultSort("createdAt"));
   }
 
   @Override
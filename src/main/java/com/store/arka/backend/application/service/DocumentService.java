@@ -1,5 +1,7 @@
 package com.store.arka.backend.application.service;
 
+import com.store.arka.backend.application.model.PageQuery;
+import com.store.arka.backend.application.model.PageResult;
 import com.store.arka.backend.application.port.in.IDocumentUseCase;
 import com.store.arka.backend.application.port.out.IDocumentAdapterPort;
 import com.store.arka.backend.domain.enums.DocumentStatus;
@@ -14,14 +16,15 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class DocumentService implements IDocumentUseCase {
+  private static final Set<String> SORT_FIELDS = Set.of("createdAt", "updatedAt");
   private final IDocumentAdapterPort documentAdapterPort;
   private final SecurityUtils securityUtils;
 
@@ -61,16 +64,18 @@ public class DocumentService implements IDocumentUseCase {
 
   @Override
   @Transactional(readOnly = true)
-  public List<Document> getAllDocuments() {
+  public PageResult<Document> getAllDocuments(PageQuery pageQuery) {
+    ValidateAttributesUtils.validatePageQuery(pageQuery, SORT_FIELDS);
     log.info("[DOCUMENT_SERVICE][GET_ALL] Fetching all Documents");
-    return documentAdapterPort.findAllDocuments();
+    return documentAdapterPort.findAllDocuments(pageQuery.withDefaultSort("createdAt"));
   }
 
   @Override
   @Transactional(readOnly = true)
-  public List<Document> getAllDocumentsByStatus(DocumentStatus status) {
+  public PageResult<Document> getAllDocumentsByStatus(DocumentStatus status, PageQuery pageQuery) {
+    ValidateAttributesUtils.validatePageQuery(pageQuery, SORT_FIELDS);
     log.info("[DOCUMENT_SERVICE][GET_ALL_BY_STATUS] Fetching all Documents with status=({})", status);
-    return documentAdapterPort.findAllDocumentsByStatus(status);
+    return documentAdapterPort.findAllDocumentsByStatus(status, pageQuery.withDefaultSort("createdAt"));
   }
 
   @Override
@@ -1,17 +1,39 @@
 package com.store.arka.backend.application.service;
 
+import com.store.arka.backend.application.model.NotificationDelivery;
 import com.store.arka.backend.application.port.in.IEmailService;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
 
+import java.util.*;
+
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class EmailService implements IEmailService {
   private final JavaMailSender mailSender;
+  private final Timer singleSendTimer;
+  private final Timer batchSendTimer;
+  private final Counter sentEmails;
+  private final Counter failedEmails;
+
+  public EmailService(JavaMailSender mailSender, MeterRegistry meterRegistry) {
+    this.mailSender = mailSender;
+    this.singleSendTimer = Timer.builder("arka.mail.send")
+        .description("Time spent handing emails to the SMTP server").tag("mode", "single").register(meterRegistry);
+    this.batchSendTimer = Timer.builder("arka.mail.send")
+        .description("Time spent handing emails to the SMTP server").tag("mode", "batch").register(meterRegistry);
+    this.sentEmails = Counter.builder("arka.mail.messages")
+        .description("Emails by delivery result").tag("result", "sent").register(meterRegistry);
+    this.failedEmails = Counter.builder("arka.mail.messages")
+        .description("Emails by delivery result").tag("result", "failed").register(meterRegistry);
+  }
 
   @Override
   public void sendNotificationEmail(String to, String subject, String message) {
@@ -19,7 +41,49 @@ public class EmailService implements IEmailService {
     mail.setTo(to);
     mail.setSubject(subject);
     mail.setText(message);
-    mailSender.send(mail);
+    try {
+      singleSendTimer.record(() -> mailSender.send(mail));
+    } catch (MailException ex) {
+      failedEmails.increment();
+      throw ex;
+    }
+    sentEmails.increment();
     log.info("[EMAIL_SERVICE][SENT_NOTIFICATION] Email sent to: {}", to);
   }
+
+  @Override
+  public Map<UUID, String> sendNotificationEmails(List<NotificationDelivery> deliveries) {
+    Map<UUID, String> failures = new HashMap<>();
+    if (deliveries.isEmpty()) return failures;
+    Map<SimpleMailMessage, UUID> ids = new IdentityHashMap<>();
+    SimpleMailMessage[] mails = new SimpleMailMessage[deliveries.size()];
+    for (int i = 0; i < deliveries.size(); i++) {
+      NotificationDelivery delivery = deliveries.get(i);
+      SimpleMailMessage mail = new SimpleMailMessage();
+      mail.setTo(delivery.email());
+      mail.setSubject("Actualización de tu orden #" + delivery.orderId());
+      mail.setText(delivery.message());
+      mails[i] = mail;
+      ids.put(mail, delivery.notificationId());
+    }
+    Timer.Sample sample = Timer.start();
+    try {
+      // un único envío por lote: JavaMailSender reutiliza la misma conexión SMTP para todos los mensajes
+      mailSender.send(mails);
+    } catch (MailSendException ex) {
+      if (ex.getFailedMessages().isEmpty()) {
+        ids.values().forEach(id -> failures.put(id, ex.getMessage()));
+      } else {
+        ex.getFailedMessages().forEach((mail, error) -> failures.put(ids.get(mail), error.getMessage()));
+      }
+    } catch (MailException ex) {
+      ids.values().forEach(id -> failures.put(id, ex.getMessage()));
+    }
+    sample.stop(batchSendTimer);
+    sentEmails.increment(deliveries.size() - failures.size());
+    failedEmails.increment(failures.size());
+    log.info("[EMAIL_SERVICE][SENT_NOTIFICATION_BATCH] Emails sent=({}) failed=({})",
+        deliveries.size() - failures.size(), failures.size());
+    return failures;
+  }
 }
@@ -0,0 +1,61 @@
+package com.store.arka.backend.application.service;
+
+import com.store.arka.backend.application.model.LowStockEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * In-process queue of low-stock events. Publishing only enqueues after the stock decrement commits,
+ * and a product stays queued at most once until the replenisher drains it.
+ */
+@Slf4j
+@Component
+public class LowStockEventQueue {
+  private final BlockingQueue<LowStockEvent> queue;
+  private final Set<UUID> queued = ConcurrentHashMap.newKeySet();
+
+  public LowStockEventQueue(@Value("${arka.replenishment.queue-capacity:10000}") int capacity) {
+    this.queue = new LinkedBlockingQueue<>(capacity);
+  }
+
+  public void publishAfterCommit(List<LowStockEvent> events) {
+    if (events.isEmpty()) return;
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      events.forEach(this::offer);
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        events.forEach(LowStockEventQueue.this::offer);
+      }
+    });
+  }
+
+  public List<LowStockEvent> drain(int maxEvents) {
+    List<LowStockEvent> drained = new ArrayList<>();
+    queue.drainTo(drained, maxEvents);
+    drained.forEach(event -> queued.remove(event.productId()));
+    return drained;
+  }
+
+  private void offer(LowStockEvent event) {
+    if (!queued.add(event.productId())) return;
+    if (!queue.offer(event)) {
+      queued.remove(event.productId());
+      log.warn("[LOW_STOCK_QUEUE][DROPPED] Queue is full, low stock event for Product(id={}) discarded",
+          event.productId());
+    }
+  }
+}
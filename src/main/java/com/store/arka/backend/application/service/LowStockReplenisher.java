@@ -0,0 +1,102 @@
+package com.store.arka.backend.application.service;
+
+import com.store.arka.backend.application.model.LowStockEvent;
+import com.store.arka.backend.application.port.in.IPurchaseUseCase;
+import com.store.arka.backend.application.port.out.IProductAdapterPort;
+import com.store.arka.backend.application.port.out.IPurchaseAdapterPort;
+import com.store.arka.backend.application.port.out.ISupplierAdapterPort;
+import com.store.arka.backend.domain.enums.PurchaseStatus;
+import com.store.arka.backend.domain.model.Product;
+import com.store.arka.backend.domain.model.Purchase;
+import com.store.arka.backend.domain.model.PurchaseItem;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Consumes low-stock events in batches and drafts one CREATED purchase per supplier with the products
+ * that fell under the threshold, so procurement no longer has to poll the whole catalog.
+ */
+@Slf4j
+@Service
+public class LowStockReplenisher {
+  private static final List<PurchaseStatus> OPEN_STATUSES =
+      List.of(PurchaseStatus.CREATED, PurchaseStatus.CONFIRMED, PurchaseStatus.RESCHEDULED);
+  private final LowStockEventQueue lowStockEventQueue;
+  private final IProductAdapterPort productAdapterPort;
+  private final IPurchaseUseCase purchaseUseCase;
+  private final ISupplierAdapterPort supplierAdapterPort;
+  private final IPurchaseAdapterPort purchaseAdapterPort;
+  private final Counter draftedPurchases;
+  @Value("${arka.replenishment.batch-size:200}")
+  private int batchSize;
+  @Value("${arka.replenishment.target-stock:100}")
+  private int targetStock;
+
+  public LowStockReplenisher(LowStockEventQueue lowStockEventQueue, IProductAdapterPort productAdapterPort,
+                             IPurchaseUseCase purchaseUseCase, ISupplierAdapterPort supplierAdapterPort,
+                             IPurchaseAdapterPort purchaseAdapterPort, MeterRegistry meterRegistry) {
+    this.lowStockEventQueue = lowStockEventQueue;
+    this.productAdapterPort = productAdapterPort;
+    this.purchaseUseCase = purchaseUseCase;
+    this.supplierAdapterPort = supplierAdapterPort;
+    this.purchaseAdapterPort = purchaseAdapterPort;
+    this.draftedPurchases = Counter.builder("arka.replenishment.purchases.drafted")
+        .description("Purchases drafted from low stock events").register(meterRegistry);
+  }
+
+  @Scheduled(fixedDelayString = "${arka.replenishment.poll-interval-ms:30000}")
+  public void replenishLowStock() {
+    List<LowStockEvent> events;
+    do {
+      events = lowStockEventQueue.drain(batchSize);
+      if (events.isEmpty()) return;
+      draftPurchases(events.stream().map(LowStockEvent::productId).collect(Collectors.toSet()));
+    } while (events.size() == batchSize);
+  }
+
+  private void draftPurchases(Set<UUID> productIds) {
+    // un producto que ya está en una compra abierta no genera otro borrador
+    Set<UUID> pending = new HashSet<>(productIds);
+    pending.removeAll(purchaseAdapterPort.findProductIdsInPurchasesByStatus(productIds, OPEN_STATUSES));
+    Map<UUID, UUID> supplierByProduct = supplierAdapterPort.findPreferredSupplierIdsByProductIds(pending);
+    pending.stream().filter(productId -> !supplierByProduct.containsKey(productId))
+        .forEach(productId -> log.warn(
+            "[LOW_STOCK_REPLENISHER][NO_SUPPLIER] Product(id={}) has no active Supplier, skipped", productId));
+    Map<UUID, List<UUID>> productsBySupplier = supplierByProduct.entrySet().stream()
+        .collect(Collectors.groupingBy(Map.Entry::getValue, TreeMap::new,
+            Collectors.mapping(Map.Entry::getKey, Collectors.toList())));
+    productsBySupplier.forEach(this::draftPurchase);
+  }
+
+  private void draftPurchase(UUID supplierId, List<UUID> productIds) {
+    try {
+      List<PurchaseItem> items = new ArrayList<>();
+      // lectura actual de las filas (sin la caché de productos): la cantidad se calcula sobre el stock vigente
+      Map<UUID, Product> products = productAdapterPort.findCurrentProductsByIds(new HashSet<>(productIds));
+      productIds.forEach(productId -> {
+        Product product = products.get(productId);
+        // si ya se repuso entre el evento y este ciclo no se pide nada
+        if (product == null || product.isDeleted() || !product.configurationThreshold()) return;
+        // el costo real lo fija el proveedor; el precio de venta sirve como referencia del borrador
+        int quantity = Math.max(targetStock, Product.LOW_STOCK_THRESHOLD + 1) - product.getStock();
+        items.add(PurchaseItem.create(product, quantity, product.getPrice()));
+      });
+      if (items.isEmpty()) return;
+      Purchase saved = purchaseUseCase.createPurchase(
+          new Purchase(null, null, items, null, null, null, null), supplierId);
+      draftedPurchases.increment();
+      log.info("[LOW_STOCK_REPLENISHER][DRAFTED] Purchase(id={}) drafted for Supplier(id={}) with {} Products",
+          saved.getId(), supplierId, items.size());
+    } catch (RuntimeException ex) {
+      log.warn("[LOW_STOCK_REPLENISHER][FAILED] Supplier(id={}) Products(ids={}) not replenished: {}",
+          supplierId, productIds, ex.getMessage());
+    }
+  }
+}
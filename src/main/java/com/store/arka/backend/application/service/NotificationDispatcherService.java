@@ -0,0 +1,68 @@
+package com.store.arka.backend.application.service;
+
+import com.store.arka.backend.application.model.NotificationDelivery;
+import com.store.arka.backend.application.port.in.IEmailService;
+import com.store.arka.backend.application.port.in.INotificationUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Drains the notification outbox: claims PENDING rows in short transactions and sends
+ * them outside any transaction, one SMTP connection per chunk and one virtual thread per connection.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationDispatcherService {
+  private final INotificationUseCase notificationUseCase;
+  private final IEmailService emailService;
+  @Value("${arka.notifications.outbox.batch-size:100}")
+  private int batchSize;
+  @Value("${arka.notifications.outbox.connection-batch-size:25}")
+  private int connectionBatchSize;
+
+  @Scheduled(fixedDelayString = "${arka.notifications.outbox.poll-interval-ms:5000}")
+  public void dispatchPendingNotifications() {
+    List<NotificationDelivery> claimed;
+    do {
+      claimed = notificationUseCase.claimPendingDeliveries(batchSize);
+      if (claimed.isEmpty()) return;
+      Map<UUID, String> failures = send(claimed);
+      notificationUseCase.completeDeliveries(claimed, failures);
+      log.info("[NOTIFICATION_DISPATCHER][DISPATCHED] Notifications sent=({}) failed=({})",
+          claimed.size() - failures.size(), failures.size());
+    } while (claimed.size() == batchSize);
+  }
+
+  private Map<UUID, String> send(List<NotificationDelivery> claimed) {
+    Map<UUID, String> failures = new HashMap<>();
+    List<List<NotificationDelivery>> chunks = new ArrayList<>();
+    for (int i = 0; i < claimed.size(); i += connectionBatchSize) {
+      chunks.add(claimed.subList(i, Math.min(i + connectionBatchSize, claimed.size())));
+    }
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      List<Future<Map<UUID, String>>> results = new ArrayList<>();
+      chunks.forEach(chunk -> results.add(executor.submit(() -> emailService.sendNotificationEmails(chunk))));
+      for (int i = 0; i < results.size(); i++) {
+        try {
+          failures.putAll(results.get(i).get());
+        } catch (ExecutionException ex) {
+          chunks.get(i).forEach(delivery -> failures.put(delivery.notificationId(), ex.getCause().getMessage()));
+        } catch (InterruptedException ex) {
+          Thread.currentThread().interrupt();
+          chunks.get(i).forEach(delivery -> failures.put(delivery.notificationId(), "Dispatcher interrupted"));
+        }
+      }
+    }
+    return failures;
+  }
+}
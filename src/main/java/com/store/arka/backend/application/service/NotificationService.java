@@ -1,7 +1,11 @@
 package com.store.arka.backend.application.service;
 
+import com.store.arka.backend.application.model.CursorPage;
+import com.store.arka.backend.application.model.KeysetCursor;
+import com.store.arka.backend.application.model.NotificationDelivery;
+import com.store.arka.backend.application.model.PageQuery;
+import com.store.arka.backend.application.model.PageResult;
 import com.store.arka.backend.application.port.in.ICustomerUseCase;
-import com.store.arka.backend.application.port.in.IEmailService;
 import com.store.arka.backend.application.port.in.INotificationUseCase;
 import com.store.arka.backend.application.port.out.INotificationAdapterPort;
 import com.store.arka.backend.application.port.out.IOrderAdapterPort;
@@ -14,22 +18,32 @@ import com.store.arka.backend.domain.model.Order;
 import com.store.arka.backend.shared.security.SecurityUtils;
 import com.store.arka.backend.shared.util.ValidateAttributesUtils;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.transaction.annotation.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
-import java.util.UUID;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class NotificationService implements INotificationUseCase {
+  private static final Set<String> SORT_FIELDS = Set.of("createdAt", "sentAt");
+  private static final int MAX_CURSOR_PAGE_SIZE = 100;
+  private static final long MAX_BACKOFF_SECONDS = 3600;
   private final INotificationAdapterPort notificationAdapterPort;
-  private final IEmailService emailService;
   private final IOrderAdapterPort orderAdapterPort;
   private final ICustomerUseCase customerUseCase;
   private final SecurityUtils securityUtils;
+  @Value("${arka.notifications.outbox.max-attempts:6}")
+  private int maxAttempts;
+  @Value("${arka.notifications.outbox.backoff-seconds:30}")
+  private long backoffSeconds;
+  @Value("${arka.notifications.outbox.lease-seconds:120}")
+  private long leaseSeconds;
 
   @Override
   @Transactional
@@ -38,16 +52,32 @@ public class NotificationService implements INotificationUseCase {
     Customer customerFound = findCustomerOrThrow(notification.getCustomer().getId());
     Notification created = Notification.create(customerFound, notification.getOrder(), notification.getType());
     Notification saved = notificationAdapterPort.saveNotification(created);
-    emailService.sendNotificationEmail(
-        customerFound.getEmail(),
-        "Actualización de tu orden #" + notification.getOrder().getId(),
-        saved.getMessage()
-    );
     log.info("[NOTIFICATION_SERVICE][CREATED] User(id={}) has created new Notification(id={})",
         securityUtils.getCurrentUserId(), saved.getId());
     return saved;
   }
 
+  @Override
+  @Transactional
+  public List<Notification> createNotifications(List<Notification> notifications) {
+    ValidateAttributesUtils.validateModel(notifications, "Notifications");
+    if (notifications.isEmpty()) return List.of();
+    // una consulta por tipo en lugar de una por orden; las ya existentes se omiten sin abortar el lote
+    List<Notification> pending = new ArrayList<>();
+    notifications.stream().collect(Collectors.groupingBy(Notification::getType)).forEach((type, group) -> {
+      Set<UUID> existing = notificationAdapterPort.findOrderIdsWithNotificationType(
+          group.stream().map(notification -> notification.getOrder().getId()).collect(Collectors.toSet()), type);
+      group.stream()
+          .filter(notification -> !existing.contains(notification.getOrder().getId()))
+          .filter(notification -> !notification.getCustomer().isDeleted())
+          .forEach(pending::add);
+    });
+    List<Notification> saved = notificationAdapterPort.saveAllNotifications(pending);
+    log.info("[NOTIFICATION_SERVICE][CREATED_BATCH] User(id={}) has created {} Notifications, {} skipped",
+        securityUtils.getCurrentUserId(), saved.size(), notifications.size() - saved.size());
+    return saved;
+  }
+
   @Override
   @Transactional(readOnly = true)
   public Notification getNotificationById(UUID id) {
@@ -61,48 +91,72 @@ public class NotificationService implements INotificationUseCase {
 
   @Override
   @Transactional(readOnly = true)
-  public List<Notification> getAllNotifications() {
+  public PageResult<Notification> getAllNotifications(PageQuery pageQuery) {
+    ValidateAttributesUtils.validatePageQuery(pageQuery, SORT_FIELDS);
     log.info("[NOTIFICATION_SERVICE][GET_ALL] Fetching all Notifications");
-    return notificationAdapterPort.findAllNotifications();
+    return notificationAdapterPort.findAllNotifications(pageQuery.withDefaultSort("createdAt"));
   }
 
   @Override
   @Transactional(readOnly = true)
-  public List<Notification> getAllNotificationsByStatus(NotificationStatus status) {
+  public PageResult<Notification> getAllNotificationsByStatus(NotificationStatus status, PageQuery pageQuery) {
+    ValidateAttributesUtils.validatePageQuery(pageQuery, SORT_FIELDS);
     log.info("[NOTIFICATION_SERVICE][GET_ALL_BY_STATUS] Fetching all Notifications with status=({})", status);
-    return notificationAdapterPort.findAllNotificationsByStatus(status);
+    return notificationAdapterPort.findAllNotificationsByStatus(status, pageQuery.withDefaultSort("createdAt"));
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public CursorPage<Notification> getNotificationsPage(String cursor, Integer size, NotificationStatus status) {
+    ValidateAttributesUtils.validatePageSize(size, MAX_CURSOR_PAGE_SIZE);
+    KeysetCursor after = KeysetCursor.decode(cursor);
+    List<Notification> found = notificationAdapterPort.findNotificationsAfter(after, status, size + 1);
+    boolean hasNext = found.size() > size;
+    List<Notification> items = hasNext ? found.subList(0, size) : found;
+    String nextCursor = null;
+    if (hasNext) {
+      Notification last = items.get(items.size() - 1);
+      nextCursor = new KeysetCursor(last.getCreatedAt(), last.getId()).encode();
+    }
+    log.info("[NOTIFICATION_SERVICE][GET_PAGE] Fetched {} Notifications with status=({}), hasNext=({})",
+        items.size(), status, hasNext);
+    return new CursorPage<>(items, nextCursor, hasNext);
   }
 
   @Override
   @Transactional(readOnly = true)
-  public List<Notification> getAllNotificationsByOrderId(UUID orderId) {
+  public PageResult<Notification> getAllNotificationsByOrderId(UUID orderId, PageQuery pageQuery) {
+    ValidateAttributesUtils.validatePageQuery(pageQuery, SORT_FIELDS);
     Order order = findOrderOrThrow(orderId);
     log.info("[NOTIFICATION_SERVICE][GET_ALL_BY_ORDER] Fetching all Notifications with Order(id={})", orderId);
-    return notificationAdapterPort.findAllNotificationsByOrderId(order.getId());
+    return notificationAdapterPort.findAllNotificationsByOrderId(order.getId(), pageQuery.withDefaultSort("createdAt"));
   }
 
   @Override
   @Transactional(readOnly = true)
-  public List<Notification> getAllNotificationsByCustomerId(UUID customerId) {
+  public PageResult<Notification> getAllNotificationsByCustomerId(UUID customerId, PageQuery pageQuery) {
+    ValidateAttributesUtils.validatePageQuery(pageQuery, SORT_FIELDS);
     Customer customer = findCustomerOrThrow(customerId);
     securityUtils.requireOwnerOrRoles(customer.getUserId(), "ADMIN", "MANAGER");
     log.info("[NOTIFICATION_SERVICE][GET_ALL_BY_CUSTOMER] Fetching all Notifications with Customer(id={})", customerId);
-    return notificationAdapterPort.findAllNotificationsByCustomerId(customer.getId());
+    return notificationAdapterPort.findAllNotificationsByCustomerId(customer.getId(), pageQuery.withDefaultSort("createdAt"));
   }
 
   @Override
   @Transactional(readOnly = true)
-  public List<Notification> getAllNotificationsByType(NotificationType type) {
+  public PageResult<Notification> getAllNotificationsByType(NotificationType type, PageQuery pageQuery) {
+    ValidateAttributesUtils.validatePageQuery(pageQuery, SORT_FIELDS);
     log.info("[NOTIFICATION_SERVICE][GET_ALL_BY_TYPE] Fetching all Notifications with type=({})", type);
-    return notificationAdapterPort.findAllNotificationsByType(type);
+    return notificationAdapterPort.findAllNotificationsByType(type, pageQuery.withDefaultSort("createdAt"));
   }
 
   @Override
   @Transactional(readOnly = true)
-  public List<Notification> getAllNotificationsByTypeAndStatus(NotificationType type, NotificationStatus status) {
+  public PageResult<Notification> getAllNotificationsByTypeAndStatus(NotificationType type, NotificationStatus status, PageQuery pageQuery) {
+    ValidateAttributesUtils.validatePageQuery(pageQuery, SORT_FIELDS);
     log.info("[NOTIFICATION_SERVICE][GET_ALL_BY_TYPE_AND_STATUS] Fetching all Notifications with type=({}) and status=({})",
         type, status);
-    return notificationAdapterPort.findAllNotificationsByTypeAndStatus(type, status);
+    return notificationAdapterPort.findAllNotificationsByTypeAndStatus(type, status, pageQuery.withDefaultSort("createdAt"));
   }
 
   @Override
@@ -111,11 +165,44 @@ public class NotificationService implements INotificationUseCase {
     Notification found = getNotificationById(id);
     securityUtils.requireOwnerOrRoles(found.getOrder().getCustomer().getUserId(), "ADMIN");
     found.markAsRead();
-    notificationAdapterPort.saveNotification(found);
+    notificationAdapterPort.updateNotificationStatus(found.getId(), found.getStatus(), found.getReadAt());
     log.info("[NOTIFICATION_SERVICE][AS_READ] User(id={}) has marked as READ Notification(id={})",
         securityUtils.getCurrentUserId(), id);
   }
 
+  @Override
+  @Transactional
+  public List<NotificationDelivery> claimPendingDeliveries(int limit) {
+    LocalDateTime now = LocalDateTime.now();
+    return notificationAdapterPort.claimPendingDeliveries(now, now.plusSeconds(leaseSeconds), limit);
+  }
+
+  @Override
+  @Transactional
+  public void completeDeliveries(List<NotificationDelivery> deliveries, Map<UUID, String> failures) {
+    LocalDateTime now = LocalDateTime.now();
+    notificationAdapterPort.markDeliveriesSent(deliveries.stream()
+        .map(NotificationDelivery::notificationId)
+        .filter(id -> !failures.containsKey(id))
+        .collect(Collectors.toList()), now);
+    deliveries.stream()
+        .filter(delivery -> failures.containsKey(delivery.notificationId()))
+        .forEach(delivery -> {
+          int attempts = delivery.attempts() + 1;
+          if (attempts >= maxAttempts) {
+            notificationAdapterPort.updateDelivery(delivery.notificationId(), NotificationDeliveryStatus.DEAD_LETTER, attempts, null);
+            log.error("[NOTIFICATION_SERVICE][DEAD_LETTER] Notification(id={}) moved to dead letter after {} attempts: {}",
+                delivery.notificationId(), attempts, failures.get(delivery.notificationId()));
+          } else {
+            long delay = Math.min(backoffSeconds << (attempts - 1), MAX_BACKOFF_SECONDS);
+            notificationAdapterPort.updateDelivery(
+                delivery.notificationId(), NotificationDeliveryStatus.PENDING, attempts, now.plusSeconds(delay));
+            log.warn("[NOTIFICATION_SERVICE][RETRY] Notification(id={}) failed attempt=({}), retrying in {}s: {}",
+                delivery.notificationId(), attempts, delay, failures.get(delivery.notificationId()));
+          }
+        });
+  }
+
   private Order findOrderOrThrow(UUID orderId) {
     ValidateAttributesUtils.validateId(orderId,"Order ID in Notification");
     return orderAdapterPort.findOrderById(orderId)
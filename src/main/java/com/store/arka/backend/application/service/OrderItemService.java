@@ -1,5 +1,7 @@
 package com.store.arka.backend.application.service;
 
+import com.store.arka.backend.application.model.PageQuery;
+import com.store.arka.backend.application.model.PageResult;
 import com.store.arka.backend.application.port.in.IOrderItemUseCase;
 import com.store.arka.backend.application.port.in.IProductUseCase;
 import com.store.arka.backend.application.port.out.IOrderItemAdapterPort;
@@ -12,13 +14,14 @@ import org.springframework.transaction.annotation.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class OrderItemService implements IOrderItemUseCase {
+  private static final Set<String> SORT_FIELDS = Set.of("quantity", "subtotal", "createdAt");
   private final IOrderItemAdapterPort orderItemAdapterPort;
   private final IProductUseCase productUseCase;
   private final SecurityUtils securityUtils;
@@ -28,7 +31,7 @@ public class OrderItemService implements IOrderItemUseCase {
   public OrderItem addOrderItem(UUID orderId, OrderItem orderItem) {
     ValidateAttributesUtils.validateId(orderId, "Order ID in OrderItem");
     ValidateAttributesUtils.validateModel(orderItem, "OrderItem");
-    productUseCase.validateAvailability(orderItem.getProductId(), orderItem.getQuantity());
+    productUseCase.validateAvailabilityForOrder(orderItem.getProductId(), orderItem.getQuantity(), orderId);
     OrderItem saved = orderItemAdapterPort.saveAddOrderItem(orderId, orderItem);
     log.info("[ORDER_ITEM_SERVICE][CREATED] User(id={}) has created new OrderItem(id={})",
         securityUtils.getCurrentUserId(), saved.getId());
@@ -48,25 +51,27 @@ public class OrderItemService implements IOrderItemUseCase {
 
   @Override
   @Transactional(readOnly = true)
-  public List<OrderItem> getAllOrderItems() {
+  public PageResult<OrderItem> getAllOrderItems(PageQuery pageQuery) {
+    ValidateAttributesUtils.validatePageQuery(pageQuery, SORT_FIELDS);
     log.info("[ORDER_ITEM_SERVICE][GET_ALL] Fetching all OrderItems");
-    return orderItemAdapterPort.findAllOrderItems();
+    return orderItemAdapterPort.findAllOrderItems(pageQuery.withDefaultSort("createdAt"));
   }
 
   @Override
   @Transactional(readOnly = true)
-  public List<OrderItem> getAllOrderItemsByProductId(UUID productId) {
+  public PageResult<OrderItem> getAllOrderItemsByProductId(UUID productId, PageQuery pageQuery) {
+    ValidateAttributesUtils.validatePageQuery(pageQuery, SORT_FIELDS);
     ValidateAttributesUtils.validateId(productId, "Product ID in OrderItem");
     log.info("[ORDER_ITEM_SERVICE][GET_ALL_BY_PRODUCT] Fetching all orderItems with product(id={})", productId);
-    return orderItemAdapterPort.findAllOrderItemsByProductId(productId);
+    return orderItemAdapterPort.findAllOrderItemsByProductId(productId, pageQuery.withDefaultSort("createdAt"));
   }
 
   @Override
   @Transactional
-  public OrderItem addQuantityById(UUID id, Integer quantity) {
+  public OrderItem addQuantityById(UUID orderId, UUID id, Integer quantity) {
     OrderItem found = getOrderItemById(id);
     found.addQuantity(quantity);
-    productUseCase.validateAvailability(found.getProductId(), found.getQuantity());
+    productUseCase.validateAvailabilityForOrder(found.getProductId(), found.getQuantity(), orderId);
     OrderItem saved = orderItemAdapterPort.saveUpdateOrderItem(found);
     log.info("[ORDER_ITEM_SERVICE][ADDED_QUANTITY] User(id={}) has added quantity=({}) in OrderItem(id={})",
         securityUtils.getCurrentUserId(), quantity, id);
@@ -75,10 +80,10 @@ public class OrderItemService implements IOrderItemUseCase {
 
   @Override
   @Transactional
-  public OrderItem updateQuantity(UUID id, Integer quantity) {
+  public OrderItem updateQuantity(UUID orderId, UUID id, Integer quantity) {
     OrderItem found = getOrderItemById(id);
     found.updateQuantity(quantity);
-    productUseCase.validateAvailability(found.getProductId(), found.getQuantity());
+    productUseCase.validateAvailabilityForOrder(found.getProductId(), found.getQuantity(), orderId);
     OrderItem saved = orderItemAdapterPort.saveUpdateOrderItem(found);
     log.info("[ORDER_ITEM_SERVICE][UPDATED_QUANTITY] User(id={}) has updated quantity=({}) in OrderItem(id={})",
         securityUtils.getCurrentUserId(), quantity, id);
@@ -1,5 +1,6 @@
 package com.store.arka.backend.application.service;
 
+import com.store.arka.backend.application.model.BulkOperationResult;
 import com.store.arka.backend.application.port.in.IOrderUseCase;
 import com.store.arka.backend.application.port.out.IOrderPaymentSyncPort;
 import com.store.arka.backend.domain.enums.OrderStatus;
@@ -9,6 +10,8 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @Slf4j
@@ -33,4 +36,14 @@ public class OrderPaymentSyncService implements IOrderPaymentSyncPort {
     log.info("[ORDER_PAYMENT_SYNC_SERVICE][MARK_ORDER_CANCELED] In User(id={}) has been marked the Order(id={}) whit status=({})",
         securityUtils.getCurrentUserId(), orderId, OrderStatus.CANCELED);
   }
+
+  @Override
+  public BulkOperationResult markOrdersCanceled(List<UUID> orderIds) {
+    ValidateAttributesUtils.validateModel(orderIds, "Order IDs");
+    if (orderIds.isEmpty()) return new BulkOperationResult(List.of(), Map.of());
+    BulkOperationResult result = orderUseCase.cancelOrders(orderIds);
+    log.info("[ORDER_PAYMENT_SYNC_SERVICE][MARK_ORDERS_CANCELED] {} Orders marked whit status=({}), {} failed",
+        result.succeeded().size(), OrderStatus.CANCELED, result.failed().size());
+    return result;
+  }
 }
@@ -1,33 +1,50 @@
 package com.store.arka.backend.application.service;
 
+import com.store.arka.backend.application.model.BulkOperationResult;
+import com.store.arka.backend.application.model.CursorPage;
+import com.store.arka.backend.application.model.KeysetCursor;
+import com.store.arka.backend.application.model.OrderHistoryEntry;
+import com.store.arka.backend.application.model.OrderSummary;
+import com.store.arka.backend.application.model.PageQuery;
+import com.store.arka.backend.application.model.PageResult;
 import com.store.arka.backend.application.port.in.*;
 import com.store.arka.backend.application.port.out.ICartAdapterPort;
 import com.store.arka.backend.application.port.out.IOrderAdapterPort;
+import com.store.arka.backend.application.port.out.IOrderHistoryAdapterPort;
 import com.store.arka.backend.domain.enums.*;
 import com.store.arka.backend.domain.exception.*;
 import com.store.arka.backend.domain.model.*;
 import com.store.arka.backend.shared.security.SecurityUtils;
 import com.store.arka.backend.shared.util.ValidateAttributesUtils;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.transaction.annotation.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.UUID;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class OrderService implements IOrderUseCase {
+  private static final Set<String> SORT_FIELDS = Set.of("total", "createdAt", "updatedAt");
+  private static final int MAX_CURSOR_PAGE_SIZE = 100;
   private final IOrderAdapterPort orderAdapterPort;
+  private final IOrderHistoryAdapterPort orderHistoryAdapterPort;
   private final IOrderItemUseCase orderItemUseCase;
   private final ICartAdapterPort cartAdapterPort;
   private final IProductUseCase productUseCase;
   private final ICustomerUseCase customerUseCase;
   private final INotificationUseCase notificationUseCase;
+  private final IStockReservationUseCase stockReservationUseCase;
+  private final IReportUseCase reportUseCase;
   private final SecurityUtils securityUtils;
+  @Value("${arka.orders.bulk-max-size:500}")
+  private int bulkMaxSize;
 
   @Override
   @Transactional
@@ -37,12 +54,11 @@ public class OrderService implements IOrderUseCase {
     validateItemsContent(cartFound);
     Customer customerFound = findCustomerOrThrow(cartFound.getCustomer().getId());
     List<OrderItem> orderItems = new ArrayList<>();
-    cartFound.getItems().forEach(cartItem -> {
-      productUseCase.validateAvailability(cartItem.getProductId(), cartItem.getQuantity());
-      orderItems.add(OrderItem.create(cartItem.getProduct(), cartItem.getQuantity()));
-    });
+    cartFound.getItems().forEach(cartItem -> orderItems.add(OrderItem.create(cartItem.getProduct(), cartItem.getQuantity())));
     Order created = Order.create(cartId, customerFound, orderItems);
     Order saved = orderAdapterPort.saveCreateOrder(created);
+    stockReservationUseCase.reserveForOrder(saved);
+    orderHistoryAdapterPort.refreshOrderHistory(List.of(saved.getId()));
     log.info("[ORDER_SERVICE][CREATED] User(id={}) has created new Order(id={})",
         securityUtils.getCurrentUserId(), saved.getId());
     return saved;
@@ -69,33 +85,86 @@ public class OrderService implements IOrderUseCase {
 
   @Override
   @Transactional(readOnly = true)
-  public List<Order> getAllOrders() {
+  public PageResult<Order> getAllOrders(PageQuery pageQuery) {
+    ValidateAttributesUtils.validatePageQuery(pageQuery, SORT_FIELDS);
     log.info("[ORDER_SERVICE][GET_ALL] Fetching all Orders");
-    return orderAdapterPort.findAllOrders();
+    return orderAdapterPort.findAllOrders(pageQuery.withDefaultSort("createdAt"));
   }
 
   @Override
   @Transactional(readOnly = true)
-  public List<Order> getAllOrdersByStatus(OrderStatus status) {
+  public PageResult<Order> getAllOrdersByStatus(OrderStatus status, PageQuery pageQuery) {
+    ValidateAttributesUtils.validatePageQuery(pageQuery, SORT_FIELDS);
     log.info("[ORDER_SERVICE][GET_ALL_BY_STATUS] Fetching all Orders with status=({})", status);
-    return orderAdapterPort.findAllOrdersByStatus(status);
+    return orderAdapterPort.findAllOrdersByStatus(status, pageQuery.withDefaultSort("createdAt"));
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public CursorPage<Order> getOrdersPage(String cursor, Integer size, OrderStatus status) {
+    ValidateAttributesUtils.validatePageSize(size, MAX_CURSOR_PAGE_SIZE);
+    KeysetCursor after = KeysetCursor.decode(cursor);
+    List<Order> found = orderAdapterPort.findOrdersAfter(after, status, size + 1);
+    boolean hasNext = found.size() > size;
+    List<Order> items = hasNext ? found.subList(0, size) : found;
+    String nextCursor = null;
+    if (hasNext) {
+      Order last = items.get(items.size() - 1);
+      nextCursor = new KeysetCursor(last.getCreatedAt(), last.getId()).encode();
+    }
+    log.info("[ORDER_SERVICE][GET_PAGE] Fetched {} Orders with status=({}), hasNext=({})",
+        items.size(), status, hasNext);
+    return new CursorPage<>(items, nextCursor, hasNext);
   }
 
   @Override
   @Transactional(readOnly = true)
-  public List<Order> getAllOrdersByCustomerId(UUID customerId) {
+  public PageResult<Order> getAllOrdersByCustomerId(UUID customerId, PageQuery pageQuery) {
+    ValidateAttributesUtils.validatePageQuery(pageQuery, SORT_FIELDS);
     Customer found = findCustomerOrThrow(customerId);
     securityUtils.requireOwnerOrRoles(found.getUserId(), "ADMIN", "MANAGER");
     log.info("[ORDER_SERVICE][GET_ALL_BY_CUSTOMER] Fetching all Orders with Customer(id={})", customerId);
-    return orderAdapterPort.findAllOrdersByCustomerId(customerId);
+    return orderAdapterPort.findAllOrdersByCustomerId(customerId, pageQuery.withDefaultSort("createdAt"));
   }
 
   @Override
   @Transactional(readOnly = true)
-  public List<Order> getAllOrdersByItemsProductId(UUID productId) {
+  public PageResult<Order> getAllOrdersByItemsProductId(UUID productId, PageQuery pageQuery) {
+    ValidateAttributesUtils.validatePageQuery(pageQuery, SORT_FIELDS);
     findProductOrThrow(productId);
     log.info("[ORDER_SERVICE][GET_ALL_BY_PRODUCT] Fetching all Orders with Product(id={})", productId);
-    return orderAdapterPort.findAllOrdersByItemsProductId(productId);
+    return orderAdapterPort.findAllOrdersByItemsProductId(productId, pageQuery.withDefaultSort("createdAt"));
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public PageResult<OrderSummary> getOrderSummaries(OrderStatus status, PageQuery pageQuery) {
+    // el resumen tiene un orden fijo (más recientes primero)
+    ValidateAttributesUtils.validatePageQuery(pageQuery, Set.of());
+    log.info("[ORDER_SERVICE][GET_SUMMARIES] Fetching Order summaries with status=({})", status);
+    return orderAdapterPort.findOrderSummaries(status, pageQuery);
+  }
+
+  // el historial es una sola lectura indexada; el cliente solo se carga si no hay filas para validar el acceso
+  @Override
+  @Transactional(readOnly = true)
+  public CursorPage<OrderHistoryEntry> getOrderHistoryByCustomerId(UUID customerId, String cursor, Integer size) {
+    ValidateAttributesUtils.validateId(customerId, "Customer ID in Order");
+    ValidateAttributesUtils.validatePageSize(size, MAX_CURSOR_PAGE_SIZE);
+    KeysetCursor after = KeysetCursor.decode(cursor);
+    List<OrderHistoryEntry> found = orderHistoryAdapterPort.findOrderHistoryAfter(customerId, after, size + 1);
+    UUID ownerId = found.isEmpty() ? findCustomerOrThrow(customerId).getUserId() : found.get(0).customerUserId();
+    securityUtils.requireOwnerOrRoles(ownerId, "ADMIN", "MANAGER");
+    boolean hasNext = found.size() > size;
+    List<OrderHistoryEntry> items = hasNext ? found.subList(0, size) : found;
+    String nextCursor = null;
+    if (hasNext) {
+      OrderHistoryEntry last = items.get(items.size() - 1);
+      nextCursor = new KeysetCursor(last.createdAt(), last.orderId()).encode();
+    }
+    log.info("[ORDER_SERVICE][GET_HISTORY] Fetched {} Orders of Customer(id={}), hasNext=({})",
+        items.size(), customerId, hasNext);
+    return new CursorPage<>(items, nextCursor, hasNext);
   }
 
   @Override
@@ -108,19 +177,20 @@ public class OrderService implements IOrderUseCase {
     orderFound.ensureOrderIsModifiable();
     if (orderFound.containsProduct(productId)) {
       OrderItem orderItem = findOrderItemOrThrow(productId, orderFound);
-      orderItemUseCase.addQuantityById(orderItem.getId(), quantity);
+      orderItemUseCase.addQuantityById(orderFound.getId(), orderItem.getId(), quantity);
       orderFound = getOrderById(id);
       log.info("[ORDER_SERVICE][ADDED_ITEM] User(id={}) has added quantity=({}) in OrderItem(id={})",
           securityUtils.getCurrentUserId(), quantity, orderItem.getId());
     } else {
-      OrderItem newItem = OrderItem.create(productFound, quantity);
-      orderFound.getItems().add(newItem);
-      OrderItem saved = orderItemUseCase.addOrderItem(orderFound.getId(), newItem);
+      OrderItem saved = orderItemUseCase.addOrderItem(orderFound.getId(), OrderItem.create(productFound, quantity));
+      orderFound.getItems().add(saved);
       log.info("[ORDER_SERVICE][ADDED_ITEM] User(id={}) has created OrderItem(id={}) whit Product(id={}) in Order(id={})",
           securityUtils.getCurrentUserId(), saved.getId(), productId, id);
     }
     orderFound.recalculateTotal();
     Order saved = orderAdapterPort.saveUpdateOrder(orderFound);
+    orderHistoryAdapterPort.refreshOrderHistory(List.of(saved.getId()));
+    stockReservationUseCase.reserveForOrder(saved);
     log.info("[ORDER_SERVICE][ADDED_ITEM] User(id={}) has updated Order(id={})",
         securityUtils.getCurrentUserId(), saved.getId());
     return saved;
@@ -131,7 +201,7 @@ public class OrderService implements IOrderUseCase {
   public Order updateOrderItemQuantity(UUID id, UUID productId, Integer quantity) {
     Order orderFound = getOrderById(id);
     securityUtils.requireOwnerOrRoles(orderFound.getCustomer().getUserId(), "ADMIN");
-    productUseCase.validateAvailability(productId, quantity);
+    ValidateAttributesUtils.validateQuantity(quantity);
     Product productFound = findProductOrThrow(productId);
     orderFound.ensureOrderIsModifiable();
     if (!orderFound.containsProduct(productFound.getId())) {
@@ -139,10 +209,12 @@ public class OrderService implements IOrderUseCase {
       throw new ProductNotFoundInOperationException("Product not found in Order ID " + orderFound.getId());
     }
     OrderItem orderItem = findOrderItemOrThrow(productFound.getId(), orderFound);
-    orderItemUseCase.updateQuantity(orderItem.getId(), quantity);
+    orderItemUseCase.updateQuantity(orderFound.getId(), orderItem.getId(), quantity);
     Order orderUpdated = getOrderById(id);
     orderUpdated.recalculateTotal();
     Order saved = orderAdapterPort.saveUpdateOrder(orderUpdated);
+    orderHistoryAdapterPort.refreshOrderHistory(List.of(saved.getId()));
+    stockReservationUseCase.reserveForOrder(saved);
     log.info("[ORDER_SERVICE][UPDATED_ITEM_QUANTITY] User(id={}) has updated quantity=({}) in OrderItem(id={})",
         securityUtils.getCurrentUserId(), quantity, orderItem.getId());
     return saved;
@@ -161,6 +233,8 @@ public class OrderService implements IOrderUseCase {
     }
     orderFound.removeOrderItem(productFound);
     Order saved = orderAdapterPort.saveUpdateOrder(orderFound);
+    orderHistoryAdapterPort.refreshOrderHistory(List.of(saved.getId()));
+    stockReservationUseCase.reserveForOrder(saved);
     log.info("[ORDER_SERVICE][REMOVED_ITEM] User(id={}) has removed Product(id={}) of Order(id={})",
         securityUtils.getCurrentUserId(), productId, saved.getId());
     return saved;
@@ -171,10 +245,15 @@ public class OrderService implements IOrderUseCase {
   public void confirmOrder(UUID id) {
     Order orderFound = getOrderById(id);
     securityUtils.requireOwnerOrRoles(orderFound.getCustomer().getUserId(), "ADMIN");
-    orderFound.getItems()
-        .forEach(orderItem -> productUseCase.decreaseStock(orderItem.getProductId(), orderItem.getQuantity()));
     orderFound.confirm();
+    // si las retenciones vencieron se vuelven a tomar antes de descontar el stock
+    stockReservationUseCase.reserveForOrder(orderFound);
+    Map<UUID, Integer> quantities = orderFound.getItems().stream()
+        .collect(Collectors.toMap(OrderItem::getProductId, OrderItem::getQuantity, Integer::sum));
+    productUseCase.decreaseStockInBatch(quantities);
+    stockReservationUseCase.convertForOrder(id);
     Order saved = orderAdapterPort.saveUpdateOrder(orderFound);
+    orderHistoryAdapterPort.refreshOrderHistory(List.of(saved.getId()));
     notificationUseCase.createNotification(Notification.create(saved.getCustomer(), saved, NotificationType.ORDER_CONFIRMED));
     log.info("[ORDER_SERVICE][CONFIRMED] User(id={}) has marked the Order(id={}) whit status=({})",
         securityUtils.getCurrentUserId(), id, saved.getStatus());
@@ -187,6 +266,8 @@ public class OrderService implements IOrderUseCase {
     securityUtils.requireOwnerOrRoles(orderFound.getCustomer().getUserId(), "ADMIN");
     orderFound.pay();
     Order saved = orderAdapterPort.saveUpdateOrder(orderFound);
+    orderHistoryAdapterPort.refreshOrderHistory(List.of(saved.getId()));
+    reportUseCase.recordOrdersPaid(List.of(saved));
     notificationUseCase.createNotification(Notification.create(saved.getCustomer(), saved, NotificationType.ORDER_PAID));
     log.info("[ORDER_SERVICE][PAID] User(id={}) has marked the Order(id={}) whit status=({})",
         securityUtils.getCurrentUserId(), id, saved.getStatus());
@@ -198,6 +279,7 @@ public class OrderService implements IOrderUseCase {
     Order orderFound = getOrderById(id);
     orderFound.shipped();
     Order saved = orderAdapterPort.saveUpdateOrder(orderFound);
+    orderHistoryAdapterPort.refreshOrderHistory(List.of(saved.getId()));
     notificationUseCase.createNotification(Notification.create(saved.getCustomer(), saved, NotificationType.ORDER_SHIPPED));
     log.info("[ORDER_SERVICE][SHIPPED] User(id={}) has marked the Order(id={}) whit status=({})",
         securityUtils.getCurrentUserId(), id, saved.getStatus());
@@ -209,6 +291,7 @@ public class OrderService implements IOrderUseCase {
     Order orderFound = getOrderById(id);
     orderFound.deliver();
     Order saved = orderAdapterPort.saveUpdateOrder(orderFound);
+    orderHistoryAdapterPort.refreshOrderHistory(List.of(saved.getId()));
     notificationUseCase.createNotification(Notification.create(saved.getCustomer(), saved, NotificationType.ORDER_DELIVERED));
     log.info("[ORDER_SERVICE][DELIVERED] User(id={}) has marked the Order(id={}) whit status=({})",
         securityUtils.getCurrentUserId(), id, saved.getStatus());
@@ -219,15 +302,140 @@ public class OrderService implements IOrderUseCase {
   public void cancelOrder(UUID id) {
     Order orderFound = getOrderById(id);
     securityUtils.requireOwnerOrRoles(orderFound.getCustomer().getUserId(), "ADMIN");
-    orderFound.getItems()
-        .forEach(orderItem -> productUseCase.increaseStock(orderItem.getProductId(), orderItem.getQuantity()));
+    boolean stockTaken = !orderFound.isCreated();
+    boolean wasPaid = orderFound.isPaid();
     orderFound.cancel();
+    if (stockTaken) {
+      productUseCase.increaseStockInBatch(sumQuantitiesByProduct(List.of(orderFound)));
+    } else {
+      stockReservationUseCase.releaseForOrder(id);
+    }
     Order saved = orderAdapterPort.saveUpdateOrder(orderFound);
+    orderHistoryAdapterPort.refreshOrderHistory(List.of(saved.getId()));
+    if (wasPaid) reportUseCase.revertOrdersPaid(List.of(saved));
     notificationUseCase.createNotification(Notification.create(saved.getCustomer(), saved, NotificationType.ORDER_CANCELED));
     log.info("[ORDER_SERVICE][CANCEL] User(id={}) has marked the Order(id={}) whit status=({})",
         securityUtils.getCurrentUserId(), id, saved.getStatus());
   }
 
+  @Override
+  @Transactional
+  public BulkOperationResult confirmOrders(List<UUID> ids) {
+    Map<UUID, String> failed = new LinkedHashMap<>();
+    List<Order> transitioned = transitionOrders(ids, Order::confirm, failed);
+    // con las filas bloqueadas, el stock se reparte orden por orden en el orden pedido; la que no cabe queda en failed
+    Map<UUID, Integer> stock =
+        new HashMap<>(productUseCase.lockStockLevels(sumQuantitiesByProduct(transitioned).keySet()));
+    List<Order> confirmed = new ArrayList<>();
+    transitioned.forEach(order -> {
+      Map<UUID, Integer> needed = sumQuantitiesByProduct(List.of(order));
+      boolean fits = needed.entrySet().stream()
+          .allMatch(entry -> stock.getOrDefault(entry.getKey(), 0) >= entry.getValue());
+      if (fits && stockReservationUseCase.tryReserveForOrder(order)) {
+        needed.forEach((productId, quantity) -> stock.merge(productId, -quantity, Integer::sum));
+        confirmed.add(order);
+      } else {
+        failed.put(order.getId(), "Order " + order.getId() + " does not have sufficient stock to be confirmed");
+      }
+    });
+    // un solo descuento por producto sumando las cantidades de las órdenes que cupieron
+    productUseCase.decreaseStockInBatch(sumQuantitiesByProduct(confirmed));
+    stockReservationUseCase.convertForOrders(confirmed.stream().map(Order::getId).collect(Collectors.toList()));
+    BulkOperationResult result = saveAndNotify(confirmed, NotificationType.ORDER_CONFIRMED, failed);
+    log.info("[ORDER_SERVICE][BULK_CONFIRMED] User(id={}) has confirmed {} Orders, {} failed",
+        securityUtils.getCurrentUserId(), result.succeeded().size(), result.failed().size());
+    return result;
+  }
+
+  @Override
+  @Transactional
+  public BulkOperationResult shipOrders(List<UUID> ids) {
+    Map<UUID, String> failed = new LinkedHashMap<>();
+    BulkOperationResult result =
+        saveAndNotify(transitionOrders(ids, Order::shipped, failed), NotificationType.ORDER_SHIPPED, failed);
+    log.info("[ORDER_SERVICE][BULK_SHIPPED] User(id={}) has shipped {} Orders, {} failed",
+        securityUtils.getCurrentUserId(), result.succeeded().size(), result.failed().size());
+    return result;
+  }
+
+  @Override
+  @Transactional
+  public BulkOperationResult deliverOrders(List<UUID> ids) {
+    Map<UUID, String> failed = new LinkedHashMap<>();
+    BulkOperationResult result =
+        saveAndNotify(transitionOrders(ids, Order::deliver, failed), NotificationType.ORDER_DELIVERED, failed);
+    log.info("[ORDER_SERVICE][BULK_DELIVERED] User(id={}) has delivered {} Orders, {} failed",
+        securityUtils.getCurrentUserId(), result.succeeded().size(), result.failed().size());
+    return result;
+  }
+
+  @Override
+  @Transactional
+  public BulkOperationResult cancelOrders(List<UUID> ids) {
+    Map<UUID, String> failed = new LinkedHashMap<>();
+    List<Order> stockTaken = new ArrayList<>();
+    List<Order> paid = new ArrayList<>();
+    List<Order> canceled = transitionOrders(ids, order -> {
+      boolean taken = !order.isCreated();
+      boolean wasPaid = order.isPaid();
+      order.cancel();
+      if (taken) stockTaken.add(order);
+      if (wasPaid) paid.add(order);
+    }, failed);
+    productUseCase.increaseStockInBatch(sumQuantitiesByProduct(stockTaken));
+    Set<UUID> stockTakenIds = stockTaken.stream().map(Order::getId).collect(Collectors.toSet());
+    canceled.stream()
+        .filter(order -> !stockTakenIds.contains(order.getId()))
+        .forEach(order -> stockReservationUseCase.releaseForOrder(order.getId()));
+    reportUseCase.revertOrdersPaid(paid);
+    BulkOperationResult result = saveAndNotify(canceled, NotificationType.ORDER_CANCELED, failed);
+    log.info("[ORDER_SERVICE][BULK_CANCELED] User(id={}) has canceled {} Orders, {} failed",
+        securityUtils.getCurrentUserId(), result.succeeded().size(), result.failed().size());
+    return result;
+  }
+
+  // carga el lote en una consulta y aplica la transición en memoria; los rechazos del dominio quedan en failed
+  private List<Order> transitionOrders(List<UUID> ids, Consumer<Order> transition, Map<UUID, String> failed) {
+    ValidateAttributesUtils.validateModel(ids, "Order IDs");
+    Set<UUID> uniqueIds = new LinkedHashSet<>(ids);
+    if (uniqueIds.isEmpty() || uniqueIds.size() > bulkMaxSize) {
+      throw new InvalidArgumentException("Order IDs must contain between 1 and " + bulkMaxSize + " elements");
+    }
+    uniqueIds.forEach(id -> ValidateAttributesUtils.validateId(id, "Order ID"));
+    Map<UUID, Order> found = orderAdapterPort.findAllOrdersByIds(uniqueIds).stream()
+        .collect(Collectors.toMap(Order::getId, Function.identity()));
+    List<Order> transitioned = new ArrayList<>();
+    uniqueIds.forEach(id -> {
+      Order order = found.get(id);
+      if (order == null) {
+        failed.put(id, "Order ID " + id + " not found");
+        return;
+      }
+      try {
+        transition.accept(order);
+        transitioned.add(order);
+      } catch (InvalidStateException | ItemsEmptyException ex) {
+        failed.put(id, ex.getMessage());
+      }
+    });
+    return transitioned;
+  }
+
+  private Map<UUID, Integer> sumQuantitiesByProduct(List<Order> orders) {
+    return orders.stream()
+        .flatMap(order -> order.getItems().stream())
+        .collect(Collectors.toMap(OrderItem::getProductId, OrderItem::getQuantity, Integer::sum));
+  }
+
+  private BulkOperationResult saveAndNotify(List<Order> orders, NotificationType type, Map<UUID, String> failed) {
+    List<Order> saved = orders.stream().map(orderAdapterPort::saveUpdateOrder).collect(Collectors.toList());
+    orderHistoryAdapterPort.refreshOrderHistory(saved.stream().map(Order::getId).collect(Collectors.toList()));
+    notificationUseCase.createNotifications(saved.stream()
+        .map(order -> Notification.create(order.getCustomer(), order, type))
+        .collect(Collectors.toList()));
+    return new BulkOperationResult(saved.stream().map(Order::getId).collect(Collectors.toList()), failed);
+  }
+
   private Cart findCartOrThrow(UUID cartId) {
     ValidateAttributesUtils.validateId(cartId, "Cart ID in Order");
     Cart found = cartAdapterPort.findCartById(cartId)
@@ -0,0 +1,45 @@
+package com.store.arka.backend.application.service;
+
+import com.store.arka.backend.application.model.SweepBatchResult;
+import com.store.arka.backend.application.port.in.IPaymentUseCase;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Expires PENDING payments past their time window and cancels their orders so the stock goes back
+ * to the catalog. Batches are claimed with SKIP LOCKED, so several nodes can run it at the same time.
+ */
+@Slf4j
+@Service
+public class PaymentExpiryReaper {
+  private final IPaymentUseCase paymentUseCase;
+  private final Counter expiredPayments;
+  @Value("${arka.payments.expiry.batch-size:100}")
+  private int batchSize;
+  @Value("${arka.payments.expiry.max-batches-per-run:20}")
+  private int maxBatchesPerRun;
+
+  public PaymentExpiryReaper(IPaymentUseCase paymentUseCase, MeterRegistry meterRegistry) {
+    this.paymentUseCase = paymentUseCase;
+    this.expiredPayments = Counter.builder("arka.payments.expired")
+        .description("Pending payments expired by the reaper").register(meterRegistry);
+  }
+
+  @Scheduled(fixedDelayString = "${arka.payments.expiry.sweep-interval-ms:60000}")
+  public void reapExpiredPayments() {
+    int expired = 0;
+    int batches = 0;
+    SweepBatchResult batch;
+    do {
+      batch = paymentUseCase.expirePendingPaymentsBatch(batchSize);
+      expired += batch.affected();
+      batches++;
+    } while (batch.scanned() == batchSize && batches < maxBatchesPerRun);
+    expiredPayments.increment(expired);
+    if (expired > 0) log.info("[PAYMENT_REAPER][EXPIRED] Payments expired=({}) in {} batches", expired, batches);
+  }
+}
@@ -1,5 +1,9 @@
 package com.store.arka.backend.application.service;
 
+import com.store.arka.backend.application.model.BulkOperationResult;
+import com.store.arka.backend.application.model.PageQuery;
+import com.store.arka.backend.application.model.PageResult;
+import com.store.arka.backend.application.model.SweepBatchResult;
 import com.store.arka.backend.application.port.in.IPaymentUseCase;
 import com.store.arka.backend.application.port.out.IOrderAdapterPort;
 import com.store.arka.backend.application.port.out.IOrderPaymentSyncPort;
@@ -17,13 +21,18 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class PaymentService implements IPaymentUseCase {
+  private static final Set<String> SORT_FIELDS = Set.of("amount", "createdAt", "updatedAt");
   private final IPaymentAdapterPort paymentAdapterPort;
   private final IOrderAdapterPort orderAdapterPort;
   private final IOrderPaymentSyncPort orderPaymentSyncPort;
@@ -75,22 +84,23 @@ public class PaymentService implements IPaymentUseCase {
 
   @Override
   @Transactional(readOnly = true)
-  public List<Payment> getAllPaymentsByFilters(PaymentMethod method, PaymentStatus status) {
+  public PageResult<Payment> getAllPaymentsByFilters(PaymentMethod method, PaymentStatus status, PageQuery pageQuery) {
+    ValidateAttributesUtils.validatePageQuery(pageQuery, SORT_FIELDS);
     if (method != null && status != null) {
       log.info("[PAYMENT_SERVICE][GET_ALL] Fetching all Payments with method=({}) and status=({})",
           method, status);
-      return paymentAdapterPort.findAllPaymentsByMethodAndStatus(method, status);
+      return paymentAdapterPort.findAllPaymentsByMethodAndStatus(method, status, pageQuery.withDefaultSort("createdAt"));
     }
     if (method != null) {
       log.info("[PAYMENT_SERVICE][GET_ALL] Fetching all Payments with method=({})", method);
-      return paymentAdapterPort.findAllPaymentsByMethod(method);
+      return paymentAdapterPort.findAllPaymentsByMethod(method, pageQuery.withDefaultSort("createdAt"));
     }
     if (status != null) {
       log.info("[PAYMENT_SERVICE][GET_ALL] Fetching all Payments with status=({})", status);
-      return paymentAdapterPort.findAllPaymentsByStatus(status);
+      return paymentAdapterPort.findAllPaymentsByStatus(status, pageQuery.withDefaultSort("createdAt"));
     }
     log.info("[PAYMENT_SERVICE][GET_ALL] Fetching all Payments");
-    return paymentAdapterPort.findAllPayments();
+    return paymentAdapterPort.findAllPayments(pageQuery.withDefaultSort("createdAt"));
   }
 
   @Override
@@ -144,6 +154,21 @@ public class PaymentService implements IPaymentUseCase {
     return saved;
   }
 
+  @Override
+  @Transactional
+  public SweepBatchResult expirePendingPaymentsBatch(int batchSize) {
+    Map<UUID, UUID> claimed =
+        paymentAdapterPort.claimExpiredPendingPayments(Payment.expirationCutoff(LocalDateTime.now()), batchSize);
+    if (claimed.isEmpty()) return new SweepBatchResult(0, 0);
+    int expired = paymentAdapterPort.markPaymentsExpired(claimed.keySet());
+    BulkOperationResult canceled = orderPaymentSyncPort.markOrdersCanceled(new ArrayList<>(claimed.values()));
+    canceled.failed().forEach((orderId, reason) ->
+        log.warn("[PAYMENT_SERVICE][EXPIRED_BATCH] Order(id={}) could not be canceled: {}", orderId, reason));
+    log.info("[PAYMENT_SERVICE][EXPIRED_BATCH] {} Payments expired and {} Orders canceled",
+        expired, canceled.succeeded().size());
+    return new SweepBatchResult(claimed.size(), expired);
+  }
+
   private Order requireOrderConfirmed(UUID orderId) {
     ValidateAttributesUtils.validateId(orderId, "Order ID in Payment");
     Order found = orderAdapterPort.findOrderById(orderId)
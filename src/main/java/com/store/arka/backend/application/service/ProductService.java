@@ -1,8 +1,18 @@
 package com.store.arka.backend.application.service;
 
+import com.store.arka.backend.application.model.CursorPage;
+import com.store.arka.backend.application.model.KeysetCursor;
+import com.store.arka.backend.application.model.LowStockEvent;
+import com.store.arka.backend.application.model.PageQuery;
+import com.store.arka.backend.application.model.PageResult;
+import com.store.arka.backend.application.model.ProductSearchQuery;
+import com.store.arka.backend.application.model.ProductSearchResult;
+import com.store.arka.backend.application.model.ResourceVersion;
 import com.store.arka.backend.application.port.in.IProductUseCase;
+import com.store.arka.backend.application.port.in.IStockReservationUseCase;
 import com.store.arka.backend.application.port.out.ICategoryAdapterPort;
 import com.store.arka.backend.application.port.out.IProductAdapterPort;
+import com.store.arka.backend.application.port.out.IProductSearchAdapterPort;
 import com.store.arka.backend.domain.enums.CategoryStatus;
 import com.store.arka.backend.domain.enums.ProductStatus;
 import com.store.arka.backend.domain.exception.*;
@@ -15,17 +25,23 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
-import java.util.HashSet;
-import java.util.List;
-import java.util.Set;
-import java.util.UUID;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class ProductService implements IProductUseCase {
+  private static final Set<String> SORT_FIELDS = Set.of("name", "price", "stock", "createdAt", "updatedAt");
+  private static final int MAX_PAGE_SIZE = 100;
+  private static final int STREAM_CHUNK_SIZE = 500;
   private final IProductAdapterPort productAdapterPort;
   private final ICategoryAdapterPort categoryAdapterPort;
+  private final IProductSearchAdapterPort productSearchAdapterPort;
+  private final IStockReservationUseCase stockReservationUseCase;
+  private final LowStockEventQueue lowStockEventQueue;
+  private final StockMutationMetrics stockMutationMetrics;
   private final SecurityUtils securityUtils;
 
   @Override
@@ -41,6 +57,7 @@ public class ProductService implements IProductUseCase {
         product.getStock()
     );
     Product saved = productAdapterPort.saveCreateProduct(created);
+    productSearchAdapterPort.refreshEntry(saved.getId());
     log.info("[PRODUCT_SERVICE][CREATED] User(id={}) has created new Product(id={})",
         securityUtils.getCurrentUserId(), saved.getId());
     return saved;
@@ -57,6 +74,48 @@ public class ProductService implements IProductUseCase {
         });
   }
 
+  @Override
+  @Transactional(readOnly = true)
+  public Map<UUID, Product> getProductsByIds(Set<UUID> ids) {
+    ids.forEach(id -> ValidateAttributesUtils.validateId(id, "Product ID"));
+    Map<UUID, Product> found = productAdapterPort.findProductsByIds(ids);
+    ids.stream().filter(id -> !found.containsKey(id)).findFirst().ifPresent(id -> {
+      log.warn("[PRODUCT_SERVICE][GET_BY_IDS] Product(id={}) not found", id);
+      throw new ModelNotFoundException("Product ID " + id + " not found");
+    });
+    return found;
+  }
+
+  // las filas quedan bloqueadas hasta el commit: el stock devuelto es el que verá el descuento por lotes
+  @Override
+  @Transactional
+  public Map<UUID, Integer> lockStockLevels(Set<UUID> ids) {
+    ids.forEach(id -> ValidateAttributesUtils.validateId(id, "Product ID"));
+    Map<UUID, Integer> levels = new HashMap<>();
+    productAdapterPort.findCurrentProductsByIdsForUpdate(ids).values().stream()
+        .filter(Product::isNotDeleted)
+        .forEach(product -> levels.put(product.getId(), product.getStock()));
+    return levels;
+  }
+
+  // lectura sin caché: el stock se valida contra el estado actual menos lo reservado, igual que validateAvailability
+  @Override
+  @Transactional(readOnly = true)
+  public Map<UUID, Product> getAvailableProducts(Map<UUID, Integer> quantities) {
+    quantities.keySet().forEach(id -> ValidateAttributesUtils.validateId(id, "Product ID"));
+    Map<UUID, Product> found = productAdapterPort.findCurrentProductsByIds(quantities.keySet());
+    Map<UUID, Integer> reserved = stockReservationUseCase.getReservedQuantities(quantities.keySet());
+    quantities.forEach((id, quantity) -> {
+      Product product = found.get(id);
+      if (product == null) {
+        log.warn("[PRODUCT_SERVICE][GET_AVAILABLE] Product(id={}) not found", id);
+        throw new ModelNotFoundException("Product ID " + id + " not found");
+      }
+      product.validateAvailability(quantity, reserved.getOrDefault(id, 0));
+    });
+    return found;
+  }
+
   @Override
   @Transactional(readOnly = true)
   public Product getProductBySku(String sku) {
@@ -70,25 +129,85 @@ public class ProductService implements IProductUseCase {
 
   @Override
   @Transactional(readOnly = true)
-  public List<Product> getAllProducts() {
+  public Optional<ResourceVersion> getProductVersionById(UUID id) {
+    ValidateAttributesUtils.validateId(id, "Product ID");
+    return productAdapterPort.findProductVersionById(id);
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public Optional<ResourceVersion> getProductVersionBySku(String sku) {
+    ValidateAttributesUtils.validateNullOrEmpty(sku, "SKU");
+    return productAdapterPort.findProductVersionBySku(sku);
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public PageResult<Product> getAllProducts(PageQuery pageQuery) {
+    ValidateAttributesUtils.validatePageQuery(pageQuery, SORT_FIELDS);
     log.info("[PRODUCT_SERVICE][GET_ALL] Fetching all Products");
-    return productAdapterPort.findAllProducts();
+    return productAdapterPort.findAllProducts(pageQuery.withDefaultSort("createdAt"));
   }
 
   @Override
   @Transactional(readOnly = true)
-  public List<Product> getAllProductsByStatus(ProductStatus status) {
+  public PageResult<Product> getAllProductsByStatus(ProductStatus status, PageQuery pageQuery) {
+    ValidateAttributesUtils.validatePageQuery(pageQuery, SORT_FIELDS);
     log.info("[PRODUCT_SERVICE][GET_ALL_BY_STATUS] Fetching all Products with status=({})", status);
-    return productAdapterPort.findAllProductsByStatus(status);
+    return productAdapterPort.findAllProductsByStatus(status, pageQuery.withDefaultSort("createdAt"));
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public CursorPage<Product> getProductsPage(String cursor, Integer size, ProductStatus status) {
+    ValidateAttributesUtils.validatePageSize(size, MAX_PAGE_SIZE);
+    KeysetCursor after = KeysetCursor.decode(cursor);
+    List<Product> found = productAdapterPort.findProductsAfter(after, status, size + 1);
+    boolean hasNext = found.size() > size;
+    List<Product> items = hasNext ? found.subList(0, size) : found;
+    String nextCursor = null;
+    if (hasNext) {
+      Product last = items.get(items.size() - 1);
+      nextCursor = new KeysetCursor(last.getCreatedAt(), last.getId()).encode();
+    }
+    log.info("[PRODUCT_SERVICE][GET_PAGE] Fetched {} Products with status=({}), hasNext=({})",
+        items.size(), status, hasNext);
+    return new CursorPage<>(items, nextCursor, hasNext);
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public ProductSearchResult searchProducts(ProductSearchQuery query) {
+    ValidateAttributesUtils.validateModel(query, "Search query");
+    ValidateAttributesUtils.validatePageSize(query.size(), MAX_PAGE_SIZE);
+    if (query.page() < 0) throw new InvalidArgumentException("Page cannot be less than 0");
+    if ((query.text() == null || query.text().isBlank()) && query.categoryId() == null) {
+      throw new InvalidArgumentException("Search requires a text or a category");
+    }
+    if (query.minPrice() != null && query.maxPrice() != null && query.minPrice().compareTo(query.maxPrice()) > 0) {
+      throw new InvalidArgumentException("Min price cannot be greater than max price");
+    }
+    ProductSearchResult result = productSearchAdapterPort.search(query);
+    log.info("[PRODUCT_SERVICE][SEARCH] Search text=({}) category=({}) matched {} Products",
+        query.text(), query.categoryId(), result.total());
+    return result;
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public void streamAllProducts(ProductStatus status, Consumer<Product> consumer) {
+    log.info("[PRODUCT_SERVICE][STREAM_ALL] Streaming Products with status=({})", status);
+    productAdapterPort.streamAllProducts(status, STREAM_CHUNK_SIZE, consumer);
   }
 
   @Override
   @Transactional
   public Product updateFieldsProduct(UUID id, Product product) {
     ValidateAttributesUtils.validateModel(product, "Product");
-    Product found = getProductById(id);
+    Product found = getCurrentProductById(id);
     found.updateFields(product.getName(), product.getDescription(), product.getPrice());
     Product saved = productAdapterPort.saveUpdateProduct(found);
+    productSearchAdapterPort.refreshEntry(saved.getId());
     log.info("[PRODUCT_SERVICE][UPDATED] User(id={}) has updated Product(id={})",
         securityUtils.getCurrentUserId(), saved.getId());
     return saved;
@@ -97,7 +216,7 @@ public class ProductService implements IProductUseCase {
   @Override
   @Transactional
   public Product updateCategories(UUID id, Set<UUID> categories) {
-    Product found = getProductById(id);
+    Product found = getCurrentProductById(id);
     found.throwIfDeleted();
     Set<Category> newCategories = new HashSet<>();
     categories.forEach(uuid -> {
@@ -111,6 +230,7 @@ public class ProductService implements IProductUseCase {
     });
     found.updateCategories(newCategories);
     Product saved = productAdapterPort.saveUpdateProduct(found);
+    productSearchAdapterPort.refreshEntry(saved.getId());
     log.info("[PRODUCT_SERVICE][UPDATED_CATEGORIES] User(id={}) has updated categories in Product(id={})",
         securityUtils.getCurrentUserId(), saved.getId());
     return saved;
@@ -119,29 +239,88 @@ public class ProductService implements IProductUseCase {
   @Override
   @Transactional
   public void decreaseStock(UUID id, Integer quantity) {
-    Product found = getProductById(id);
+    Product found = getCurrentProductById(id);
+    int previousStock = found.getStock();
     found.decreaseStock(quantity);
     productAdapterPort.saveUpdateProduct(found);
+    stockMutationMetrics.recordDecrease(1, quantity);
+    if (Product.crossesLowStockThreshold(previousStock, found.getStock())) {
+      lowStockEventQueue.publishAfterCommit(List.of(new LowStockEvent(found.getId(), found.getStock())));
+    }
     log.info("[PRODUCT_SERVICE][DECREASED_STOCK] User(id={}) has decreased=({}) its stock in Product(id={})",
         securityUtils.getCurrentUserId(), quantity, found.getId());
   }
 
+  @Override
+  @Transactional
+  public void decreaseStockInBatch(Map<UUID, Integer> quantities) {
+    ValidateAttributesUtils.validateModel(quantities, "Stock quantities");
+    if (quantities.isEmpty()) return;
+    quantities.forEach((productId, quantity) -> {
+      ValidateAttributesUtils.validateId(productId, "Product ID");
+      ValidateAttributesUtils.validateQuantity(quantity);
+    });
+    Map<UUID, Integer> stockLevels = productAdapterPort.decreaseStockInBatch(quantities);
+    List<UUID> rejected = quantities.keySet().stream()
+        .filter(productId -> !stockLevels.containsKey(productId))
+        .collect(Collectors.toList());
+    if (!rejected.isEmpty()) {
+      stockMutationMetrics.recordRejected(rejected.size());
+      log.warn("[PRODUCT_SERVICE][DECREASED_STOCK_BATCH] Products(ids={}) do not have sufficient stock", rejected);
+      throw new QuantityBadRequestException("Products with ids " + rejected + " do not have sufficient stock");
+    }
+    stockMutationMetrics.recordDecrease(
+        quantities.size(), quantities.values().stream().mapToLong(Integer::longValue).sum());
+    publishLowStockCrossings(quantities, stockLevels);
+    log.info("[PRODUCT_SERVICE][DECREASED_STOCK_BATCH] User(id={}) has decreased stock in {} Products",
+        securityUtils.getCurrentUserId(), quantities.size());
+  }
+
   @Override
   @Transactional
   public void increaseStock(UUID id, Integer quantity) {
-    Product found = getProductById(id);
+    Product found = getCurrentProductById(id);
     found.increaseStock(quantity);
     productAdapterPort.saveUpdateProduct(found);
+    stockMutationMetrics.recordIncrease(1, quantity);
     log.info("[PRODUCT_SERVICE][INCREASED_STOCK] User(id={}) has increased=({}) its stock in Product(id={})",
         securityUtils.getCurrentUserId(), quantity, found.getId());
   }
 
+  @Override
+  @Transactional
+  public void increaseStockInBatch(Map<UUID, Integer> quantities) {
+    ValidateAttributesUtils.validateModel(quantities, "Stock quantities");
+    if (quantities.isEmpty()) return;
+    quantities.forEach((productId, quantity) -> {
+      ValidateAttributesUtils.validateId(productId, "Product ID");
+      ValidateAttributesUtils.validateQuantity(quantity);
+    });
+    // un producto eliminado no recupera stock; se informa sin abortar la devolución del resto
+    Map<UUID, Integer> stockLevels = productAdapterPort.increaseStockInBatch(quantities);
+    List<UUID> skipped = quantities.keySet().stream()
+        .filter(productId -> !stockLevels.containsKey(productId))
+        .collect(Collectors.toList());
+    long increasedUnits = quantities.entrySet().stream()
+        .filter(entry -> stockLevels.containsKey(entry.getKey()))
+        .mapToLong(Map.Entry::getValue)
+        .sum();
+    stockMutationMetrics.recordIncrease(quantities.size() - skipped.size(), increasedUnits);
+    if (!skipped.isEmpty()) {
+      stockMutationMetrics.recordSkipped(skipped.size());
+      log.warn("[PRODUCT_SERVICE][INCREASED_STOCK_BATCH] Products(ids={}) are deleted or missing, stock not returned", skipped);
+    }
+    log.info("[PRODUCT_SERVICE][INCREASED_STOCK_BATCH] User(id={}) has increased stock in {} Products",
+        securityUtils.getCurrentUserId(), quantities.size() - skipped.size());
+  }
+
   @Override
   @Transactional
   public void softDeleteProduct(UUID id) {
-    Product found = getProductById(id);
+    Product found = getCurrentProductById(id);
     found.delete();
     productAdapterPort.saveUpdateProduct(found);
+    productSearchAdapterPort.deleteEntry(found.getId());
     log.info("[PRODUCT_SERVICE][DELETED] User(id={}) has marked the Product(id={}) whit status=({})",
         securityUtils.getCurrentUserId(), found.getId(), found.getStatus());
   }
@@ -149,18 +328,47 @@ public class ProductService implements IProductUseCase {
   @Override
   @Transactional
   public Product restoreProduct(UUID id) {
-    Product found = getProductById(id);
+    Product found = getCurrentProductById(id);
     found.restore();
     Product restored = productAdapterPort.saveUpdateProduct(found);
+    productSearchAdapterPort.refreshEntry(restored.getId());
     log.info("[PRODUCT_SERVICE][RESTORED] User(id={}) has restored Product(id={}) successfully",
         securityUtils.getCurrentUserId(), id);
     return restored;
   }
 
   @Override
+  @Transactional(readOnly = true)
   public void validateAvailability(UUID id, Integer quantity) {
-    Product found = getProductById(id);
-    found.validateAvailability(quantity);
+    Product found = getCurrentProductById(id);
+    found.validateAvailability(quantity, stockReservationUseCase.getReservedQuantity(id));
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public void validateAvailabilityForOrder(UUID id, Integer quantity, UUID orderId) {
+    ValidateAttributesUtils.validateId(orderId, "Order ID");
+    Product found = getCurrentProductById(id);
+    found.validateAvailability(quantity, stockReservationUseCase.getReservedQuantityExcluding(id, orderId));
+  }
+
+  // solo cruzan el umbral los productos que estaban por encima antes de este descuento
+  private void publishLowStockCrossings(Map<UUID, Integer> quantities, Map<UUID, Integer> stockLevels) {
+    List<LowStockEvent> crossings = stockLevels.entrySet().stream()
+        .filter(level -> Product.crossesLowStockThreshold(
+            level.getValue() + quantities.get(level.getKey()), level.getValue()))
+        .map(level -> new LowStockEvent(level.getKey(), level.getValue()))
+        .collect(Collectors.toList());
+    lowStockEventQueue.publishAfterCommit(crossings);
+  }
+
+  private Product getCurrentProductById(UUID id) {
+    ValidateAttributesUtils.validateId(id, "Product ID");
+    return productAdapterPort.findCurrentProductById(id)
+        .orElseThrow(() -> {
+          log.warn("[PRODUCT_SERVICE][GET_BY_ID] Product(id={}) not found", id);
+          return new ModelNotFoundException("Product ID " + id + " not found");
+        });
   }
 
   private void validateSkuExistence(String sku) {
@@ -1,5 +1,7 @@
 package com.store.arka.backend.application.service;
 
+import com.store.arka.backend.application.model.PageQuery;
+import com.store.arka.backend.application.model.PageResult;
 import com.store.arka.backend.application.port.in.IProductUseCase;
 import com.store.arka.backend.application.port.in.IPurchaseItemUseCase;
 import com.store.arka.backend.application.port.out.IPurchaseItemAdapterPort;
@@ -12,13 +14,14 @@ import org.springframework.transaction.annotation.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class PurchaseItemService implements IPurchaseItemUseCase {
+  private static final Set<String> SORT_FIELDS = Set.of("quantity", "subtotal", "createdAt");
   private final IPurchaseItemAdapterPort purchaseItemAdapterPort;
   private final IProductUseCase productUseCase;
   private final SecurityUtils securityUtils;
@@ -48,17 +51,19 @@ public class PurchaseItemService implements IPurchaseItemUseCase {
 
   @Override
   @Transactional(readOnly = true)
-  public List<PurchaseItem> getAllPurchaseItems() {
+  public PageResult<PurchaseItem> getAllPurchaseItems(PageQuery pageQuery) {
+    ValidateAttributesUtils.validatePageQuery(pageQuery, SORT_FIELDS);
     log.info("[PURCHASE_ITEM_SERVICE][GET_ALL] Fetching all PurchaseItems");
-    return purchaseItemAdapterPort.findAllPurchaseItems();
+    return purchaseItemAdapterPort.findAllPurchaseItems(pageQuery.withDefaultSort("createdAt"));
   }
 
   @Override
   @Transactional(readOnly = true)
-  public List<PurchaseItem> getAllPurchaseItemsByProductId(UUID productId) {
+  public PageResult<PurchaseItem> getAllPurchaseItemsByProductId(UUID productId, PageQuery pageQuery) {
+    ValidateAttributesUtils.validatePageQuery(pageQuery, SORT_FIELDS);
     ValidateAttributesUtils.validateId(productId, "Product ID in PurchaseItem");
     log.info("[PURCHASE_ITEM_SERVICE][GET_ALL_BY_PRODUCT] Fetching all PurchaseItems with Product(id={})", productId);
-    return purchaseItemAdapterPort.findAllPurchaseItemsByProductId(productId);
+    return purchaseItemAdapterPort.findAllPurchaseItemsByProductId(productId, pageQuery.withDefaultSort("createdAt"));
   }
 
   @Override
@@ -1,8 +1,11 @@
 package com.store.arka.backend.application.service;
 
+import com.store.arka.backend.application.model.PageQuery;
+import com.store.arka.backend.application.model.PageResult;
 import com.store.arka.backend.application.port.in.IProductUseCase;
 import com.store.arka.backend.application.port.in.IPurchaseItemUseCase;
 import com.store.arka.backend.application.port.in.IPurchaseUseCase;
+import com.store.arka.backend.application.port.in.IReportUseCase;
 import com.store.arka.backend.application.port.in.ISupplierUseCase;
 import com.store.arka.backend.application.port.out.IPurchaseAdapterPort;
 import com.store.arka.backend.domain.enums.*;
@@ -17,18 +20,23 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class PurchaseService implements IPurchaseUseCase {
+  private static final Set<String> SORT_FIELDS = Set.of("total", "createdAt", "updatedAt");
   private final IPurchaseAdapterPort purchaseAdapterPort;
   private final PurchaseReschedulerService reschedulerService;
   private final ISupplierUseCase supplierUseCase;
   private final IProductUseCase productUseCase;
   private final IPurchaseItemUseCase purchaseItemUseCase;
+  private final IReportUseCase reportUseCase;
   private final SecurityUtils securityUtils;
 
   @Override
@@ -37,8 +45,9 @@ public class PurchaseService implements IPurchaseUseCase {
     ValidateAttributesUtils.validateModel(purchase, "Purchase");
     Supplier supplierFound = findSupplierOrThrow(supplierId);
     List<PurchaseItem> purchaseItems = new ArrayList<>();
+    Map<UUID, Product> productsFound = findProductsOrThrow(purchase.getItems());
     purchase.getItems().forEach(item -> {
-      Product productFound = findProductOrThrow(item.getProductId());
+      Product productFound = productsFound.get(item.getProductId());
       purchaseItems.add(PurchaseItem.create(productFound, item.getQuantity(), item.getUnitCost()));
     });
     Purchase created = Purchase.create(supplierFound, purchaseItems);
@@ -61,32 +70,36 @@ public class PurchaseService implements IPurchaseUseCase {
 
   @Override
   @Transactional(readOnly = true)
-  public List<Purchase> getAllPurchases() {
+  public PageResult<Purchase> getAllPurchases(PageQuery pageQuery) {
+    ValidateAttributesUtils.validatePageQuery(pageQuery, SORT_FIELDS);
     log.info("[PURCHASE_SERVICE][GET_ALL] Fetching all Purchases");
-    return purchaseAdapterPort.findAllPurchases();
+    return purchaseAdapterPort.findAllPurchases(pageQuery.withDefaultSort("createdAt"));
   }
 
   @Override
   @Transactional(readOnly = true)
-  public List<Purchase> getAllPurchasesByStatus(PurchaseStatus status) {
+  public PageResult<Purchase> getAllPurchasesByStatus(PurchaseStatus status, PageQuery pageQuery) {
+    ValidateAttributesUtils.validatePageQuery(pageQuery, SORT_FIELDS);
     log.info("[PURCHASE_SERVICE][GET_ALL_BY_STATUS] Fetching all Purchases with status=({})", status);
-    return purchaseAdapterPort.findAllPurchasesByStatus(status);
+    return purchaseAdapterPort.findAllPurchasesByStatus(status, pageQuery.withDefaultSort("createdAt"));
   }
 
   @Override
   @Transactional(readOnly = true)
-  public List<Purchase> getAllPurchasesBySupplierId(UUID supplierId) {
+  public PageResult<Purchase> getAllPurchasesBySupplierId(UUID supplierId, PageQuery pageQuery) {
+    ValidateAttributesUtils.validatePageQuery(pageQuery, SORT_FIELDS);
     findSupplierOrThrow(supplierId);
     log.info("[PURCHASE_SERVICE][GET_ALL_BY_SUPPLIER] Fetching all Purchases with Supplier(id={})", supplierId);
-    return purchaseAdapterPort.findAllPurchasesBySupplierId(supplierId);
+    return purchaseAdapterPort.findAllPurchasesBySupplierId(supplierId, pageQuery.withDefaultSort("createdAt"));
   }
 
   @Override
   @Transactional(readOnly = true)
-  public List<Purchase> getAllPurchasesByItemsProductId(UUID productId) {
+  public PageResult<Purchase> getAllPurchasesByItemsProductId(UUID productId, PageQuery pageQuery) {
+    ValidateAttributesUtils.validatePageQuery(pageQuery, SORT_FIELDS);
     findProductOrThrow(productId);
     log.info("[PURCHASE_SERVICE][GET_ALL_BY_PRODUCT] Fetching all Purchases with Product(id={})", productId);
-    return purchaseAdapterPort.findAllPurchasesByItemsProductId(productId);
+    return purchaseAdapterPort.findAllPurchasesByItemsProductId(productId, pageQuery.withDefaultSort("createdAt"));
   }
 
   @Override
@@ -103,9 +116,9 @@ public class PurchaseService implements IPurchaseUseCase {
       log.info("[PURCHASE_SERVICE][ADDED_ITEM] User(id={}) has added quantity=({}) in PurchaseItem(id={})",
           securityUtils.getCurrentUserId(), quantity, purchaseItem.getId());
     } else {
-      PurchaseItem newItem = PurchaseItem.create(productFound, quantity, BigDecimal.valueOf(1000));
-      purchaseFound.getItems().add(newItem);
-      PurchaseItem saved = purchaseItemUseCase.addPurchaseItem(purchaseFound.getId(), newItem);
+      PurchaseItem saved = purchaseItemUseCase.addPurchaseItem(
+          purchaseFound.getId(), PurchaseItem.create(productFound, quantity, BigDecimal.valueOf(1000)));
+      purchaseFound.getItems().add(saved);
       log.info("[PURCHASE_SERVICE][ADDED_ITEM] User(id={}) has created PurchaseItem(id={}) whit Product(id={}) in Purchase(id={})",
           securityUtils.getCurrentUserId(), saved.getId(), productId, id);
     }
@@ -177,6 +190,7 @@ public class PurchaseService implements IPurchaseUseCase {
       });
       purchaseFound.receive();
       purchaseAdapterPort.saveUpdatePurchase(purchaseFound);
+      reportUseCase.recordPurchaseReceived(purchaseFound);
       log.info("[PURCHASE_SERVICE][RECEIVED] User(id={}) has marked status=({}) in Purchase(id={})",
           securityUtils.getCurrentUserId(), PurchaseStatus.RECEIVED, id);
     } catch (InvalidArgumentException | InvalidStateException ex) {
@@ -219,6 +233,17 @@ public class PurchaseService implements IPurchaseUseCase {
     return product;
   }
 
+  private Map<UUID, Product> findProductsOrThrow(List<PurchaseItem> items) {
+    Set<UUID> productIds = new LinkedHashSet<>();
+    items.forEach(item -> {
+      ValidateAttributesUtils.validateId(item.getProductId(), "Product ID in Purchase");
+      productIds.add(item.getProductId());
+    });
+    Map<UUID, Product> products = productUseCase.getProductsByIds(productIds);
+    products.values().forEach(Product::throwIfDeleted);
+    return products;
+  }
+
   private PurchaseItem findPurchaseItemOrThrow(UUID productId, Purchase purchaseFound) {
     ValidateAttributesUtils.validateId(productId, "Product ID in Purchase");
     return purchaseFound.getItems()
@@ -0,0 +1,128 @@
+package com.store.arka.backend.application.service;
+
+import com.store.arka.backend.application.model.CategorySalesReport;
+import com.store.arka.backend.application.model.DailySalesReport;
+import com.store.arka.backend.application.model.OrderSaleLine;
+import com.store.arka.backend.application.model.ProductSalesReport;
+import com.store.arka.backend.application.model.RollupDelta;
+import com.store.arka.backend.application.port.in.IReportUseCase;
+import com.store.arka.backend.application.port.out.IReportAdapterPort;
+import com.store.arka.backend.domain.exception.InvalidArgumentException;
+import com.store.arka.backend.domain.model.Order;
+import com.store.arka.backend.domain.model.Purchase;
+import com.store.arka.backend.shared.util.ValidateAttributesUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+
+/**
+ * Keeps the daily rollups in step with order and purchase transitions. Sales count on the day an order is
+ * paid and are reverted on that same day, under the categories they were booked with, if the order is
+ * canceled; purchases count when they are received.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReportService implements IReportUseCase {
+  private final IReportAdapterPort reportAdapterPort;
+  @Value("${arka.reports.max-range-days:366}")
+  private long maxRangeDays;
+  @Value("${arka.reports.max-limit:100}")
+  private int maxLimit;
+
+  @Override
+  @Transactional
+  public void recordOrdersPaid(List<Order> orders) {
+    groupBySaleDate(orders).forEach((date, lines) -> reportAdapterPort.recordOrderSales(date, lines));
+    log.info("[REPORT_SERVICE][ORDERS_PAID] Rollups updated for {} Orders", orders.size());
+  }
+
+  @Override
+  @Transactional
+  public void revertOrdersPaid(List<Order> orders) {
+    groupBySaleDate(orders).forEach((date, lines) -> reportAdapterPort.revertOrderSales(date, lines.stream()
+        .map(line -> new OrderSaleLine(
+            line.orderId(), line.productId(), -line.unitsSold(), line.revenue().negate()))
+        .toList()));
+    log.info("[REPORT_SERVICE][ORDERS_REVERTED] Rollups reverted for {} Orders", orders.size());
+  }
+
+  @Override
+  @Transactional
+  public void recordPurchaseReceived(Purchase purchase) {
+    ValidateAttributesUtils.validateModel(purchase, "Purchase in Report");
+    Map<UUID, RollupDelta> deltas = new LinkedHashMap<>();
+    purchase.getItems().forEach(item -> merge(deltas, new RollupDelta(
+        item.getProductId(), 0, BigDecimal.ZERO, item.getQuantity(), item.calculateSubtotal())));
+    reportAdapterPort.applyRollupDeltas(LocalDate.now(), new ArrayList<>(deltas.values()));
+    log.info("[REPORT_SERVICE][PURCHASE_RECEIVED] Rollups updated for {} Products of Purchase(id={})",
+        deltas.size(), purchase.getId());
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public List<ProductSalesReport> getProductSales(LocalDate from, LocalDate to, int limit) {
+    validateRange(from, to);
+    if (limit < 1 || limit > maxLimit) {
+      throw new InvalidArgumentException("Limit must be between 1 and " + maxLimit);
+    }
+    log.info("[REPORT_SERVICE][PRODUCT_SALES] Fetching top {} Products between {} and {}", limit, from, to);
+    return reportAdapterPort.findProductSales(from, to, limit);
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public List<CategorySalesReport> getCategorySales(LocalDate from, LocalDate to) {
+    validateRange(from, to);
+    log.info("[REPORT_SERVICE][CATEGORY_SALES] Fetching Category sales between {} and {}", from, to);
+    return reportAdapterPort.findCategorySales(from, to);
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public List<DailySalesReport> getDailySales(LocalDate from, LocalDate to) {
+    validateRange(from, to);
+    log.info("[REPORT_SERVICE][DAILY_SALES] Fetching daily sales between {} and {}", from, to);
+    return reportAdapterPort.findDailySales(from, to);
+  }
+
+  // las órdenes anteriores a paid_at caen en su última actualización
+  private Map<LocalDate, List<OrderSaleLine>> groupBySaleDate(List<Order> orders) {
+    ValidateAttributesUtils.validateModel(orders, "Orders in Report");
+    Map<LocalDate, List<OrderSaleLine>> byDate = new TreeMap<>();
+    orders.forEach(order -> {
+      LocalDateTime saleTime = order.getPaidAt() != null ? order.getPaidAt() : order.getUpdatedAt();
+      LocalDate date = saleTime != null ? saleTime.toLocalDate() : LocalDate.now();
+      List<OrderSaleLine> lines = byDate.computeIfAbsent(date, key -> new ArrayList<>());
+      order.getItems().forEach(item -> lines.add(new OrderSaleLine(
+          order.getId(), item.getProductId(), item.getQuantity(), item.calculateSubtotal())));
+    });
+    return byDate;
+  }
+
+  private void merge(Map<UUID, RollupDelta> deltas, RollupDelta delta) {
+    deltas.merge(delta.productId(), delta, (current, added) -> new RollupDelta(
+        current.productId(),
+        current.unitsSold() + added.unitsSold(),
+        current.revenue().add(added.revenue()),
+        current.unitsPurchased() + added.unitsPurchased(),
+        current.purchaseCost().add(added.purchaseCost())));
+  }
+
+  private void validateRange(LocalDate from, LocalDate to) {
+    ValidateAttributesUtils.validateModel(from, "From date");
+    ValidateAttributesUtils.validateModel(to, "To date");
+    if (from.isAfter(to)) throw new InvalidArgumentException("From date must be before or equal to To date");
+    if (ChronoUnit.DAYS.between(from, to) >= maxRangeDays) {
+      throw new InvalidArgumentException("Date range cannot exceed " + maxRangeDays + " days");
+    }
+  }
+}
@@ -0,0 +1,82 @@
+package com.store.arka.backend.application.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Counters for stock changes. Applied changes are only recorded once the surrounding transaction
+ * commits, so a rolled back checkout does not inflate the moved units.
+ */
+@Component
+public class StockMutationMetrics {
+  private final Counter decreasedUnits;
+  private final Counter increasedUnits;
+  private final Counter rejectedProducts;
+  private final Counter skippedProducts;
+  private final DistributionSummary decreaseBatchSize;
+  private final DistributionSummary increaseBatchSize;
+
+  public StockMutationMetrics(MeterRegistry meterRegistry) {
+    this.decreasedUnits = unitsCounter(meterRegistry, "decrease");
+    this.increasedUnits = unitsCounter(meterRegistry, "increase");
+    this.rejectedProducts = Counter.builder("arka.stock.mutations.failed")
+        .description("Products whose stock change was not applied")
+        .tag("operation", "decrease").tag("reason", "insufficient_stock").register(meterRegistry);
+    this.skippedProducts = Counter.builder("arka.stock.mutations.failed")
+        .description("Products whose stock change was not applied")
+        .tag("operation", "increase").tag("reason", "missing_product").register(meterRegistry);
+    this.decreaseBatchSize = batchSummary(meterRegistry, "decrease");
+    this.increaseBatchSize = batchSummary(meterRegistry, "increase");
+  }
+
+  public void recordDecrease(int products, long units) {
+    afterCommit(() -> {
+      decreaseBatchSize.record(products);
+      decreasedUnits.increment(units);
+    });
+  }
+
+  public void recordIncrease(int products, long units) {
+    afterCommit(() -> {
+      increaseBatchSize.record(products);
+      increasedUnits.increment(units);
+    });
+  }
+
+  public void recordRejected(int products) {
+    rejectedProducts.increment(products);
+  }
+
+  public void recordSkipped(int products) {
+    skippedProducts.increment(products);
+  }
+
+  private void afterCommit(Runnable action) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      action.run();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        action.run();
+      }
+    });
+  }
+
+  private static Counter unitsCounter(MeterRegistry meterRegistry, String operation) {
+    return Counter.builder("arka.stock.units")
+        .description("Stock units moved by committed stock changes")
+        .tag("operation", operation).register(meterRegistry);
+  }
+
+  private static DistributionSummary batchSummary(MeterRegistry meterRegistry, String operation) {
+    return DistributionSummary.builder("arka.stock.mutation.products")
+        .description("Products touched by a single stock change")
+        .tag("operation", operation).register(meterRegistry);
+  }
+}
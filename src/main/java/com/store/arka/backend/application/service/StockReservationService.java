@@ -0,0 +1,162 @@
+package com.store.arka.backend.application.service;
+
+import com.store.arka.backend.application.port.in.IStockReservationUseCase;
+import com.store.arka.backend.application.port.out.IProductAdapterPort;
+import com.store.arka.backend.application.port.out.IStockReservationAdapterPort;
+import com.store.arka.backend.domain.enums.ReservationStatus;
+import com.store.arka.backend.domain.exception.ModelDeletionException;
+import com.store.arka.backend.domain.exception.ModelNotFoundException;
+import com.store.arka.backend.domain.exception.QuantityBadRequestException;
+import com.store.arka.backend.domain.model.Order;
+import com.store.arka.backend.domain.model.OrderItem;
+import com.store.arka.backend.domain.model.Product;
+import com.store.arka.backend.domain.model.StockReservation;
+import com.store.arka.backend.shared.util.ValidateAttributesUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Stock holds between checkout and confirmation. The stock_reservations table is the only record of what is
+ * held: availability is summed from its ACTIVE rows, and reserving locks the product rows first so that
+ * concurrent checkouts on any instance are checked one after another.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StockReservationService implements IStockReservationUseCase {
+  private static final int EXPIRED_BATCH_SIZE = 200;
+  private final IStockReservationAdapterPort stockReservationAdapterPort;
+  private final IProductAdapterPort productAdapterPort;
+  @Value("${arka.reservations.ttl-minutes:15}")
+  private long ttlMinutes;
+
+  @Override
+  @Transactional
+  public void reserveForOrder(Order order) {
+    reserve(order);
+  }
+
+  @Override
+  @Transactional
+  public boolean tryReserveForOrder(Order order) {
+    // la validación ocurre antes de cualquier escritura, así que un rechazo no deja la transacción marcada
+    try {
+      reserve(order);
+      return true;
+    } catch (QuantityBadRequestException | ModelNotFoundException | ModelDeletionException ex) {
+      log.warn("[STOCK_RESERVATION_SERVICE][RESERVE_REJECTED] Order(id={}) could not be reserved: {}",
+          order.getId(), ex.getMessage());
+      return false;
+    }
+  }
+
+  @Override
+  @Transactional
+  public void releaseForOrder(UUID orderId) {
+    ValidateAttributesUtils.validateId(orderId, "Order ID in StockReservation");
+    closeReservations(stockReservationAdapterPort.findActiveReservationsByOrderIdForUpdate(orderId), ReservationStatus.RELEASED);
+    log.info("[STOCK_RESERVATION_SERVICE][RELEASED] Reservations of Order(id={}) released", orderId);
+  }
+
+  @Override
+  @Transactional
+  public void convertForOrder(UUID orderId) {
+    ValidateAttributesUtils.validateId(orderId, "Order ID in StockReservation");
+    closeReservations(stockReservationAdapterPort.findActiveReservationsByOrderIdForUpdate(orderId), ReservationStatus.CONVERTED);
+    log.info("[STOCK_RESERVATION_SERVICE][CONVERTED] Reservations of Order(id={}) converted", orderId);
+  }
+
+  @Override
+  @Transactional
+  public void convertForOrders(Collection<UUID> orderIds) {
+    ValidateAttributesUtils.validateModel(orderIds, "Order IDs in StockReservation");
+    if (orderIds.isEmpty()) return;
+    closeReservations(stockReservationAdapterPort.findActiveReservationsByOrderIdsForUpdate(orderIds), ReservationStatus.CONVERTED);
+    log.info("[STOCK_RESERVATION_SERVICE][CONVERTED_BATCH] Reservations of {} Orders converted", orderIds.size());
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public int getReservedQuantity(UUID productId) {
+    return getReservedQuantities(List.of(productId)).getOrDefault(productId, 0);
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public Map<UUID, Integer> getReservedQuantities(Collection<UUID> productIds) {
+    return stockReservationAdapterPort.sumActiveQuantitiesByProductIds(productIds);
+  }
+
+  // lo retenido por otras órdenes: la retención propia no cuenta contra la nueva cantidad de la línea
+  @Override
+  @Transactional(readOnly = true)
+  public int getReservedQuantityExcluding(UUID productId, UUID orderId) {
+    return stockReservationAdapterPort.sumActiveQuantitiesByProductIdsExcludingOrder(List.of(productId), orderId)
+        .getOrDefault(productId, 0);
+  }
+
+  @Override
+  @Transactional
+  @Scheduled(fixedDelayString = "${arka.reservations.sweep-interval-ms:60000}")
+  public void releaseExpiredReservations() {
+    List<StockReservation> expired =
+        stockReservationAdapterPort.findExpiredActiveReservationsForUpdate(LocalDateTime.now(), EXPIRED_BATCH_SIZE);
+    if (expired.isEmpty()) return;
+    closeReservations(expired, ReservationStatus.EXPIRED);
+    log.info("[STOCK_RESERVATION_SERVICE][EXPIRED] {} Reservations expired", expired.size());
+  }
+
+  private void reserve(Order order) {
+    ValidateAttributesUtils.validateModel(order, "Order in StockReservation");
+    Map<UUID, Integer> requested = order.getItems().stream()
+        .collect(Collectors.toMap(OrderItem::getProductId, OrderItem::getQuantity, Integer::sum));
+    List<StockReservation> current = stockReservationAdapterPort.findActiveReservationsByOrderIdForUpdate(order.getId());
+    Map<UUID, Integer> held = sumByProduct(current);
+    if (requested.equals(held)) return;
+    Set<UUID> growing = requested.keySet().stream()
+        .filter(productId -> requested.get(productId) > held.getOrDefault(productId, 0))
+        .collect(Collectors.toSet());
+    // el bloqueo de las filas de producto va antes de sumar, así la suma ya ve las retenciones confirmadas
+    Map<UUID, Product> products = productAdapterPort.findCurrentProductsByIdsForUpdate(growing);
+    Map<UUID, Integer> reservedByOthers =
+        stockReservationAdapterPort.sumActiveQuantitiesByProductIdsExcludingOrder(growing, order.getId());
+    // misma regla que validateAvailabilityForOrder: cantidad total pedida contra lo retenido por otras órdenes
+    growing.forEach(productId -> findProductOrThrow(products, productId)
+        .validateAvailability(requested.get(productId), reservedByOthers.getOrDefault(productId, 0)));
+    stockReservationAdapterPort.updateReservationsStatus(
+        current.stream().map(StockReservation::getId).collect(Collectors.toList()), ReservationStatus.RELEASED);
+    LocalDateTime expiresAt = LocalDateTime.now().plusMinutes(ttlMinutes);
+    stockReservationAdapterPort.saveAllReservations(requested.entrySet().stream()
+        .map(entry -> StockReservation.create(order.getId(), entry.getKey(), entry.getValue(), expiresAt))
+        .collect(Collectors.toList()));
+    log.info("[STOCK_RESERVATION_SERVICE][RESERVED] Order(id={}) holds {} Products until {}",
+        order.getId(), requested.size(), expiresAt);
+  }
+
+  private void closeReservations(List<StockReservation> reservations, ReservationStatus status) {
+    if (reservations.isEmpty()) return;
+    stockReservationAdapterPort.updateReservationsStatus(
+        reservations.stream().map(StockReservation::getId).collect(Collectors.toList()), status);
+  }
+
+  private Product findProductOrThrow(Map<UUID, Product> products, UUID productId) {
+    return Optional.ofNullable(products.get(productId))
+        .orElseThrow(() -> {
+          log.warn("[STOCK_RESERVATION_SERVICE][FIND_PRODUCT] Product(id={}) not found", productId);
+          return new ModelNotFoundException("Product ID " + productId + " not found");
+        });
+  }
+
+  private Map<UUID, Integer> sumByProduct(List<StockReservation> reservations) {
+    return reservations.stream()
+        .collect(Collectors.toMap(StockReservation::getProductId, StockReservation::getQuantity, Integer::sum));
+  }
+}
@@ -1,5 +1,7 @@
 package com.store.arka.backend.application.service;
 
+import com.store.arka.backend.application.model.PageQuery;
+import com.store.arka.backend.application.model.PageResult;
 import com.store.arka.backend.application.port.in.IProductUseCase;
 import com.store.arka.backend.application.port.in.ISupplierUseCase;
 import com.store.arka.backend.application.port.out.ISupplierAdapterPort;
@@ -14,13 +16,14 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class SupplierService implements ISupplierUseCase {
+  private static final Set<String> SORT_FIELDS = Set.of("commercialName", "email", "createdAt", "updatedAt");
   private final ISupplierAdapterPort supplierAdapterPort;
   private final IProductUseCase productUseCase;
   private final SecurityUtils securityUtils;
@@ -82,24 +85,27 @@ public class SupplierService implements ISupplierUseCase {
 
   @Override
   @Transactional(readOnly = true)
-  public List<Supplier> getAllSuppliers() {
+  public PageResult<Supplier> getAllSuppliers(PageQuery pageQuery) {
+    ValidateAttributesUtils.validatePageQuery(pageQuery, SORT_FIELDS);
     log.info("[SUPPLIER_SERVICE][GET_ALL] Fetching all Suppliers");
-    return supplierAdapterPort.findAllSuppliers();
+    return supplierAdapterPort.findAllSuppliers(pageQuery.withDefaultSort("createdAt"));
   }
 
   @Override
   @Transactional(readOnly = true)
-  public List<Supplier> getAllSuppliersByStatus(SupplierStatus status) {
+  public PageResult<Supplier> getAllSuppliersByStatus(SupplierStatus status, PageQuery pageQuery) {
+    ValidateAttributesUtils.validatePageQuery(pageQuery, SORT_FIELDS);
     log.info("[SUPPLIER_SERVICE][GET_ALL_BY_STATUS] Fetching all Suppliers with status=({})", status);
-    return supplierAdapterPort.findAllSuppliersByStatus(status);
+    return supplierAdapterPort.findAllSuppliersByStatus(status, pageQuery.withDefaultSort("createdAt"));
   }
 
   @Override
   @Transactional(readOnly = true)
-  public List<Supplier> getAllSuppliersByProductId(UUID productId) {
+  public PageResult<Supplier> getAllSuppliersByProductId(UUID productId, PageQuery pageQuery) {
+    ValidateAttributesUtils.validatePageQuery(pageQuery, SORT_FIELDS);
     Product productFound = findProductOrThrow(productId);
     log.info("[SUPPLIER_SERVICE][GET_ALL_BY_PRODUCT] Fetching all Suppliers by Product(id={})", productId);
-    return supplierAdapterPort.findAllSuppliersByProductId(productFound.getId());
+    return supplierAdapterPort.findAllSuppliersByProductId(productFound.getId(), pageQuery.withDefaultSort("createdAt"));
   }
 
   @Override
@@ -1,7 +1,10 @@
 package com.store.arka.backend.application.service;
 
+import com.store.arka.backend.application.model.PageQuery;
+import com.store.arka.backend.application.model.PageResult;
 import com.store.arka.backend.application.port.in.IUserUseCase;
 import com.store.arka.backend.application.port.out.IUserAdapterPort;
+import com.store.arka.backend.application.port.out.IUserStatusCachePort;
 import com.store.arka.backend.domain.enums.UserRole;
 import com.store.arka.backend.domain.enums.UserStatus;
 import com.store.arka.backend.domain.exception.FieldAlreadyExistsException;
@@ -16,14 +19,16 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class UserService implements IUserUseCase {
+  private static final Set<String> SORT_FIELDS = Set.of("userName", "email", "createdAt", "updatedAt");
   private final IUserAdapterPort userAdapterPort;
+  private final IUserStatusCachePort userStatusCachePort;
   private final PasswordEncoder passwordEncoder;
   private final SecurityUtils securityUtils;
 
@@ -74,21 +79,22 @@ public class UserService implements IUserUseCase {
 
   @Override
   @Transactional(readOnly = true)
-  public List<User> getAllUsersByFilters(UserRole role, UserStatus status) {
+  public PageResult<User> getAllUsersByFilters(UserRole role, UserStatus status, PageQuery pageQuery) {
+    ValidateAttributesUtils.validatePageQuery(pageQuery, SORT_FIELDS);
     if (role != null && status != null) {
       log.info("[USER_SERVICE][GET_ALL] Fetching all Users with role=({}) and status=({})", role, status);
-      return userAdapterPort.findAllUsersByRoleAndStatus(role, status);
+      return userAdapterPort.findAllUsersByRoleAndStatus(role, status, pageQuery.withDefaultSort("createdAt"));
     }
     if (role != null) {
       log.info("[USER_SERVICE][GET_ALL] Fetching all Users with role=({})", role);
-      return userAdapterPort.findAllUsersByRole(role);
+      return userAdapterPort.findAllUsersByRole(role, pageQuery.withDefaultSort("createdAt"));
     }
     if (status != null) {
       log.info("[USER_SERVICE][GET_ALL] Fetching all Users with status=({})", status);
-      return userAdapterPort.findAllUsersByStatus(status);
+      return userAdapterPort.findAllUsersByStatus(status, pageQuery.withDefaultSort("createdAt"));
     }
     log.info("[USER_SERVICE][GET_ALL] Fetching all Users");
-    return userAdapterPort.findAllUsers();
+    return userAdapterPort.findAllUsers(pageQuery.withDefaultSort("createdAt"));
   }
 
   @Override
@@ -102,6 +108,7 @@ public class UserService implements IUserUseCase {
     }
     found.updateStaffAccountRole(user.getRole());
     User saved = userAdapterPort.saveUpdateUser(found);
+    userStatusCachePort.evictUser(saved.getId());
     log.info("[USER_SERVICE][UPDATED_ROLE] User(id={}) has updated role={} in User(id={})",
         securityUtils.getCurrentUserId(), saved.getRole(), saved.getId());
     return saved;
@@ -118,6 +125,7 @@ public class UserService implements IUserUseCase {
     }
     found.updateUserName(user.getUserName());
     User saved = userAdapterPort.saveUpdateUser(found);
+    userStatusCachePort.evictUser(saved.getId());
     log.info("[USER_SERVICE][UPDATED_USERNAME] User(id={}) has updated username={} in User(id={})",
         securityUtils.getCurrentUserId(), saved.getUserName(), saved.getId());
     return saved;
@@ -134,6 +142,7 @@ public class UserService implements IUserUseCase {
     }
     found.updateEmail(user.getEmail());
     User saved = userAdapterPort.saveUpdateUser(found);
+    userStatusCachePort.evictUser(saved.getId());
     log.info("[USER_SERVICE][UPDATED_EMAIL] User(id={}) has updated email={} in User(id={})",
         securityUtils.getCurrentUserId(), saved.getEmail(), saved.getId());
     return saved;
@@ -147,6 +156,7 @@ public class UserService implements IUserUseCase {
     String encodedPassword = passwordEncoder.encode(user.getPassword());
     found.updatePassword(encodedPassword);
     User saved = userAdapterPort.saveUpdateUser(found);
+    userStatusCachePort.evictUser(saved.getId());
     log.info("[USER_SERVICE][UPDATED_PASSWORD] User(id={}) has updated password in User(id={})",
         securityUtils.getCurrentUserId(), saved.getId());
     return saved;
@@ -159,6 +169,7 @@ public class UserService implements IUserUseCase {
     securityUtils.requireOwnerOrRoles(found.getId(), "ADMIN");
     found.delete();
     userAdapterPort.saveUpdateUser(found);
+    userStatusCachePort.evictUser(found.getId());
     log.info("[USER_SERVICE][DELETED] User(id={}) has marked as {} the User(id={})",
         securityUtils.getCurrentUserId(), UserStatus.DISABLED, id);
   }
@@ -170,6 +181,7 @@ public class UserService implements IUserUseCase {
     securityUtils.requireOwnerOrRoles(found.getId(), "ADMIN");
     found.restore();
     User saved = userAdapterPort.saveUpdateUser(found);
+    userStatusCachePort.evictUser(saved.getId());
     log.info("[USER_SERVICE][RESTORE] User(id={}) has restored the User(id={}) successfully",
         securityUtils.getCurrentUserId(), saved.getId());
     return saved;
@@ -0,0 +1,7 @@
+package com.store.arka.backend.domain.enums;
+
+public enum NotificationDeliveryStatus {
+  PENDING,
+  SENT,
+  DEAD_LETTER
+}
@@ -0,0 +1,8 @@
+package com.store.arka.backend.domain.enums;
+
+public enum ReservationStatus {
+  ACTIVE,
+  RELEASED,
+  CONVERTED,
+  EXPIRED
+}
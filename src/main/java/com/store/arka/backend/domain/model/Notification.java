@@ -1,5 +1,6 @@
 package com.store.arka.backend.domain.model;
 
+import com.store.arka.backend.domain.enums.NotificationDeliveryStatus;
 import com.store.arka.backend.domain.enums.NotificationStatus;
 import com.store.arka.backend.domain.enums.NotificationType;
 import com.store.arka.backend.shared.util.MessageNotificationType;
@@ -24,6 +25,10 @@ public class Notification {
   private NotificationStatus status;
   private final LocalDateTime createdAt;
   private LocalDateTime readAt;
+  private NotificationDeliveryStatus deliveryStatus;
+  private Integer deliveryAttempts;
+  private LocalDateTime nextAttemptAt;
+  private LocalDateTime sentAt;
 
   public static Notification create(Customer customer, Order order, NotificationType type) {
     ValidateAttributesUtils.validateModel(customer, "Customer in Notification");
@@ -38,6 +43,10 @@ public class Notification {
         MessageNotificationType.defaultMessageFor(type, fullName, order.getId()),
         NotificationStatus.UNREAD,
         null,
+        null,
+        NotificationDeliveryStatus.PENDING,
+        0,
+        LocalDateTime.now(),
         null
     );
   }
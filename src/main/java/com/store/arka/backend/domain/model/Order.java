@@ -25,6 +25,7 @@ public class Order {
   private List<OrderItem> items;
   private BigDecimal total;
   private OrderStatus status;
+  private LocalDateTime paidAt;
   private final LocalDateTime createdAt;
   private LocalDateTime updatedAt;
 
@@ -41,6 +42,7 @@ public class Order {
         calculateTotal(items),
         OrderStatus.CREATED,
         null,
+        null,
         null
     );
   }
@@ -81,6 +83,7 @@ public class Order {
     if (isPaid()) throw new InvalidStateException("Order already paid");
     ValidateStatusUtils.throwIfNotConfirmed(this.status);
     this.status = OrderStatus.PAID;
+    this.paidAt = LocalDateTime.now();
   }
 
   public void shipped() {
@@ -87,6 +87,10 @@ public class Payment {
     return LocalDateTime.now().isAfter(this.createdAt.plusMinutes(MAX_TIME_TO_EXPIRE_MINUTES));
   }
 
+  public static LocalDateTime expirationCutoff(LocalDateTime now) {
+    return now.minusMinutes(MAX_TIME_TO_EXPIRE_MINUTES);
+  }
+
 
   public boolean amountMismatch() {
     if (!isPending()) throw new InvalidStateException("Only PENDING payments can be completed");
@@ -16,6 +16,7 @@ import java.util.UUID;
 @AllArgsConstructor
 @EqualsAndHashCode(onlyExplicitlyIncluded = true)
 public class Product {
+  public static final int LOW_STOCK_THRESHOLD = 20;
   @EqualsAndHashCode.Include
   private final UUID id;
   private final String sku;
@@ -82,7 +83,11 @@ public class Product {
   }
 
   public boolean configurationThreshold() {
-    return this.stock <= 20;
+    return this.stock <= LOW_STOCK_THRESHOLD;
+  }
+
+  public static boolean crossesLowStockThreshold(int previousStock, int currentStock) {
+    return previousStock > LOW_STOCK_THRESHOLD && currentStock <= LOW_STOCK_THRESHOLD;
   }
 
   public void delete() {
@@ -100,9 +105,13 @@ public class Product {
   }
 
   public void validateAvailability(int quantity) {
+    validateAvailability(quantity, 0);
+  }
+
+  public void validateAvailability(int quantity, int reserved) {
     ValidateAttributesUtils.validateQuantity(quantity);
     throwIfDeleted();
-    if (this.stock < quantity) {
+    if (this.stock - reserved < quantity) {
       throw new QuantityBadRequestException("Product with id " + this.id + " does not have sufficient stock");
     }
   }
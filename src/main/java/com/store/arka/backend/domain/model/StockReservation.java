@@ -0,0 +1,46 @@
+package com.store.arka.backend.domain.model;
+
+import com.store.arka.backend.domain.enums.ReservationStatus;
+import com.store.arka.backend.shared.util.ValidateAttributesUtils;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Getter
+@AllArgsConstructor
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+public class StockReservation {
+  @EqualsAndHashCode.Include
+  private final UUID id;
+  private final UUID orderId;
+  private final UUID productId;
+  private final Integer quantity;
+  private ReservationStatus status;
+  private final LocalDateTime expiresAt;
+  private final LocalDateTime createdAt;
+  private LocalDateTime updatedAt;
+
+  public static StockReservation create(UUID orderId, UUID productId, Integer quantity, LocalDateTime expiresAt) {
+    ValidateAttributesUtils.validateId(orderId, "Order ID in StockReservation");
+    ValidateAttributesUtils.validateId(productId, "Product ID in StockReservation");
+    ValidateAttributesUtils.validateQuantity(quantity);
+    ValidateAttributesUtils.validateModel(expiresAt, "Expiration in StockReservation");
+    return new StockReservation(
+        null,
+        orderId,
+        productId,
+        quantity,
+        ReservationStatus.ACTIVE,
+        expiresAt,
+        null,
+        null
+    );
+  }
+
+  public boolean isActive() {
+    return this.status == ReservationStatus.ACTIVE;
+  }
+}
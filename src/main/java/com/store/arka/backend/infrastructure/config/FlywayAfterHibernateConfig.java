@@ -0,0 +1,34 @@
+package com.store.arka.backend.infrastructure.config;
+
+import org.flywaydb.core.Flyway;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.DependsOn;
+
+import javax.sql.DataSource;
+
+/**
+ * En los perfiles con ddl-auto update (dev, ci) Hibernate crea las tablas base, por lo que las migraciones
+ * se aplican después de inicializar JPA y no antes como en prod. Al definir el bean Flyway se desactiva la
+ * migración automática de Spring Boot.
+ */
+@Configuration
+@ConditionalOnProperty(name = "arka.flyway.after-hibernate", havingValue = "true")
+public class FlywayAfterHibernateConfig {
+
+  @Bean(initMethod = "migrate")
+  @DependsOn("entityManagerFactory")
+  public Flyway flyway(
+      DataSource dataSource,
+      @Value("${spring.flyway.locations}") String[] locations,
+      @Value("${spring.flyway.baseline-version}") String baselineVersion) {
+    return Flyway.configure()
+        .dataSource(dataSource)
+        .locations(locations)
+        .baselineOnMigrate(true)
+        .baselineVersion(baselineVersion)
+        .load();
+  }
+}
@@ -0,0 +1,73 @@
+package com.store.arka.backend.infrastructure.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mide la duración de cada llamada a un puerto de entrada (I*UseCase) o de salida (I*AdapterPort)
+ * en el timer arka.port.calls, etiquetado por capa, clase, método y resultado. Los timers de las
+ * llamadas exitosas se guardan por clase y método para no construir el meter en cada invocación.
+ */
+@Aspect
+@Component
+public class PortMetricsAspect {
+  private static final String METRIC_NAME = "arka.port.calls";
+  private final MeterRegistry meterRegistry;
+  // un mismo método de interfaz lo implementan varias clases, y la clase es una etiqueta del timer
+  private final Map<TimerKey, Timer> successTimers = new ConcurrentHashMap<>();
+
+  public PortMetricsAspect(MeterRegistry meterRegistry) {
+    this.meterRegistry = meterRegistry;
+  }
+
+  @Around("execution(* com.store.arka.backend.application.port.in.*.*(..))")
+  public Object timeUseCase(ProceedingJoinPoint joinPoint) throws Throwable {
+    return time(joinPoint, "use_case");
+  }
+
+  @Around("execution(* com.store.arka.backend.application.port.out.*.*(..))")
+  public Object timeAdapter(ProceedingJoinPoint joinPoint) throws Throwable {
+    return time(joinPoint, "adapter");
+  }
+
+  private Object time(ProceedingJoinPoint joinPoint, String layer) throws Throwable {
+    long start = System.nanoTime();
+    try {
+      Object result = joinPoint.proceed();
+      TimerKey key = new TimerKey(AopUtils.getTargetClass(joinPoint.getTarget()),
+          ((MethodSignature) joinPoint.getSignature()).getMethod());
+      successTimers.computeIfAbsent(key, ignored -> timer(joinPoint, layer, "success", "none"))
+          .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+      return result;
+    } catch (Throwable ex) {
+      timer(joinPoint, layer, "error", ex.getClass().getSimpleName())
+          .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+      throw ex;
+    }
+  }
+
+  private Timer timer(ProceedingJoinPoint joinPoint, String layer, String outcome, String exception) {
+    return Timer.builder(METRIC_NAME)
+        .description("Latency of application port calls")
+        .tag("layer", layer)
+        .tag("class", AopUtils.getTargetClass(joinPoint.getTarget()).getSimpleName())
+        .tag("method", joinPoint.getSignature().getName())
+        .tag("outcome", outcome)
+        .tag("exception", exception)
+        .register(meterRegistry);
+  }
+
+  private record TimerKey(Class<?> targetClass, Method method) {
+  }
+}
@@ -0,0 +1,40 @@
+package com.store.arka.backend.infrastructure.config;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * Cuenta las sentencias SQL que se ejecutan en el hilo actual. Envuelve el DataSource con
+ * {@link StatementCountingDataSource}, así que cuentan tanto las de Hibernate como las de
+ * JdbcTemplate; un lote (executeBatch) cuenta como una sola ida a la base de datos.
+ */
+@Component
+public class SqlStatementCounter implements BeanPostProcessor {
+  private final ThreadLocal<int[]> counter = ThreadLocal.withInitial(() -> new int[1]);
+
+  @Override
+  public Object postProcessAfterInitialization(Object bean, String beanName) {
+    if (bean instanceof DataSource dataSource && !(bean instanceof StatementCountingDataSource)) {
+      return new StatementCountingDataSource(dataSource, this);
+    }
+    return bean;
+  }
+
+  void increment() {
+    counter.get()[0]++;
+  }
+
+  public void reset() {
+    counter.get()[0] = 0;
+  }
+
+  public int getCount() {
+    return counter.get()[0];
+  }
+
+  public void clear() {
+    counter.remove();
+  }
+}
@@ -0,0 +1,68 @@
+package com.store.arka.backend.infrastructure.config;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Envoltorio del DataSource que avisa a {@link SqlStatementCounter} en cada execute* de los
+ * Statement que crean sus conexiones. Al ser un DelegatingDataSource, Spring Boot sigue encontrando
+ * el pool de Hikari detrás (unwrap) para sus métricas y su configuración JMX.
+ */
+public class StatementCountingDataSource extends DelegatingDataSource {
+  private final SqlStatementCounter counter;
+
+  public StatementCountingDataSource(DataSource target, SqlStatementCounter counter) {
+    super(target);
+    this.counter = counter;
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    return countingConnection(obtainTargetDataSource().getConnection());
+  }
+
+  @Override
+  public Connection getConnection(String username, String password) throws SQLException {
+    return countingConnection(obtainTargetDataSource().getConnection(username, password));
+  }
+
+  private Connection countingConnection(Connection target) {
+    return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+        (proxy, method, args) -> {
+          Object result = invoke(target, method, args);
+          return switch (method.getName()) {
+            case "createStatement" -> countingStatement(Statement.class, (Statement) result);
+            case "prepareStatement" -> countingStatement(PreparedStatement.class, (Statement) result);
+            case "prepareCall" -> countingStatement(CallableStatement.class, (Statement) result);
+            default -> result;
+          };
+        });
+  }
+
+  private Object countingStatement(Class<? extends Statement> type, Statement target) {
+    InvocationHandler handler = (proxy, method, args) -> {
+      // execute, executeQuery, executeUpdate, executeBatch y sus variantes large
+      if (method.getName().startsWith("execute")) counter.increment();
+      return invoke(target, method, args);
+    };
+    return Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler);
+  }
+
+  private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+    try {
+      return method.invoke(target, args);
+    } catch (InvocationTargetException ex) {
+      throw ex.getTargetException();
+    }
+  }
+}
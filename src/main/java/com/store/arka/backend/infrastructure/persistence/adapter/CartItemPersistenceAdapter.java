@@ -1,5 +1,7 @@
 package com.store.arka.backend.infrastructure.persistence.adapter;
 
+import com.store.arka.backend.application.model.PageQuery;
+import com.store.arka.backend.application.model.PageResult;
 import com.store.arka.backend.application.port.out.ICartItemAdapterPort;
 import com.store.arka.backend.domain.exception.ModelNotFoundException;
 import com.store.arka.backend.domain.model.CartItem;
@@ -7,6 +9,7 @@ import com.store.arka.backend.infrastructure.persistence.entity.CartEntity;
 import com.store.arka.backend.infrastructure.persistence.entity.CartItemEntity;
 import com.store.arka.backend.infrastructure.persistence.entity.ProductEntity;
 import com.store.arka.backend.infrastructure.persistence.mapper.CartItemMapper;
+import com.store.arka.backend.infrastructure.persistence.mapper.PageableMapper;
 import com.store.arka.backend.infrastructure.persistence.repository.IJpaCartItemRepository;
 import com.store.arka.backend.infrastructure.persistence.repository.IJpaCartRepository;
 import com.store.arka.backend.infrastructure.persistence.updater.CartItemUpdater;
@@ -15,10 +18,8 @@ import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
-import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @Repository
 @RequiredArgsConstructor
@@ -38,8 +39,7 @@ public class CartItemPersistenceAdapter implements ICartItemAdapterPort {
     cartItemEntity.setProduct(
         entityManager.getReference(ProductEntity.class, cartItemEntity.getProduct().getId()));
     CartItemEntity saved = jpaCartItemRepository.save(cartItemEntity);
-    entityManager.flush();
-    entityManager.refresh(saved);
+    cartEntity.getItems().add(saved);
     return mapper.toDomain(saved);
   }
 
@@ -49,8 +49,6 @@ public class CartItemPersistenceAdapter implements ICartItemAdapterPort {
         .orElseThrow(() -> new ModelNotFoundException("CartItem with id " + cartItem.getId() + " not found"));
     CartItemEntity updated = updater.merge(cartItemEntity, cartItem);
     CartItemEntity saved = jpaCartItemRepository.save(updated);
-    entityManager.flush();
-    entityManager.refresh(saved);
     return mapper.toDomain(saved);
   }
 
@@ -60,14 +58,15 @@ public class CartItemPersistenceAdapter implements ICartItemAdapterPort {
   }
 
   @Override
-  public List<CartItem> findAllCartItems() {
-    return jpaCartItemRepository.findAll().stream().map(mapper::toDomain).collect(Collectors.toList());
+  public PageResult<CartItem> findAllCartItems(PageQuery pageQuery) {
+    return PageableMapper.toPageResult(
+        jpaCartItemRepository.findAllBy(PageableMapper.toPageable(pageQuery)), mapper::toDomain);
   }
 
   @Override
-  public List<CartItem> findAllCartItemsByProductId(UUID productId) {
-    return jpaCartItemRepository.findAllByProductId(productId)
-        .stream().map(mapper::toDomain).collect(Collectors.toList());
+  public PageResult<CartItem> findAllCartItemsByProductId(UUID productId, PageQuery pageQuery) {
+    return PageableMapper.toPageResult(
+        jpaCartItemRepository.findAllByProductId(productId, PageableMapper.toPageable(pageQuery)), mapper::toDomain);
   }
 
   @Override
@@ -1,5 +1,8 @@
 package com.store.arka.backend.infrastructure.persistence.adapter;
 
+import com.store.arka.backend.application.model.KeysetCursor;
+import com.store.arka.backend.application.model.PageQuery;
+import com.store.arka.backend.application.model.PageResult;
 import com.store.arka.backend.application.port.out.ICartAdapterPort;
 import com.store.arka.backend.domain.enums.CartStatus;
 import com.store.arka.backend.domain.exception.ModelNotFoundException;
@@ -8,14 +11,19 @@ import com.store.arka.backend.infrastructure.persistence.entity.CartEntity;
 import com.store.arka.backend.infrastructure.persistence.entity.CustomerEntity;
 import com.store.arka.backend.infrastructure.persistence.entity.ProductEntity;
 import com.store.arka.backend.infrastructure.persistence.mapper.CartMapper;
+import com.store.arka.backend.infrastructure.persistence.mapper.PageableMapper;
 import com.store.arka.backend.infrastructure.persistence.repository.IJpaCartRepository;
 import com.store.arka.backend.infrastructure.persistence.updater.CartUpdater;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -46,20 +54,13 @@ public class CartPersistenceAdapter implements ICartAdapterPort {
       });
     }
     CartEntity saved = jpaCartRepository.save(cartEntity);
-    entityManager.flush();
-    entityManager.refresh(saved);
     return mapper.toDomain(saved);
   }
 
   @Override
   public Cart saveUpdateCart(Cart cart) {
     return jpaCartRepository.findById(cart.getId())
-        .map(exists -> {
-          CartEntity saved = jpaCartRepository.save(updater.merge(exists, cart));
-          entityManager.flush();
-          entityManager.refresh(saved);
-          return saved;
-        })
+        .map(exists -> jpaCartRepository.save(updater.merge(exists, cart)))
         .map(mapper::toDomain)
         .orElseThrow(() -> new ModelNotFoundException("Cart with id " + cart.getId() + " not found"));
   }
@@ -70,28 +71,46 @@ public class CartPersistenceAdapter implements ICartAdapterPort {
   }
 
   @Override
-  public List<Cart> findAllCarts() {
-    return jpaCartRepository.findAll().stream().map(mapper::toDomain).collect(Collectors.toList());
+  public PageResult<Cart> findAllCarts(PageQuery pageQuery) {
+    return PageableMapper.toPageResult(
+        jpaCartRepository.findAllBy(PageableMapper.toPageable(pageQuery)), mapper::toDomain);
   }
 
   @Override
-  public List<Cart> findAllCartsByStatus(CartStatus status) {
-    return jpaCartRepository.findAllByStatus(status).stream().map(mapper::toDomain).collect(Collectors.toList());
+  public PageResult<Cart> findAllCartsByStatus(CartStatus status, PageQuery pageQuery) {
+    return PageableMapper.toPageResult(
+        jpaCartRepository.findAllByStatus(status, PageableMapper.toPageable(pageQuery)), mapper::toDomain);
   }
 
   @Override
-  public List<Cart> findAllCartsByCustomerId(UUID customerId) {
-    return jpaCartRepository.findAllByCustomerId(customerId).stream().map(mapper::toDomain).collect(Collectors.toList());
+  public PageResult<Cart> findAllCartsByCustomerId(UUID customerId, PageQuery pageQuery) {
+    return PageableMapper.toPageResult(
+        jpaCartRepository.findAllByCustomerId(customerId, PageableMapper.toPageable(pageQuery)), mapper::toDomain);
   }
 
   @Override
-  public List<Cart> findAllCartsByItemsProductId(UUID productId) {
-    return jpaCartRepository.findAllByItemsProductId(productId)
-        .stream().map(mapper::toDomain).collect(Collectors.toList());
+  public PageResult<Cart> findAllCartsByItemsProductId(UUID productId, PageQuery pageQuery) {
+    return PageableMapper.toPageResult(
+        jpaCartRepository.findAllByItemsProductId(productId, PageableMapper.toPageable(pageQuery)), mapper::toDomain);
   }
 
   @Override
   public void deleteCartById(UUID id) {
     jpaCartRepository.deleteById(id);
   }
+
+  @Override
+  public List<KeysetCursor> findIdleActiveCartKeys(LocalDateTime cutoff, KeysetCursor after, int limit) {
+    Pageable pageable = PageRequest.of(0, limit);
+    List<IJpaCartRepository.CartKeyView> keys = after == null
+        ? jpaCartRepository.findFirstIdleKeys(CartStatus.ACTIVE, cutoff, pageable)
+        : jpaCartRepository.findIdleKeysAfter(CartStatus.ACTIVE, cutoff, after.timestamp(), after.id(), pageable);
+    return keys.stream().map(key -> new KeysetCursor(key.getUpdatedAt(), key.getId())).collect(Collectors.toList());
+  }
+
+  @Override
+  public int abandonIdleCarts(Collection<UUID> ids, LocalDateTime cutoff) {
+    if (ids.isEmpty()) return 0;
+    return jpaCartRepository.abandonByIds(ids, CartStatus.ACTIVE, CartStatus.ABANDONED, cutoff, LocalDateTime.now());
+  }
 }
@@ -0,0 +1,68 @@
+package com.store.arka.backend.infrastructure.persistence.adapter;
+
+import com.store.arka.backend.application.model.ResourceVersion;
+import com.store.arka.backend.application.port.out.ICatalogVersionAdapterPort;
+import com.store.arka.backend.infrastructure.persistence.repository.IJpaCatalogVersionRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+@Repository
+@RequiredArgsConstructor
+public class CatalogVersionPersistenceAdapter implements ICatalogVersionAdapterPort {
+  private static final short CATALOG_ID = 1;
+  private static final String BUMP_SQL = """
+      INSERT INTO catalog_version (id, version, updated_at)
+      VALUES (?, 1, ?)
+      ON CONFLICT (id) DO UPDATE SET version = catalog_version.version + 1, updated_at = EXCLUDED.updated_at
+      """;
+  private static final Object BUMP_REGISTERED = new Object();
+  private final IJpaCatalogVersionRepository jpaCatalogVersionRepository;
+  private final JdbcTemplate jdbcTemplate;
+  @PersistenceContext
+  private EntityManager entityManager;
+
+  @Override
+  public ResourceVersion findCatalogVersion() {
+    return jpaCatalogVersionRepository.findById(CATALOG_ID)
+        .map(entity -> new ResourceVersion("c" + entity.getVersion(), entity.getUpdatedAt()))
+        .orElseGet(() -> new ResourceVersion("c0", null));
+  }
+
+  @Override
+  public void bumpCatalogVersion() {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      bump();
+      return;
+    }
+    // varias escrituras en la misma transacción comparten un único incremento
+    if (TransactionSynchronizationManager.hasResource(BUMP_REGISTERED)) return;
+    TransactionSynchronizationManager.bindResource(BUMP_REGISTERED, Boolean.TRUE);
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      // misma transacción y conexión, justo antes del commit: la versión cambia a la vez que los datos,
+      // la fila solo queda bloqueada durante el commit y un fallo revierte la escritura
+      @Override
+      public void beforeCommit(boolean readOnly) {
+        // se vacían antes los cambios pendientes para no tomar el bloqueo de productos con la fila tomada
+        entityManager.flush();
+        bump();
+      }
+
+      @Override
+      public void afterCompletion(int status) {
+        TransactionSynchronizationManager.unbindResourceIfPossible(BUMP_REGISTERED);
+      }
+    });
+  }
+
+  private void bump() {
+    jdbcTemplate.update(BUMP_SQL, CATALOG_ID, Timestamp.valueOf(LocalDateTime.now()));
+  }
+}
@@ -1,35 +1,40 @@
 package com.store.arka.backend.infrastructure.persistence.adapter;
 
+import com.store.arka.backend.application.model.PageQuery;
+import com.store.arka.backend.application.model.PageResult;
+import com.store.arka.backend.application.model.ResourceVersion;
+import com.store.arka.backend.application.port.out.ICatalogVersionAdapterPort;
 import com.store.arka.backend.application.port.out.ICategoryAdapterPort;
 import com.store.arka.backend.domain.enums.CategoryStatus;
 import com.store.arka.backend.domain.model.Category;
+import com.store.arka.backend.infrastructure.persistence.cache.ProductReadCache;
 import com.store.arka.backend.infrastructure.persistence.entity.CategoryEntity;
 import com.store.arka.backend.infrastructure.persistence.mapper.CategoryMapper;
+import com.store.arka.backend.infrastructure.persistence.mapper.PageableMapper;
 import com.store.arka.backend.infrastructure.persistence.repository.IJpaCategoryRepository;
-import jakarta.persistence.EntityManager;
-import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class CategoryPersistenceAdapter implements ICategoryAdapterPort {
   private final IJpaCategoryRepository jpaCategoryRepository;
   private final CategoryMapper mapper;
-  @PersistenceContext
-  private EntityManager entityManager;
+  private final ProductReadCache productReadCache;
+  private final ICatalogVersionAdapterPort catalogVersionAdapterPort;
 
   @Override
   public Category saveCategory(Category category) {
+    // los productos en caché embeben sus categorías
+    productReadCache.clear();
     CategoryEntity entity = mapper.toEntity(category);
     CategoryEntity saved = jpaCategoryRepository.save(entity);
-    entityManager.flush();
-    entityManager.refresh(saved);
+    catalogVersionAdapterPort.bumpCatalogVersion();
     return mapper.toDomain(saved);
   }
 
@@ -44,13 +49,29 @@ public class CategoryPersistenceAdapter implements ICategoryAdapterPort {
   }
 
   @Override
-  public List<Category> findAllCategories() {
-    return jpaCategoryRepository.findAll().stream().map(mapper::toDomain).collect(Collectors.toList());
+  public Optional<ResourceVersion> findCategoryVersionById(UUID id) {
+    return jpaCategoryRepository.findUpdatedAtById(id).map(this::toResourceVersion);
   }
 
   @Override
-  public List<Category> findAllCategoriesByStatus(CategoryStatus status) {
-    return jpaCategoryRepository.findAllByStatus(status).stream().map(mapper::toDomain).collect(Collectors.toList());
+  public Optional<ResourceVersion> findCategoryVersionByName(String name) {
+    return jpaCategoryRepository.findUpdatedAtByName(name).map(this::toResourceVersion);
+  }
+
+  private ResourceVersion toResourceVersion(LocalDateTime updatedAt) {
+    return new ResourceVersion("k" + Timestamp.valueOf(updatedAt).getTime(), updatedAt);
+  }
+
+  @Override
+  public PageResult<Category> findAllCategories(PageQuery pageQuery) {
+    return PageableMapper.toPageResult(
+        jpaCategoryRepository.findAllBy(PageableMapper.toPageable(pageQuery)), mapper::toDomain);
+  }
+
+  @Override
+  public PageResult<Category> findAllCategoriesByStatus(CategoryStatus status, PageQuery pageQuery) {
+    return PageableMapper.toPageResult(
+        jpaCategoryRepository.findAllByStatus(status, PageableMapper.toPageable(pageQuery)), mapper::toDomain);
   }
 
   @Override
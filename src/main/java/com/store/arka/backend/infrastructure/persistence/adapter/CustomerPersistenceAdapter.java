@@ -1,5 +1,7 @@
 package com.store.arka.backend.infrastructure.persistence.adapter;
 
+import com.store.arka.backend.application.model.PageQuery;
+import com.store.arka.backend.application.model.PageResult;
 import com.store.arka.backend.application.port.out.ICustomerAdapterPort;
 import com.store.arka.backend.domain.enums.CustomerStatus;
 import com.store.arka.backend.domain.exception.ModelNotFoundException;
@@ -7,6 +9,7 @@ import com.store.arka.backend.domain.model.Customer;
 import com.store.arka.backend.infrastructure.persistence.entity.CustomerEntity;
 import com.store.arka.backend.infrastructure.persistence.entity.DocumentEntity;
 import com.store.arka.backend.infrastructure.persistence.mapper.CustomerMapper;
+import com.store.arka.backend.infrastructure.persistence.mapper.PageableMapper;
 import com.store.arka.backend.infrastructure.persistence.repository.IJpaCustomerRepository;
 import com.store.arka.backend.infrastructure.persistence.updater.CustomerUpdater;
 import jakarta.persistence.EntityManager;
@@ -14,10 +17,8 @@ import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
-import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @Repository
 @RequiredArgsConstructor
@@ -34,20 +35,13 @@ public class CustomerPersistenceAdapter implements ICustomerAdapterPort {
     CustomerEntity entity = mapper.toEntity(customer);
     entity.setDocument(documentRef);
     CustomerEntity saved = jpaCustomerRepository.save(entity);
-    entityManager.flush();
-    entityManager.refresh(saved);
     return mapper.toDomain(saved);
   }
 
   @Override
   public Customer saveUpdateCustomer(Customer customer) {
     return jpaCustomerRepository.findById(customer.getId())
-        .map(exists -> {
-          CustomerEntity entity = jpaCustomerRepository.save(updater.merge(exists, customer));
-          entityManager.flush();
-          entityManager.refresh(entity);
-          return entity;
-        })
+        .map(exists -> jpaCustomerRepository.save(updater.merge(exists, customer)))
         .map(mapper::toDomain)
         .orElseThrow(() -> new ModelNotFoundException("Customer with id " + customer.getId() + " not found"));
   }
@@ -68,13 +62,15 @@ public class CustomerPersistenceAdapter implements ICustomerAdapterPort {
   }
 
   @Override
-  public List<Customer> findAllCustomers() {
-    return jpaCustomerRepository.findAll().stream().map(mapper::toDomain).collect(Collectors.toList());
+  public PageResult<Customer> findAllCustomers(PageQuery pageQuery) {
+    return PageableMapper.toPageResult(
+        jpaCustomerRepository.findAllBy(PageableMapper.toPageable(pageQuery)), mapper::toDomain);
   }
 
   @Override
-  public List<Customer> findAllCustomersByStatus(CustomerStatus status) {
-    return jpaCustomerRepository.findAllByStatus(status).stream().map(mapper::toDomain).collect(Collectors.toList());
+  public PageResult<Customer> findAllCustomersByStatus(CustomerStatus status, PageQuery pageQuery) {
+    return PageableMapper.toPageResult(
+        jpaCustomerRepository.findAllByStatus(status, PageableMapper.toPageable(pageQuery)), mapper::toDomain);
   }
 
   @Override
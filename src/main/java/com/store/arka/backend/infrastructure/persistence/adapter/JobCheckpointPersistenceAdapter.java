@@ -0,0 +1,35 @@
+package com.store.arka.backend.infrastructure.persistence.adapter;
+
+import com.store.arka.backend.application.model.KeysetCursor;
+import com.store.arka.backend.application.port.out.IJobCheckpointAdapterPort;
+import com.store.arka.backend.infrastructure.persistence.entity.JobCheckpointEntity;
+import com.store.arka.backend.infrastructure.persistence.repository.IJpaJobCheckpointRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+public class JobCheckpointPersistenceAdapter implements IJobCheckpointAdapterPort {
+  private final IJpaJobCheckpointRepository jpaJobCheckpointRepository;
+
+  @Override
+  public Optional<KeysetCursor> findCheckpoint(String jobName) {
+    return jpaJobCheckpointRepository.findById(jobName)
+        .map(entity -> new KeysetCursor(entity.getLastTimestamp(), entity.getLastId()));
+  }
+
+  @Override
+  public void saveCheckpoint(String jobName, KeysetCursor cursor) {
+    JobCheckpointEntity entity = jpaJobCheckpointRepository.findById(jobName)
+        .orElseGet(() -> {
+          JobCheckpointEntity created = new JobCheckpointEntity();
+          created.setJobName(jobName);
+          return created;
+        });
+    entity.setLastTimestamp(cursor.timestamp());
+    entity.setLastId(cursor.id());
+    jpaJobCheckpointRepository.save(entity);
+  }
+}
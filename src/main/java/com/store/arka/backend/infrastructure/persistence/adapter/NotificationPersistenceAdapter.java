@@ -1,17 +1,25 @@
 package com.store.arka.backend.infrastructure.persistence.adapter;
 
+import com.store.arka.backend.application.model.KeysetCursor;
+import com.store.arka.backend.application.model.NotificationDelivery;
+import com.store.arka.backend.application.model.PageQuery;
+import com.store.arka.backend.application.model.PageResult;
 import com.store.arka.backend.application.port.out.INotificationAdapterPort;
+import com.store.arka.backend.domain.enums.NotificationDeliveryStatus;
 import com.store.arka.backend.domain.enums.NotificationStatus;
 import com.store.arka.backend.domain.enums.NotificationType;
 import com.store.arka.backend.domain.model.Notification;
+import com.store.arka.backend.infrastructure.persistence.entity.NotificationEntity;
 import com.store.arka.backend.infrastructure.persistence.mapper.NotificationMapper;
+import com.store.arka.backend.infrastructure.persistence.mapper.PageableMapper;
 import com.store.arka.backend.infrastructure.persistence.repository.IJpaNotificationRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
-import java.util.List;
-import java.util.Optional;
-import java.util.UUID;
+import java.time.LocalDateTime;
+import java.util.*;
 import java.util.stream.Collectors;
 
 @Repository
@@ -25,48 +33,105 @@ public class NotificationPersistenceAdapter implements INotificationAdapterPort
     return mapper.toDomain(jpaNotificationRepository.save(mapper.toEntity(notification)));
   }
 
+  @Override
+  public List<Notification> saveAllNotifications(List<Notification> notifications) {
+    if (notifications.isEmpty()) return List.of();
+    return jpaNotificationRepository.saveAll(notifications.stream().map(mapper::toEntity).collect(Collectors.toList()))
+        .stream().map(mapper::toDomain).collect(Collectors.toList());
+  }
+
+  @Override
+  public void updateNotificationStatus(UUID id, NotificationStatus status, LocalDateTime readAt) {
+    jpaNotificationRepository.updateStatusById(id, status, readAt);
+  }
+
   @Override
   public Optional<Notification> findNotificationById(UUID id) {
     return jpaNotificationRepository.findById(id).map(mapper::toDomain);
   }
 
   @Override
-  public List<Notification> findAllNotifications() {
-    return jpaNotificationRepository.findAll()
-        .stream().map(mapper::toDomain).collect(Collectors.toList());
+  public PageResult<Notification> findAllNotifications(PageQuery pageQuery) {
+    return PageableMapper.toPageResult(
+        jpaNotificationRepository.findAllBy(PageableMapper.toPageable(pageQuery)), mapper::toDomain);
   }
 
   @Override
-  public List<Notification> findAllNotificationsByOrderId(UUID orderId) {
-    return jpaNotificationRepository.findAllByOrderId(orderId)
-        .stream().map(mapper::toDomain).collect(Collectors.toList());
+  public PageResult<Notification> findAllNotificationsByOrderId(UUID orderId, PageQuery pageQuery) {
+    return PageableMapper.toPageResult(
+        jpaNotificationRepository.findAllByOrderId(orderId, PageableMapper.toPageable(pageQuery)), mapper::toDomain);
   }
 
   @Override
-  public List<Notification> findAllNotificationsByCustomerId(UUID customerId) {
-    return jpaNotificationRepository.findAllByCustomerId(customerId)
-        .stream().map(mapper::toDomain).collect(Collectors.toList());
+  public PageResult<Notification> findAllNotificationsByCustomerId(UUID customerId, PageQuery pageQuery) {
+    return PageableMapper.toPageResult(
+        jpaNotificationRepository.findAllByCustomerId(customerId, PageableMapper.toPageable(pageQuery)), mapper::toDomain);
   }
 
   @Override
-  public List<Notification> findAllNotificationsByType(NotificationType type) {
-    return jpaNotificationRepository.findAllByType(type).stream().map(mapper::toDomain).collect(Collectors.toList());
+  public PageResult<Notification> findAllNotificationsByType(NotificationType type, PageQuery pageQuery) {
+    return PageableMapper.toPageResult(
+        jpaNotificationRepository.findAllByType(type, PageableMapper.toPageable(pageQuery)), mapper::toDomain);
   }
 
   @Override
-  public List<Notification> findAllNotificationsByStatus(NotificationStatus status) {
-    return jpaNotificationRepository.findAllByStatus(status)
-        .stream().map(mapper::toDomain).collect(Collectors.toList());
+  public PageResult<Notification> findAllNotificationsByStatus(NotificationStatus status, PageQuery pageQuery) {
+    return PageableMapper.toPageResult(
+        jpaNotificationRepository.findAllByStatus(status, PageableMapper.toPageable(pageQuery)), mapper::toDomain);
   }
 
   @Override
-  public List<Notification> findAllNotificationsByTypeAndStatus(NotificationType type, NotificationStatus status) {
-    return jpaNotificationRepository.findAllByTypeAndStatus(type, status)
-        .stream().map(mapper::toDomain).collect(Collectors.toList());
+  public PageResult<Notification> findAllNotificationsByTypeAndStatus(NotificationType type, NotificationStatus status, PageQuery pageQuery) {
+    return PageableMapper.toPageResult(
+        jpaNotificationRepository.findAllByTypeAndStatus(type, status, PageableMapper.toPageable(pageQuery)), mapper::toDomain);
+  }
+
+  @Override
+  public List<Notification> findNotificationsAfter(KeysetCursor cursor, NotificationStatus status, int limit) {
+    Pageable pageable = PageRequest.of(0, limit);
+    List<NotificationEntity> found = cursor == null
+        ? jpaNotificationRepository.findFirstKeysetPage(status, pageable)
+        : jpaNotificationRepository.findKeysetPageAfter(status, cursor.timestamp(), cursor.id(), pageable);
+    return found.stream().map(mapper::toDomain).collect(Collectors.toList());
   }
 
   @Override
   public boolean existsNotificationByOrderIdAndType(UUID orderId, NotificationType type) {
     return jpaNotificationRepository.existsByOrderIdAndType(orderId, type);
   }
+
+  @Override
+  public Set<UUID> findOrderIdsWithNotificationType(Collection<UUID> orderIds, NotificationType type) {
+    if (orderIds.isEmpty()) return Set.of();
+    return new HashSet<>(jpaNotificationRepository.findOrderIdsByOrderIdInAndType(orderIds, type));
+  }
+
+  @Override
+  public List<NotificationDelivery> claimPendingDeliveries(LocalDateTime now, LocalDateTime leaseUntil, int limit) {
+    List<NotificationDelivery> claimed = jpaNotificationRepository.findPendingDeliveriesForUpdate(now, limit)
+        .stream()
+        .map(view -> new NotificationDelivery(
+            view.getNotificationId(),
+            view.getOrderId(),
+            view.getEmail(),
+            view.getMessage(),
+            view.getAttempts()))
+        .collect(Collectors.toList());
+    if (!claimed.isEmpty()) {
+      jpaNotificationRepository.updateNextAttemptAtByIds(
+          claimed.stream().map(NotificationDelivery::notificationId).collect(Collectors.toList()), leaseUntil);
+    }
+    return claimed;
+  }
+
+  @Override
+  public void markDeliveriesSent(Collection<UUID> ids, LocalDateTime sentAt) {
+    if (ids.isEmpty()) return;
+    jpaNotificationRepository.markSentByIds(ids, NotificationDeliveryStatus.SENT, sentAt);
+  }
+
+  @Override
+  public void updateDelivery(UUID id, NotificationDeliveryStatus status, int attempts, LocalDateTime nextAttemptAt) {
+    jpaNotificationRepository.updateDeliveryById(id, status, attempts, nextAttemptAt);
+  }
 }
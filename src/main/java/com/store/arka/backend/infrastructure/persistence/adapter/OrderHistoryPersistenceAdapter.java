@@ -0,0 +1,63 @@
+package com.store.arka.backend.infrastructure.persistence.adapter;
+
+import com.store.arka.backend.application.model.KeysetCursor;
+import com.store.arka.backend.application.model.OrderHistoryEntry;
+import com.store.arka.backend.application.port.out.IOrderHistoryAdapterPort;
+import com.store.arka.backend.infrastructure.persistence.repository.IJpaCustomerOrderHistoryRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+@RequiredArgsConstructor
+public class OrderHistoryPersistenceAdapter implements IOrderHistoryAdapterPort {
+  // la fila se recalcula desde orders, así que la misma sentencia sirve para altas, ediciones y transiciones
+  private static final String UPSERT_SQL = """
+      INSERT INTO customer_order_history
+          (order_id, customer_id, customer_user_id, status, total, item_count, created_at, updated_at)
+      SELECT o.id, o.customer_id, c.user_id, o.status, o.total,
+             (SELECT COUNT(*) FROM order_items i WHERE i.order_id = o.id), o.created_at, o.updated_at
+      FROM orders o
+      JOIN customers c ON c.id = o.customer_id
+      WHERE o.id = ANY (?::uuid[])
+      ORDER BY o.id
+      ON CONFLICT (order_id) DO UPDATE
+      SET status = EXCLUDED.status,
+          total = EXCLUDED.total,
+          item_count = EXCLUDED.item_count,
+          updated_at = EXCLUDED.updated_at
+      """;
+  private final IJpaCustomerOrderHistoryRepository jpaCustomerOrderHistoryRepository;
+  private final JdbcTemplate jdbcTemplate;
+  @PersistenceContext
+  private EntityManager entityManager;
+
+  @Override
+  public void refreshOrderHistory(Collection<UUID> orderIds) {
+    if (orderIds.isEmpty()) return;
+    // los cambios de la orden deben estar en la base antes de leerlos por JDBC
+    entityManager.flush();
+    jdbcTemplate.update(connection -> {
+      PreparedStatement ps = connection.prepareStatement(UPSERT_SQL);
+      ps.setArray(1, connection.createArrayOf("uuid", orderIds.toArray()));
+      return ps;
+    });
+  }
+
+  @Override
+  public List<OrderHistoryEntry> findOrderHistoryAfter(UUID customerId, KeysetCursor cursor, int limit) {
+    Pageable pageable = PageRequest.of(0, limit);
+    return cursor == null
+        ? jpaCustomerOrderHistoryRepository.findFirstKeysetPage(customerId, pageable)
+        : jpaCustomerOrderHistoryRepository.findKeysetPageAfter(customerId, cursor.timestamp(), cursor.id(), pageable);
+  }
+}
@@ -1,5 +1,7 @@
 package com.store.arka.backend.infrastructure.persistence.adapter;
 
+import com.store.arka.backend.application.model.PageQuery;
+import com.store.arka.backend.application.model.PageResult;
 import com.store.arka.backend.application.port.out.IOrderItemAdapterPort;
 import com.store.arka.backend.domain.exception.ModelNotFoundException;
 import com.store.arka.backend.domain.model.OrderItem;
@@ -7,6 +9,7 @@ import com.store.arka.backend.infrastructure.persistence.entity.OrderEntity;
 import com.store.arka.backend.infrastructure.persistence.entity.OrderItemEntity;
 import com.store.arka.backend.infrastructure.persistence.entity.ProductEntity;
 import com.store.arka.backend.infrastructure.persistence.mapper.OrderItemMapper;
+import com.store.arka.backend.infrastructure.persistence.mapper.PageableMapper;
 import com.store.arka.backend.infrastructure.persistence.repository.IJpaOrderItemRepository;
 import com.store.arka.backend.infrastructure.persistence.repository.IJpaOrderRepository;
 import com.store.arka.backend.infrastructure.persistence.updater.OrderItemUpdater;
@@ -15,10 +18,8 @@ import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
-import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @Repository
 @RequiredArgsConstructor
@@ -38,8 +39,7 @@ public class OrderItemPersistenceAdapter implements IOrderItemAdapterPort {
     orderItemEntity.setProduct(
         entityManager.getReference(ProductEntity.class, orderItemEntity.getProduct().getId()));
     OrderItemEntity saved = jpaOrderItemRepository.save(orderItemEntity);
-    entityManager.flush();
-    entityManager.refresh(saved);
+    orderEntity.getItems().add(saved);
     return mapper.toDomain(saved);
   }
 
@@ -49,8 +49,6 @@ public class OrderItemPersistenceAdapter implements IOrderItemAdapterPort {
         .orElseThrow(() -> new ModelNotFoundException("OrderItem with id " + orderItem.getId() + " not found"));
     OrderItemEntity updated = updater.merge(orderItemEntity, orderItem);
     OrderItemEntity saved = jpaOrderItemRepository.save(updated);
-    entityManager.flush();
-    entityManager.refresh(saved);
     return mapper.toDomain(saved);
   }
 
@@ -60,12 +58,14 @@ public class OrderItemPersistenceAdapter implements IOrderItemAdapterPort {
   }
 
   @Override
-  public List<OrderItem> findAllOrderItems() {
-    return jpaOrderItemRepository.findAll().stream().map(mapper::toDomain).collect(Collectors.toList());
+  public PageResult<OrderItem> findAllOrderItems(PageQuery pageQuery) {
+    return PageableMapper.toPageResult(
+        jpaOrderItemRepository.findAllBy(PageableMapper.toPageable(pageQuery)), mapper::toDomain);
   }
 
   @Override
-  public List<OrderItem> findAllOrderItemsByProductId(UUID productId) {
-    return jpaOrderItemRepository.findAllByProductId(productId).stream().map(mapper::toDomain).collect(Collectors.toList());
+  public PageResult<OrderItem> findAllOrderItemsByProductId(UUID productId, PageQuery pageQuery) {
+    return PageableMapper.toPageResult(
+        jpaOrderItemRepository.findAllByProductId(productId, PageableMapper.toPageable(pageQuery)), mapper::toDomain);
   }
 }
@@ -1,5 +1,9 @@
 package com.store.arka.backend.infrastructure.persistence.adapter;
 
+import com.store.arka.backend.application.model.KeysetCursor;
+import com.store.arka.backend.application.model.OrderSummary;
+import com.store.arka.backend.application.model.PageQuery;
+import com.store.arka.backend.application.model.PageResult;
 import com.store.arka.backend.application.port.out.IOrderAdapterPort;
 import com.store.arka.backend.domain.enums.OrderStatus;
 import com.store.arka.backend.domain.exception.ModelNotFoundException;
@@ -8,16 +12,19 @@ import com.store.arka.backend.infrastructure.persistence.entity.CustomerEntity;
 import com.store.arka.backend.infrastructure.persistence.entity.OrderEntity;
 import com.store.arka.backend.infrastructure.persistence.entity.ProductEntity;
 import com.store.arka.backend.infrastructure.persistence.mapper.OrderMapper;
+import com.store.arka.backend.infrastructure.persistence.mapper.PageableMapper;
 import com.store.arka.backend.infrastructure.persistence.repository.IJpaOrderRepository;
 import com.store.arka.backend.infrastructure.persistence.updater.OrderUpdater;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Repository;
 
-import java.util.List;
-import java.util.Optional;
-import java.util.UUID;
+import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Repository
@@ -45,8 +52,6 @@ public class OrderPersistenceAdapter implements IOrderAdapterPort {
       });
     }
     OrderEntity saved = jpaOrderRepository.save(orderEntity);
-    entityManager.flush();
-    entityManager.refresh(saved);
     return mapper.toDomain(saved);
   }
 
@@ -56,36 +61,66 @@ public class OrderPersistenceAdapter implements IOrderAdapterPort {
         .orElseThrow(() -> new ModelNotFoundException("Order with id " + order.getId() + " not found"));
     OrderEntity updated = updater.merge(entity, order);
     OrderEntity saved = jpaOrderRepository.save(updated);
-    entityManager.flush();
-    entityManager.refresh(saved);
     return mapper.toDomain(saved);
   }
 
   @Override
   public Optional<Order> findOrderById(UUID id) {
-    return jpaOrderRepository.findById(id).map(mapper::toDomain);
+    return jpaOrderRepository.findDetailedById(id).map(mapper::toDomain);
   }
 
   @Override
-  public List<Order> findAllOrders() {
-    return jpaOrderRepository.findAll().stream().map(mapper::toDomain).collect(Collectors.toList());
+  public PageResult<Order> findAllOrders(PageQuery pageQuery) {
+    return loadPage(jpaOrderRepository.findIdsBy(PageableMapper.toPageable(pageQuery)));
   }
 
   @Override
-  public List<Order> findAllOrdersByStatus(OrderStatus status) {
-    return jpaOrderRepository.findAllByStatus(status).stream().map(mapper::toDomain).collect(Collectors.toList());
+  public List<Order> findAllOrdersByIds(Collection<UUID> ids) {
+    if (ids.isEmpty()) return List.of();
+    return jpaOrderRepository.findAllByIdIn(ids).stream().map(mapper::toDomain).collect(Collectors.toList());
   }
 
   @Override
-  public List<Order> findAllOrdersByCustomerId(UUID customerId) {
-    return jpaOrderRepository.findAllByCustomerId(customerId)
-        .stream().map(mapper::toDomain).collect(Collectors.toList());
+  public PageResult<Order> findAllOrdersByStatus(OrderStatus status, PageQuery pageQuery) {
+    return loadPage(jpaOrderRepository.findIdsByStatus(status, PageableMapper.toPageable(pageQuery)));
   }
 
   @Override
-  public List<Order> findAllOrdersByItemsProductId(UUID productId) {
-    return jpaOrderRepository.findAllByItemsProductId(productId)
-        .stream().map(mapper::toDomain).collect(Collectors.toList());
+  public PageResult<Order> findAllOrdersByCustomerId(UUID customerId, PageQuery pageQuery) {
+    return loadPage(jpaOrderRepository.findIdsByCustomerId(customerId, PageableMapper.toPageable(pageQuery)));
+  }
+
+  @Override
+  public PageResult<Order> findAllOrdersByItemsProductId(UUID productId, PageQuery pageQuery) {
+    return loadPage(jpaOrderRepository.findIdsByItemsProductId(productId, PageableMapper.toPageable(pageQuery)));
+  }
+
+  @Override
+  public List<Order> findOrdersAfter(KeysetCursor cursor, OrderStatus status, int limit) {
+    Pageable pageable = PageRequest.of(0, limit);
+    List<UUID> ids = cursor == null
+        ? jpaOrderRepository.findFirstKeysetIds(status, pageable)
+        : jpaOrderRepository.findKeysetIdsAfter(status, cursor.timestamp(), cursor.id(), pageable);
+    return loadInOrder(ids);
+  }
+
+  @Override
+  public PageResult<OrderSummary> findOrderSummaries(OrderStatus status, PageQuery pageQuery) {
+    return PageableMapper.toPageResult(
+        jpaOrderRepository.findOrderSummaries(status, PageableMapper.toUnsortedPageable(pageQuery)), summary -> summary);
+  }
+
+  // el grafo de la orden trae colecciones: se pagina sobre los ids y luego se cargan solo esas órdenes
+  private PageResult<Order> loadPage(Slice<UUID> ids) {
+    return PageableMapper.toPageResult(ids, loadInOrder(ids.getContent()));
+  }
+
+  private List<Order> loadInOrder(List<UUID> ids) {
+    if (ids.isEmpty()) return List.of();
+    Map<UUID, Order> byId = jpaOrderRepository.findAllByIdIn(ids).stream()
+        .map(mapper::toDomain)
+        .collect(Collectors.toMap(Order::getId, Function.identity()));
+    return ids.stream().map(byId::get).filter(Objects::nonNull).collect(Collectors.toList());
   }
 
   @Override
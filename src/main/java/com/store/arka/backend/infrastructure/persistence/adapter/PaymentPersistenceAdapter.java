@@ -1,23 +1,22 @@
 package com.store.arka.backend.infrastructure.persistence.adapter;
 
+import com.store.arka.backend.application.model.PageQuery;
+import com.store.arka.backend.application.model.PageResult;
 import com.store.arka.backend.application.port.out.IPaymentAdapterPort;
 import com.store.arka.backend.domain.enums.PaymentMethod;
 import com.store.arka.backend.domain.enums.PaymentStatus;
 import com.store.arka.backend.domain.exception.ModelNotFoundException;
 import com.store.arka.backend.domain.model.Payment;
 import com.store.arka.backend.infrastructure.persistence.entity.PaymentEntity;
+import com.store.arka.backend.infrastructure.persistence.mapper.PageableMapper;
 import com.store.arka.backend.infrastructure.persistence.mapper.PaymentMapper;
 import com.store.arka.backend.infrastructure.persistence.repository.IJpaPaymentRepository;
 import com.store.arka.backend.infrastructure.persistence.updater.PaymentUpdater;
-import jakarta.persistence.EntityManager;
-import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
-import java.util.List;
-import java.util.Optional;
-import java.util.UUID;
-import java.util.stream.Collectors;
+import java.time.LocalDateTime;
+import java.util.*;
 
 @Repository
 @RequiredArgsConstructor
@@ -25,15 +24,11 @@ public class PaymentPersistenceAdapter implements IPaymentAdapterPort {
   private final IJpaPaymentRepository jpaPaymentRepository;
   private final PaymentMapper mapper;
   private final PaymentUpdater updater;
-  @PersistenceContext
-  private EntityManager entityManager;
 
   @Override
   public Payment saveCreatePayment(Payment payment) {
     PaymentEntity entity = mapper.toEntity(payment);
     PaymentEntity saved = jpaPaymentRepository.save(entity);
-    entityManager.flush();
-    entityManager.refresh(saved);
     return mapper.toDomain(saved);
   }
 
@@ -43,8 +38,6 @@ public class PaymentPersistenceAdapter implements IPaymentAdapterPort {
         .orElseThrow(() -> new ModelNotFoundException("Payment with id " + payment.getId() + " not found"));
     PaymentEntity updated = updater.merge(found, payment);
     PaymentEntity saved = jpaPaymentRepository.save(updated);
-    entityManager.flush();
-    entityManager.refresh(saved);
     return mapper.toDomain(saved);
   }
 
@@ -59,28 +52,45 @@ public class PaymentPersistenceAdapter implements IPaymentAdapterPort {
   }
 
   @Override
-  public List<Payment> findAllPayments() {
-    return jpaPaymentRepository.findAll().stream().map(mapper::toDomain).collect(Collectors.toList());
+  public PageResult<Payment> findAllPayments(PageQuery pageQuery) {
+    return PageableMapper.toPageResult(
+        jpaPaymentRepository.findAllBy(PageableMapper.toPageable(pageQuery)), mapper::toDomain);
   }
 
   @Override
-  public List<Payment> findAllPaymentsByMethod(PaymentMethod method) {
-    return jpaPaymentRepository.findAllByMethod(method).stream().map(mapper::toDomain).collect(Collectors.toList());
+  public PageResult<Payment> findAllPaymentsByMethod(PaymentMethod method, PageQuery pageQuery) {
+    return PageableMapper.toPageResult(
+        jpaPaymentRepository.findAllByMethod(method, PageableMapper.toPageable(pageQuery)), mapper::toDomain);
   }
 
   @Override
-  public List<Payment> findAllPaymentsByStatus(PaymentStatus status) {
-    return jpaPaymentRepository.findAllByStatus(status).stream().map(mapper::toDomain).collect(Collectors.toList());
+  public PageResult<Payment> findAllPaymentsByStatus(PaymentStatus status, PageQuery pageQuery) {
+    return PageableMapper.toPageResult(
+        jpaPaymentRepository.findAllByStatus(status, PageableMapper.toPageable(pageQuery)), mapper::toDomain);
   }
 
   @Override
-  public List<Payment> findAllPaymentsByMethodAndStatus(PaymentMethod method, PaymentStatus status) {
-    return jpaPaymentRepository.findAllByMethodAndStatus(method, status)
-        .stream().map(mapper::toDomain).collect(Collectors.toList());
+  public PageResult<Payment> findAllPaymentsByMethodAndStatus(PaymentMethod method, PaymentStatus status, PageQuery pageQuery) {
+    return PageableMapper.toPageResult(
+        jpaPaymentRepository.findAllByMethodAndStatus(method, status, PageableMapper.toPageable(pageQuery)), mapper::toDomain);
   }
 
   @Override
   public boolean existsPaymentByOrderId(UUID orderId) {
     return jpaPaymentRepository.existsByOrderId(orderId);
   }
+
+  @Override
+  public Map<UUID, UUID> claimExpiredPendingPayments(LocalDateTime cutoff, int limit) {
+    Map<UUID, UUID> claimed = new LinkedHashMap<>();
+    jpaPaymentRepository.findExpiredPendingForUpdate(cutoff, limit)
+        .forEach(view -> claimed.put(view.getPaymentId(), view.getOrderId()));
+    return claimed;
+  }
+
+  @Override
+  public int markPaymentsExpired(Collection<UUID> ids) {
+    if (ids.isEmpty()) return 0;
+    return jpaPaymentRepository.expireByIds(ids, PaymentStatus.PENDING, PaymentStatus.EXPIRED, LocalDateTime.now());
+  }
 }
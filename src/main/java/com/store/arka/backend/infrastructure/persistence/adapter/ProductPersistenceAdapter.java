@@ -1,29 +1,68 @@
 package com.store.arka.backend.infrastructure.persistence.adapter;
 
+import com.store.arka.backend.application.model.KeysetCursor;
+import com.store.arka.backend.application.model.PageQuery;
+import com.store.arka.backend.application.model.PageResult;
+import com.store.arka.backend.application.model.ResourceVersion;
+import com.store.arka.backend.application.port.out.ICatalogVersionAdapterPort;
 import com.store.arka.backend.application.port.out.IProductAdapterPort;
 import com.store.arka.backend.domain.enums.ProductStatus;
 import com.store.arka.backend.domain.exception.ModelNotFoundException;
 import com.store.arka.backend.domain.model.Product;
+import com.store.arka.backend.infrastructure.persistence.cache.ProductReadCache;
 import com.store.arka.backend.infrastructure.persistence.entity.ProductEntity;
+import com.store.arka.backend.infrastructure.persistence.mapper.PageableMapper;
 import com.store.arka.backend.infrastructure.persistence.mapper.ProductMapper;
 import com.store.arka.backend.infrastructure.persistence.repository.IJpaProductRepository;
 import com.store.arka.backend.infrastructure.persistence.updater.ProductUpdater;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
 import org.springframework.stereotype.Repository;
 
-import java.util.List;
-import java.util.Optional;
-import java.util.UUID;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @Repository
 @RequiredArgsConstructor
 public class ProductPersistenceAdapter implements IProductAdapterPort {
+  private static final String DECREASE_STOCK_SQL = """
+      UPDATE products
+      SET stock = stock - ?,
+          status = CASE WHEN stock - ? = 0 THEN 'EXHAUSTED' ELSE status END,
+          version = version + 1,
+          updated_at = ?
+      WHERE id = ? AND stock >= ? AND status <> 'ELIMINATED'
+      """;
+  private static final String INCREASE_STOCK_SQL = """
+      UPDATE products
+      SET stock = stock + ?,
+          status = CASE WHEN status = 'EXHAUSTED' THEN 'ACTIVE' ELSE status END,
+          version = version + 1,
+          updated_at = ?
+      WHERE id = ? AND status <> 'ELIMINATED'
+      """;
+  private static final String[] RETURNED_COLUMNS = {"id", "stock"};
+  // PostgreSQL compara uuid byte a byte (sin signo); UUID.compareTo usa long con signo
+  private static final Comparator<UUID> DATABASE_ORDER = Comparator
+      .comparing(UUID::getMostSignificantBits, Long::compareUnsigned)
+      .thenComparing(UUID::getLeastSignificantBits, Long::compareUnsigned);
   private final IJpaProductRepository jpaProductRepository;
   private final ProductMapper mapper;
   private final ProductUpdater updater;
+  private final JdbcTemplate jdbcTemplate;
+  private final ProductReadCache productReadCache;
+  private final ICatalogVersionAdapterPort catalogVersionAdapterPort;
   @PersistenceContext
   private EntityManager entityManager;
 
@@ -31,42 +70,173 @@ public class ProductPersistenceAdapter implements IProductAdapterPort {
   public Product saveCreateProduct(Product product) {
     ProductEntity entity = mapper.toEntity(product);
     ProductEntity saved = jpaProductRepository.save(entity);
-    entityManager.flush();
-    entityManager.refresh(saved);
+    catalogVersionAdapterPort.bumpCatalogVersion();
     return mapper.toDomain(saved);
   }
 
   @Override
   public Product saveUpdateProduct(Product product) {
+    productReadCache.evict(product.getId());
+    catalogVersionAdapterPort.bumpCatalogVersion();
     return jpaProductRepository.findById(product.getId())
-        .map(exists -> {
-          ProductEntity saved = jpaProductRepository.save(updater.merge(exists, product));
-          entityManager.flush();
-          entityManager.refresh(saved);
-          return saved;
-        })
+        .map(exists -> jpaProductRepository.save(updater.merge(exists, product)))
         .map(mapper::toDomain)
         .orElseThrow(() -> new ModelNotFoundException("Product with id " + product.getId() + " not found"));
   }
 
+  @Override
+  public Map<UUID, Integer> decreaseStockInBatch(Map<UUID, Integer> quantities) {
+    Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+    return updateStockInBatch(DECREASE_STOCK_SQL, quantities, (ps, row) -> {
+      ps.setInt(1, row.getValue());
+      ps.setInt(2, row.getValue());
+      ps.setTimestamp(3, now);
+      ps.setObject(4, row.getKey());
+      ps.setInt(5, row.getValue());
+    });
+  }
+
+  @Override
+  public Map<UUID, Integer> increaseStockInBatch(Map<UUID, Integer> quantities) {
+    Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+    return updateStockInBatch(INCREASE_STOCK_SQL, quantities, (ps, row) -> {
+      ps.setInt(1, row.getValue());
+      ps.setTimestamp(2, now);
+      ps.setObject(3, row.getKey());
+    });
+  }
+
+  // devuelve el stock resultante de cada fila actualizada (RETURNING id, stock); las omitidas no aparecen
+  private Map<UUID, Integer> updateStockInBatch(
+      String sql, Map<UUID, Integer> quantities, ParameterizedPreparedStatementSetter<Map.Entry<UUID, Integer>> setter) {
+    // orden estable de ids para que transacciones concurrentes bloqueen las filas en el mismo orden
+    Map<UUID, Integer> sorted = new TreeMap<>(DATABASE_ORDER);
+    sorted.putAll(quantities);
+    List<Map.Entry<UUID, Integer>> rows = new ArrayList<>(sorted.entrySet());
+    entityManager.flush();
+    Map<UUID, Integer> stockLevels = jdbcTemplate.execute((ConnectionCallback<Map<UUID, Integer>>) connection -> {
+      try (PreparedStatement ps = connection.prepareStatement(sql, RETURNED_COLUMNS)) {
+        for (Map.Entry<UUID, Integer> row : rows) {
+          setter.setValues(ps, row);
+          ps.addBatch();
+        }
+        ps.executeBatch();
+        Map<UUID, Integer> levels = new HashMap<>();
+        try (ResultSet returned = ps.getGeneratedKeys()) {
+          while (returned.next()) levels.put(returned.getObject("id", UUID.class), returned.getInt("stock"));
+        }
+        return levels;
+      }
+    });
+    // el stock no cambia la versión del catálogo: los listados lo refrescan por ventana de tiempo
+    productReadCache.evictAll(quantities.keySet());
+    // la fila cambió fuera de Hibernate: se descarta cualquier copia gestionada
+    rows.forEach(row -> entityManager.detach(entityManager.getReference(ProductEntity.class, row.getKey())));
+    return stockLevels;
+  }
+
   @Override
   public Optional<Product> findProductById(UUID id) {
-    return jpaProductRepository.findById(id).map(mapper::toDomain);
+    Optional<Product> cached = productReadCache.getById(id);
+    if (cached.isPresent()) return cached;
+    return findCurrentProductById(id);
+  }
+
+  @Override
+  public Optional<Product> findCurrentProductById(UUID id) {
+    return jpaProductRepository.findById(id).map(mapper::toDomain).map(productReadCache::put);
+  }
+
+  @Override
+  public Map<UUID, Product> findProductsByIds(Set<UUID> ids) {
+    Map<UUID, Product> found = new HashMap<>();
+    Set<UUID> missing = new HashSet<>();
+    ids.forEach(id -> productReadCache.getById(id)
+        .ifPresentOrElse(product -> found.put(id, product), () -> missing.add(id)));
+    found.putAll(findCurrentProductsByIds(missing));
+    return found;
+  }
+
+  // una sola consulta IN con las categorías incluidas, sin importar cuántos ids lleguen
+  @Override
+  public Map<UUID, Product> findCurrentProductsByIds(Set<UUID> ids) {
+    if (ids.isEmpty()) return new HashMap<>();
+    return jpaProductRepository.findAllByIdIn(ids).stream()
+        .map(mapper::toDomain)
+        .map(productReadCache::put)
+        .collect(Collectors.toMap(Product::getId, product -> product));
+  }
+
+  @Override
+  public Map<UUID, Product> findCurrentProductsByIdsForUpdate(Set<UUID> ids) {
+    if (ids.isEmpty()) return new HashMap<>();
+    return jpaProductRepository.findAllByIdInForUpdate(ids).stream()
+        .map(mapper::toDomain)
+        .collect(Collectors.toMap(Product::getId, product -> product));
   }
 
   @Override
   public Optional<Product> findProductBySku(String sku) {
-    return jpaProductRepository.findBySku(sku).map(mapper::toDomain);
+    Optional<Product> cached = productReadCache.getIdBySku(sku).flatMap(productReadCache::getById);
+    if (cached.isPresent()) return cached;
+    return jpaProductRepository.findBySku(sku).map(mapper::toDomain).map(productReadCache::put);
+  }
+
+  @Override
+  public Optional<ResourceVersion> findProductVersionById(UUID id) {
+    return jpaProductRepository.findVersionById(id).map(this::toResourceVersion);
+  }
+
+  @Override
+  public Optional<ResourceVersion> findProductVersionBySku(String sku) {
+    return jpaProductRepository.findVersionBySku(sku).map(this::toResourceVersion);
+  }
+
+  // el cuerpo embebe el nombre de sus categorías, así que su última edición también forma parte del validador
+  private ResourceVersion toResourceVersion(IJpaProductRepository.VersionView view) {
+    LocalDateTime categoriesUpdatedAt = view.getCategoriesUpdatedAt();
+    if (categoriesUpdatedAt == null) return new ResourceVersion("p" + view.getVersion(), view.getUpdatedAt());
+    LocalDateTime lastModified = categoriesUpdatedAt.isAfter(view.getUpdatedAt())
+        ? categoriesUpdatedAt : view.getUpdatedAt();
+    return new ResourceVersion(
+        "p" + view.getVersion() + "-" + Timestamp.valueOf(categoriesUpdatedAt).getTime(), lastModified);
+  }
+
+  @Override
+  public PageResult<Product> findAllProducts(PageQuery pageQuery) {
+    return PageableMapper.toPageResult(
+        jpaProductRepository.findAllBy(PageableMapper.toPageable(pageQuery)), mapper::toDomain);
+  }
+
+  @Override
+  public PageResult<Product> findAllProductsByStatus(ProductStatus status, PageQuery pageQuery) {
+    return PageableMapper.toPageResult(
+        jpaProductRepository.findAllByStatus(status, PageableMapper.toPageable(pageQuery)), mapper::toDomain);
   }
 
   @Override
-  public List<Product> findAllProducts() {
-    return jpaProductRepository.findAll().stream().map(mapper::toDomain).collect(Collectors.toList());
+  public List<Product> findProductsAfter(KeysetCursor cursor, ProductStatus status, int limit) {
+    Pageable pageable = PageRequest.of(0, limit);
+    List<ProductEntity> entities = cursor == null
+        ? jpaProductRepository.findFirstKeysetPage(status, pageable)
+        : jpaProductRepository.findKeysetPageAfter(status, cursor.timestamp(), cursor.id(), pageable);
+    return entities.stream().map(mapper::toDomain).collect(Collectors.toList());
   }
 
   @Override
-  public List<Product> findAllProductsByStatus(ProductStatus status) {
-    return jpaProductRepository.findAllByStatus(status).stream().map(mapper::toDomain).collect(Collectors.toList());
+  public void streamAllProducts(ProductStatus status, int chunkSize, Consumer<Product> consumer) {
+    KeysetCursor cursor = null;
+    List<Product> chunk;
+    do {
+      chunk = findProductsAfter(cursor, status, chunkSize);
+      chunk.forEach(consumer);
+      if (!chunk.isEmpty()) {
+        Product last = chunk.get(chunk.size() - 1);
+        cursor = new KeysetCursor(last.getCreatedAt(), last.getId());
+      }
+      // libera las entidades del chunk ya escrito para mantener acotado el contexto de persistencia
+      entityManager.clear();
+    } while (chunk.size() == chunkSize);
   }
 
   @Override
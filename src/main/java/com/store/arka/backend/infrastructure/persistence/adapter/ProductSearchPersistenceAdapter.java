@@ -0,0 +1,165 @@
+package com.store.arka.backend.infrastructure.persistence.adapter;
+
+import com.store.arka.backend.application.model.ProductSearchQuery;
+import com.store.arka.backend.application.model.ProductSearchResult;
+import com.store.arka.backend.application.model.SearchFacet;
+import com.store.arka.backend.application.port.out.IProductSearchAdapterPort;
+import com.store.arka.backend.domain.model.Product;
+import com.store.arka.backend.infrastructure.persistence.entity.ProductEntity;
+import com.store.arka.backend.infrastructure.persistence.mapper.ProductMapper;
+import com.store.arka.backend.infrastructure.persistence.repository.IJpaProductRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Repository
+@RequiredArgsConstructor
+public class ProductSearchPersistenceAdapter implements IProductSearchAdapterPort {
+  // las categorías eliminadas dejan de aportar su nombre al texto buscable
+  private static final String REFRESH_ENTRIES_SQL = """
+      INSERT INTO product_search_index (product_id, search_vector, updated_at)
+      SELECT p.id,
+             setweight(to_tsvector('simple', p.sku), 'A') ||
+             setweight(to_tsvector('spanish', p.name), 'A') ||
+             setweight(to_tsvector('spanish', coalesce(string_agg(c.name, ' '), '')), 'B') ||
+             setweight(to_tsvector('spanish', coalesce(p.description, '')), 'C'),
+             now()
+      FROM products p
+      LEFT JOIN product_category pc ON pc.product_id = p.id
+      LEFT JOIN categories c ON c.id = pc.category_id AND c.status <> 'ELIMINATED'
+      WHERE %s
+      GROUP BY p.id
+      ON CONFLICT (product_id) DO UPDATE
+      SET search_vector = EXCLUDED.search_vector,
+          updated_at = EXCLUDED.updated_at
+      """;
+  private static final String REFRESH_ENTRY_SQL = REFRESH_ENTRIES_SQL.formatted("p.id = ?");
+  // el índice solo guarda productos vigentes: los eliminados de la categoría no se vuelven a insertar
+  private static final String REFRESH_CATEGORY_ENTRIES_SQL = REFRESH_ENTRIES_SQL.formatted(
+      "p.status <> 'ELIMINATED' AND p.id IN (SELECT product_id FROM product_category WHERE category_id = ?)");
+  private static final String DELETE_ENTRY_SQL = "DELETE FROM product_search_index WHERE product_id = ?";
+  // el texto se interpreta con el diccionario español y también literal, para que los sku coincidan tal cual
+  private static final String TS_QUERY = "(websearch_to_tsquery('spanish', ?) || websearch_to_tsquery('simple', ?))";
+  // una sola consulta: las coincidencias se materializan una vez y de ellas salen las dos facetas y la página
+  private static final String SEARCH_SQL = """
+      WITH matched AS MATERIALIZED (%s),
+      page AS (SELECT m.id, m.name, m.price, m.rank FROM matched m ORDER BY %s LIMIT ? OFFSET ?)
+      SELECT 0 AS kind, m.status AS key, m.status AS label, count(*) AS hits,
+             row_number() OVER (ORDER BY count(*) DESC, m.status ASC) AS position
+      FROM matched m GROUP BY m.status
+      UNION ALL
+      SELECT 1, c.id::text, c.name, count(*), row_number() OVER (ORDER BY count(*) DESC, c.name ASC)
+      FROM matched m
+      JOIN product_category pc ON pc.product_id = m.id
+      JOIN categories c ON c.id = pc.category_id
+      GROUP BY c.id, c.name
+      UNION ALL
+      SELECT 2, m.id::text, NULL, 0, row_number() OVER (ORDER BY %s)
+      FROM page m
+      ORDER BY kind, position
+      """;
+  private static final int STATUS_FACET = 0;
+  private static final int CATEGORY_FACET = 1;
+  private final IJpaProductRepository jpaProductRepository;
+  private final ProductMapper mapper;
+  private final JdbcTemplate jdbcTemplate;
+  @PersistenceContext
+  private EntityManager entityManager;
+
+  @Override
+  public void refreshEntry(UUID productId) {
+    entityManager.flush();
+    jdbcTemplate.update(REFRESH_ENTRY_SQL, productId);
+  }
+
+  @Override
+  public void refreshEntriesByCategory(UUID categoryId) {
+    entityManager.flush();
+    jdbcTemplate.update(REFRESH_CATEGORY_ENTRIES_SQL, categoryId);
+  }
+
+  @Override
+  public void deleteEntry(UUID productId) {
+    jdbcTemplate.update(DELETE_ENTRY_SQL, productId);
+  }
+
+  @Override
+  public ProductSearchResult search(ProductSearchQuery query) {
+    List<Object> args = new ArrayList<>();
+    String matched = matchedProductsSql(query, args);
+    args.add(query.size());
+    args.add((long) query.page() * query.size());
+
+    List<SearchFacet> statuses = new ArrayList<>();
+    List<SearchFacet> categories = new ArrayList<>();
+    List<UUID> ids = new ArrayList<>();
+    jdbcTemplate.query(SEARCH_SQL.formatted(matched, orderBy(query), orderBy(query)), rs -> {
+      switch (rs.getInt("kind")) {
+        case STATUS_FACET -> statuses.add(
+            new SearchFacet(rs.getString("key"), rs.getString("label"), rs.getLong("hits")));
+        case CATEGORY_FACET -> categories.add(
+            new SearchFacet(rs.getString("key"), rs.getString("label"), rs.getLong("hits")));
+        default -> ids.add(UUID.fromString(rs.getString("key")));
+      }
+    }, args.toArray());
+    long total = statuses.stream().mapToLong(SearchFacet::count).sum();
+    if (total == 0) return new ProductSearchResult(List.of(), 0, query.page(), query.size(), List.of(), List.of());
+    return new ProductSearchResult(loadInOrder(ids), total, query.page(), query.size(), categories, statuses);
+  }
+
+  private String matchedProductsSql(ProductSearchQuery query, List<Object> args) {
+    StringBuilder sql = new StringBuilder("SELECT p.id, p.name, p.price, p.status, ");
+    // el rango solo se calcula cuando ordena la página; con orden por precio no se evalúa por fila
+    if (query.text() != null && query.sort() == ProductSearchQuery.Sort.RELEVANCE) {
+      sql.append("ts_rank(s.search_vector, ").append(TS_QUERY).append(") AS rank ");
+      args.add(query.text());
+      args.add(query.text());
+    } else {
+      sql.append("0 AS rank ");
+    }
+    sql.append("FROM product_search_index s JOIN products p ON p.id = s.product_id WHERE 1 = 1");
+    if (query.text() != null) {
+      sql.append(" AND s.search_vector @@ ").append(TS_QUERY);
+      args.add(query.text());
+      args.add(query.text());
+    }
+    if (query.categoryId() != null) {
+      sql.append(" AND EXISTS (SELECT 1 FROM product_category pc WHERE pc.product_id = p.id AND pc.category_id = ?)");
+      args.add(query.categoryId());
+    }
+    if (query.status() != null) {
+      sql.append(" AND p.status = ?");
+      args.add(query.status().name());
+    }
+    if (query.minPrice() != null) {
+      sql.append(" AND p.price >= ?");
+      args.add(query.minPrice());
+    }
+    if (query.maxPrice() != null) {
+      sql.append(" AND p.price <= ?");
+      args.add(query.maxPrice());
+    }
+    return sql.toString();
+  }
+
+  private String orderBy(ProductSearchQuery query) {
+    return switch (query.sort()) {
+      case PRICE_ASC -> "m.price ASC, m.id ASC";
+      case PRICE_DESC -> "m.price DESC, m.id ASC";
+      case RELEVANCE -> "m.rank DESC, m.name ASC, m.id ASC";
+    };
+  }
+
+  private List<Product> loadInOrder(List<UUID> ids) {
+    if (ids.isEmpty()) return List.of();
+    Map<UUID, ProductEntity> byId = jpaProductRepository.findAllById(ids).stream()
+        .collect(Collectors.toMap(ProductEntity::getId, Function.identity()));
+    return ids.stream().map(byId::get).filter(Objects::nonNull).map(mapper::toDomain).collect(Collectors.toList());
+  }
+}
@@ -1,11 +1,14 @@
 package com.store.arka.backend.infrastructure.persistence.adapter;
 
+import com.store.arka.backend.application.model.PageQuery;
+import com.store.arka.backend.application.model.PageResult;
 import com.store.arka.backend.application.port.out.IPurchaseItemAdapterPort;
 import com.store.arka.backend.domain.exception.ModelNotFoundException;
 import com.store.arka.backend.domain.model.PurchaseItem;
 import com.store.arka.backend.infrastructure.persistence.entity.PurchaseEntity;
 import com.store.arka.backend.infrastructure.persistence.entity.PurchaseItemEntity;
 import com.store.arka.backend.infrastructure.persistence.entity.ProductEntity;
+import com.store.arka.backend.infrastructure.persistence.mapper.PageableMapper;
 import com.store.arka.backend.infrastructure.persistence.mapper.PurchaseItemMapper;
 import com.store.arka.backend.infrastructure.persistence.repository.IJpaPurchaseItemRepository;
 import com.store.arka.backend.infrastructure.persistence.repository.IJpaPurchaseRepository;
@@ -15,10 +18,8 @@ import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
-import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @Repository
 @RequiredArgsConstructor
@@ -38,8 +39,7 @@ public class PurchaseItemPersistenceAdapter implements IPurchaseItemAdapterPort
     purchaseItemEntity.setProduct(
         entityManager.getReference(ProductEntity.class, purchaseItemEntity.getProduct().getId()));
     PurchaseItemEntity saved = jpaPurchaseItemRepository.save(purchaseItemEntity);
-    entityManager.flush();
-    entityManager.refresh(saved);
+    purchaseEntity.getItems().add(saved);
     return mapper.toDomain(saved);
   }
 
@@ -49,8 +49,6 @@ public class PurchaseItemPersistenceAdapter implements IPurchaseItemAdapterPort
         .orElseThrow(() -> new ModelNotFoundException("PurchaseItem with id " + purchaseItem.getId() + " not found"));
     PurchaseItemEntity updated = updater.merge(purchaseItemEntity, purchaseItem);
     PurchaseItemEntity saved = jpaPurchaseItemRepository.save(updated);
-    entityManager.flush();
-    entityManager.refresh(saved);
     return mapper.toDomain(saved);
   }
 
@@ -60,12 +58,14 @@ public class PurchaseItemPersistenceAdapter implements IPurchaseItemAdapterPort
   }
 
   @Override
-  public List<PurchaseItem> findAllPurchaseItems() {
-    return jpaPurchaseItemRepository.findAll().stream().map(mapper::toDomain).collect(Collectors.toList());
+  public PageResult<PurchaseItem> findAllPurchaseItems(PageQuery pageQuery) {
+    return PageableMapper.toPageResult(
+        jpaPurchaseItemRepository.findAllBy(PageableMapper.toPageable(pageQuery)), mapper::toDomain);
   }
 
   @Override
-  public List<PurchaseItem> findAllPurchaseItemsByProductId(UUID productId) {
-    return jpaPurchaseItemRepository.findAllByProductId(productId).stream().map(mapper::toDomain).collect(Collectors.toList());
+  public PageResult<PurchaseItem> findAllPurchaseItemsByProductId(UUID productId, PageQuery pageQuery) {
+    return PageableMapper.toPageResult(
+        jpaPurchaseItemRepository.findAllByProductId(productId, PageableMapper.toPageable(pageQuery)), mapper::toDomain);
   }
 }
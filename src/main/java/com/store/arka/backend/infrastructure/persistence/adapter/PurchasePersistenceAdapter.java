@@ -1,10 +1,13 @@
 package com.store.arka.backend.infrastructure.persistence.adapter;
 
+import com.store.arka.backend.application.model.PageQuery;
+import com.store.arka.backend.application.model.PageResult;
 import com.store.arka.backend.application.port.out.IPurchaseAdapterPort;
 import com.store.arka.backend.domain.enums.PurchaseStatus;
 import com.store.arka.backend.domain.exception.ModelNotFoundException;
 import com.store.arka.backend.domain.model.Purchase;
 import com.store.arka.backend.infrastructure.persistence.entity.*;
+import com.store.arka.backend.infrastructure.persistence.mapper.PageableMapper;
 import com.store.arka.backend.infrastructure.persistence.mapper.PurchaseMapper;
 import com.store.arka.backend.infrastructure.persistence.repository.IJpaPurchaseRepository;
 import com.store.arka.backend.infrastructure.persistence.updater.PurchaseUpdater;
@@ -13,9 +16,7 @@ import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
-import java.util.List;
-import java.util.Optional;
-import java.util.UUID;
+import java.util.*;
 import java.util.stream.Collectors;
 
 @Repository
@@ -43,8 +44,6 @@ public class PurchasePersistenceAdapter implements IPurchaseAdapterPort {
       });
     }
     PurchaseEntity saved = jpaPurchaseRepository.save(purchaseEntity);
-    entityManager.flush();
-    entityManager.refresh(saved);
     return mapper.toDomain(saved);
   }
 
@@ -54,8 +53,6 @@ public class PurchasePersistenceAdapter implements IPurchaseAdapterPort {
         .orElseThrow(() -> new ModelNotFoundException("Purchase with id " + purchase.getId() + " not found"));
     PurchaseEntity updated = updater.merge(entity, purchase);
     PurchaseEntity saved = jpaPurchaseRepository.save(updated);
-    entityManager.flush();
-    entityManager.refresh(saved);
     return mapper.toDomain(saved);
   }
 
@@ -65,25 +62,27 @@ public class PurchasePersistenceAdapter implements IPurchaseAdapterPort {
   }
 
   @Override
-  public List<Purchase> findAllPurchases() {
-    return jpaPurchaseRepository.findAll().stream().map(mapper::toDomain).collect(Collectors.toList());
+  public PageResult<Purchase> findAllPurchases(PageQuery pageQuery) {
+    return PageableMapper.toPageResult(
+        jpaPurchaseRepository.findAllBy(PageableMapper.toPageable(pageQuery)), mapper::toDomain);
   }
 
   @Override
-  public List<Purchase> findAllPurchasesByStatus(PurchaseStatus status) {
-    return jpaPurchaseRepository.findAllByStatus(status).stream().map(mapper::toDomain).collect(Collectors.toList());
+  public PageResult<Purchase> findAllPurchasesByStatus(PurchaseStatus status, PageQuery pageQuery) {
+    return PageableMapper.toPageResult(
+        jpaPurchaseRepository.findAllByStatus(status, PageableMapper.toPageable(pageQuery)), mapper::toDomain);
   }
 
   @Override
-  public List<Purchase> findAllPurchasesBySupplierId(UUID supplierId) {
-    return jpaPurchaseRepository.findAllBySupplierId(supplierId)
-        .stream().map(mapper::toDomain).collect(Collectors.toList());
+  public PageResult<Purchase> findAllPurchasesBySupplierId(UUID supplierId, PageQuery pageQuery) {
+    return PageableMapper.toPageResult(
+        jpaPurchaseRepository.findAllBySupplierId(supplierId, PageableMapper.toPageable(pageQuery)), mapper::toDomain);
   }
 
   @Override
-  public List<Purchase> findAllPurchasesByItemsProductId(UUID productId) {
-    return jpaPurchaseRepository.findAllByItemsProductId(productId)
-        .stream().map(mapper::toDomain).collect(Collectors.toList());
+  public PageResult<Purchase> findAllPurchasesByItemsProductId(UUID productId, PageQuery pageQuery) {
+    return PageableMapper.toPageResult(
+        jpaPurchaseRepository.findAllByItemsProductId(productId, PageableMapper.toPageable(pageQuery)), mapper::toDomain);
   }
 
   @Override
@@ -92,6 +91,12 @@ public class PurchasePersistenceAdapter implements IPurchaseAdapterPort {
         .stream().map(mapper::toDomain).collect(Collectors.toList());
   }
 
+  @Override
+  public Set<UUID> findProductIdsInPurchasesByStatus(Collection<UUID> productIds, Collection<PurchaseStatus> statuses) {
+    if (productIds.isEmpty()) return Set.of();
+    return new HashSet<>(jpaPurchaseRepository.findProductIdsByItemsProductIdInAndStatusIn(productIds, statuses));
+  }
+
   @Override
   public void deletePurchaseById(UUID id) {
     jpaPurchaseRepository.deleteById(id);
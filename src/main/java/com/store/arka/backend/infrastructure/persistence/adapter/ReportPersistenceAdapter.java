@@ -0,0 +1,191 @@
+package com.store.arka.backend.infrastructure.persistence.adapter;
+
+import com.store.arka.backend.application.model.CategorySalesReport;
+import com.store.arka.backend.application.model.DailySalesReport;
+import com.store.arka.backend.application.model.OrderSaleLine;
+import com.store.arka.backend.application.model.ProductSalesReport;
+import com.store.arka.backend.application.model.RollupDelta;
+import com.store.arka.backend.application.port.out.IReportAdapterPort;
+import com.store.arka.backend.infrastructure.persistence.repository.IJpaDailyCategoryRollupRepository;
+import com.store.arka.backend.infrastructure.persistence.repository.IJpaDailyProductRollupRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.math.BigDecimal;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Repository
+@RequiredArgsConstructor
+public class ReportPersistenceAdapter implements IReportAdapterPort {
+  private static final String UPSERT_PRODUCT_SQL = """
+      INSERT INTO daily_product_rollups
+          (rollup_date, product_id, units_sold, revenue, units_purchased, purchase_cost, updated_at)
+      VALUES (?, ?, ?, ?, ?, ?, ?)
+      ON CONFLICT (rollup_date, product_id) DO UPDATE
+      SET units_sold = daily_product_rollups.units_sold + EXCLUDED.units_sold,
+          revenue = daily_product_rollups.revenue + EXCLUDED.revenue,
+          units_purchased = daily_product_rollups.units_purchased + EXCLUDED.units_purchased,
+          purchase_cost = daily_product_rollups.purchase_cost + EXCLUDED.purchase_cost,
+          updated_at = EXCLUDED.updated_at
+      """;
+  // un producto suma en cada una de sus categorías; el lote entero se agrega por categoría en una sola sentencia
+  private static final String UPSERT_CATEGORY_SQL = """
+      INSERT INTO daily_category_rollups
+          (rollup_date, category_id, units_sold, revenue, units_purchased, purchase_cost, updated_at)
+      SELECT ?, pc.category_id, SUM(d.units_sold), SUM(d.revenue), SUM(d.units_purchased), SUM(d.purchase_cost), ?
+      FROM unnest(?::uuid[], ?::bigint[], ?::numeric[], ?::bigint[], ?::numeric[])
+          AS d(product_id, units_sold, revenue, units_purchased, purchase_cost)
+      JOIN product_category pc ON pc.product_id = d.product_id
+      GROUP BY pc.category_id
+      ORDER BY pc.category_id
+      ON CONFLICT (rollup_date, category_id) DO UPDATE
+      SET units_sold = daily_category_rollups.units_sold + EXCLUDED.units_sold,
+          revenue = daily_category_rollups.revenue + EXCLUDED.revenue,
+          units_purchased = daily_category_rollups.units_purchased + EXCLUDED.units_purchased,
+          purchase_cost = daily_category_rollups.purchase_cost + EXCLUDED.purchase_cost,
+          updated_at = EXCLUDED.updated_at
+      """;
+  // categorías de cada producto al registrar la venta; la reversión usa estas y no las actuales
+  private static final String SNAPSHOT_SALE_CATEGORIES_SQL = """
+      INSERT INTO order_sale_categories (order_id, product_id, category_id)
+      SELECT DISTINCT d.order_id, d.product_id, pc.category_id
+      FROM unnest(?::uuid[], ?::uuid[]) AS d(order_id, product_id)
+      JOIN product_category pc ON pc.product_id = d.product_id
+      ON CONFLICT DO NOTHING
+      """;
+  private static final String UPSERT_ORDER_CATEGORY_SQL = """
+      INSERT INTO daily_category_rollups
+          (rollup_date, category_id, units_sold, revenue, units_purchased, purchase_cost, updated_at)
+      SELECT ?, s.category_id, SUM(d.units_sold), SUM(d.revenue), 0, 0, ?
+      FROM unnest(?::uuid[], ?::uuid[], ?::bigint[], ?::numeric[])
+          AS d(order_id, product_id, units_sold, revenue)
+      JOIN order_sale_categories s ON s.order_id = d.order_id AND s.product_id = d.product_id
+      GROUP BY s.category_id
+      ORDER BY s.category_id
+      ON CONFLICT (rollup_date, category_id) DO UPDATE
+      SET units_sold = daily_category_rollups.units_sold + EXCLUDED.units_sold,
+          revenue = daily_category_rollups.revenue + EXCLUDED.revenue,
+          updated_at = EXCLUDED.updated_at
+      """;
+  private static final String DELETE_SALE_CATEGORIES_SQL =
+      "DELETE FROM order_sale_categories WHERE order_id = ANY (?::uuid[])";
+  private final IJpaDailyProductRollupRepository jpaDailyProductRollupRepository;
+  private final IJpaDailyCategoryRollupRepository jpaDailyCategoryRollupRepository;
+  private final JdbcTemplate jdbcTemplate;
+  @PersistenceContext
+  private EntityManager entityManager;
+
+  @Override
+  public void applyRollupDeltas(LocalDate date, List<RollupDelta> deltas) {
+    if (deltas.isEmpty()) return;
+    // orden estable de productos para que transacciones concurrentes bloqueen las filas en el mismo orden
+    List<RollupDelta> rows = deltas.stream()
+        .sorted(Comparator.comparing(RollupDelta::productId))
+        .collect(Collectors.toList());
+    entityManager.flush();
+    Date rollupDate = Date.valueOf(date);
+    Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+    upsertProductRollups(rollupDate, now, rows);
+    jdbcTemplate.update(connection -> {
+      PreparedStatement ps = connection.prepareStatement(UPSERT_CATEGORY_SQL);
+      ps.setDate(1, rollupDate);
+      ps.setTimestamp(2, now);
+      ps.setArray(3, connection.createArrayOf("uuid", rows.stream().map(RollupDelta::productId).toArray()));
+      ps.setArray(4, connection.createArrayOf("bigint", rows.stream().map(RollupDelta::unitsSold).toArray()));
+      ps.setArray(5, connection.createArrayOf("numeric", rows.stream().map(RollupDelta::revenue).toArray()));
+      ps.setArray(6, connection.createArrayOf("bigint", rows.stream().map(RollupDelta::unitsPurchased).toArray()));
+      ps.setArray(7, connection.createArrayOf("numeric", rows.stream().map(RollupDelta::purchaseCost).toArray()));
+      return ps;
+    });
+  }
+
+  @Override
+  public void recordOrderSales(LocalDate date, List<OrderSaleLine> lines) {
+    if (lines.isEmpty()) return;
+    entityManager.flush();
+    jdbcTemplate.update(connection -> {
+      PreparedStatement ps = connection.prepareStatement(SNAPSHOT_SALE_CATEGORIES_SQL);
+      ps.setArray(1, connection.createArrayOf("uuid", lines.stream().map(OrderSaleLine::orderId).toArray()));
+      ps.setArray(2, connection.createArrayOf("uuid", lines.stream().map(OrderSaleLine::productId).toArray()));
+      return ps;
+    });
+    applyOrderSales(date, lines);
+  }
+
+  @Override
+  public void revertOrderSales(LocalDate date, List<OrderSaleLine> lines) {
+    if (lines.isEmpty()) return;
+    entityManager.flush();
+    applyOrderSales(date, lines);
+    jdbcTemplate.update(connection -> {
+      PreparedStatement ps = connection.prepareStatement(DELETE_SALE_CATEGORIES_SQL);
+      ps.setArray(1, connection.createArrayOf("uuid", lines.stream().map(OrderSaleLine::orderId).distinct().toArray()));
+      return ps;
+    });
+  }
+
+  private void applyOrderSales(LocalDate date, List<OrderSaleLine> lines) {
+    Map<UUID, RollupDelta> byProduct = new LinkedHashMap<>();
+    lines.forEach(line -> byProduct.merge(line.productId(),
+        new RollupDelta(line.productId(), line.unitsSold(), line.revenue(), 0, BigDecimal.ZERO),
+        (current, added) -> new RollupDelta(current.productId(), current.unitsSold() + added.unitsSold(),
+            current.revenue().add(added.revenue()), 0, BigDecimal.ZERO)));
+    List<RollupDelta> rows = byProduct.values().stream()
+        .sorted(Comparator.comparing(RollupDelta::productId))
+        .collect(Collectors.toList());
+    Date rollupDate = Date.valueOf(date);
+    Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+    upsertProductRollups(rollupDate, now, rows);
+    jdbcTemplate.update(connection -> {
+      PreparedStatement ps = connection.prepareStatement(UPSERT_ORDER_CATEGORY_SQL);
+      ps.setDate(1, rollupDate);
+      ps.setTimestamp(2, now);
+      ps.setArray(3, connection.createArrayOf("uuid", lines.stream().map(OrderSaleLine::orderId).toArray()));
+      ps.setArray(4, connection.createArrayOf("uuid", lines.stream().map(OrderSaleLine::productId).toArray()));
+      ps.setArray(5, connection.createArrayOf("bigint", lines.stream().map(OrderSaleLine::unitsSold).toArray()));
+      ps.setArray(6, connection.createArrayOf("numeric", lines.stream().map(OrderSaleLine::revenue).toArray()));
+      return ps;
+    });
+  }
+
+  private void upsertProductRollups(Date rollupDate, Timestamp now, List<RollupDelta> rows) {
+    jdbcTemplate.batchUpdate(UPSERT_PRODUCT_SQL, rows, rows.size(), (ps, row) -> {
+      ps.setDate(1, rollupDate);
+      ps.setObject(2, row.productId());
+      ps.setLong(3, row.unitsSold());
+      ps.setBigDecimal(4, row.revenue());
+      ps.setLong(5, row.unitsPurchased());
+      ps.setBigDecimal(6, row.purchaseCost());
+      ps.setTimestamp(7, now);
+    });
+  }
+
+  @Override
+  public List<ProductSalesReport> findProductSales(LocalDate from, LocalDate to, int limit) {
+    return jpaDailyProductRollupRepository.sumByProduct(from, to, PageRequest.of(0, limit));
+  }
+
+  @Override
+  public List<CategorySalesReport> findCategorySales(LocalDate from, LocalDate to) {
+    return jpaDailyCategoryRollupRepository.sumByCategory(from, to);
+  }
+
+  @Override
+  public List<DailySalesReport> findDailySales(LocalDate from, LocalDate to) {
+    return jpaDailyProductRollupRepository.sumByDay(from, to);
+  }
+}
@@ -0,0 +1,73 @@
+package com.store.arka.backend.infrastructure.persistence.adapter;
+
+import com.store.arka.backend.application.port.out.IStockReservationAdapterPort;
+import com.store.arka.backend.domain.enums.ReservationStatus;
+import com.store.arka.backend.domain.model.StockReservation;
+import com.store.arka.backend.infrastructure.persistence.mapper.StockReservationMapper;
+import com.store.arka.backend.infrastructure.persistence.repository.IJpaStockReservationRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+@Repository
+@RequiredArgsConstructor
+public class StockReservationPersistenceAdapter implements IStockReservationAdapterPort {
+  private final IJpaStockReservationRepository jpaStockReservationRepository;
+  private final StockReservationMapper mapper;
+
+  @Override
+  public List<StockReservation> saveAllReservations(List<StockReservation> reservations) {
+    return jpaStockReservationRepository.saveAll(reservations.stream().map(mapper::toEntity).collect(Collectors.toList()))
+        .stream().map(mapper::toDomain).collect(Collectors.toList());
+  }
+
+  @Override
+  public List<StockReservation> findActiveReservationsByOrderIdForUpdate(UUID orderId) {
+    return jpaStockReservationRepository.findAllByOrderIdAndStatus(orderId, ReservationStatus.ACTIVE)
+        .stream().map(mapper::toDomain).collect(Collectors.toList());
+  }
+
+  @Override
+  public List<StockReservation> findActiveReservationsByOrderIdsForUpdate(Collection<UUID> orderIds) {
+    if (orderIds.isEmpty()) return List.of();
+    return jpaStockReservationRepository.findAllByOrderIdInAndStatus(orderIds, ReservationStatus.ACTIVE)
+        .stream().map(mapper::toDomain).collect(Collectors.toList());
+  }
+
+  @Override
+  public List<StockReservation> findExpiredActiveReservationsForUpdate(LocalDateTime now, int limit) {
+    return jpaStockReservationRepository.findAllByStatusAndExpiresAtBeforeOrderByExpiresAtAsc(
+            ReservationStatus.ACTIVE, now, PageRequest.of(0, limit))
+        .stream().map(mapper::toDomain).collect(Collectors.toList());
+  }
+
+  @Override
+  public Map<UUID, Integer> sumActiveQuantitiesByProductIds(Collection<UUID> productIds) {
+    if (productIds.isEmpty()) return new HashMap<>();
+    return toQuantities(jpaStockReservationRepository.sumQuantityByProductIdInAndStatus(
+        productIds, ReservationStatus.ACTIVE));
+  }
+
+  @Override
+  public Map<UUID, Integer> sumActiveQuantitiesByProductIdsExcludingOrder(Collection<UUID> productIds, UUID orderId) {
+    if (productIds.isEmpty()) return new HashMap<>();
+    return toQuantities(jpaStockReservationRepository.sumQuantityByProductIdInAndStatusExcludingOrder(
+        productIds, ReservationStatus.ACTIVE, orderId));
+  }
+
+  @Override
+  public void updateReservationsStatus(Collection<UUID> ids, ReservationStatus status) {
+    if (ids.isEmpty()) return;
+    jpaStockReservationRepository.updateStatusByIds(ids, status, LocalDateTime.now());
+  }
+
+  private Map<UUID, Integer> toQuantities(List<IJpaStockReservationRepository.ReservedQuantityView> views) {
+    Map<UUID, Integer> quantities = new HashMap<>();
+    views.forEach(view -> quantities.put(view.getProductId(), view.getQuantity().intValue()));
+    return quantities;
+  }
+}
@@ -1,22 +1,20 @@
 package com.store.arka.backend.infrastructure.persistence.adapter;
 
+import com.store.arka.backend.application.model.PageQuery;
+import com.store.arka.backend.application.model.PageResult;
 import com.store.arka.backend.application.port.out.ISupplierAdapterPort;
 import com.store.arka.backend.domain.enums.SupplierStatus;
 import com.store.arka.backend.domain.exception.ModelNotFoundException;
 import com.store.arka.backend.domain.model.Supplier;
 import com.store.arka.backend.infrastructure.persistence.entity.SupplierEntity;
+import com.store.arka.backend.infrastructure.persistence.mapper.PageableMapper;
 import com.store.arka.backend.infrastructure.persistence.mapper.SupplierMapper;
 import com.store.arka.backend.infrastructure.persistence.repository.IJpaSupplierRepository;
 import com.store.arka.backend.infrastructure.persistence.updater.SupplierUpdater;
-import jakarta.persistence.EntityManager;
-import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
-import java.util.List;
-import java.util.Optional;
-import java.util.UUID;
-import java.util.stream.Collectors;
+import java.util.*;
 
 @Repository
 @RequiredArgsConstructor
@@ -24,15 +22,11 @@ public class SupplierPersistenceAdapter implements ISupplierAdapterPort {
   private final IJpaSupplierRepository jpaSupplierRepository;
   private final SupplierMapper mapper;
   private final SupplierUpdater updater;
-  @PersistenceContext
-  private EntityManager entityManager;
 
   @Override
   public Supplier saveCreateSupplier(Supplier supplier) {
     SupplierEntity entity = mapper.toEntity(supplier);
     SupplierEntity saved = jpaSupplierRepository.save(entity);
-    entityManager.flush();
-    entityManager.refresh(saved);
     return mapper.toDomain(saved);
   }
 
@@ -42,8 +36,6 @@ public class SupplierPersistenceAdapter implements ISupplierAdapterPort {
         .orElseThrow(() -> new ModelNotFoundException("Supplier with id " + supplier.getId() + " not found"));
     SupplierEntity updated = updater.merge(entity, supplier);
     SupplierEntity saved = jpaSupplierRepository.save(updated);
-    entityManager.flush();
-    entityManager.refresh(saved);
     return mapper.toDomain(saved);
   }
 
@@ -63,19 +55,31 @@ public class SupplierPersistenceAdapter implements ISupplierAdapterPort {
   }
 
   @Override
-  public List<Supplier> findAllSuppliers() {
-    return jpaSupplierRepository.findAll().stream().map(mapper::toDomain).collect(Collectors.toList());
+  public PageResult<Supplier> findAllSuppliers(PageQuery pageQuery) {
+    return PageableMapper.toPageResult(
+        jpaSupplierRepository.findAllBy(PageableMapper.toPageable(pageQuery)), mapper::toDomain);
   }
 
   @Override
-  public List<Supplier> findAllSuppliersByStatus(SupplierStatus status) {
-    return jpaSupplierRepository.findAllByStatus(status).stream().map(mapper::toDomain).collect(Collectors.toList());
+  public PageResult<Supplier> findAllSuppliersByStatus(SupplierStatus status, PageQuery pageQuery) {
+    return PageableMapper.toPageResult(
+        jpaSupplierRepository.findAllByStatus(status, PageableMapper.toPageable(pageQuery)), mapper::toDomain);
   }
 
   @Override
-  public List<Supplier> findAllSuppliersByProductId(UUID productId) {
-    return jpaSupplierRepository.findAllByProductsId(productId)
-        .stream().map(mapper::toDomain).collect(Collectors.toList());
+  public PageResult<Supplier> findAllSuppliersByProductId(UUID productId, PageQuery pageQuery) {
+    return PageableMapper.toPageResult(
+        jpaSupplierRepository.findAllByProductsId(productId, PageableMapper.toPageable(pageQuery)), mapper::toDomain);
+  }
+
+  @Override
+  public Map<UUID, UUID> findPreferredSupplierIdsByProductIds(Collection<UUID> productIds) {
+    if (productIds.isEmpty()) return Map.of();
+    // con varios proveedores activos se toma el de menor id para que la elección sea estable
+    Map<UUID, UUID> preferred = new LinkedHashMap<>();
+    jpaSupplierRepository.findSupplierProductPairs(productIds, SupplierStatus.ACTIVE)
+        .forEach(pair -> preferred.putIfAbsent(pair.getProductId(), pair.getSupplierId()));
+    return preferred;
   }
 
   @Override
@@ -1,22 +1,21 @@
 package com.store.arka.backend.infrastructure.persistence.adapter;
 
+import com.store.arka.backend.application.model.PageQuery;
+import com.store.arka.backend.application.model.PageResult;
 import com.store.arka.backend.application.port.out.IUserAdapterPort;
 import com.store.arka.backend.domain.enums.UserRole;
 import com.store.arka.backend.domain.enums.UserStatus;
 import com.store.arka.backend.domain.model.User;
 import com.store.arka.backend.infrastructure.persistence.entity.UserEntity;
+import com.store.arka.backend.infrastructure.persistence.mapper.PageableMapper;
 import com.store.arka.backend.infrastructure.persistence.mapper.UserMapper;
 import com.store.arka.backend.infrastructure.persistence.repository.IJpaUserRepository;
 import com.store.arka.backend.infrastructure.persistence.updater.UserUpdater;
-import jakarta.persistence.EntityManager;
-import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
-import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @Repository
 @RequiredArgsConstructor
@@ -24,15 +23,11 @@ public class UserPersistenceAdapter implements IUserAdapterPort {
   private final IJpaUserRepository jpaUserRepository;
   private final UserMapper mapper;
   private final UserUpdater updater;
-  @PersistenceContext
-  private EntityManager entityManager;
 
   @Override
   public User saveCreateUser(User user) {
     UserEntity entity = mapper.toEntity(user);
     UserEntity saved = jpaUserRepository.save(entity);
-    entityManager.flush();
-    entityManager.refresh(saved);
     return mapper.toDomain(saved);
   }
 
@@ -41,8 +36,6 @@ public class UserPersistenceAdapter implements IUserAdapterPort {
     UserEntity entity = jpaUserRepository.findById(user.getId()).orElseThrow();
     UserEntity updated = updater.merge(entity, user);
     UserEntity saved = jpaUserRepository.save(updated);
-    entityManager.flush();
-    entityManager.refresh(saved);
     return mapper.toDomain(saved);
   }
 
@@ -62,24 +55,27 @@ public class UserPersistenceAdapter implements IUserAdapterPort {
   }
 
   @Override
-  public List<User> findAllUsers() {
-    return jpaUserRepository.findAll().stream().map(mapper::toDomain).collect(Collectors.toList());
+  public PageResult<User> findAllUsers(PageQuery pageQuery) {
+    return PageableMapper.toPageResult(
+        jpaUserRepository.findAllBy(PageableMapper.toPageable(pageQuery)), mapper::toDomain);
   }
 
   @Override
-  public List<User> findAllUsersByRole(UserRole role) {
-    return jpaUserRepository.findAllByRole(role).stream().map(mapper::toDomain).collect(Collectors.toList());
+  public PageResult<User> findAllUsersByRole(UserRole role, PageQuery pageQuery) {
+    return PageableMapper.toPageResult(
+        jpaUserRepository.findAllByRole(role, PageableMapper.toPageable(pageQuery)), mapper::toDomain);
   }
 
   @Override
-  public List<User> findAllUsersByStatus(UserStatus status) {
-    return jpaUserRepository.findAllByStatus(status).stream().map(mapper::toDomain).collect(Collectors.toList());
+  public PageResult<User> findAllUsersByStatus(UserStatus status, PageQuery pageQuery) {
+    return PageableMapper.toPageResult(
+        jpaUserRepository.findAllByStatus(status, PageableMapper.toPageable(pageQuery)), mapper::toDomain);
   }
 
   @Override
-  public List<User> findAllUsersByRoleAndStatus(UserRole role, UserStatus status) {
-    return jpaUserRepository.findAllUsersByRoleAndStatus(role, status)
-        .stream().map(mapper::toDomain).collect(Collectors.toList());
+  public PageResult<User> findAllUsersByRoleAndStatus(UserRole role, UserStatus status, PageQuery pageQuery) {
+    return PageableMapper.toPageResult(
+        jpaUserRepository.findAllUsersByRoleAndStatus(role, status, PageableMapper.toPageable(pageQuery)), mapper::toDomain);
   }
 
   @Override
@@ -0,0 +1,93 @@
+package com.store.arka.backend.infrastructure.persistence.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.store.arka.backend.domain.model.Product;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Bounded read-through cache of products by id and SKU. Products are mutable domain objects,
+ * so every read hands out a copy and the cached instance is never exposed.
+ */
+@Component
+public class ProductReadCache {
+  private final Cache<UUID, Product> byId;
+  private final Cache<String, UUID> idBySku;
+
+  public ProductReadCache(
+      MeterRegistry meterRegistry,
+      @Value("${arka.cache.products.max-size:10000}") long maxSize,
+      @Value("${arka.cache.products.ttl-seconds:300}") long ttlSeconds) {
+    this.byId = Caffeine.newBuilder()
+        .maximumSize(maxSize)
+        .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+        .recordStats()
+        .build();
+    this.idBySku = Caffeine.newBuilder()
+        .maximumSize(maxSize)
+        .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+        .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, byId, "products");
+  }
+
+  public Optional<Product> getById(UUID id) {
+    return Optional.ofNullable(byId.getIfPresent(id)).map(this::copy);
+  }
+
+  public Optional<UUID> getIdBySku(String sku) {
+    return Optional.ofNullable(idBySku.getIfPresent(sku));
+  }
+
+  public Product put(Product product) {
+    byId.put(product.getId(), copy(product));
+    idBySku.put(product.getSku(), product.getId());
+    return product;
+  }
+
+  public void evict(UUID id) {
+    byId.invalidate(id);
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      // una lectura dentro de la misma transacción pudo cachear un estado que aún no se confirmó
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCompletion(int status) {
+          byId.invalidate(id);
+        }
+      });
+    }
+  }
+
+  public void evictAll(Collection<UUID> ids) {
+    ids.forEach(this::evict);
+  }
+
+  public void clear() {
+    byId.invalidateAll();
+  }
+
+  private Product copy(Product product) {
+    return new Product(
+        product.getId(),
+        product.getSku(),
+        product.getName(),
+        product.getDescription(),
+        product.getPrice(),
+        product.getCategories() == null ? null : new HashSet<>(product.getCategories()),
+        product.getStock(),
+        product.getStatus(),
+        product.getCreatedAt(),
+        product.getUpdatedAt()
+    );
+  }
+}
@@ -15,7 +15,7 @@ import java.util.*;
 @ToString
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "carts")
+@Table(name = "carts", indexes = @Index(name = "idx_carts_status_updated_at_id", columnList = "status, updated_at, id"))
 @EqualsAndHashCode(onlyExplicitlyIncluded = true)
 public class CartEntity {
   @Id
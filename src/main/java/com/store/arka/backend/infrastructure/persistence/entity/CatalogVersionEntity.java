@@ -0,0 +1,25 @@
+package com.store.arka.backend.infrastructure.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@Entity
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "catalog_version")
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+public class CatalogVersionEntity {
+  @Id
+  @EqualsAndHashCode.Include
+  @Column(nullable = false, updatable = false)
+  private Short id;
+  @Column(nullable = false)
+  private Long version;
+  @Column(name = "updated_at", nullable = false)
+  private LocalDateTime updatedAt;
+}
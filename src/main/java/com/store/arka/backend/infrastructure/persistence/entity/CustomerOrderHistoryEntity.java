@@ -0,0 +1,43 @@
+package com.store.arka.backend.infrastructure.persistence.entity;
+
+import com.store.arka.backend.domain.enums.OrderStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Per-customer order history. Rows are written only through upserts in OrderHistoryPersistenceAdapter.
+ */
+@Getter
+@Setter
+@Entity
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "customer_order_history", indexes = @Index(
+    name = "idx_customer_order_history_keyset", columnList = "customer_id, created_at DESC, order_id DESC"))
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+public class CustomerOrderHistoryEntity {
+  @Id
+  @EqualsAndHashCode.Include
+  @Column(name = "order_id", nullable = false, updatable = false)
+  private UUID orderId;
+  @Column(name = "customer_id", nullable = false, updatable = false)
+  private UUID customerId;
+  @Column(name = "customer_user_id", nullable = false, updatable = false)
+  private UUID customerUserId;
+  @Column(nullable = false)
+  @Enumerated(EnumType.STRING)
+  private OrderStatus status;
+  @Column(nullable = false)
+  private BigDecimal total;
+  @Column(name = "item_count", nullable = false)
+  private Integer itemCount;
+  @Column(name = "created_at", nullable = false, updatable = false)
+  private LocalDateTime createdAt;
+  @Column(name = "updated_at", nullable = false)
+  private LocalDateTime updatedAt;
+}
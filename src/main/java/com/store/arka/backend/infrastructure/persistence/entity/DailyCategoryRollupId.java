@@ -0,0 +1,23 @@
+package com.store.arka.backend.infrastructure.persistence.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.UUID;
+
+@Getter
+@Setter
+@ToString
+@Embeddable
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class DailyCategoryRollupId implements Serializable {
+  @Column(name = "rollup_date", nullable = false)
+  private LocalDate rollupDate;
+  @Column(name = "category_id", nullable = false)
+  private UUID categoryId;
+}
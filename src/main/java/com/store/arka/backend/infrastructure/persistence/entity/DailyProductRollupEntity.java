@@ -0,0 +1,34 @@
+package com.store.arka.backend.infrastructure.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Daily totals per product. Rows are written only through upserts in ReportPersistenceAdapter.
+ */
+@Getter
+@Setter
+@Entity
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "daily_product_rollups")
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+public class DailyProductRollupEntity {
+  @EmbeddedId
+  @EqualsAndHashCode.Include
+  private DailyProductRollupId id;
+  @Column(name = "units_sold", nullable = false)
+  private Long unitsSold;
+  @Column(nullable = false, precision = 14, scale = 2)
+  private BigDecimal revenue;
+  @Column(name = "units_purchased", nullable = false)
+  private Long unitsPurchased;
+  @Column(name = "purchase_cost", nullable = false, precision = 14, scale = 2)
+  private BigDecimal purchaseCost;
+  @Column(name = "updated_at", nullable = false)
+  private LocalDateTime updatedAt;
+}
@@ -0,0 +1,34 @@
+package com.store.arka.backend.infrastructure.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Getter
+@Setter
+@Entity
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "job_checkpoints")
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+public class JobCheckpointEntity {
+  @Id
+  @EqualsAndHashCode.Include
+  @Column(name = "job_name", nullable = false, updatable = false, length = 100)
+  private String jobName;
+  @Column(name = "last_timestamp", nullable = false)
+  private LocalDateTime lastTimestamp;
+  @Column(name = "last_id", nullable = false)
+  private UUID lastId;
+  @Column(name = "updated_at", nullable = false)
+  private LocalDateTime updatedAt;
+
+  @PrePersist
+  @PreUpdate
+  private void touch() {
+    updatedAt = LocalDateTime.now();
+  }
+}
@@ -1,5 +1,6 @@
 package com.store.arka.backend.infrastructure.persistence.entity;
 
+import com.store.arka.backend.domain.enums.NotificationDeliveryStatus;
 import com.store.arka.backend.domain.enums.NotificationStatus;
 import com.store.arka.backend.domain.enums.NotificationType;
 import jakarta.persistence.*;
@@ -16,7 +17,8 @@ import java.util.UUID;
 @AllArgsConstructor
 @NoArgsConstructor
 @EqualsAndHashCode(onlyExplicitlyIncluded = true)
-@Table(name = "notifications", uniqueConstraints = @UniqueConstraint(columnNames = {"order_id", "type"}))
+@Table(name = "notifications", uniqueConstraints = @UniqueConstraint(columnNames = {"order_id", "type"}),
+    indexes = @Index(name = "idx_notifications_delivery", columnList = "delivery_status, next_attempt_at"))
 public class NotificationEntity {
   @Id
   @EqualsAndHashCode.Include
@@ -43,6 +45,15 @@ public class NotificationEntity {
   private LocalDateTime createdAt;
   @Column(name = "read_at")
   private LocalDateTime readAt;
+  @Column(name = "delivery_status", nullable = false)
+  @Enumerated(EnumType.STRING)
+  private NotificationDeliveryStatus deliveryStatus;
+  @Column(name = "delivery_attempts", nullable = false)
+  private Integer deliveryAttempts;
+  @Column(name = "next_attempt_at")
+  private LocalDateTime nextAttemptAt;
+  @Column(name = "sent_at")
+  private LocalDateTime sentAt;
 
   @PrePersist
   public void prePersist() {
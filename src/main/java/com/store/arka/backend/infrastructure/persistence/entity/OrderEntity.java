@@ -38,6 +38,8 @@ public class OrderEntity {
   @Column(nullable = false)
   @Enumerated(EnumType.STRING)
   private OrderStatus status;
+  @Column(name = "paid_at")
+  private LocalDateTime paidAt;
   @CreationTimestamp
   @Column(name = "created_at", nullable = false, updatable = false)
   private LocalDateTime createdAt;
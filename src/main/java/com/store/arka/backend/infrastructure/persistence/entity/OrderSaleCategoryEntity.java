@@ -0,0 +1,24 @@
+package com.store.arka.backend.infrastructure.persistence.entity;
+
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.*;
+
+/**
+ * Categories each product of a paid order had when the sale was booked, so a later cancellation reverts
+ * the same category rollups. Rows are written only through ReportPersistenceAdapter.
+ */
+@Getter
+@Setter
+@Entity
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "order_sale_categories")
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+public class OrderSaleCategoryEntity {
+  @EmbeddedId
+  @EqualsAndHashCode.Include
+  private OrderSaleCategoryId id;
+}
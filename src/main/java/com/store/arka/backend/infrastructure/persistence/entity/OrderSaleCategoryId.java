@@ -0,0 +1,24 @@
+package com.store.arka.backend.infrastructure.persistence.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.*;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+@Getter
+@Setter
+@ToString
+@Embeddable
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class OrderSaleCategoryId implements Serializable {
+  @Column(name = "order_id", nullable = false)
+  private UUID orderId;
+  @Column(name = "product_id", nullable = false)
+  private UUID productId;
+  @Column(name = "category_id", nullable = false)
+  private UUID categoryId;
+}
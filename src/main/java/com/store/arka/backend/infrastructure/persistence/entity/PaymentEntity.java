@@ -18,7 +18,7 @@ import java.util.UUID;
 @ToString
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "payments")
+@Table(name = "payments", indexes = @Index(name = "idx_payments_status_created_at", columnList = "status, created_at"))
 @EqualsAndHashCode(onlyExplicitlyIncluded = true)
 public class PaymentEntity {
   @Id
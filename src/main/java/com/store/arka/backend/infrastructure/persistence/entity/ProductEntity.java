@@ -3,6 +3,7 @@ package com.store.arka.backend.infrastructure.persistence.entity;
 import com.store.arka.backend.domain.enums.ProductStatus;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -18,7 +19,10 @@ import java.util.UUID;
 @ToString
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "products")
+@Table(name = "products", indexes = {
+    @Index(name = "idx_products_created_at_id", columnList = "created_at, id"),
+    @Index(name = "idx_products_status_price_id", columnList = "status, price, id")
+})
 @EqualsAndHashCode(onlyExplicitlyIncluded = true)
 public class ProductEntity {
   @Id
@@ -39,6 +43,7 @@ public class ProductEntity {
       joinColumns = @JoinColumn(name = "product_id"),
       inverseJoinColumns = @JoinColumn(name = "category_id"))
   @ToString.Exclude
+  @BatchSize(size = 100)
   private Set<CategoryEntity> categories = new HashSet<>();
   @Column(nullable = false)
   private Integer stock;
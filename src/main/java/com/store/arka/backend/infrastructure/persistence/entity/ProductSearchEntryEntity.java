@@ -0,0 +1,29 @@
+package com.store.arka.backend.infrastructure.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Full-text entry of a live product. Rows are written only through upserts in ProductSearchPersistenceAdapter.
+ */
+@Getter
+@Setter
+@Entity
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "product_search_index")
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+public class ProductSearchEntryEntity {
+  @Id
+  @EqualsAndHashCode.Include
+  @Column(name = "product_id", nullable = false, updatable = false)
+  private UUID productId;
+  @Column(name = "search_vector", nullable = false, columnDefinition = "tsvector")
+  private String searchVector;
+  @Column(name = "updated_at", nullable = false)
+  private LocalDateTime updatedAt;
+}
@@ -0,0 +1,50 @@
+package com.store.arka.backend.infrastructure.persistence.entity;
+
+import com.store.arka.backend.domain.enums.ReservationStatus;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Getter
+@Setter
+@Entity
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "stock_reservations", indexes = {
+    @Index(name = "idx_stock_reservations_order_status", columnList = "order_id, status"),
+    @Index(name = "idx_stock_reservations_status_expires", columnList = "status, expires_at")
+})
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+public class StockReservationEntity {
+  @Id
+  @EqualsAndHashCode.Include
+  @Column(updatable = false, nullable = false)
+  private UUID id;
+  @Column(name = "order_id", nullable = false, updatable = false)
+  private UUID orderId;
+  @Column(name = "product_id", nullable = false, updatable = false)
+  private UUID productId;
+  @Column(nullable = false, updatable = false)
+  private Integer quantity;
+  @Column(nullable = false)
+  @Enumerated(EnumType.STRING)
+  private ReservationStatus status;
+  @Column(name = "expires_at", nullable = false, updatable = false)
+  private LocalDateTime expiresAt;
+  @CreationTimestamp
+  @Column(name = "created_at", nullable = false, updatable = false)
+  private LocalDateTime createdAt;
+  @UpdateTimestamp
+  @Column(name = "updated_at", nullable = false)
+  private LocalDateTime updatedAt;
+
+  @PrePersist
+  public void prePersist() {
+    if (id == null) id = UUID.randomUUID();
+  }
+}
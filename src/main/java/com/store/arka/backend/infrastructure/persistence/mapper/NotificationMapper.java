@@ -20,7 +20,11 @@ public class NotificationMapper {
         entity.getMessage(),
         entity.getStatus(),
         entity.getCreatedAt(),
-        entity.getReadAt()
+        entity.getReadAt(),
+        entity.getDeliveryStatus(),
+        entity.getDeliveryAttempts(),
+        entity.getNextAttemptAt(),
+        entity.getSentAt()
     );
   }
 
@@ -33,7 +37,11 @@ public class NotificationMapper {
         domain.getMessage(),
         domain.getStatus(),
         domain.getCreatedAt(),
-        domain.getReadAt()
+        domain.getReadAt(),
+        domain.getDeliveryStatus(),
+        domain.getDeliveryAttempts(),
+        domain.getNextAttemptAt(),
+        domain.getSentAt()
     );
   }
 }
@@ -28,6 +28,7 @@ public class OrderMapper {
         orderItemMapper.toDomain(entity.getItems()),
         entity.getTotal(),
         entity.getStatus(),
+        entity.getPaidAt(),
         entity.getCreatedAt(),
         entity.getUpdatedAt()
     );
@@ -42,6 +43,7 @@ public class OrderMapper {
         new ArrayList<>(),
         domain.getTotal(),
         domain.getStatus(),
+        domain.getPaidAt(),
         domain.getCreatedAt(),
         domain.getUpdatedAt()
     );
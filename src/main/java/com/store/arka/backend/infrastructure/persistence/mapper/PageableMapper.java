@@ -0,0 +1,36 @@
+package com.store.arka.backend.infrastructure.persistence.mapper;
+
+import com.store.arka.backend.application.model.PageQuery;
+import com.store.arka.backend.application.model.PageResult;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+public final class PageableMapper {
+  private PageableMapper() {
+  }
+
+  public static Pageable toPageable(PageQuery pageQuery) {
+    Sort sort = Sort.by(pageQuery.descending() ? Sort.Direction.DESC : Sort.Direction.ASC, pageQuery.sortBy())
+        .and(Sort.by(Sort.Direction.ASC, "id"));
+    return PageRequest.of(pageQuery.page(), pageQuery.size(), sort);
+  }
+
+  // para consultas que ya fijan su propio ORDER BY
+  public static Pageable toUnsortedPageable(PageQuery pageQuery) {
+    return PageRequest.of(pageQuery.page(), pageQuery.size());
+  }
+
+  public static <E, T> PageResult<T> toPageResult(Slice<E> slice, Function<E, T> mapper) {
+    return toPageResult(slice, slice.getContent().stream().map(mapper).collect(Collectors.toList()));
+  }
+
+  public static <T> PageResult<T> toPageResult(Slice<?> slice, List<T> items) {
+    return new PageResult<>(items, slice.getNumber(), slice.getSize(), slice.hasNext());
+  }
+}
@@ -0,0 +1,36 @@
+package com.store.arka.backend.infrastructure.persistence.mapper;
+
+import com.store.arka.backend.domain.model.StockReservation;
+import com.store.arka.backend.infrastructure.persistence.entity.StockReservationEntity;
+import org.springframework.stereotype.Component;
+
+@Component
+public class StockReservationMapper {
+  public StockReservation toDomain(StockReservationEntity entity) {
+    if (entity == null) return null;
+    return new StockReservation(
+        entity.getId(),
+        entity.getOrderId(),
+        entity.getProductId(),
+        entity.getQuantity(),
+        entity.getStatus(),
+        entity.getExpiresAt(),
+        entity.getCreatedAt(),
+        entity.getUpdatedAt()
+    );
+  }
+
+  public StockReservationEntity toEntity(StockReservation domain) {
+    if (domain == null) return null;
+    return new StockReservationEntity(
+        domain.getId(),
+        domain.getOrderId(),
+        domain.getProductId(),
+        domain.getQuantity(),
+        domain.getStatus(),
+        domain.getExpiresAt(),
+        domain.getCreatedAt(),
+        domain.getUpdatedAt()
+    );
+  }
+}
@@ -2,15 +2,60 @@ package com.store.arka.backend.infrastructure.persistence.repository;
 
 import com.store.arka.backend.domain.enums.CartStatus;
 import com.store.arka.backend.infrastructure.persistence.entity.CartEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
 public interface IJpaCartRepository extends JpaRepository<CartEntity, UUID> {
-  List<CartEntity> findAllByStatus(CartStatus status);
+  Slice<CartEntity> findAllBy(Pageable pageable);
 
-  List<CartEntity> findAllByCustomerId(UUID customerId);
+  Slice<CartEntity> findAllByStatus(CartStatus status, Pageable pageable);
 
-  List<CartEntity> findAllByItemsProductId(UUID productId);
+  Slice<CartEntity> findAllByCustomerId(UUID customerId, Pageable pageable);
+
+  Slice<CartEntity> findAllByItemsProductId(UUID productId, Pageable pageable);
+
+  @Query("SELECT c.id AS id, c.updatedAt AS updatedAt FROM CartEntity c " +
+      "WHERE c.status = :status AND c.updatedAt < :cutoff " +
+      "ORDER BY c.updatedAt ASC, c.id ASC")
+  List<CartKeyView> findFirstIdleKeys(
+      @Param("status") CartStatus status,
+      @Param("cutoff") LocalDateTime cutoff,
+      Pageable pageable);
+
+  @Query("SELECT c.id AS id, c.updatedAt AS updatedAt FROM CartEntity c " +
+      "WHERE c.status = :status AND c.updatedAt < :cutoff " +
+      "AND (c.updatedAt > :updatedAt OR (c.updatedAt = :updatedAt AND c.id > :id)) " +
+      "ORDER BY c.updatedAt ASC, c.id ASC")
+  List<CartKeyView> findIdleKeysAfter(
+      @Param("status") CartStatus status,
+      @Param("cutoff") LocalDateTime cutoff,
+      @Param("updatedAt") LocalDateTime updatedAt,
+      @Param("id") UUID id,
+      Pageable pageable);
+
+  // vuelve a comprobar estado y fecha: un carrito modificado después del escaneo no se abandona
+  @Modifying
+  @Query("UPDATE CartEntity c SET c.status = :abandoned, c.abandonedAt = :now, c.updatedAt = :now " +
+      "WHERE c.id IN :ids AND c.status = :active AND c.updatedAt < :cutoff")
+  int abandonByIds(
+      @Param("ids") Collection<UUID> ids,
+      @Param("active") CartStatus active,
+      @Param("abandoned") CartStatus abandoned,
+      @Param("cutoff") LocalDateTime cutoff,
+      @Param("now") LocalDateTime now);
+
+  interface CartKeyView {
+    UUID getId();
+
+    LocalDateTime getUpdatedAt();
+  }
 }
@@ -2,16 +2,28 @@ package com.store.arka.backend.infrastructure.persistence.repository;
 
 import com.store.arka.backend.domain.enums.CategoryStatus;
 import com.store.arka.backend.infrastructure.persistence.entity.CategoryEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-import java.util.List;
+import java.time.LocalDateTime;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface IJpaCategoryRepository extends JpaRepository<CategoryEntity, UUID> {
+  Slice<CategoryEntity> findAllBy(Pageable pageable);
+
   Optional<CategoryEntity> findByName(String name);
 
-  List<CategoryEntity> findAllByStatus(CategoryStatus status);
+  Slice<CategoryEntity> findAllByStatus(CategoryStatus status, Pageable pageable);
 
   boolean existsByName(String name);
+
+  @Query("SELECT c.updatedAt FROM CategoryEntity c WHERE c.id = :id")
+  Optional<LocalDateTime> findUpdatedAtById(@Param("id") UUID id);
+
+  @Query("SELECT c.updatedAt FROM CategoryEntity c WHERE c.name = :name")
+  Optional<LocalDateTime> findUpdatedAtByName(@Param("name") String name);
 }
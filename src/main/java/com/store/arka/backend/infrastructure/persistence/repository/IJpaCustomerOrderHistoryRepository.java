@@ -0,0 +1,32 @@
+package com.store.arka.backend.infrastructure.persistence.repository;
+
+import com.store.arka.backend.application.model.OrderHistoryEntry;
+import com.store.arka.backend.infrastructure.persistence.entity.CustomerOrderHistoryEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public interface IJpaCustomerOrderHistoryRepository extends JpaRepository<CustomerOrderHistoryEntity, UUID> {
+  // ambas consultas recorren el índice (customer_id, created_at DESC, order_id DESC)
+  @Query("SELECT new com.store.arka.backend.application.model.OrderHistoryEntry(" +
+      "h.orderId, h.customerId, h.customerUserId, h.status, h.total, h.itemCount, h.createdAt, h.updatedAt) " +
+      "FROM CustomerOrderHistoryEntity h WHERE h.customerId = :customerId " +
+      "ORDER BY h.createdAt DESC, h.orderId DESC")
+  List<OrderHistoryEntry> findFirstKeysetPage(@Param("customerId") UUID customerId, Pageable pageable);
+
+  @Query("SELECT new com.store.arka.backend.application.model.OrderHistoryEntry(" +
+      "h.orderId, h.customerId, h.customerUserId, h.status, h.total, h.itemCount, h.createdAt, h.updatedAt) " +
+      "FROM CustomerOrderHistoryEntity h WHERE h.customerId = :customerId " +
+      "AND (h.createdAt < :createdAt OR (h.createdAt = :createdAt AND h.orderId < :orderId)) " +
+      "ORDER BY h.createdAt DESC, h.orderId DESC")
+  List<OrderHistoryEntry> findKeysetPageAfter(
+      @Param("customerId") UUID customerId,
+      @Param("createdAt") LocalDateTime createdAt,
+      @Param("orderId") UUID orderId,
+      Pageable pageable);
+}
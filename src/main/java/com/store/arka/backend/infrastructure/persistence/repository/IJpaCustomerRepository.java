@@ -2,18 +2,21 @@ package com.store.arka.backend.infrastructure.persistence.repository;
 
 import com.store.arka.backend.domain.enums.CustomerStatus;
 import com.store.arka.backend.infrastructure.persistence.entity.CustomerEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 
-import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface IJpaCustomerRepository extends JpaRepository<CustomerEntity, UUID> {
+  Slice<CustomerEntity> findAllBy(Pageable pageable);
+
   Optional<CustomerEntity> findByUserId(UUID userId);
 
   Optional<CustomerEntity> findByDocumentNumber(String number);
 
-  List<CustomerEntity> findAllByStatus(CustomerStatus status);
+  Slice<CustomerEntity> findAllByStatus(CustomerStatus status, Pageable pageable);
 
   boolean existsByUserId(UUID userId);
 
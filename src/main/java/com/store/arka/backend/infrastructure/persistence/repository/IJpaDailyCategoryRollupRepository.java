@@ -0,0 +1,21 @@
+package com.store.arka.backend.infrastructure.persistence.repository;
+
+import com.store.arka.backend.application.model.CategorySalesReport;
+import com.store.arka.backend.infrastructure.persistence.entity.DailyCategoryRollupEntity;
+import com.store.arka.backend.infrastructure.persistence.entity.DailyCategoryRollupId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface IJpaDailyCategoryRollupRepository extends JpaRepository<DailyCategoryRollupEntity, DailyCategoryRollupId> {
+  @Query("SELECT new com.store.arka.backend.application.model.CategorySalesReport(" +
+      "c.id, c.name, SUM(r.unitsSold), SUM(r.revenue), SUM(r.unitsPurchased), SUM(r.purchaseCost)) " +
+      "FROM DailyCategoryRollupEntity r JOIN CategoryEntity c ON c.id = r.id.categoryId " +
+      "WHERE r.id.rollupDate BETWEEN :from AND :to " +
+      "GROUP BY c.id, c.name " +
+      "ORDER BY SUM(r.revenue) DESC, c.id")
+  List<CategorySalesReport> sumByCategory(@Param("from") LocalDate from, @Param("to") LocalDate to);
+}
@@ -0,0 +1,32 @@
+package com.store.arka.backend.infrastructure.persistence.repository;
+
+import com.store.arka.backend.application.model.DailySalesReport;
+import com.store.arka.backend.application.model.ProductSalesReport;
+import com.store.arka.backend.infrastructure.persistence.entity.DailyProductRollupEntity;
+import com.store.arka.backend.infrastructure.persistence.entity.DailyProductRollupId;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface IJpaDailyProductRollupRepository extends JpaRepository<DailyProductRollupEntity, DailyProductRollupId> {
+  // el rango de fechas recorre el prefijo de la clave primaria (rollup_date, product_id)
+  @Query("SELECT new com.store.arka.backend.application.model.ProductSalesReport(" +
+      "p.id, p.sku, p.name, SUM(r.unitsSold), SUM(r.revenue), SUM(r.unitsPurchased), SUM(r.purchaseCost)) " +
+      "FROM DailyProductRollupEntity r JOIN ProductEntity p ON p.id = r.id.productId " +
+      "WHERE r.id.rollupDate BETWEEN :from AND :to " +
+      "GROUP BY p.id, p.sku, p.name " +
+      "ORDER BY SUM(r.revenue) DESC, p.id")
+  List<ProductSalesReport> sumByProduct(@Param("from") LocalDate from, @Param("to") LocalDate to, Pageable pageable);
+
+  @Query("SELECT new com.store.arka.backend.application.model.DailySalesReport(" +
+      "r.id.rollupDate, SUM(r.unitsSold), SUM(r.revenue), SUM(r.unitsPurchased), SUM(r.purchaseCost)) " +
+      "FROM DailyProductRollupEntity r " +
+      "WHERE r.id.rollupDate BETWEEN :from AND :to " +
+      "GROUP BY r.id.rollupDate " +
+      "ORDER BY r.id.rollupDate")
+  List<DailySalesReport> sumByDay(@Param("from") LocalDate from, @Param("to") LocalDate to);
+}
@@ -2,16 +2,19 @@ package com.store.arka.backend.infrastructure.persistence.repository;
 
 import com.store.arka.backend.domain.enums.DocumentStatus;
 import com.store.arka.backend.infrastructure.persistence.entity.DocumentEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 
-import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface IJpaDocumentRepository extends JpaRepository<DocumentEntity, UUID> {
+  Slice<DocumentEntity> findAllBy(Pageable pageable);
+
   Optional<DocumentEntity> findByNumber(String number);
 
-  List<DocumentEntity> findAllByStatus(DocumentStatus status);
+  Slice<DocumentEntity> findAllByStatus(DocumentStatus status, Pageable pageable);
 
   boolean existsByNumber(String number);
 }
@@ -0,0 +1,7 @@
+package com.store.arka.backend.infrastructure.persistence.repository;
+
+import com.store.arka.backend.infrastructure.persistence.entity.JobCheckpointEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface IJpaJobCheckpointRepository extends JpaRepository<JobCheckpointEntity, String> {
+}
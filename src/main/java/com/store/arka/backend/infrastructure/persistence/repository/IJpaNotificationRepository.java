@@ -1,23 +1,101 @@
 package com.store.arka.backend.infrastructure.persistence.repository;
 
+import com.store.arka.backend.domain.enums.NotificationDeliveryStatus;
 import com.store.arka.backend.domain.enums.NotificationStatus;
 import com.store.arka.backend.domain.enums.NotificationType;
 import com.store.arka.backend.infrastructure.persistence.entity.NotificationEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
 public interface IJpaNotificationRepository extends JpaRepository<NotificationEntity, UUID> {
-  List<NotificationEntity> findAllByOrderId(UUID orderId);
+  Slice<NotificationEntity> findAllBy(Pageable pageable);
 
-  List<NotificationEntity> findAllByCustomerId(UUID customerId);
+  Slice<NotificationEntity> findAllByOrderId(UUID orderId, Pageable pageable);
 
-  List<NotificationEntity> findAllByType(NotificationType type);
+  Slice<NotificationEntity> findAllByCustomerId(UUID customerId, Pageable pageable);
 
-  List<NotificationEntity> findAllByStatus(NotificationStatus status);
+  Slice<NotificationEntity> findAllByType(NotificationType type, Pageable pageable);
 
-  List<NotificationEntity> findAllByTypeAndStatus(NotificationType type, NotificationStatus status);
+  Slice<NotificationEntity> findAllByStatus(NotificationStatus status, Pageable pageable);
+
+  Slice<NotificationEntity> findAllByTypeAndStatus(NotificationType type, NotificationStatus status, Pageable pageable);
+
+  @Query("SELECT n FROM NotificationEntity n WHERE (:status IS NULL OR n.status = :status) " +
+      "ORDER BY n.createdAt DESC, n.id DESC")
+  List<NotificationEntity> findFirstKeysetPage(@Param("status") NotificationStatus status, Pageable pageable);
+
+  @Query("SELECT n FROM NotificationEntity n WHERE (:status IS NULL OR n.status = :status) " +
+      "AND (n.createdAt < :createdAt OR (n.createdAt = :createdAt AND n.id < :id)) " +
+      "ORDER BY n.createdAt DESC, n.id DESC")
+  List<NotificationEntity> findKeysetPageAfter(@Param("status") NotificationStatus status,
+      @Param("createdAt") LocalDateTime createdAt, @Param("id") UUID id, Pageable pageable);
 
   boolean existsByOrderIdAndType(UUID orderId, NotificationType type);
+
+  @Query("SELECT n.order.id FROM NotificationEntity n WHERE n.order.id IN :orderIds AND n.type = :type")
+  List<UUID> findOrderIdsByOrderIdInAndType(
+      @Param("orderIds") Collection<UUID> orderIds,
+      @Param("type") NotificationType type);
+
+  @Query(value = """
+      SELECT n.id AS "notificationId", n.order_id AS "orderId", c.email AS "email",
+             n.message AS "message", n.delivery_attempts AS "attempts"
+      FROM notifications n
+      JOIN customers c ON c.id = n.customer_id
+      WHERE n.delivery_status = 'PENDING' AND n.next_attempt_at <= :now
+      ORDER BY n.next_attempt_at
+      LIMIT :limit
+      FOR UPDATE OF n SKIP LOCKED
+      """, nativeQuery = true)
+  List<PendingDeliveryView> findPendingDeliveriesForUpdate(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+  @Modifying
+  @Query("UPDATE NotificationEntity n SET n.nextAttemptAt = :nextAttemptAt WHERE n.id IN :ids")
+  int updateNextAttemptAtByIds(@Param("ids") Collection<UUID> ids, @Param("nextAttemptAt") LocalDateTime nextAttemptAt);
+
+  @Modifying
+  @Query("UPDATE NotificationEntity n SET n.deliveryStatus = :status, n.deliveryAttempts = n.deliveryAttempts + 1, " +
+      "n.sentAt = :sentAt, n.nextAttemptAt = null WHERE n.id IN :ids")
+  int markSentByIds(
+      @Param("ids") Collection<UUID> ids,
+      @Param("status") NotificationDeliveryStatus status,
+      @Param("sentAt") LocalDateTime sentAt);
+
+  @Modifying
+  @Query("UPDATE NotificationEntity n SET n.deliveryStatus = :status, n.deliveryAttempts = :attempts, " +
+      "n.nextAttemptAt = :nextAttemptAt WHERE n.id = :id")
+  int updateDeliveryById(
+      @Param("id") UUID id,
+      @Param("status") NotificationDeliveryStatus status,
+      @Param("attempts") Integer attempts,
+      @Param("nextAttemptAt") LocalDateTime nextAttemptAt);
+
+  // solo toca las columnas de lectura para no pisar el estado de entrega que maneja el outbox
+  @Modifying
+  @Query("UPDATE NotificationEntity n SET n.status = :status, n.readAt = :readAt WHERE n.id = :id")
+  int updateStatusById(
+      @Param("id") UUID id,
+      @Param("status") NotificationStatus status,
+      @Param("readAt") LocalDateTime readAt);
+
+  interface PendingDeliveryView {
+    UUID getNotificationId();
+
+    UUID getOrderId();
+
+    String getEmail();
+
+    String getMessage();
+
+    Integer getAttempts();
+  }
 }
@@ -1,19 +1,62 @@
 package com.store.arka.backend.infrastructure.persistence.repository;
 
+import com.store.arka.backend.application.model.OrderSummary;
 import com.store.arka.backend.domain.enums.OrderStatus;
 import com.store.arka.backend.infrastructure.persistence.entity.OrderEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 public interface IJpaOrderRepository extends JpaRepository<OrderEntity, UUID> {
+  // mismo grafo que recorre OrderMapper: cliente, documento, ítems, productos y categorías
+  @EntityGraph(attributePaths = {"customer", "customer.document", "items", "items.product", "items.product.categories"})
+  Optional<OrderEntity> findDetailedById(UUID id);
 
-  List<OrderEntity> findAllByStatus(OrderStatus status);
+  @EntityGraph(attributePaths = {"customer", "customer.document", "items", "items.product", "items.product.categories"})
+  List<OrderEntity> findAllByIdIn(Collection<UUID> ids);
 
-  List<OrderEntity> findAllByCustomerId(UUID customerId);
+  @Query("SELECT o.id FROM OrderEntity o")
+  Slice<UUID> findIdsBy(Pageable pageable);
 
-  List<OrderEntity> findAllByItemsProductId(UUID productId);
+  @Query("SELECT o.id FROM OrderEntity o WHERE o.status = :status")
+  Slice<UUID> findIdsByStatus(@Param("status") OrderStatus status, Pageable pageable);
+
+  @Query("SELECT o.id FROM OrderEntity o WHERE o.customer.id = :customerId")
+  Slice<UUID> findIdsByCustomerId(@Param("customerId") UUID customerId, Pageable pageable);
+
+  @Query("SELECT o.id FROM OrderEntity o WHERE EXISTS " +
+      "(SELECT 1 FROM OrderItemEntity i WHERE i.order = o AND i.product.id = :productId)")
+  Slice<UUID> findIdsByItemsProductId(@Param("productId") UUID productId, Pageable pageable);
+
+  @Query("SELECT o.id FROM OrderEntity o WHERE (:status IS NULL OR o.status = :status) " +
+      "ORDER BY o.createdAt DESC, o.id DESC")
+  List<UUID> findFirstKeysetIds(@Param("status") OrderStatus status, Pageable pageable);
+
+  @Query("SELECT o.id FROM OrderEntity o WHERE (:status IS NULL OR o.status = :status) " +
+      "AND (o.createdAt < :createdAt OR (o.createdAt = :createdAt AND o.id < :id)) " +
+      "ORDER BY o.createdAt DESC, o.id DESC")
+  List<UUID> findKeysetIdsAfter(
+      @Param("status") OrderStatus status,
+      @Param("createdAt") LocalDateTime createdAt,
+      @Param("id") UUID id,
+      Pageable pageable);
+
+  @Query("SELECT new com.store.arka.backend.application.model.OrderSummary(" +
+      "o.id, c.id, c.firstName, c.lastName, COUNT(i.id), o.total, o.status, o.createdAt) " +
+      "FROM OrderEntity o JOIN o.customer c LEFT JOIN o.items i " +
+      "WHERE (:status IS NULL OR o.status = :status) " +
+      "GROUP BY o.id, c.id, c.firstName, c.lastName, o.total, o.status, o.createdAt " +
+      "ORDER BY o.createdAt DESC, o.id")
+  Slice<OrderSummary> findOrderSummaries(@Param("status") OrderStatus status, Pageable pageable);
 
   boolean existsByCartId(UUID cartId);
 }
@@ -3,20 +3,55 @@ package com.store.arka.backend.infrastructure.persistence.repository;
 import com.store.arka.backend.domain.enums.PaymentMethod;
 import com.store.arka.backend.domain.enums.PaymentStatus;
 import com.store.arka.backend.infrastructure.persistence.entity.PaymentEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface IJpaPaymentRepository extends JpaRepository<PaymentEntity, UUID> {
+  Slice<PaymentEntity> findAllBy(Pageable pageable);
+
   Optional<PaymentEntity> findByOrderId(UUID orderId);
 
-  List<PaymentEntity> findAllByMethod(PaymentMethod method);
+  Slice<PaymentEntity> findAllByMethod(PaymentMethod method, Pageable pageable);
 
-  List<PaymentEntity> findAllByStatus(PaymentStatus status);
+  Slice<PaymentEntity> findAllByStatus(PaymentStatus status, Pageable pageable);
 
-  List<PaymentEntity> findAllByMethodAndStatus(PaymentMethod method, PaymentStatus status);
+  Slice<PaymentEntity> findAllByMethodAndStatus(PaymentMethod method, PaymentStatus status, Pageable pageable);
 
   boolean existsByOrderId(UUID orderId);
+
+  // SKIP LOCKED: cada nodo reclama un lote distinto de pagos vencidos sin esperar a los demás
+  @Query(value = """
+      SELECT p.id AS "paymentId", p.order_id AS "orderId"
+      FROM payments p
+      WHERE p.status = 'PENDING' AND p.created_at < :cutoff
+      ORDER BY p.created_at
+      LIMIT :limit
+      FOR UPDATE SKIP LOCKED
+      """, nativeQuery = true)
+  List<ExpiredPaymentView> findExpiredPendingForUpdate(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+
+  @Modifying
+  @Query("UPDATE PaymentEntity p SET p.status = :expired, p.processedAt = :now, p.updatedAt = :now, " +
+      "p.version = p.version + 1 WHERE p.id IN :ids AND p.status = :pending")
+  int expireByIds(
+      @Param("ids") Collection<UUID> ids,
+      @Param("pending") PaymentStatus pending,
+      @Param("expired") PaymentStatus expired,
+      @Param("now") LocalDateTime now);
+
+  interface ExpiredPaymentView {
+    UUID getPaymentId();
+
+    UUID getOrderId();
+  }
 }
@@ -2,16 +2,64 @@ package com.store.arka.backend.infrastructure.persistence.repository;
 
 import com.store.arka.backend.domain.enums.ProductStatus;
 import com.store.arka.backend.infrastructure.persistence.entity.ProductEntity;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface IJpaProductRepository extends JpaRepository<ProductEntity, UUID> {
+  Slice<ProductEntity> findAllBy(Pageable pageable);
+
   Optional<ProductEntity> findBySku(String sku);
 
-  List<ProductEntity> findAllByStatus(ProductStatus status);
+  @EntityGraph(attributePaths = {"categories"})
+  List<ProductEntity> findAllByIdIn(Collection<UUID> ids);
+
+  // filas bloqueadas en orden de id para que las retenciones concurrentes se encolen sin interbloqueos
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("SELECT p FROM ProductEntity p WHERE p.id IN :ids ORDER BY p.id")
+  List<ProductEntity> findAllByIdInForUpdate(@Param("ids") Collection<UUID> ids);
+
+  Slice<ProductEntity> findAllByStatus(ProductStatus status, Pageable pageable);
+
+  @Query("SELECT p FROM ProductEntity p WHERE (:status IS NULL OR p.status = :status) " +
+      "ORDER BY p.createdAt ASC, p.id ASC")
+  List<ProductEntity> findFirstKeysetPage(@Param("status") ProductStatus status, Pageable pageable);
+
+  @Query("SELECT p FROM ProductEntity p WHERE (:status IS NULL OR p.status = :status) " +
+      "AND (p.createdAt > :createdAt OR (p.createdAt = :createdAt AND p.id > :id)) " +
+      "ORDER BY p.createdAt ASC, p.id ASC")
+  List<ProductEntity> findKeysetPageAfter(
+      @Param("status") ProductStatus status,
+      @Param("createdAt") LocalDateTime createdAt,
+      @Param("id") UUID id,
+      Pageable pageable);
 
   boolean existsBySku(String sku);
+
+  @Query("SELECT p.version AS version, p.updatedAt AS updatedAt, MAX(c.updatedAt) AS categoriesUpdatedAt " +
+      "FROM ProductEntity p LEFT JOIN p.categories c WHERE p.id = :id GROUP BY p.id, p.version, p.updatedAt")
+  Optional<VersionView> findVersionById(@Param("id") UUID id);
+
+  @Query("SELECT p.version AS version, p.updatedAt AS updatedAt, MAX(c.updatedAt) AS categoriesUpdatedAt " +
+      "FROM ProductEntity p LEFT JOIN p.categories c WHERE p.sku = :sku GROUP BY p.id, p.version, p.updatedAt")
+  Optional<VersionView> findVersionBySku(@Param("sku") String sku);
+
+  interface VersionView {
+    Long getVersion();
+
+    LocalDateTime getUpdatedAt();
+
+    LocalDateTime getCategoriesUpdatedAt();
+  }
 }
@@ -2,17 +2,30 @@ package com.store.arka.backend.infrastructure.persistence.repository;
 
 import com.store.arka.backend.domain.enums.PurchaseStatus;
 import com.store.arka.backend.infrastructure.persistence.entity.PurchaseEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
 public interface IJpaPurchaseRepository extends JpaRepository<PurchaseEntity, UUID> {
-  List<PurchaseEntity> findAllByStatus(PurchaseStatus status);
+  Slice<PurchaseEntity> findAllBy(Pageable pageable);
 
-  List<PurchaseEntity> findAllBySupplierId(UUID supplierId);
+  Slice<PurchaseEntity> findAllByStatus(PurchaseStatus status, Pageable pageable);
 
-  List<PurchaseEntity> findAllByItemsProductId(UUID productId);
+  Slice<PurchaseEntity> findAllBySupplierId(UUID supplierId, Pageable pageable);
+
+  Slice<PurchaseEntity> findAllByItemsProductId(UUID productId, Pageable pageable);
 
   List<PurchaseEntity> findAllByItemsProductIdAndStatus(UUID productId, PurchaseStatus status);
+
+  @Query("SELECT DISTINCT i.product.id FROM PurchaseEntity p JOIN p.items i " +
+      "WHERE i.product.id IN :productIds AND p.status IN :statuses")
+  List<UUID> findProductIdsByItemsProductIdInAndStatusIn(
+      @Param("productIds") Collection<UUID> productIds,
+      @Param("statuses") Collection<PurchaseStatus> statuses);
 }
@@ -0,0 +1,54 @@
+package com.store.arka.backend.infrastructure.persistence.repository;
+
+import com.store.arka.backend.domain.enums.ReservationStatus;
+import com.store.arka.backend.infrastructure.persistence.entity.StockReservationEntity;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface IJpaStockReservationRepository extends JpaRepository<StockReservationEntity, UUID> {
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  List<StockReservationEntity> findAllByOrderIdAndStatus(UUID orderId, ReservationStatus status);
+
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  List<StockReservationEntity> findAllByOrderIdInAndStatus(Collection<UUID> orderIds, ReservationStatus status);
+
+  // -2 = SKIP LOCKED: varias instancias pueden barrer reservas vencidas sin pisarse
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+  List<StockReservationEntity> findAllByStatusAndExpiresAtBeforeOrderByExpiresAtAsc(
+      ReservationStatus status, LocalDateTime now, Pageable pageable);
+
+  @Query("SELECT r.productId AS productId, SUM(r.quantity) AS quantity FROM StockReservationEntity r " +
+      "WHERE r.productId IN :productIds AND r.status = :status GROUP BY r.productId")
+  List<ReservedQuantityView> sumQuantityByProductIdInAndStatus(
+      @Param("productIds") Collection<UUID> productIds,
+      @Param("status") ReservationStatus status);
+
+  @Query("SELECT r.productId AS productId, SUM(r.quantity) AS quantity FROM StockReservationEntity r " +
+      "WHERE r.productId IN :productIds AND r.status = :status AND r.orderId <> :orderId GROUP BY r.productId")
+  List<ReservedQuantityView> sumQuantityByProductIdInAndStatusExcludingOrder(
+      @Param("productIds") Collection<UUID> productIds,
+      @Param("status") ReservationStatus status,
+      @Param("orderId") UUID orderId);
+
+  @Modifying
+  @Query("UPDATE StockReservationEntity r SET r.status = :status, r.updatedAt = :now WHERE r.id IN :ids")
+  int updateStatusByIds(
+      @Param("ids") Collection<UUID> ids,
+      @Param("status") ReservationStatus status,
+      @Param("now") LocalDateTime now);
+
+  interface ReservedQuantityView {
+    UUID getProductId();
+
+    Long getQuantity();
+  }
+}
@@ -2,22 +2,41 @@ package com.store.arka.backend.infrastructure.persistence.repository;
 
 import com.store.arka.backend.domain.enums.SupplierStatus;
 import com.store.arka.backend.infrastructure.persistence.entity.SupplierEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface IJpaSupplierRepository extends JpaRepository<SupplierEntity, UUID> {
+  Slice<SupplierEntity> findAllBy(Pageable pageable);
+
   Optional<SupplierEntity> findByEmail(String email);
 
   Optional<SupplierEntity> findByTaxId(String taxId);
 
-  List<SupplierEntity> findAllByStatus(SupplierStatus status);
+  Slice<SupplierEntity> findAllByStatus(SupplierStatus status, Pageable pageable);
+
+  Slice<SupplierEntity> findAllByProductsId(UUID productId, Pageable pageable);
 
-  List<SupplierEntity> findAllByProductsId(UUID productId);
+  @Query("SELECT p.id AS productId, s.id AS supplierId FROM SupplierEntity s JOIN s.products p " +
+      "WHERE p.id IN :productIds AND s.status = :status ORDER BY p.id ASC, s.id ASC")
+  List<SupplierProductView> findSupplierProductPairs(
+      @Param("productIds") Collection<UUID> productIds,
+      @Param("status") SupplierStatus status);
 
   boolean existsByEmail(String email);
 
   boolean existsByTaxId(String taxId);
+
+  interface SupplierProductView {
+    UUID getProductId();
+
+    UUID getSupplierId();
+  }
 }
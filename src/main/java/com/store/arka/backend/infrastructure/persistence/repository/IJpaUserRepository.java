@@ -3,22 +3,25 @@ package com.store.arka.backend.infrastructure.persistence.repository;
 import com.store.arka.backend.domain.enums.UserRole;
 import com.store.arka.backend.domain.enums.UserStatus;
 import com.store.arka.backend.infrastructure.persistence.entity.UserEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 
-import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface IJpaUserRepository extends JpaRepository<UserEntity, UUID> {
+  Slice<UserEntity> findAllBy(Pageable pageable);
+
   Optional<UserEntity> findByUserName(String userName);
 
   Optional<UserEntity> findByEmail(String email);
 
-  List<UserEntity> findAllByRole(UserRole role);
+  Slice<UserEntity> findAllByRole(UserRole role, Pageable pageable);
 
-  List<UserEntity> findAllByStatus(UserStatus status);
+  Slice<UserEntity> findAllByStatus(UserStatus status, Pageable pageable);
 
-  List<UserEntity> findAllUsersByRoleAndStatus(UserRole role, UserStatus status);
+  Slice<UserEntity> findAllUsersByRoleAndStatus(UserRole role, UserStatus status, Pageable pageable);
 
   boolean existsByUserName(String userName);
 
@@ -0,0 +1,39 @@
+package com.store.arka.backend.infrastructure.persistence.updater;
+
+import java.util.*;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Reconciliación de colecciones de ítems indexada por id, en O(n + m). Las filas que ya no
+ * están en el dominio se quitan de la colección (orphanRemoval emite el DELETE) y las que
+ * siguen se pasan al updater del ítem, que solo toca los campos modificados. Los ítems del
+ * dominio sin id aún no existen en la colección: se persisten con su propio adaptador.
+ */
+final class ItemReconciler {
+  private ItemReconciler() {
+  }
+
+  static <E, D> void reconcile(
+      Collection<E> entities, Collection<D> domains,
+      Function<E, UUID> entityId, Function<D, UUID> domainId, BiConsumer<E, D> itemUpdater) {
+    if (entities == null || entities.isEmpty()) return;
+    Map<UUID, D> domainById = new HashMap<>(domains == null ? 0 : domains.size() * 4 / 3 + 1);
+    if (domains != null) {
+      for (D domain : domains) {
+        UUID id = domainId.apply(domain);
+        if (id != null) domainById.put(id, domain);
+      }
+    }
+    Iterator<E> iterator = entities.iterator();
+    while (iterator.hasNext()) {
+      E entity = iterator.next();
+      D domain = domainById.get(entityId.apply(entity));
+      if (domain == null) {
+        iterator.remove();
+      } else {
+        itemUpdater.accept(entity, domain);
+      }
+    }
+  }
+}
@@ -1,11 +1,18 @@
 package com.store.arka.backend.infrastructure.persistence.updater;
 
+import com.store.arka.backend.domain.model.Category;
 import com.store.arka.backend.domain.model.Product;
+import com.store.arka.backend.infrastructure.persistence.entity.CategoryEntity;
 import com.store.arka.backend.infrastructure.persistence.entity.ProductEntity;
 import com.store.arka.backend.infrastructure.persistence.mapper.CategoryMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
 @Component
 @RequiredArgsConstructor
 public class ProductUpdater {
@@ -19,12 +26,27 @@ public class ProductUpdater {
       entity.setDescription(domain.getDescription());
     if (domain.getPrice() != null && !domain.getPrice().equals(entity.getPrice()))
       entity.setPrice(domain.getPrice());
-    if (domain.getCategories() != null)
+    // reemplazar la colección sin cambios borra y reinserta product_category
+    if (domain.getCategories() != null && !categoryIds(domain).equals(categoryIds(entity)))
       entity.setCategories(categoryMapper.toReference(domain.getCategories()));
-    if (domain.getStock() != null)
+    if (domain.getStock() != null && !domain.getStock().equals(entity.getStock()))
       entity.setStock(domain.getStock());
     if (domain.getStatus() != null && !domain.getStatus().equals(entity.getStatus()))
       entity.setStatus(domain.getStatus());
     return entity;
   }
+
+  private Set<UUID> categoryIds(Product domain) {
+    return domain.getCategories().stream()
+        .map(Category::getId)
+        .filter(Objects::nonNull)
+        .collect(Collectors.toSet());
+  }
+
+  private Set<UUID> categoryIds(ProductEntity entity) {
+    if (entity.getCategories() == null) return Set.of();
+    return entity.getCategories().stream()
+        .map(CategoryEntity::getId)
+        .collect(Collectors.toSet());
+  }
 }
@@ -2,20 +2,18 @@ package com.store.arka.backend.infrastructure.persistence.updater;
 
 import com.store.arka.backend.domain.model.Order;
 import com.store.arka.backend.domain.model.Purchase;
+import com.store.arka.backend.domain.model.PurchaseItem;
 import com.store.arka.backend.infrastructure.persistence.entity.OrderEntity;
 import com.store.arka.backend.infrastructure.persistence.entity.OrderItemEntity;
 import com.store.arka.backend.infrastructure.persistence.entity.PurchaseEntity;
 import com.store.arka.backend.infrastructure.persistence.entity.PurchaseItemEntity;
-import com.store.arka.backend.infrastructure.persistence.mapper.PurchaseItemMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
-import java.util.List;
-
 @Component
 @RequiredArgsConstructor
 public class PurchaseUpdater {
-  private final PurchaseItemMapper purchaseItemMapper;
+  private final PurchaseItemUpdater purchaseItemUpdater;
 
   public PurchaseEntity merge(PurchaseEntity entity, Purchase domain) {
     if (entity == null || domain == null) return null;
@@ -23,12 +21,8 @@ public class PurchaseUpdater {
       entity.setTotal(domain.getTotal());
     if (domain.getStatus() != null && !entity.getStatus().equals(domain.getStatus()))
       entity.setStatus(domain.getStatus());
-    // remove excess items to return
-    List<PurchaseItemEntity> entityList = purchaseItemMapper.toEntity(domain.getItems());
-    entity.getItems().removeIf(existingItem ->
-        entityList.stream().noneMatch(newItem ->
-            newItem.getId() != null && newItem.getId().equals(existingItem.getId()))
-    );
+    ItemReconciler.reconcile(entity.getItems(), domain.getItems(),
+        PurchaseItemEntity::getId, PurchaseItem::getId, purchaseItemUpdater::merge);
     return entity;
   }
 }
@@ -0,0 +1,80 @@
+package com.store.arka.backend.infrastructure.security;
+
+import com.store.arka.backend.application.port.out.IUserStatusCachePort;
+import com.store.arka.backend.domain.model.User;
+import com.store.arka.backend.infrastructure.persistence.mapper.UserMapper;
+import com.store.arka.backend.infrastructure.persistence.repository.IJpaUserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Short-lived snapshot of each user's role, email and status, used by the stateless JWT filter
+ * to honour role changes and deactivations without querying the users table on every request.
+ */
+@Component
+public class UserStatusCache implements IUserStatusCachePort {
+  private final Map<UUID, Entry> entries = new ConcurrentHashMap<>();
+  private final IJpaUserRepository jpaUserRepository;
+  private final UserMapper mapper;
+  private final long ttlMillis;
+  private final int maxSize;
+
+  public UserStatusCache(
+      IJpaUserRepository jpaUserRepository,
+      UserMapper mapper,
+      @Value("${arka.security.user-status-cache.ttl-seconds:60}") long ttlSeconds,
+      @Value("${arka.security.user-status-cache.max-size:10000}") int maxSize) {
+    this.jpaUserRepository = jpaUserRepository;
+    this.mapper = mapper;
+    this.ttlMillis = ttlSeconds * 1000;
+    this.maxSize = maxSize;
+  }
+
+  public Optional<User> getUser(UUID userId) {
+    long now = System.currentTimeMillis();
+    Entry entry = entries.get(userId);
+    if (entry != null && entry.expiresAt() > now) return Optional.of(entry.user());
+    Optional<User> loaded = jpaUserRepository.findById(userId).map(mapper::toDomain).map(this::withoutPassword);
+    if (entries.size() >= maxSize) entries.values().removeIf(cached -> cached.expiresAt() <= now);
+    loaded.filter(user -> entries.size() < maxSize)
+        .ifPresent(user -> entries.put(userId, new Entry(user, now + ttlMillis)));
+    return loaded;
+  }
+
+  @Override
+  public void evictUser(UUID userId) {
+    entries.remove(userId);
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      // una petición concurrente pudo recargar el estado anterior antes del commit
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          entries.remove(userId);
+        }
+      });
+    }
+  }
+
+  private User withoutPassword(User user) {
+    return new User(
+        user.getId(),
+        user.getUserName(),
+        user.getEmail(),
+        null,
+        user.getRole(),
+        user.getStatus(),
+        user.getCreatedAt(),
+        user.getUpdatedAt()
+    );
+  }
+
+  private record Entry(User user, long expiresAt) {
+  }
+}
@@ -1,13 +1,18 @@
 package com.store.arka.backend.infrastructure.security.jwt;
 
+import com.store.arka.backend.infrastructure.security.UserDetailsImpl;
+import com.store.arka.backend.infrastructure.security.UserStatusCache;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.security.SignatureException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -17,13 +22,37 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class JwtAuthFilter extends OncePerRequestFilter {
   private final JwtService jwtService;
   private final UserDetailsService userDetailsService;
+  private final UserStatusCache userStatusCache;
+  private final Map<String, Timer> timers;
+  @Value("${arka.security.stateless-auth:true}")
+  private boolean statelessAuth;
+
+  public JwtAuthFilter(
+      JwtService jwtService,
+      UserDetailsService userDetailsService,
+      UserStatusCache userStatusCache,
+      MeterRegistry meterRegistry) {
+    this.jwtService = jwtService;
+    this.userDetailsService = userDetailsService;
+    this.userStatusCache = userStatusCache;
+    this.timers = Stream.of("authenticated", "rejected", "expired", "invalid_signature", "error")
+        .collect(Collectors.toUnmodifiableMap(outcome -> outcome, outcome -> Timer.builder("arka.security.jwt.filter")
+            .description("Time spent validating bearer tokens")
+            .tag("outcome", outcome)
+            .register(meterRegistry)));
+  }
 
   @Override
   protected void doFilterInternal(
@@ -35,27 +64,51 @@ public class JwtAuthFilter extends OncePerRequestFilter {
       return;
     }
     final String jwt = authHeader.substring(7);
+    long start = System.nanoTime();
+    String outcome = "rejected";
     try {
-      final String userEmail = jwtService.extractUsername(jwt);
+      final Claims claims = jwtService.extractAllClaims(jwt);
+      final String userEmail = claims.getSubject();
 
       if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-        UserDetails userDetails = userDetailsService.loadUserByUsername(userEmail);
-        if (jwtService.isTokenValid(jwt, userDetails)) {
+        UserDetails userDetails = statelessAuth
+            ? loadFromClaims(claims)
+            : userDetailsService.loadUserByUsername(userEmail);
+        if (userDetails != null && jwtService.isTokenValid(claims, userDetails)) {
           UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
               userDetails,
               null,
               userDetails.getAuthorities());
           authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
           SecurityContextHolder.getContext().setAuthentication(authToken);
+          outcome = "authenticated";
         }
       }
     } catch (ExpiredJwtException e) {
+      outcome = "expired";
       log.warn("[JWI_AUTH_FILTER][FILTER_INTERNAL] Token expired: {}", e.getMessage());
     } catch (SignatureException e) {
+      outcome = "invalid_signature";
       log.error("[JWI_AUTH_FILTER][FILTER_INTERNAL] Invalid signature: {}", e.getMessage());
     } catch (Exception e) {
+      outcome = "error";
       log.error("[JWI_AUTH_FILTER][FILTER_INTERNAL] Other error: {}", e.getMessage());
     }
+    timers.get(outcome).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
     filterChain.doFilter(request, response);
   }
+
+  private UserDetails loadFromClaims(Claims claims) {
+    UUID userId = UUID.fromString(claims.get("id", String.class));
+    List<?> roles = claims.get("roles", List.class);
+    return userStatusCache.getUser(userId)
+        .filter(user -> user.isActive()
+            && user.getEmail().equals(claims.getSubject())
+            && roles != null && roles.contains("ROLE_" + user.getRole().name()))
+        .map(UserDetailsImpl::new)
+        .orElseGet(() -> {
+          log.warn("[JWI_AUTH_FILTER][LOAD_FROM_CLAIMS] Token of User(id={}) no longer matches its account", userId);
+          return null;
+        });
+  }
 }
@@ -0,0 +1,77 @@
+package com.store.arka.backend.infrastructure.security.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Date;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Verified claims keyed by the SHA-256 of the token. Entries live until the token's own expiration
+ * and the map never grows past the configured size.
+ */
+@Component
+public class JwtClaimsCache {
+  private final Map<String, Claims> entries = new ConcurrentHashMap<>();
+  private final AtomicLong hits = new AtomicLong();
+  private final AtomicLong misses = new AtomicLong();
+  private final int maxSize;
+
+  public JwtClaimsCache(MeterRegistry meterRegistry, @Value("${arka.security.jwt-claims-cache.max-size:10000}") int maxSize) {
+    this.maxSize = maxSize;
+    FunctionCounter.builder("arka.jwt.claims.cache.requests", hits, AtomicLong::get)
+        .tag("result", "hit").register(meterRegistry);
+    FunctionCounter.builder("arka.jwt.claims.cache.requests", misses, AtomicLong::get)
+        .tag("result", "miss").register(meterRegistry);
+    Gauge.builder("arka.jwt.claims.cache.size", entries, Map::size).register(meterRegistry);
+  }
+
+  public Claims get(String token) {
+    String key = hash(token);
+    Claims claims = entries.get(key);
+    if (claims != null && isAlive(claims)) {
+      hits.incrementAndGet();
+      return claims;
+    }
+    if (claims != null) entries.remove(key);
+    misses.incrementAndGet();
+    return null;
+  }
+
+  public void put(String token, Claims claims) {
+    if (!isAlive(claims)) return;
+    if (entries.size() >= maxSize) entries.values().removeIf(cached -> !isAlive(cached));
+    if (entries.size() < maxSize) entries.put(hash(token), claims);
+  }
+
+  public long getHitCount() {
+    return hits.get();
+  }
+
+  public long getMissCount() {
+    return misses.get();
+  }
+
+  private boolean isAlive(Claims claims) {
+    return claims.getExpiration() != null && claims.getExpiration().after(new Date());
+  }
+
+  private String hash(String token) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 not available", e);
+    }
+  }
+}
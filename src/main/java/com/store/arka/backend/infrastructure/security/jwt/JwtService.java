@@ -2,10 +2,12 @@ package com.store.arka.backend.infrastructure.security.jwt;
 
 import com.store.arka.backend.infrastructure.security.UserDetailsImpl;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.GrantedAuthority;
@@ -20,9 +22,13 @@ import java.util.stream.Collectors;
 
 @Slf4j
 @Service
+@RequiredArgsConstructor
 public class JwtService {
+  private final JwtClaimsCache claimsCache;
   @Value("${jwt.secret.key}")
   private String SECRET_KEY;
+  private SecretKey signInKey;
+  private JwtParser jwtParser;
 
   @PostConstruct
   private void validateSecretKey() {
@@ -41,6 +47,8 @@ public class JwtService {
       log.error("Invalid SECRET_KEY format. It must be Base64URL encoded.", e);
       throw new IllegalStateException("Invalid SECRET_KEY format. Must be Base64URL encoded.", e);
     }
+    signInKey = Keys.hmacShaKeyFor(Decoders.BASE64URL.decode(SECRET_KEY));
+    jwtParser = Jwts.parser().verifyWith(signInKey).build();
   }
 
   public String generateToken(UserDetails userDetails) {
@@ -66,8 +74,7 @@ public class JwtService {
   }
 
   private SecretKey getSignInKey() {
-    byte[] keyBytes = Decoders.BASE64URL.decode(SECRET_KEY);
-    return Keys.hmacShaKeyFor(keyBytes);
+    return signInKey;
   }
 
   public String extractUsername(String token) {
@@ -79,24 +86,23 @@ public class JwtService {
     return claimsResolver.apply(claims);
   }
 
-  private Claims extractAllClaims(String token) {
-    return Jwts.parser()
-        .verifyWith(getSignInKey())
-        .build()
-        .parseSignedClaims(token)
-        .getPayload();
+  public Claims extractAllClaims(String token) {
+    Claims cached = claimsCache.get(token);
+    if (cached != null) return cached;
+    Claims claims = jwtParser.parseSignedClaims(token).getPayload();
+    claimsCache.put(token, claims);
+    return claims;
   }
 
   public boolean isTokenValid(String token, UserDetails userDetails) {
-    final String username = extractUsername(token);
-    return username.equals(userDetails.getUsername()) && !isTokenExpired(token);
+    return isTokenValid(extractAllClaims(token), userDetails);
   }
 
-  private boolean isTokenExpired(String token) {
-    return extractExpiration(token).before(new Date());
+  public boolean isTokenValid(Claims claims, UserDetails userDetails) {
+    return claims.getSubject().equals(userDetails.getUsername()) && !isTokenExpired(claims);
   }
 
-  private Date extractExpiration(String token) {
-    return extractClaim(token, Claims::getExpiration);
+  private boolean isTokenExpired(Claims claims) {
+    return claims.getExpiration().before(new Date());
   }
 }
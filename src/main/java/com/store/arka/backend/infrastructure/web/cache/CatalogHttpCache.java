@@ -0,0 +1,59 @@
+package com.store.arka.backend.infrastructure.web.cache;
+
+import com.store.arka.backend.application.model.ResourceVersion;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * GET condicional para las lecturas públicas del catálogo. El validador se consulta antes de cargar
+ * el recurso: si coincide con If-None-Match/If-Modified-Since se responde 304 sin cuerpo.
+ */
+@Component
+public class CatalogHttpCache {
+  private final CacheControl cacheControl;
+
+  public CatalogHttpCache(
+      @Value("${arka.http-cache.catalog.max-age-seconds:30}") long maxAgeSeconds,
+      @Value("${arka.http-cache.catalog.shared-max-age-seconds:120}") long sharedMaxAgeSeconds,
+      @Value("${arka.http-cache.catalog.stale-while-revalidate-seconds:30}") long staleWhileRevalidateSeconds) {
+    CacheControl base = maxAgeSeconds > 0
+        ? CacheControl.maxAge(Duration.ofSeconds(maxAgeSeconds))
+        : CacheControl.noCache();
+    if (sharedMaxAgeSeconds > 0) base = base.sMaxAge(Duration.ofSeconds(sharedMaxAgeSeconds));
+    if (staleWhileRevalidateSeconds > 0) {
+      base = base.staleWhileRevalidate(Duration.ofSeconds(staleWhileRevalidateSeconds));
+    }
+    this.cacheControl = base.cachePublic();
+  }
+
+  public <T> ResponseEntity<T> conditional(WebRequest request, ResourceVersion version, Supplier<T> body) {
+    String etag = "\"" + version.tag() + "\"";
+    long lastModified = toEpochMillis(version.lastModified());
+    if (request.checkNotModified(etag, lastModified)) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(cacheControl).build();
+    }
+    ResponseEntity.BodyBuilder builder = ResponseEntity.ok().eTag(etag).cacheControl(cacheControl);
+    if (lastModified > 0) builder.lastModified(lastModified);
+    return builder.body(body.get());
+  }
+
+  // un recurso sin validador (inexistente) sigue el camino normal y termina en 404
+  public <T> ResponseEntity<T> conditional(
+      WebRequest request, Optional<ResourceVersion> version, Supplier<T> body) {
+    return version.map(found -> conditional(request, found, body)).orElseGet(() -> ResponseEntity.ok(body.get()));
+  }
+
+  private static long toEpochMillis(LocalDateTime dateTime) {
+    return dateTime == null ? -1 : dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+  }
+}
@@ -0,0 +1,58 @@
+package com.store.arka.backend.infrastructure.web.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Respuestas de las operaciones enviadas con Idempotency-Key, por usuario y clave. La primera petición
+ * deja una entrada en curso y los duplicados esperan su resultado en lugar de repetir el trabajo.
+ * Vive en memoria: cada instancia de la aplicación tiene su propio almacén.
+ */
+@Component
+public class IdempotencyStore {
+  private final Cache<String, Entry> entries;
+
+  public IdempotencyStore(
+      MeterRegistry meterRegistry,
+      @Value("${arka.idempotency.max-size:10000}") long maxSize,
+      @Value("${arka.idempotency.ttl-seconds:86400}") long ttlSeconds) {
+    this.entries = Caffeine.newBuilder()
+        .maximumSize(maxSize)
+        .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+        .recordStats()
+        .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, entries, "idempotency");
+  }
+
+  // null cuando la clave era nueva: la petición actual queda a cargo de completar la entrada
+  public Entry putIfAbsent(String key, Entry entry) {
+    return entries.asMap().putIfAbsent(key, entry);
+  }
+
+  public void complete(Entry entry, StoredResponse response) {
+    entry.response().complete(Optional.of(response));
+  }
+
+  // libera la clave para que el siguiente reintento ejecute la operación de nuevo
+  public void abandon(String key, Entry entry) {
+    entries.asMap().remove(key, entry);
+    entry.response().complete(Optional.empty());
+  }
+
+  public record Entry(String fingerprint, CompletableFuture<Optional<StoredResponse>> response) {
+    public static Entry inFlight(String fingerprint) {
+      return new Entry(fingerprint, new CompletableFuture<>());
+    }
+  }
+
+  public record StoredResponse(int status, String contentType, byte[] body) {
+  }
+}
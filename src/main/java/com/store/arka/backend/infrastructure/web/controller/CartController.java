@@ -1,12 +1,16 @@
 package com.store.arka.backend.infrastructure.web.controller;
 
+import com.store.arka.backend.application.model.PageQuery;
 import com.store.arka.backend.application.port.in.ICartUseCase;
 import com.store.arka.backend.domain.enums.CartStatus;
 import com.store.arka.backend.infrastructure.web.dto.MessageResponseDto;
+import com.store.arka.backend.infrastructure.web.dto.PageRequestDto;
+import com.store.arka.backend.infrastructure.web.dto.PageResponseDto;
 import com.store.arka.backend.infrastructure.web.dto.cart.request.CreateCartDto;
 import com.store.arka.backend.infrastructure.web.dto.cart.response.CartResponseDto;
 import com.store.arka.backend.infrastructure.web.dto.cart.request.UpdateQuantityToCartItemDto;
 import com.store.arka.backend.infrastructure.web.mapper.CartDtoMapper;
+import com.store.arka.backend.infrastructure.web.mapper.PageDtoMapper;
 import com.store.arka.backend.shared.util.PathUtils;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -15,9 +19,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @RestController
 @RequiredArgsConstructor
@@ -25,6 +27,7 @@ import java.util.stream.Collectors;
 public class CartController {
   private final ICartUseCase cartUseCase;
   private final CartDtoMapper mapper;
+  private final PageDtoMapper pageDtoMapper;
 
   @PreAuthorize("hasAnyRole('ADMIN', 'CUSTOMER')")
   @PostMapping
@@ -43,29 +46,39 @@ public class CartController {
 
   @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
   @GetMapping
-  public ResponseEntity<List<CartResponseDto>> getAllCarts(@RequestParam(required = false) String status) {
+  public ResponseEntity<PageResponseDto<CartResponseDto>> getAllCarts(
+      @RequestParam(required = false) String status,
+      @ModelAttribute PageRequestDto pageRequest) {
+    PageQuery pageQuery = pageDtoMapper.toPageQuery(pageRequest);
     if (status == null) {
-      return ResponseEntity.ok(cartUseCase.getAllCarts().stream().map(mapper::toDto).collect(Collectors.toList()));
+      return ResponseEntity.ok(pageDtoMapper.toDto(
+          cartUseCase.getAllCarts(pageQuery), mapper::toDto));
     }
     CartStatus statusEnum = PathUtils.validateEnumOrThrow(CartStatus.class, status, "CartStatus");
-    return ResponseEntity.ok(cartUseCase.getAllCartsByStatus(statusEnum)
-        .stream().map(mapper::toDto).collect(Collectors.toList()));
+    return ResponseEntity.ok(pageDtoMapper.toDto(
+        cartUseCase.getAllCartsByStatus(statusEnum, pageQuery), mapper::toDto));
   }
 
   @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
   @GetMapping("/customer/{customerId}")
-  public ResponseEntity<List<CartResponseDto>> getAllCartsByCustomerId(@PathVariable("customerId") String customerId) {
+  public ResponseEntity<PageResponseDto<CartResponseDto>> getAllCartsByCustomerId(
+      @PathVariable("customerId") String customerId,
+      @ModelAttribute PageRequestDto pageRequest) {
+    PageQuery pageQuery = pageDtoMapper.toPageQuery(pageRequest);
     UUID customerUuid = PathUtils.validateAndParseUUID(customerId);
-    return ResponseEntity.ok(cartUseCase.getAllCartsByCustomerId(customerUuid)
-        .stream().map(mapper::toDto).collect(Collectors.toList()));
+    return ResponseEntity.ok(pageDtoMapper.toDto(
+        cartUseCase.getAllCartsByCustomerId(customerUuid, pageQuery), mapper::toDto));
   }
 
   @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
   @GetMapping("/items/product/{productId}")
-  public ResponseEntity<List<CartResponseDto>> getAllCartsByItemsProductId(@PathVariable("productId") String productId) {
+  public ResponseEntity<PageResponseDto<CartResponseDto>> getAllCartsByItemsProductId(
+      @PathVariable("productId") String productId,
+      @ModelAttribute PageRequestDto pageRequest) {
+    PageQuery pageQuery = pageDtoMapper.toPageQuery(pageRequest);
     UUID productUuid = PathUtils.validateAndParseUUID(productId);
-    return ResponseEntity.ok(cartUseCase.getAllCartsByItemsProductId(productUuid)
-        .stream().map(mapper::toDto).collect(Collectors.toList()));
+    return ResponseEntity.ok(pageDtoMapper.toDto(
+        cartUseCase.getAllCartsByItemsProductId(productUuid, pageQuery), mapper::toDto));
   }
 
   @PreAuthorize("hasAnyRole('ADMIN', 'CUSTOMER')")
@@ -1,20 +1,23 @@
 package com.store.arka.backend.infrastructure.web.controller;
 
+import com.store.arka.backend.application.model.PageQuery;
 import com.store.arka.backend.application.port.in.ICartItemUseCase;
+import com.store.arka.backend.infrastructure.web.dto.PageRequestDto;
+import com.store.arka.backend.infrastructure.web.dto.PageResponseDto;
 import com.store.arka.backend.infrastructure.web.dto.cart.response.CartItemResponseDto;
 import com.store.arka.backend.infrastructure.web.mapper.CartItemDtoMapper;
+import com.store.arka.backend.infrastructure.web.mapper.PageDtoMapper;
 import com.store.arka.backend.shared.util.PathUtils;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.util.List;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @RestController
 @RequiredArgsConstructor
@@ -22,6 +25,7 @@ import java.util.stream.Collectors;
 public class CartItemController {
   private final ICartItemUseCase cartItemUseCase;
   private final CartItemDtoMapper mapper;
+  private final PageDtoMapper pageDtoMapper;
 
   @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
   @GetMapping("/{id}")
@@ -32,17 +36,20 @@ public class CartItemController {
 
   @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
   @GetMapping
-  public ResponseEntity<List<CartItemResponseDto>> getAllCartItems() {
-    return ResponseEntity.ok(cartItemUseCase.getAllCartItems()
-        .stream().map(mapper::toDto).collect(Collectors.toList()));
+  public ResponseEntity<PageResponseDto<CartItemResponseDto>> getAllCartItems(@ModelAttribute PageRequestDto pageRequest) {
+    PageQuery pageQuery = pageDtoMapper.toPageQuery(pageRequest);
+    return ResponseEntity.ok(pageDtoMapper.toDto(
+        cartItemUseCase.getAllCartItems(pageQuery), mapper::toDto));
   }
 
   @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
   @GetMapping("/product/{productId}")
-  public ResponseEntity<List<CartItemResponseDto>> getAllCartItemsByProductId(
-      @PathVariable("productId") String productId) {
+  public ResponseEntity<PageResponseDto<CartItemResponseDto>> getAllCartItemsByProductId(
+      @PathVariable("productId") String productId,
+      @ModelAttribute PageRequestDto pageRequest) {
+    PageQuery pageQuery = pageDtoMapper.toPageQuery(pageRequest);
     UUID productUuid = PathUtils.validateAndParseUUID(productId);
-    return ResponseEntity.ok(cartItemUseCase.getAllCartItemsByProductId(productUuid)
-        .stream().map(mapper::toDto).collect(Collectors.toList()));
+    return ResponseEntity.ok(pageDtoMapper.toDto(
+        cartItemUseCase.getAllCartItemsByProductId(productUuid, pageQuery), mapper::toDto));
   }
 }
@@ -1,12 +1,18 @@
 package com.store.arka.backend.infrastructure.web.controller;
 
+import com.store.arka.backend.application.model.PageQuery;
+import com.store.arka.backend.application.port.in.ICatalogVersionUseCase;
 import com.store.arka.backend.application.port.in.ICategoryUseCase;
 import com.store.arka.backend.domain.enums.CategoryStatus;
+import com.store.arka.backend.infrastructure.web.cache.CatalogHttpCache;
 import com.store.arka.backend.infrastructure.web.dto.MessageResponseDto;
+import com.store.arka.backend.infrastructure.web.dto.PageRequestDto;
+import com.store.arka.backend.infrastructure.web.dto.PageResponseDto;
 import com.store.arka.backend.infrastructure.web.dto.category.request.CreateCategoryDto;
 import com.store.arka.backend.infrastructure.web.dto.category.request.UpdateCategoryDto;
 import com.store.arka.backend.infrastructure.web.dto.category.response.CategoryResponseDto;
 import com.store.arka.backend.infrastructure.web.mapper.CategoryDtoMapper;
+import com.store.arka.backend.infrastructure.web.mapper.PageDtoMapper;
 import com.store.arka.backend.shared.util.NormalizationUtils;
 import com.store.arka.backend.shared.util.PathUtils;
 import jakarta.validation.Valid;
@@ -15,8 +21,8 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
-import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -25,6 +31,9 @@ import java.util.UUID;
 public class CategoryController {
   public final ICategoryUseCase categoryUseCase;
   public final CategoryDtoMapper mapper;
+  private final PageDtoMapper pageDtoMapper;
+  private final ICatalogVersionUseCase catalogVersionUseCase;
+  private final CatalogHttpCache catalogHttpCache;
 
   @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
   @PostMapping
@@ -34,25 +43,34 @@ public class CategoryController {
   }
 
   @GetMapping("/{id}")
-  public ResponseEntity<CategoryResponseDto> getCategoryById(@PathVariable("id") String id) {
+  public ResponseEntity<CategoryResponseDto> getCategoryById(@PathVariable("id") String id, WebRequest request) {
     UUID uuid = PathUtils.validateAndParseUUID(id);
-    return ResponseEntity.ok(mapper.toDto(categoryUseCase.getCategoryById(uuid)));
+    return catalogHttpCache.conditional(request, categoryUseCase.getCategoryVersionById(uuid),
+        () -> mapper.toDto(categoryUseCase.getCategoryById(uuid)));
   }
 
   @GetMapping("/name/{name}")
-  public ResponseEntity<CategoryResponseDto> getCategoryByName(@PathVariable("name") String name) {
+  public ResponseEntity<CategoryResponseDto> getCategoryByName(
+      @PathVariable("name") String name,
+      WebRequest request) {
     String normalizeName = NormalizationUtils.normalizeShortText(name);
-    return ResponseEntity.ok(mapper.toDto(categoryUseCase.getCategoryByName(normalizeName)));
+    return catalogHttpCache.conditional(request, categoryUseCase.getCategoryVersionByName(normalizeName),
+        () -> mapper.toDto(categoryUseCase.getCategoryByName(normalizeName)));
   }
 
   @GetMapping
-  public ResponseEntity<List<CategoryResponseDto>> getAllCategories(
-      @RequestParam(required = false) String status) {
+  public ResponseEntity<PageResponseDto<CategoryResponseDto>> getAllCategories(
+      @RequestParam(required = false) String status,
+      @ModelAttribute PageRequestDto pageRequest,
+      WebRequest request) {
+    PageQuery pageQuery = pageDtoMapper.toPageQuery(pageRequest);
     if (status == null) {
-      return ResponseEntity.ok(categoryUseCase.getAllCategories().stream().map(mapper::toDto).toList());
+      return catalogHttpCache.conditional(request, catalogVersionUseCase.getCatalogVersion(),
+          () -> pageDtoMapper.toDto(categoryUseCase.getAllCategories(pageQuery), mapper::toDto));
     }
     CategoryStatus statusEnum = PathUtils.validateEnumOrThrow(CategoryStatus.class, status, "CategoryStatus");
-    return ResponseEntity.ok(categoryUseCase.getAllCategoriesByStatus(statusEnum).stream().map(mapper::toDto).toList());
+    return catalogHttpCache.conditional(request, catalogVersionUseCase.getCatalogVersion(),
+        () -> pageDtoMapper.toDto(categoryUseCase.getAllCategoriesByStatus(statusEnum, pageQuery), mapper::toDto));
   }
 
   @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
@@ -1,12 +1,16 @@
 package com.store.arka.backend.infrastructure.web.controller;
 
+import com.store.arka.backend.application.model.PageQuery;
 import com.store.arka.backend.application.port.in.ICustomerUseCase;
 import com.store.arka.backend.domain.enums.CustomerStatus;
 import com.store.arka.backend.infrastructure.web.dto.MessageResponseDto;
+import com.store.arka.backend.infrastructure.web.dto.PageRequestDto;
+import com.store.arka.backend.infrastructure.web.dto.PageResponseDto;
 import com.store.arka.backend.infrastructure.web.dto.customer.request.CreateCustomerDto;
 import com.store.arka.backend.infrastructure.web.dto.customer.request.UpdateFieldsCustomerDto;
 import com.store.arka.backend.infrastructure.web.dto.customer.response.CustomerResponseDto;
 import com.store.arka.backend.infrastructure.web.mapper.CustomerDtoMapper;
+import com.store.arka.backend.infrastructure.web.mapper.PageDtoMapper;
 import com.store.arka.backend.shared.util.NormalizationUtils;
 import com.store.arka.backend.shared.util.PathUtils;
 import jakarta.validation.Valid;
@@ -16,9 +20,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @RestController
 @RequiredArgsConstructor
@@ -26,6 +28,7 @@ import java.util.stream.Collectors;
 public class CustomerController {
   private final ICustomerUseCase customerUseCase;
   private final CustomerDtoMapper mapper;
+  private final PageDtoMapper pageDtoMapper;
 
   @PreAuthorize("hasAnyRole('ADMIN', 'CUSTOMER')")
   @PostMapping
@@ -57,13 +60,17 @@ public class CustomerController {
 
   @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
   @GetMapping
-  public ResponseEntity<List<CustomerResponseDto>> getAllCustomers(@RequestParam(required = false) String status) {
+  public ResponseEntity<PageResponseDto<CustomerResponseDto>> getAllCustomers(
+      @RequestParam(required = false) String status,
+      @ModelAttribute PageRequestDto pageRequest) {
+    PageQuery pageQuery = pageDtoMapper.toPageQuery(pageRequest);
     if (status == null) {
-      return ResponseEntity.ok(customerUseCase.getAllCustomers().stream().map(mapper::toDto).collect(Collectors.toList()));
+      return ResponseEntity.ok(pageDtoMapper.toDto(
+          customerUseCase.getAllCustomers(pageQuery), mapper::toDto));
     }
     CustomerStatus statusEnum = PathUtils.validateEnumOrThrow(CustomerStatus.class, status, "CustomerStatus");
-    return ResponseEntity.ok(customerUseCase.getAllCustomersByStatus(statusEnum)
-        .stream().map(mapper::toDto).collect(Collectors.toList()));
+    return ResponseEntity.ok(pageDtoMapper.toDto(
+        customerUseCase.getAllCustomersByStatus(statusEnum, pageQuery), mapper::toDto));
   }
 
   @PreAuthorize("hasAnyRole('ADMIN', 'CUSTOMER')")
@@ -1,11 +1,16 @@
 package com.store.arka.backend.infrastructure.web.controller;
 
+import com.store.arka.backend.application.model.PageQuery;
+import com.store.arka.backend.application.model.PageResult;
 import com.store.arka.backend.application.port.in.IDocumentUseCase;
 import com.store.arka.backend.domain.enums.DocumentStatus;
 import com.store.arka.backend.domain.model.Document;
+import com.store.arka.backend.infrastructure.web.dto.PageRequestDto;
+import com.store.arka.backend.infrastructure.web.dto.PageResponseDto;
 import com.store.arka.backend.infrastructure.web.dto.customer.request.DocumentRequestDto;
 import com.store.arka.backend.infrastructure.web.dto.customer.response.DocumentResponseDto;
 import com.store.arka.backend.infrastructure.web.mapper.DocumentDtoMapper;
+import com.store.arka.backend.infrastructure.web.mapper.PageDtoMapper;
 import com.store.arka.backend.shared.util.NormalizationUtils;
 import com.store.arka.backend.shared.util.PathUtils;
 import jakarta.validation.Valid;
@@ -14,9 +19,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @RestController
 @RequiredArgsConstructor
@@ -24,6 +27,7 @@ import java.util.stream.Collectors;
 public class DocumentController {
   private final IDocumentUseCase documentUseCase;
   private final DocumentDtoMapper mapper;
+  private final PageDtoMapper pageDtoMapper;
 
   @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
   @GetMapping("/{id}")
@@ -41,13 +45,16 @@ public class DocumentController {
 
   @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
   @GetMapping
-  public ResponseEntity<List<DocumentResponseDto>> getAllDocuments(@RequestParam(required = false) String status) {
-    List<Document> documents = (status == null)
-        ? documentUseCase.getAllDocuments()
+  public ResponseEntity<PageResponseDto<DocumentResponseDto>> getAllDocuments(
+      @RequestParam(required = false) String status,
+      @ModelAttribute PageRequestDto pageRequest) {
+    PageQuery pageQuery = pageDtoMapper.toPageQuery(pageRequest);
+    PageResult<Document> documents = (status == null)
+        ? documentUseCase.getAllDocuments(pageQuery)
         : documentUseCase.getAllDocumentsByStatus(
-        PathUtils.validateEnumOrThrow(DocumentStatus.class, status, "DocumentStatus")
+        PathUtils.validateEnumOrThrow(DocumentStatus.class, status, "DocumentStatus"), pageQuery
     );
-    return ResponseEntity.ok(documents.stream().map(mapper::toDto).collect(Collectors.toList()));
+    return ResponseEntity.ok(pageDtoMapper.toDto(documents, mapper::toDto));
   }
 
   @PreAuthorize("hasAnyRole('ADMIN')")
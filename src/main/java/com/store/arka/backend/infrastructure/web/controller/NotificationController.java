@@ -1,18 +1,24 @@
 package com.store.arka.backend.infrastructure.web.controller;
 
+import com.store.arka.backend.application.model.CursorPage;
+import com.store.arka.backend.application.model.PageQuery;
 import com.store.arka.backend.application.port.in.INotificationUseCase;
 import com.store.arka.backend.domain.enums.NotificationStatus;
 import com.store.arka.backend.domain.enums.NotificationType;
+import com.store.arka.backend.domain.model.Notification;
+import com.store.arka.backend.infrastructure.web.dto.CursorPageResponseDto;
 import com.store.arka.backend.infrastructure.web.dto.MessageResponseDto;
+import com.store.arka.backend.infrastructure.web.dto.PageRequestDto;
+import com.store.arka.backend.infrastructure.web.dto.PageResponseDto;
 import com.store.arka.backend.infrastructure.web.dto.notification.response.NotificationResponseDto;
 import com.store.arka.backend.infrastructure.web.mapper.NotificationDtoMapper;
+import com.store.arka.backend.infrastructure.web.mapper.PageDtoMapper;
 import com.store.arka.backend.shared.util.PathUtils;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -22,6 +28,7 @@ import java.util.stream.Collectors;
 public class NotificationController {
   private final INotificationUseCase notificationUseCase;
   private final NotificationDtoMapper mapper;
+  private final PageDtoMapper pageDtoMapper;
 
   @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
   @GetMapping("/{id}")
@@ -32,52 +39,79 @@ public class NotificationController {
 
   @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
   @GetMapping
-  public ResponseEntity<List<NotificationResponseDto>> getAllNotifications(@RequestParam(required = false) String status) {
+  public ResponseEntity<PageResponseDto<NotificationResponseDto>> getAllNotifications(
+      @RequestParam(required = false) String status,
+      @ModelAttribute PageRequestDto pageRequest) {
+    PageQuery pageQuery = pageDtoMapper.toPageQuery(pageRequest);
     if (status == null) {
-      return ResponseEntity.ok(notificationUseCase.getAllNotifications()
-          .stream().map(mapper::toDto).collect(Collectors.toList()));
+      return ResponseEntity.ok(pageDtoMapper.toDto(
+          notificationUseCase.getAllNotifications(pageQuery), mapper::toDto));
     }
     NotificationStatus statusEnum = PathUtils.validateEnumOrThrow(NotificationStatus.class, status, "NotificationStatus");
-    return ResponseEntity.ok(notificationUseCase.getAllNotificationsByStatus(statusEnum)
-        .stream().map(mapper::toDto).collect(Collectors.toList()));
+    return ResponseEntity.ok(pageDtoMapper.toDto(
+        notificationUseCase.getAllNotificationsByStatus(statusEnum, pageQuery), mapper::toDto));
+  }
+
+  @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+  @GetMapping("/page")
+  public ResponseEntity<CursorPageResponseDto<NotificationResponseDto>> getNotificationsPage(
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "20") Integer size,
+      @RequestParam(required = false) String status) {
+    NotificationStatus statusEnum = status == null
+        ? null : PathUtils.validateEnumOrThrow(NotificationStatus.class, status, "NotificationStatus");
+    CursorPage<Notification> page = notificationUseCase.getNotificationsPage(cursor, size, statusEnum);
+    return ResponseEntity.ok(new CursorPageResponseDto<>(
+        page.items().stream().map(mapper::toDto).collect(Collectors.toList()),
+        page.nextCursor(),
+        page.hasNext()
+    ));
   }
 
   @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
   @GetMapping("/order/{orderId}")
-  public ResponseEntity<List<NotificationResponseDto>> getAllNotificationsByOrderId(
-      @PathVariable("orderId") String orderId) {
+  public ResponseEntity<PageResponseDto<NotificationResponseDto>> getAllNotificationsByOrderId(
+      @PathVariable("orderId") String orderId,
+      @ModelAttribute PageRequestDto pageRequest) {
+    PageQuery pageQuery = pageDtoMapper.toPageQuery(pageRequest);
     UUID orderUuid = PathUtils.validateAndParseUUID(orderId);
-    return ResponseEntity.ok(notificationUseCase.getAllNotificationsByOrderId(orderUuid)
-        .stream().map(mapper::toDto).collect(Collectors.toList()));
+    return ResponseEntity.ok(pageDtoMapper.toDto(
+        notificationUseCase.getAllNotificationsByOrderId(orderUuid, pageQuery), mapper::toDto));
   }
 
   @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER', 'CUSTOMER')")
   @GetMapping("/customer/{customerId}")
-  public ResponseEntity<List<NotificationResponseDto>> getAllNotificationsByCustomerId(
-      @PathVariable("customerId") String customerId) {
+  public ResponseEntity<PageResponseDto<NotificationResponseDto>> getAllNotificationsByCustomerId(
+      @PathVariable("customerId") String customerId,
+      @ModelAttribute PageRequestDto pageRequest) {
+    PageQuery pageQuery = pageDtoMapper.toPageQuery(pageRequest);
     UUID customerUuid = PathUtils.validateAndParseUUID(customerId);
-    return ResponseEntity.ok(notificationUseCase.getAllNotificationsByCustomerId(customerUuid)
-        .stream().map(mapper::toDto).collect(Collectors.toList()));
+    return ResponseEntity.ok(pageDtoMapper.toDto(
+        notificationUseCase.getAllNotificationsByCustomerId(customerUuid, pageQuery), mapper::toDto));
   }
 
   @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
   @GetMapping("/type/{type}")
-  public ResponseEntity<List<NotificationResponseDto>> getAllNotificationsByType(
-      @PathVariable("type") String type) {
+  public ResponseEntity<PageResponseDto<NotificationResponseDto>> getAllNotificationsByType(
+      @PathVariable("type") String type,
+      @ModelAttribute PageRequestDto pageRequest) {
+    PageQuery pageQuery = pageDtoMapper.toPageQuery(pageRequest);
     NotificationType typeEnum = PathUtils.validateEnumOrThrow(NotificationType.class, type, "NotificationType");
-    return ResponseEntity.ok(notificationUseCase.getAllNotificationsByType(typeEnum)
-        .stream().map(mapper::toDto).collect(Collectors.toList()));
+    return ResponseEntity.ok(pageDtoMapper.toDto(
+        notificationUseCase.getAllNotificationsByType(typeEnum, pageQuery), mapper::toDto));
   }
 
   @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
   @GetMapping("/type/{type}/status/{status}")
-  public ResponseEntity<List<NotificationResponseDto>> getAllNotificationsByTypeAndStatus(
+  public ResponseEntity<PageResponseDto<NotificationResponseDto>> getAllNotificationsByTypeAndStatus(
       @PathVariable("type") String type,
-      @PathVariable("status") String status) {
+      @PathVariable("status") String status,
+      @ModelAttribute PageRequestDto pageRequest) {
+    PageQuery pageQuery = pageDtoMapper.toPageQuery(pageRequest);
     NotificationType typeEnum = PathUtils.validateEnumOrThrow(NotificationType.class, type, "NotificationType");
     NotificationStatus statusEnum = PathUtils.validateEnumOrThrow(NotificationStatus.class, status, "NotificationStatus");
-    return ResponseEntity.ok(notificationUseCase.getAllNotificationsByTypeAndStatus(typeEnum, statusEnum)
-        .stream().map(mapper::toDto).collect(Collectors.toList()));
+    return ResponseEntity.ok(pageDtoMapper.toDto(
+        notificationUseCase.getAllNotificationsByTypeAndStatus(typeEnum, statusEnum, pageQuery), mapper::toDto));
   }
 
   @PreAuthorize("hasAnyRole('ADMIN', 'CUSTOMER')")
@@ -1,11 +1,23 @@
 package com.store.arka.backend.infrastructure.web.controller;
 
+import com.store.arka.backend.application.model.CursorPage;
+import com.store.arka.backend.application.model.OrderHistoryEntry;
+import com.store.arka.backend.application.model.PageQuery;
 import com.store.arka.backend.application.port.in.IOrderUseCase;
 import com.store.arka.backend.domain.enums.OrderStatus;
+import com.store.arka.backend.domain.model.Order;
+import com.store.arka.backend.infrastructure.web.dto.CursorPageResponseDto;
 import com.store.arka.backend.infrastructure.web.dto.MessageResponseDto;
+import com.store.arka.backend.infrastructure.web.dto.PageRequestDto;
+import com.store.arka.backend.infrastructure.web.dto.PageResponseDto;
+import com.store.arka.backend.infrastructure.web.dto.order.request.BulkOrderRequestDto;
+import com.store.arka.backend.infrastructure.web.dto.order.response.BulkOrderResponseDto;
+import com.store.arka.backend.infrastructure.web.dto.order.response.OrderHistoryResponseDto;
 import com.store.arka.backend.infrastructure.web.dto.order.response.OrderResponseDto;
+import com.store.arka.backend.infrastructure.web.dto.order.response.OrderSummaryResponseDto;
 import com.store.arka.backend.infrastructure.web.dto.order.request.UpdateQuantityToOrderItemDto;
 import com.store.arka.backend.infrastructure.web.mapper.OrderDtoMapper;
+import com.store.arka.backend.infrastructure.web.mapper.PageDtoMapper;
 import com.store.arka.backend.shared.util.PathUtils;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -13,7 +25,6 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -23,6 +34,7 @@ import java.util.stream.Collectors;
 public class OrderController {
   private final IOrderUseCase orderUseCase;
   private final OrderDtoMapper mapper;
+  private final PageDtoMapper pageDtoMapper;
 
   @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER', 'CUSTOMER')")
   @GetMapping("/{id}")
@@ -33,29 +45,82 @@ public class OrderController {
 
   @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
   @GetMapping
-  public ResponseEntity<List<OrderResponseDto>> getAllOrders(@RequestParam(required = false) String status) {
+  public ResponseEntity<PageResponseDto<OrderResponseDto>> getAllOrders(
+      @RequestParam(required = false) String status,
+      @ModelAttribute PageRequestDto pageRequest) {
+    PageQuery pageQuery = pageDtoMapper.toPageQuery(pageRequest);
     if (status == null) {
-      return ResponseEntity.ok(orderUseCase.getAllOrders().stream().map(mapper::toDto).collect(Collectors.toList()));
+      return ResponseEntity.ok(pageDtoMapper.toDto(
+          orderUseCase.getAllOrders(pageQuery), mapper::toDto));
     }
     OrderStatus statusEnum = PathUtils.validateEnumOrThrow(OrderStatus.class, status, "OrderStatus");
-    return ResponseEntity.ok(orderUseCase.getAllOrdersByStatus(statusEnum)
-        .stream().map(mapper::toDto).collect(Collectors.toList()));
+    return ResponseEntity.ok(pageDtoMapper.toDto(
+        orderUseCase.getAllOrdersByStatus(statusEnum, pageQuery), mapper::toDto));
+  }
+
+  @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+  @GetMapping("/page")
+  public ResponseEntity<CursorPageResponseDto<OrderResponseDto>> getOrdersPage(
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "20") Integer size,
+      @RequestParam(required = false) String status) {
+    OrderStatus statusEnum = status == null
+        ? null : PathUtils.validateEnumOrThrow(OrderStatus.class, status, "OrderStatus");
+    CursorPage<Order> page = orderUseCase.getOrdersPage(cursor, size, statusEnum);
+    return ResponseEntity.ok(new CursorPageResponseDto<>(
+        page.items().stream().map(mapper::toDto).collect(Collectors.toList()),
+        page.nextCursor(),
+        page.hasNext()
+    ));
+  }
+
+  @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+  @GetMapping("/summary")
+  public ResponseEntity<PageResponseDto<OrderSummaryResponseDto>> getOrderSummaries(
+      @RequestParam(required = false) String status,
+      @ModelAttribute PageRequestDto pageRequest) {
+    PageQuery pageQuery = pageDtoMapper.toPageQuery(pageRequest);
+    OrderStatus statusEnum = status == null ? null
+        : PathUtils.validateEnumOrThrow(OrderStatus.class, status, "OrderStatus");
+    return ResponseEntity.ok(pageDtoMapper.toDto(
+        orderUseCase.getOrderSummaries(statusEnum, pageQuery), mapper::toSummaryDto));
   }
 
   @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER', 'CUSTOMER')")
   @GetMapping("/customer/{customerId}")
-  public ResponseEntity<List<OrderResponseDto>> getAllOrdersByCustomerId(@PathVariable("customerId") String customerId) {
+  public ResponseEntity<PageResponseDto<OrderResponseDto>> getAllOrdersByCustomerId(
+      @PathVariable("customerId") String customerId,
+      @ModelAttribute PageRequestDto pageRequest) {
+    PageQuery pageQuery = pageDtoMapper.toPageQuery(pageRequest);
+    UUID customerUuid = PathUtils.validateAndParseUUID(customerId);
+    return ResponseEntity.ok(pageDtoMapper.toDto(
+        orderUseCase.getAllOrdersByCustomerId(customerUuid, pageQuery), mapper::toDto));
+  }
+
+  @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER', 'CUSTOMER')")
+  @GetMapping("/customer/{customerId}/history")
+  public ResponseEntity<CursorPageResponseDto<OrderHistoryResponseDto>> getOrderHistoryByCustomerId(
+      @PathVariable("customerId") String customerId,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "20") Integer size) {
     UUID customerUuid = PathUtils.validateAndParseUUID(customerId);
-    return ResponseEntity.ok(orderUseCase.getAllOrdersByCustomerId(customerUuid)
-        .stream().map(mapper::toDto).collect(Collectors.toList()));
+    CursorPage<OrderHistoryEntry> page = orderUseCase.getOrderHistoryByCustomerId(customerUuid, cursor, size);
+    return ResponseEntity.ok(new CursorPageResponseDto<>(
+        page.items().stream().map(mapper::toHistoryDto).collect(Collectors.toList()),
+        page.nextCursor(),
+        page.hasNext()
+    ));
   }
 
   @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
   @GetMapping("/items/product/{productId}")
-  public ResponseEntity<List<OrderResponseDto>> getAllOrdersByItemsProductId(@PathVariable("productId") String productId) {
+  public ResponseEntity<PageResponseDto<OrderResponseDto>> getAllOrdersByItemsProductId(
+      @PathVariable("productId") String productId,
+      @ModelAttribute PageRequestDto pageRequest) {
+    PageQuery pageQuery = pageDtoMapper.toPageQuery(pageRequest);
     UUID productUuid = PathUtils.validateAndParseUUID(productId);
-    return ResponseEntity.ok(orderUseCase.getAllOrdersByItemsProductId(productUuid)
-        .stream().map(mapper::toDto).collect(Collectors.toList()));
+    return ResponseEntity.ok(pageDtoMapper.toDto(
+        orderUseCase.getAllOrdersByItemsProductId(productUuid, pageQuery), mapper::toDto));
   }
 
   @PreAuthorize("hasAnyRole('ADMIN', 'CUSTOMER')")
@@ -114,6 +179,24 @@ public class OrderController {
     return ResponseEntity.ok(new MessageResponseDto("Order has been successfully delivered with ID " + id));
   }
 
+  @PreAuthorize("hasRole('ADMIN')")
+  @PutMapping("/bulk/confirm")
+  public ResponseEntity<BulkOrderResponseDto> confirmOrders(@RequestBody @Valid BulkOrderRequestDto dto) {
+    return ResponseEntity.ok(mapper.toBulkDto(dto.orderIds().size(), orderUseCase.confirmOrders(dto.orderIds())));
+  }
+
+  @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+  @PutMapping("/bulk/shipped")
+  public ResponseEntity<BulkOrderResponseDto> shipOrders(@RequestBody @Valid BulkOrderRequestDto dto) {
+    return ResponseEntity.ok(mapper.toBulkDto(dto.orderIds().size(), orderUseCase.shipOrders(dto.orderIds())));
+  }
+
+  @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+  @PutMapping("/bulk/deliver")
+  public ResponseEntity<BulkOrderResponseDto> deliverOrders(@RequestBody @Valid BulkOrderRequestDto dto) {
+    return ResponseEntity.ok(mapper.toBulkDto(dto.orderIds().size(), orderUseCase.deliverOrders(dto.orderIds())));
+  }
+
   @PreAuthorize("hasAnyRole('ADMIN', 'CUSTOMER')")
   @PutMapping("/{id}/cancel")
   public ResponseEntity<MessageResponseDto> cancelOrder(@PathVariable("id") String id) {
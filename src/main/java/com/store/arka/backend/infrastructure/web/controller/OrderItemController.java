@@ -1,20 +1,23 @@
 package com.store.arka.backend.infrastructure.web.controller;
 
+import com.store.arka.backend.application.model.PageQuery;
 import com.store.arka.backend.application.port.in.IOrderItemUseCase;
+import com.store.arka.backend.infrastructure.web.dto.PageRequestDto;
+import com.store.arka.backend.infrastructure.web.dto.PageResponseDto;
 import com.store.arka.backend.infrastructure.web.dto.order.response.OrderItemResponseDto;
 import com.store.arka.backend.infrastructure.web.mapper.OrderItemDtoMapper;
+import com.store.arka.backend.infrastructure.web.mapper.PageDtoMapper;
 import com.store.arka.backend.shared.util.PathUtils;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.util.List;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @RestController
 @RequiredArgsConstructor
@@ -22,6 +25,7 @@ import java.util.stream.Collectors;
 public class OrderItemController {
   private final IOrderItemUseCase orderItemUseCase;
   private final OrderItemDtoMapper mapper;
+  private final PageDtoMapper pageDtoMapper;
 
 
   @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
@@ -33,17 +37,20 @@ public class OrderItemController {
 
   @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
   @GetMapping
-  public ResponseEntity<List<OrderItemResponseDto>> getAllOrderItems() {
-    return ResponseEntity.ok(orderItemUseCase.getAllOrderItems()
-        .stream().map(mapper::toDto).collect(Collectors.toList()));
+  public ResponseEntity<PageResponseDto<OrderItemResponseDto>> getAllOrderItems(@ModelAttribute PageRequestDto pageRequest) {
+    PageQuery pageQuery = pageDtoMapper.toPageQuery(pageRequest);
+    return ResponseEntity.ok(pageDtoMapper.toDto(
+        orderItemUseCase.getAllOrderItems(pageQuery), mapper::toDto));
   }
 
   @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
   @GetMapping("/product/{productId}")
-  public ResponseEntity<List<OrderItemResponseDto>> getAllOrderItemsByProductId(
-      @PathVariable("productId") String productId) {
+  public ResponseEntity<PageResponseDto<OrderItemResponseDto>> getAllOrderItemsByProductId(
+      @PathVariable("productId") String productId,
+      @ModelAttribute PageRequestDto pageRequest) {
+    PageQuery pageQuery = pageDtoMapper.toPageQuery(pageRequest);
     UUID productUuid = PathUtils.validateAndParseUUID(productId);
-    return ResponseEntity.ok(orderItemUseCase.getAllOrderItemsByProductId(productUuid)
-        .stream().map(mapper::toDto).collect(Collectors.toList()));
+    return ResponseEntity.ok(pageDtoMapper.toDto(
+        orderItemUseCase.getAllOrderItemsByProductId(productUuid, pageQuery), mapper::toDto));
   }
 }
@@ -1,11 +1,15 @@
 package com.store.arka.backend.infrastructure.web.controller;
 
+import com.store.arka.backend.application.model.PageQuery;
 import com.store.arka.backend.application.port.in.IPaymentUseCase;
 import com.store.arka.backend.domain.enums.PaymentMethod;
 import com.store.arka.backend.domain.enums.PaymentStatus;
+import com.store.arka.backend.infrastructure.web.dto.PageRequestDto;
+import com.store.arka.backend.infrastructure.web.dto.PageResponseDto;
 import com.store.arka.backend.infrastructure.web.dto.payment.request.CreatePaymentDto;
 import com.store.arka.backend.infrastructure.web.dto.payment.request.UpdatePaymentMethodDto;
 import com.store.arka.backend.infrastructure.web.dto.payment.response.PaymentResponseDto;
+import com.store.arka.backend.infrastructure.web.mapper.PageDtoMapper;
 import com.store.arka.backend.infrastructure.web.mapper.PaymentDtoMapper;
 import com.store.arka.backend.shared.util.PathUtils;
 import jakarta.validation.Valid;
@@ -15,9 +19,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @RestController
 @RequiredArgsConstructor
@@ -25,6 +27,7 @@ import java.util.stream.Collectors;
 public class PaymentController {
   private final IPaymentUseCase paymentUseCase;
   private final PaymentDtoMapper mapper;
+  private final PageDtoMapper pageDtoMapper;
 
   @PreAuthorize("hasAnyRole('ADMIN', 'CUSTOMER')")
   @PostMapping
@@ -50,15 +53,17 @@ public class PaymentController {
 
   @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
   @GetMapping
-  public ResponseEntity<List<PaymentResponseDto>> getAllPaymentsByFilters(
+  public ResponseEntity<PageResponseDto<PaymentResponseDto>> getAllPaymentsByFilters(
       @RequestParam(required = false) String method,
-      @RequestParam(required = false) String status) {
+      @RequestParam(required = false) String status,
+      @ModelAttribute PageRequestDto pageRequest) {
+    PageQuery pageQuery = pageDtoMapper.toPageQuery(pageRequest);
     PaymentMethod methodEnum = null;
     PaymentStatus statusEnum = null;
     if (method != null) methodEnum = PathUtils.validateEnumOrThrow(PaymentMethod.class, method, "PaymentMethod");
     if (status != null) statusEnum = PathUtils.validateEnumOrThrow(PaymentStatus.class, status, "PaymentStatus");
-    return ResponseEntity.ok(paymentUseCase.getAllPaymentsByFilters(methodEnum, statusEnum)
-        .stream().map(mapper::toDto).collect(Collectors.toList()));
+    return ResponseEntity.ok(pageDtoMapper.toDto(
+        paymentUseCase.getAllPaymentsByFilters(methodEnum, statusEnum, pageQuery), mapper::toDto));
   }
 
   @PreAuthorize("hasAnyRole('ADMIN', 'CUSTOMER')")
@@ -1,15 +1,26 @@
 package com.store.arka.backend.infrastructure.web.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.store.arka.backend.application.model.CursorPage;
+import com.store.arka.backend.application.model.PageQuery;
+import com.store.arka.backend.application.model.ProductSearchQuery;
+import com.store.arka.backend.application.port.in.ICatalogVersionUseCase;
 import com.store.arka.backend.application.port.in.IProductUseCase;
 import com.store.arka.backend.domain.enums.ProductStatus;
 import com.store.arka.backend.domain.model.Product;
+import com.store.arka.backend.infrastructure.web.cache.CatalogHttpCache;
+import com.store.arka.backend.infrastructure.web.dto.CursorPageResponseDto;
 import com.store.arka.backend.infrastructure.web.dto.MessageResponseDto;
+import com.store.arka.backend.infrastructure.web.dto.PageRequestDto;
+import com.store.arka.backend.infrastructure.web.dto.PageResponseDto;
 import com.store.arka.backend.infrastructure.web.dto.product.request.CreateProductDto;
 import com.store.arka.backend.infrastructure.web.dto.product.request.ModifyStockRequestDto;
 import com.store.arka.backend.infrastructure.web.dto.product.request.UpdateProductCategoriesDto;
 import com.store.arka.backend.infrastructure.web.dto.product.request.UpdateFieldsProductDto;
 import com.store.arka.backend.infrastructure.web.dto.product.response.CheckProductResponseDto;
 import com.store.arka.backend.infrastructure.web.dto.product.response.ProductResponseDto;
+import com.store.arka.backend.infrastructure.web.dto.product.response.ProductSearchResponseDto;
+import com.store.arka.backend.infrastructure.web.mapper.PageDtoMapper;
 import com.store.arka.backend.infrastructure.web.mapper.ProductDtoMapper;
 import com.store.arka.backend.shared.util.NormalizationUtils;
 import com.store.arka.backend.shared.util.PathUtils;
@@ -17,11 +28,16 @@ import jakarta.validation.Valid;
 import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.util.List;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -31,6 +47,10 @@ import java.util.stream.Collectors;
 public class ProductController {
   public final IProductUseCase productUseCase;
   public final ProductDtoMapper mapper;
+  private final PageDtoMapper pageDtoMapper;
+  private final ObjectMapper objectMapper;
+  private final ICatalogVersionUseCase catalogVersionUseCase;
+  private final CatalogHttpCache catalogHttpCache;
 
   @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
   @PostMapping
@@ -40,25 +60,87 @@ public class ProductController {
   }
 
   @GetMapping("/{id}")
-  public ResponseEntity<ProductResponseDto> getProductById(@PathVariable("id") String id) {
+  public ResponseEntity<ProductResponseDto> getProductById(@PathVariable("id") String id, WebRequest request) {
     UUID uuid = PathUtils.validateAndParseUUID(id);
-    return ResponseEntity.ok(mapper.toDto(productUseCase.getProductById(uuid)));
+    return catalogHttpCache.conditional(request, productUseCase.getProductVersionById(uuid),
+        () -> mapper.toDto(productUseCase.getProductById(uuid)));
   }
 
   @GetMapping("/sku/{sku}")
-  public ResponseEntity<ProductResponseDto> getProductBySku(@PathVariable("sku") String sku) {
+  public ResponseEntity<ProductResponseDto> getProductBySku(@PathVariable("sku") String sku, WebRequest request) {
     String normalizeSku = NormalizationUtils.normalizeIdentifier(sku);
-    return ResponseEntity.ok(mapper.toDto(productUseCase.getProductBySku(normalizeSku)));
+    return catalogHttpCache.conditional(request, productUseCase.getProductVersionBySku(normalizeSku),
+        () -> mapper.toDto(productUseCase.getProductBySku(normalizeSku)));
   }
 
   @GetMapping
-  public ResponseEntity<List<ProductResponseDto>> getAllProducts(@RequestParam(required = false) String status) {
+  public ResponseEntity<PageResponseDto<ProductResponseDto>> getAllProducts(
+      @RequestParam(required = false) String status,
+      @ModelAttribute PageRequestDto pageRequest,
+      WebRequest request) {
+    PageQuery pageQuery = pageDtoMapper.toPageQuery(pageRequest);
     if (status == null) {
-      return ResponseEntity.ok(productUseCase.getAllProducts().stream().map(mapper::toDto).collect(Collectors.toList()));
+      return catalogHttpCache.conditional(request, catalogVersionUseCase.getCatalogVersion(),
+          () -> pageDtoMapper.toDto(productUseCase.getAllProducts(pageQuery), mapper::toDto));
     }
     ProductStatus statusEnum = PathUtils.validateEnumOrThrow(ProductStatus.class, status, "ProductStatus");
-    return ResponseEntity.ok(productUseCase.getAllProductsByStatus(statusEnum)
-        .stream().map(mapper::toDto).collect(Collectors.toList()));
+    return catalogHttpCache.conditional(request, catalogVersionUseCase.getCatalogVersion(),
+        () -> pageDtoMapper.toDto(productUseCase.getAllProductsByStatus(statusEnum, pageQuery), mapper::toDto));
+  }
+
+  @GetMapping("/page")
+  public ResponseEntity<CursorPageResponseDto<ProductResponseDto>> getProductsPage(
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "20") Integer size,
+      @RequestParam(required = false) String status,
+      WebRequest request) {
+    ProductStatus statusEnum = status == null
+        ? null : PathUtils.validateEnumOrThrow(ProductStatus.class, status, "ProductStatus");
+    return catalogHttpCache.conditional(request, catalogVersionUseCase.getCatalogVersion(), () -> {
+      CursorPage<Product> page = productUseCase.getProductsPage(cursor, size, statusEnum);
+      return new CursorPageResponseDto<>(
+          page.items().stream().map(mapper::toDto).collect(Collectors.toList()),
+          page.nextCursor(),
+          page.hasNext()
+      );
+    });
+  }
+
+  @GetMapping("/search")
+  public ResponseEntity<ProductSearchResponseDto> searchProducts(
+      @RequestParam(required = false) String q,
+      @RequestParam(required = false) String categoryId,
+      @RequestParam(required = false) String status,
+      @RequestParam(required = false) BigDecimal minPrice,
+      @RequestParam(required = false) BigDecimal maxPrice,
+      @RequestParam(defaultValue = "RELEVANCE") String sort,
+      @RequestParam(defaultValue = "0") Integer page,
+      @RequestParam(defaultValue = "20") Integer size,
+      WebRequest request) {
+    String text = q == null || q.isBlank() ? null : q.trim();
+    UUID categoryUuid = categoryId == null ? null : PathUtils.validateAndParseUUID(categoryId);
+    ProductStatus statusEnum = status == null
+        ? null : PathUtils.validateEnumOrThrow(ProductStatus.class, status, "ProductStatus");
+    ProductSearchQuery.Sort sortEnum = PathUtils.validateEnumOrThrow(ProductSearchQuery.Sort.class, sort, "Sort");
+    ProductSearchQuery query = new ProductSearchQuery(
+        text, categoryUuid, statusEnum, minPrice, maxPrice, sortEnum, page, size);
+    return catalogHttpCache.conditional(request, catalogVersionUseCase.getCatalogVersion(),
+        () -> mapper.toSearchDto(productUseCase.searchProducts(query)));
+  }
+
+  @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+  public ResponseEntity<StreamingResponseBody> exportProducts(@RequestParam(required = false) String status) {
+    ProductStatus statusEnum = status == null
+        ? null : PathUtils.validateEnumOrThrow(ProductStatus.class, status, "ProductStatus");
+    StreamingResponseBody body = outputStream -> productUseCase.streamAllProducts(statusEnum, product -> {
+      try {
+        outputStream.write(objectMapper.writeValueAsBytes(mapper.toDto(product)));
+        outputStream.write('\n');
+      } catch (IOException ex) {
+        throw new UncheckedIOException(ex);
+      }
+    });
+    return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
   }
 
   @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
@@ -1,13 +1,18 @@
 package com.store.arka.backend.infrastructure.web.controller;
 
+import com.store.arka.backend.application.model.PageQuery;
+import com.store.arka.backend.application.model.PageResult;
 import com.store.arka.backend.application.port.in.IPurchaseUseCase;
 import com.store.arka.backend.domain.enums.PurchaseStatus;
 import com.store.arka.backend.domain.model.Purchase;
 import com.store.arka.backend.infrastructure.web.dto.MessageResponseDto;
+import com.store.arka.backend.infrastructure.web.dto.PageRequestDto;
+import com.store.arka.backend.infrastructure.web.dto.PageResponseDto;
 import com.store.arka.backend.infrastructure.web.dto.purchase.request.CreatePurchaseDto;
 import com.store.arka.backend.infrastructure.web.dto.purchase.request.ReceivePurchaseDto;
 import com.store.arka.backend.infrastructure.web.dto.purchase.request.UpdateQuantityToPurchaseItemDto;
 import com.store.arka.backend.infrastructure.web.dto.purchase.response.PurchaseResponseDto;
+import com.store.arka.backend.infrastructure.web.mapper.PageDtoMapper;
 import com.store.arka.backend.infrastructure.web.mapper.PurchaseDtoMapper;
 import com.store.arka.backend.shared.util.PathUtils;
 import jakarta.validation.Valid;
@@ -17,9 +22,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @RestController
 @RequiredArgsConstructor
@@ -27,6 +30,7 @@ import java.util.stream.Collectors;
 public class PurchaseController {
   private final IPurchaseUseCase purchaseUseCase;
   private final PurchaseDtoMapper mapper;
+  private final PageDtoMapper pageDtoMapper;
 
   @PreAuthorize("hasAnyRole('ADMIN', 'PURCHASES')")
   @PostMapping
@@ -45,28 +49,37 @@ public class PurchaseController {
 
   @PreAuthorize("hasAnyRole('ADMIN', 'PURCHASES', 'MANAGER')")
   @GetMapping
-  public ResponseEntity<List<PurchaseResponseDto>> getAllPurchases(@RequestParam(required = false) String status) {
-    List<Purchase> purchases = (status == null)
-        ? purchaseUseCase.getAllPurchases()
+  public ResponseEntity<PageResponseDto<PurchaseResponseDto>> getAllPurchases(
+      @RequestParam(required = false) String status,
+      @ModelAttribute PageRequestDto pageRequest) {
+    PageQuery pageQuery = pageDtoMapper.toPageQuery(pageRequest);
+    PageResult<Purchase> purchases = (status == null)
+        ? purchaseUseCase.getAllPurchases(pageQuery)
         : purchaseUseCase.getAllPurchasesByStatus(
-            PathUtils.validateEnumOrThrow(PurchaseStatus.class, status, "PurchaseStatus"));
-    return ResponseEntity.ok(purchases.stream().map(mapper::toDto).collect(Collectors.toList()));
+            PathUtils.validateEnumOrThrow(PurchaseStatus.class, status, "PurchaseStatus"), pageQuery);
+    return ResponseEntity.ok(pageDtoMapper.toDto(purchases, mapper::toDto));
   }
 
   @PreAuthorize("hasAnyRole('ADMIN', 'PURCHASES', 'MANAGER')")
   @GetMapping("/supplier/{supplierId}")
-  public ResponseEntity<List<PurchaseResponseDto>> getAllPurchasesBySupplierId(@PathVariable("supplierId") String supplierId) {
+  public ResponseEntity<PageResponseDto<PurchaseResponseDto>> getAllPurchasesBySupplierId(
+      @PathVariable("supplierId") String supplierId,
+      @ModelAttribute PageRequestDto pageRequest) {
+    PageQuery pageQuery = pageDtoMapper.toPageQuery(pageRequest);
     UUID supplierUuid = PathUtils.validateAndParseUUID(supplierId);
-    return ResponseEntity.ok(purchaseUseCase.getAllPurchasesBySupplierId(supplierUuid)
-        .stream().map(mapper::toDto).collect(Collectors.toList()));
+    return ResponseEntity.ok(pageDtoMapper.toDto(
+        purchaseUseCase.getAllPurchasesBySupplierId(supplierUuid, pageQuery), mapper::toDto));
   }
 
   @PreAuthorize("hasAnyRole('ADMIN', 'PURCHASES', 'MANAGER')")
   @GetMapping("/items/product/{productId}")
-  public ResponseEntity<List<PurchaseResponseDto>> getAllPurchasesByItemsProductId(@PathVariable("productId") String productId) {
+  public ResponseEntity<PageResponseDto<PurchaseResponseDto>> getAllPurchasesByItemsProductId(
+      @PathVariable("productId") String productId,
+      @ModelAttribute PageRequestDto pageRequest) {
+    PageQuery pageQuery = pageDtoMapper.toPageQuery(pageRequest);
     UUID productUuid = PathUtils.validateAndParseUUID(productId);
-    return ResponseEntity.ok(purchaseUseCase.getAllPurchasesByItemsProductId(productUuid)
-        .stream().map(mapper::toDto).collect(Collectors.toList()));
+    return ResponseEntity.ok(pageDtoMapper.toDto(
+        purchaseUseCase.getAllPurchasesByItemsProductId(productUuid, pageQuery), mapper::toDto));
   }
 
   @PreAuthorize("hasAnyRole('ADMIN', 'PURCHASES')")
@@ -1,20 +1,23 @@
 package com.store.arka.backend.infrastructure.web.controller;
 
+import com.store.arka.backend.application.model.PageQuery;
 import com.store.arka.backend.application.port.in.IPurchaseItemUseCase;
+import com.store.arka.backend.infrastructure.web.dto.PageRequestDto;
+import com.store.arka.backend.infrastructure.web.dto.PageResponseDto;
 import com.store.arka.backend.infrastructure.web.dto.purchase.response.PurchaseItemResponseDto;
+import com.store.arka.backend.infrastructure.web.mapper.PageDtoMapper;
 import com.store.arka.backend.infrastructure.web.mapper.PurchaseItemDtoMapper;
 import com.store.arka.backend.shared.util.PathUtils;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.util.List;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @RestController
 @RequiredArgsConstructor
@@ -22,6 +25,7 @@ import java.util.stream.Collectors;
 public class PurchaseItemController {
   private final IPurchaseItemUseCase purchaseItemUseCase;
   private final PurchaseItemDtoMapper mapper;
+  private final PageDtoMapper pageDtoMapper;
 
   @PreAuthorize("hasAnyRole('ADMIN', 'PURCHASES', 'MANAGER')")
   @GetMapping("/{id}")
@@ -32,17 +36,20 @@ public class PurchaseItemController {
 
   @PreAuthorize("hasAnyRole('ADMIN', 'PURCHASES', 'MANAGER')")
   @GetMapping
-  public ResponseEntity<List<PurchaseItemResponseDto>> getAllPurchaseItems() {
-    return ResponseEntity.ok(purchaseItemUseCase.getAllPurchaseItems()
-        .stream().map(mapper::toDto).collect(Collectors.toList()));
+  public ResponseEntity<PageResponseDto<PurchaseItemResponseDto>> getAllPurchaseItems(@ModelAttribute PageRequestDto pageRequest) {
+    PageQuery pageQuery = pageDtoMapper.toPageQuery(pageRequest);
+    return ResponseEntity.ok(pageDtoMapper.toDto(
+        purchaseItemUseCase.getAllPurchaseItems(pageQuery), mapper::toDto));
   }
 
   @PreAuthorize("hasAnyRole('ADMIN', 'PURCHASES', 'MANAGER')")
   @GetMapping("/product/{productId}")
-  public ResponseEntity<List<PurchaseItemResponseDto>> getAllPurchaseItemsByProductId(
-      @PathVariable("productId") String productId) {
+  public ResponseEntity<PageResponseDto<PurchaseItemResponseDto>> getAllPurchaseItemsByProductId(
+      @PathVariable("productId") String productId,
+      @ModelAttribute PageRequestDto pageRequest) {
+    PageQuery pageQuery = pageDtoMapper.toPageQuery(pageRequest);
     UUID productUuid = PathUtils.validateAndParseUUID(productId);
-    return ResponseEntity.ok(purchaseItemUseCase.getAllPurchaseItemsByProductId(productUuid)
-        .stream().map(mapper::toDto).collect(Collectors.toList()));
+    return ResponseEntity.ok(pageDtoMapper.toDto(
+        purchaseItemUseCase.getAllPurchaseItemsByProductId(productUuid, pageQuery), mapper::toDto));
   }
 }
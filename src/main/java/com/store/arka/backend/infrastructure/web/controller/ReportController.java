@@ -0,0 +1,54 @@
+package com.store.arka.backend.infrastructure.web.controller;
+
+import com.store.arka.backend.application.port.in.IReportUseCase;
+import com.store.arka.backend.infrastructure.web.dto.report.response.CategorySalesResponseDto;
+import com.store.arka.backend.infrastructure.web.dto.report.response.DailySalesResponseDto;
+import com.store.arka.backend.infrastructure.web.dto.report.response.ProductSalesResponseDto;
+import com.store.arka.backend.infrastructure.web.mapper.ReportDtoMapper;
+import com.store.arka.backend.shared.util.PathUtils;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/reports")
+public class ReportController {
+  private final IReportUseCase reportUseCase;
+  private final ReportDtoMapper mapper;
+
+  @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+  @GetMapping("/sales/products")
+  public ResponseEntity<List<ProductSalesResponseDto>> getProductSales(
+      @RequestParam String from,
+      @RequestParam String to,
+      @RequestParam(defaultValue = "20") int limit) {
+    return ResponseEntity.ok(reportUseCase.getProductSales(
+            PathUtils.validateAndParseDate(from, "from"), PathUtils.validateAndParseDate(to, "to"), limit)
+        .stream().map(mapper::toDto).collect(Collectors.toList()));
+  }
+
+  @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+  @GetMapping("/sales/categories")
+  public ResponseEntity<List<CategorySalesResponseDto>> getCategorySales(
+      @RequestParam String from,
+      @RequestParam String to) {
+    return ResponseEntity.ok(reportUseCase.getCategorySales(
+            PathUtils.validateAndParseDate(from, "from"), PathUtils.validateAndParseDate(to, "to"))
+        .stream().map(mapper::toDto).collect(Collectors.toList()));
+  }
+
+  @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+  @GetMapping("/sales/daily")
+  public ResponseEntity<List<DailySalesResponseDto>> getDailySales(
+      @RequestParam String from,
+      @RequestParam String to) {
+    return ResponseEntity.ok(reportUseCase.getDailySales(
+            PathUtils.validateAndParseDate(from, "from"), PathUtils.validateAndParseDate(to, "to"))
+        .stream().map(mapper::toDto).collect(Collectors.toList()));
+  }
+}
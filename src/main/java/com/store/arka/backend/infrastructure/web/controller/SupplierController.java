@@ -1,11 +1,16 @@
 package com.store.arka.backend.infrastructure.web.controller;
 
+import com.store.arka.backend.application.model.PageQuery;
+import com.store.arka.backend.application.model.PageResult;
 import com.store.arka.backend.application.port.in.ISupplierUseCase;
 import com.store.arka.backend.domain.enums.SupplierStatus;
 import com.store.arka.backend.domain.model.Supplier;
 import com.store.arka.backend.infrastructure.web.dto.MessageResponseDto;
+import com.store.arka.backend.infrastructure.web.dto.PageRequestDto;
+import com.store.arka.backend.infrastructure.web.dto.PageResponseDto;
 import com.store.arka.backend.infrastructure.web.dto.supplier.request.SupplierDto;
 import com.store.arka.backend.infrastructure.web.dto.supplier.response.SupplierResponseDto;
+import com.store.arka.backend.infrastructure.web.mapper.PageDtoMapper;
 import com.store.arka.backend.infrastructure.web.mapper.SupplierDtoMapper;
 import com.store.arka.backend.shared.util.NormalizationUtils;
 import com.store.arka.backend.shared.util.PathUtils;
@@ -16,9 +21,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @RestController
 @RequiredArgsConstructor
@@ -26,6 +29,7 @@ import java.util.stream.Collectors;
 public class SupplierController {
   private final ISupplierUseCase supplierUseCase;
   private final SupplierDtoMapper mapper;
+  private final PageDtoMapper pageDtoMapper;
 
   @PreAuthorize("hasAnyRole('ADMIN', 'PURCHASES')")
   @PostMapping
@@ -57,23 +61,27 @@ public class SupplierController {
 
   @PreAuthorize("hasAnyRole('ADMIN', 'PURCHASES', 'MANAGER')")
   @GetMapping
-  public ResponseEntity<List<SupplierResponseDto>> getAllSuppliers(
-      @RequestParam(required = false) String status) {
-    List<Supplier> suppliers = (status == null)
-        ? supplierUseCase.getAllSuppliers()
+  public ResponseEntity<PageResponseDto<SupplierResponseDto>> getAllSuppliers(
+      @RequestParam(required = false) String status,
+      @ModelAttribute PageRequestDto pageRequest) {
+    PageQuery pageQuery = pageDtoMapper.toPageQuery(pageRequest);
+    PageResult<Supplier> suppliers = (status == null)
+        ? supplierUseCase.getAllSuppliers(pageQuery)
         : supplierUseCase.getAllSuppliersByStatus(
-        PathUtils.validateEnumOrThrow(SupplierStatus.class, status, "SupplierStatus")
+        PathUtils.validateEnumOrThrow(SupplierStatus.class, status, "SupplierStatus"), pageQuery
     );
-    return ResponseEntity.ok(suppliers.stream().map(mapper::toDto).collect(Collectors.toList()));
+    return ResponseEntity.ok(pageDtoMapper.toDto(suppliers, mapper::toDto));
   }
 
   @PreAuthorize("hasAnyRole('ADMIN', 'PURCHASES', 'MANAGER')")
   @GetMapping("/product/{productId}")
-  public ResponseEntity<List<SupplierResponseDto>> getAllSuppliersByProductId(
-      @PathVariable("productId") String productId) {
+  public ResponseEntity<PageResponseDto<SupplierResponseDto>> getAllSuppliersByProductId(
+      @PathVariable("productId") String productId,
+      @ModelAttribute PageRequestDto pageRequest) {
+    PageQuery pageQuery = pageDtoMapper.toPageQuery(pageRequest);
     UUID productUuid = PathUtils.validateAndParseUUID(productId);
-    return ResponseEntity.ok(supplierUseCase.getAllSuppliersByProductId(productUuid)
-        .stream().map(mapper::toDto).collect(Collectors.toList()));
+    return ResponseEntity.ok(pageDtoMapper.toDto(
+        supplierUseCase.getAllSuppliersByProductId(productUuid, pageQuery), mapper::toDto));
   }
 
   @PreAuthorize("hasAnyRole('ADMIN', 'PURCHASES')")
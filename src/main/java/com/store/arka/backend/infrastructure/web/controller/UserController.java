@@ -1,14 +1,18 @@
 package com.store.arka.backend.infrastructure.web.controller;
 
+import com.store.arka.backend.application.model.PageQuery;
 import com.store.arka.backend.application.port.in.IUserUseCase;
 import com.store.arka.backend.domain.enums.UserRole;
 import com.store.arka.backend.domain.enums.UserStatus;
 import com.store.arka.backend.infrastructure.web.dto.MessageResponseDto;
+import com.store.arka.backend.infrastructure.web.dto.PageRequestDto;
+import com.store.arka.backend.infrastructure.web.dto.PageResponseDto;
 import com.store.arka.backend.infrastructure.web.dto.user.request.UpdateEmailDto;
 import com.store.arka.backend.infrastructure.web.dto.user.request.UpdatePasswordDto;
 import com.store.arka.backend.infrastructure.web.dto.user.request.UpdateRoleDto;
 import com.store.arka.backend.infrastructure.web.dto.user.request.UpdateUserNameDto;
 import com.store.arka.backend.infrastructure.web.dto.user.response.UserResponseDto;
+import com.store.arka.backend.infrastructure.web.mapper.PageDtoMapper;
 import com.store.arka.backend.infrastructure.web.mapper.UserDtoMapper;
 import com.store.arka.backend.shared.util.NormalizationUtils;
 import com.store.arka.backend.shared.util.PathUtils;
@@ -18,9 +22,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @RestController
 @RequiredArgsConstructor
@@ -28,6 +30,7 @@ import java.util.stream.Collectors;
 public class UserController {
   private final IUserUseCase userUseCase;
   private final UserDtoMapper mapper;
+  private final PageDtoMapper pageDtoMapper;
 
   @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER', 'PURCHASES', 'CUSTOMER')")
   @GetMapping("/{id}")
@@ -52,15 +55,17 @@ public class UserController {
 
   @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
   @GetMapping
-  public ResponseEntity<List<UserResponseDto>> getAllUsersByFilter(
+  public ResponseEntity<PageResponseDto<UserResponseDto>> getAllUsersByFilter(
       @RequestParam(required = false) String role,
-      @RequestParam(required = false) String status) {
+      @RequestParam(required = false) String status,
+      @ModelAttribute PageRequestDto pageRequest) {
+    PageQuery pageQuery = pageDtoMapper.toPageQuery(pageRequest);
     UserRole roleEnum = null;
     UserStatus statusEnum = null;
     if (role != null) roleEnum = PathUtils.validateEnumOrThrow(UserRole.class, role, "UserRole");
     if (status != null) statusEnum = PathUtils.validateEnumOrThrow(UserStatus.class, status, "UserStatus");
-    return ResponseEntity.ok(userUseCase.getAllUsersByFilters(roleEnum, statusEnum)
-        .stream().map(mapper::toDto).collect(Collectors.toList()));
+    return ResponseEntity.ok(pageDtoMapper.toDto(
+        userUseCase.getAllUsersByFilters(roleEnum, statusEnum, pageQuery), mapper::toDto));
   }
 
   @PreAuthorize("hasRole('ADMIN')")
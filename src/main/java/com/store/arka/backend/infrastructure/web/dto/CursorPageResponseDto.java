@@ -0,0 +1,10 @@
+package com.store.arka.backend.infrastructure.web.dto;
+
+import java.util.List;
+
+public record CursorPageResponseDto<T>(
+    List<T> items,
+    String nextCursor,
+    boolean hasNext
+) {
+}
@@ -0,0 +1,11 @@
+package com.store.arka.backend.infrastructure.web.dto;
+
+/**
+ * Query parameters shared by every list endpoint: {@code page}, {@code size} and {@code sort=property[,asc|desc]}.
+ */
+public record PageRequestDto(
+    Integer page,
+    Integer size,
+    String sort
+) {
+}
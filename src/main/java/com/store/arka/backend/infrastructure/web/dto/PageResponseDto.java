@@ -0,0 +1,11 @@
+package com.store.arka.backend.infrastructure.web.dto;
+
+import java.util.List;
+
+public record PageResponseDto<T>(
+    List<T> items,
+    int page,
+    int size,
+    boolean hasNext
+) {
+}
@@ -1,5 +1,6 @@
 package com.store.arka.backend.infrastructure.web.dto.notification.response;
 
+import com.store.arka.backend.domain.enums.NotificationDeliveryStatus;
 import com.store.arka.backend.domain.enums.NotificationStatus;
 import com.store.arka.backend.domain.enums.NotificationType;
 
@@ -13,6 +14,7 @@ public record NotificationResponseDto(
     NotificationType type,
     String message,
     NotificationStatus status,
+    NotificationDeliveryStatus deliveryStatus,
     LocalDateTime createdAt,
     LocalDateTime readAt
 ) {
@@ -0,0 +1,14 @@
+package com.store.arka.backend.infrastructure.web.dto.order.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+import java.util.UUID;
+
+public record BulkOrderRequestDto(
+    // el máximo lo valida OrderService con arka.orders.bulk-max-size
+    @NotEmpty(message = "orderIds is required")
+    List<@NotNull(message = "orderIds cannot contain null elements") UUID> orderIds
+) {
+}
@@ -0,0 +1,9 @@
+package com.store.arka.backend.infrastructure.web.dto.order.response;
+
+import java.util.UUID;
+
+public record BulkOrderFailureDto(
+    UUID orderId,
+    String message
+) {
+}
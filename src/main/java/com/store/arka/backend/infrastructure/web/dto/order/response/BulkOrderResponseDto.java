@@ -0,0 +1,11 @@
+package com.store.arka.backend.infrastructure.web.dto.order.response;
+
+import java.util.List;
+import java.util.UUID;
+
+public record BulkOrderResponseDto(
+    int requested,
+    List<UUID> succeeded,
+    List<BulkOrderFailureDto> failed
+) {
+}
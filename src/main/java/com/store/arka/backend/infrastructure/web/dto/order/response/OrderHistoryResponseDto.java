@@ -0,0 +1,17 @@
+package com.store.arka.backend.infrastructure.web.dto.order.response;
+
+import com.store.arka.backend.domain.enums.OrderStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record OrderHistoryResponseDto(
+    UUID id,
+    OrderStatus status,
+    BigDecimal total,
+    int itemCount,
+    LocalDateTime createdAt,
+    LocalDateTime updatedAt
+) {
+}
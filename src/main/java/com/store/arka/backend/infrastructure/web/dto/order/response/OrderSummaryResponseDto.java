@@ -0,0 +1,18 @@
+package com.store.arka.backend.infrastructure.web.dto.order.response;
+
+import com.store.arka.backend.domain.enums.OrderStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record OrderSummaryResponseDto(
+    UUID id,
+    UUID customerId,
+    String customerName,
+    long itemCount,
+    BigDecimal total,
+    OrderStatus status,
+    LocalDateTime createdAt
+) {
+}
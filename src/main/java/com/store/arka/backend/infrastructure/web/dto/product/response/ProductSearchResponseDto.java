@@ -0,0 +1,13 @@
+package com.store.arka.backend.infrastructure.web.dto.product.response;
+
+import java.util.List;
+
+public record ProductSearchResponseDto(
+    List<ProductResponseDto> items,
+    long total,
+    int page,
+    int size,
+    List<SearchFacetResponseDto> categories,
+    List<SearchFacetResponseDto> statuses
+) {
+}
@@ -0,0 +1,8 @@
+package com.store.arka.backend.infrastructure.web.dto.product.response;
+
+public record SearchFacetResponseDto(
+    String value,
+    String label,
+    long count
+) {
+}
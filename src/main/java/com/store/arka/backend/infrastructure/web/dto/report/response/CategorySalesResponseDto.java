@@ -0,0 +1,14 @@
+package com.store.arka.backend.infrastructure.web.dto.report.response;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public record CategorySalesResponseDto(
+    UUID categoryId,
+    String categoryName,
+    long unitsSold,
+    BigDecimal revenue,
+    long unitsPurchased,
+    BigDecimal purchaseCost
+) {
+}
@@ -0,0 +1,13 @@
+package com.store.arka.backend.infrastructure.web.dto.report.response;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record DailySalesResponseDto(
+    LocalDate date,
+    long unitsSold,
+    BigDecimal revenue,
+    long unitsPurchased,
+    BigDecimal purchaseCost
+) {
+}
@@ -0,0 +1,15 @@
+package com.store.arka.backend.infrastructure.web.dto.report.response;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public record ProductSalesResponseDto(
+    UUID productId,
+    String sku,
+    String productName,
+    long unitsSold,
+    BigDecimal revenue,
+    long unitsPurchased,
+    BigDecimal purchaseCost
+) {
+}
@@ -0,0 +1,248 @@
+package com.store.arka.backend.infrastructure.web.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.store.arka.backend.infrastructure.web.cache.IdempotencyStore;
+import com.store.arka.backend.infrastructure.web.dto.ErrorResponseDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Soporte de la cabecera Idempotency-Key en checkout del carrito, creación y confirmación de pagos.
+ * La respuesta de la primera ejecución se guarda por usuario y clave y se devuelve tal cual a los
+ * reintentos; si la clave llega con otra petición (método, ruta o body distintos) se responde 422.
+ */
+@Slf4j
+@Component
+public class IdempotencyFilter extends OncePerRequestFilter {
+  public static final String HEADER = "Idempotency-Key";
+  public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+  private static final int MAX_KEY_LENGTH = 255;
+  private static final List<Operation> OPERATIONS = List.of(
+      new Operation("PUT", "/api/carts/*/checkout"),
+      new Operation("POST", "/api/payments"),
+      new Operation("PUT", "/api/payments/*/confirm")
+  );
+  private final AntPathMatcher pathMatcher = new AntPathMatcher();
+  private final IdempotencyStore idempotencyStore;
+  private final ObjectMapper objectMapper;
+  private final Duration waitTimeout;
+  private final Counter executed;
+  private final Counter replayed;
+  private final Counter rejected;
+
+  public IdempotencyFilter(
+      IdempotencyStore idempotencyStore,
+      ObjectMapper objectMapper,
+      MeterRegistry meterRegistry,
+      @Value("${arka.idempotency.wait-timeout-seconds:30}") long waitTimeoutSeconds) {
+    this.idempotencyStore = idempotencyStore;
+    this.objectMapper = objectMapper;
+    this.waitTimeout = Duration.ofSeconds(waitTimeoutSeconds);
+    this.executed = outcomeCounter(meterRegistry, "executed");
+    this.replayed = outcomeCounter(meterRegistry, "replayed");
+    this.rejected = outcomeCounter(meterRegistry, "rejected");
+  }
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    if (request.getHeader(HEADER) == null) return true;
+    String path = request.getRequestURI().substring(request.getContextPath().length());
+    return OPERATIONS.stream().noneMatch(operation ->
+        operation.method().equals(request.getMethod()) && pathMatcher.match(operation.pattern(), path));
+  }
+
+  @Override
+  protected void doFilterInternal(
+      HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    String key = request.getHeader(HEADER).trim();
+    if (key.isEmpty() || key.length() > MAX_KEY_LENGTH) {
+      rejected.increment();
+      writeError(request, response, HttpStatus.BAD_REQUEST,
+          HEADER + " must have between 1 and " + MAX_KEY_LENGTH + " characters");
+      return;
+    }
+    CachedBodyRequest cachedRequest = new CachedBodyRequest(request);
+    String scopedKey = currentPrincipal() + ":" + key;
+    String fingerprint = fingerprint(cachedRequest);
+    while (true) {
+      IdempotencyStore.Entry own = IdempotencyStore.Entry.inFlight(fingerprint);
+      IdempotencyStore.Entry existing = idempotencyStore.putIfAbsent(scopedKey, own);
+      if (existing == null) {
+        execute(cachedRequest, response, filterChain, scopedKey, own);
+        return;
+      }
+      if (!existing.fingerprint().equals(fingerprint)) {
+        log.warn("[IDEMPOTENCY_FILTER][MISMATCH] {} reused for a different request on {} {}",
+            HEADER, request.getMethod(), request.getRequestURI());
+        rejected.increment();
+        writeError(request, response, HttpStatus.UNPROCESSABLE_ENTITY,
+            HEADER + " was already used with a different request");
+        return;
+      }
+      Optional<IdempotencyStore.StoredResponse> stored;
+      try {
+        stored = existing.response().get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+      } catch (TimeoutException | ExecutionException ex) {
+        rejected.increment();
+        writeError(request, response, HttpStatus.CONFLICT, "A request with this " + HEADER + " is still in progress");
+        return;
+      } catch (InterruptedException ex) {
+        Thread.currentThread().interrupt();
+        rejected.increment();
+        writeError(request, response, HttpStatus.CONFLICT, "A request with this " + HEADER + " is still in progress");
+        return;
+      }
+      // la primera ejecución no guardó respuesta: se vuelve a competir por la clave
+      if (stored.isPresent()) {
+        replay(response, stored.get());
+        return;
+      }
+    }
+  }
+
+  private void execute(
+      HttpServletRequest request, HttpServletResponse response, FilterChain filterChain,
+      String scopedKey, IdempotencyStore.Entry own) throws ServletException, IOException {
+    ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+    boolean stored = false;
+    try {
+      filterChain.doFilter(request, wrapper);
+      if (isReplayable(wrapper.getStatus())) {
+        idempotencyStore.complete(own, new IdempotencyStore.StoredResponse(
+            wrapper.getStatus(), wrapper.getContentType(), wrapper.getContentAsByteArray()));
+        stored = true;
+      }
+      executed.increment();
+    } finally {
+      if (!stored) idempotencyStore.abandon(scopedKey, own);
+      wrapper.copyBodyToResponse();
+    }
+  }
+
+  // los 5xx y los conflictos son transitorios: el cliente puede reintentar con la misma clave
+  private boolean isReplayable(int status) {
+    return status < 500 && status != HttpStatus.CONFLICT.value() && status != HttpStatus.TOO_MANY_REQUESTS.value();
+  }
+
+  private void replay(HttpServletResponse response, IdempotencyStore.StoredResponse stored) throws IOException {
+    replayed.increment();
+    response.setStatus(stored.status());
+    if (stored.contentType() != null) response.setContentType(stored.contentType());
+    response.setHeader(REPLAYED_HEADER, "true");
+    response.setContentLength(stored.body().length);
+    response.getOutputStream().write(stored.body());
+  }
+
+  private void writeError(
+      HttpServletRequest request, HttpServletResponse response, HttpStatus status, String message) throws IOException {
+    response.setStatus(status.value());
+    response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+    objectMapper.writeValue(response.getOutputStream(),
+        new ErrorResponseDto(status.value(), message, request.getRequestURI()));
+  }
+
+  private String currentPrincipal() {
+    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+    return authentication == null ? "anonymous" : authentication.getName();
+  }
+
+  private String fingerprint(CachedBodyRequest request) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      digest.update((request.getMethod() + " " + request.getRequestURI() + "?" + request.getQueryString() + "\n")
+          .getBytes(StandardCharsets.UTF_8));
+      return HexFormat.of().formatHex(digest.digest(request.body));
+    } catch (NoSuchAlgorithmException ex) {
+      throw new IllegalStateException("SHA-256 is not available", ex);
+    }
+  }
+
+  private static Counter outcomeCounter(MeterRegistry meterRegistry, String outcome) {
+    return Counter.builder("arka.idempotency.requests")
+        .description("Requests sent with an Idempotency-Key, by outcome")
+        .tag("outcome", outcome)
+        .register(meterRegistry);
+  }
+
+  private record Operation(String method, String pattern) {
+  }
+
+  // el body se lee una vez para la huella y se vuelve a servir al controlador
+  private static class CachedBodyRequest extends HttpServletRequestWrapper {
+    private final byte[] body;
+
+    CachedBodyRequest(HttpServletRequest request) throws IOException {
+      super(request);
+      this.body = request.getInputStream().readAllBytes();
+    }
+
+    @Override
+    public ServletInputStream getInputStream() {
+      ByteArrayInputStream input = new ByteArrayInputStream(body);
+      return new ServletInputStream() {
+        @Override
+        public boolean isFinished() {
+          return input.available() == 0;
+        }
+
+        @Override
+        public boolean isReady() {
+          return true;
+        }
+
+        @Override
+        public void setReadListener(ReadListener readListener) {
+          throw new UnsupportedOperationException("Async reads are not supported");
+        }
+
+        @Override
+        public int read() {
+          return input.read();
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) {
+          return input.read(buffer, offset, length);
+        }
+      };
+    }
+
+    @Override
+    public BufferedReader getReader() {
+      return new BufferedReader(new InputStreamReader(getInputStream(), StandardCharsets.UTF_8));
+    }
+  }
+}
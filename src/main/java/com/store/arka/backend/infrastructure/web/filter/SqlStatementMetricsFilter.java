@@ -0,0 +1,58 @@
+package com.store.arka.backend.infrastructure.web.filter;
+
+import com.store.arka.backend.infrastructure.config.SqlStatementCounter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registra cuántas sentencias SQL se ejecutaron en cada petición, agrupadas por método y
+ * patrón de ruta, en el histograma arka.http.server.sql.statements.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SqlStatementMetricsFilter extends OncePerRequestFilter {
+  private final SqlStatementCounter sqlStatementCounter;
+  private final MeterRegistry meterRegistry;
+  private final Map<String, DistributionSummary> summaries = new ConcurrentHashMap<>();
+
+  @Override
+  protected void doFilterInternal(
+      HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    sqlStatementCounter.reset();
+    try {
+      filterChain.doFilter(request, response);
+    } finally {
+      int statements = sqlStatementCounter.getCount();
+      Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+      String uri = pattern == null ? "UNKNOWN" : pattern.toString();
+      summaries.computeIfAbsent(request.getMethod() + " " + uri, key -> DistributionSummary
+              .builder("arka.http.server.sql.statements")
+              .description("SQL statements executed over JDBC per HTTP request")
+              .baseUnit("statements")
+              .tag("method", request.getMethod())
+              .tag("uri", uri)
+              .publishPercentileHistogram()
+              .maximumExpectedValue(200.0)
+              .register(meterRegistry))
+          .record(statements);
+      log.debug("[SQL_STATEMENTS] {} {} -> {} statements (status={})",
+          request.getMethod(), request.getRequestURI(), statements, response.getStatus());
+      sqlStatementCounter.clear();
+    }
+  }
+}
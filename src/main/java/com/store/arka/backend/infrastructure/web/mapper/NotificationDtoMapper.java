@@ -17,6 +17,7 @@ public class NotificationDtoMapper {
         domain.getType(),
         domain.getMessage(),
         domain.getStatus(),
+        domain.getDeliveryStatus(),
         domain.getCreatedAt(),
         domain.getReadAt()
     );
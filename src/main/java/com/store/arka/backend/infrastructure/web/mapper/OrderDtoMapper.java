@@ -1,10 +1,19 @@
 package com.store.arka.backend.infrastructure.web.mapper;
 
+import com.store.arka.backend.application.model.BulkOperationResult;
+import com.store.arka.backend.application.model.OrderHistoryEntry;
+import com.store.arka.backend.application.model.OrderSummary;
 import com.store.arka.backend.domain.model.Order;
+import com.store.arka.backend.infrastructure.web.dto.order.response.BulkOrderFailureDto;
+import com.store.arka.backend.infrastructure.web.dto.order.response.BulkOrderResponseDto;
+import com.store.arka.backend.infrastructure.web.dto.order.response.OrderHistoryResponseDto;
 import com.store.arka.backend.infrastructure.web.dto.order.response.OrderResponseDto;
+import com.store.arka.backend.infrastructure.web.dto.order.response.OrderSummaryResponseDto;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.util.stream.Collectors;
+
 @Component
 @RequiredArgsConstructor
 public class OrderDtoMapper {
@@ -23,4 +32,37 @@ public class OrderDtoMapper {
         domain.getUpdatedAt()
     );
   }
+
+  public BulkOrderResponseDto toBulkDto(int requested, BulkOperationResult result) {
+    return new BulkOrderResponseDto(
+        requested,
+        result.succeeded(),
+        result.failed().entrySet().stream()
+            .map(failure -> new BulkOrderFailureDto(failure.getKey(), failure.getValue()))
+            .collect(Collectors.toList())
+    );
+  }
+
+  public OrderSummaryResponseDto toSummaryDto(OrderSummary summary) {
+    return new OrderSummaryResponseDto(
+        summary.id(),
+        summary.customerId(),
+        summary.customerFirstName() + " " + summary.customerLastName(),
+        summary.itemCount(),
+        summary.total(),
+        summary.status(),
+        summary.createdAt()
+    );
+  }
+
+  public OrderHistoryResponseDto toHistoryDto(OrderHistoryEntry entry) {
+    return new OrderHistoryResponseDto(
+        entry.orderId(),
+        entry.status(),
+        entry.total(),
+        entry.itemCount(),
+        entry.createdAt(),
+        entry.updatedAt()
+    );
+  }
 }
@@ -0,0 +1,37 @@
+package com.store.arka.backend.infrastructure.web.mapper;
+
+import com.store.arka.backend.application.model.PageQuery;
+import com.store.arka.backend.application.model.PageResult;
+import com.store.arka.backend.domain.exception.InvalidArgumentException;
+import com.store.arka.backend.infrastructure.web.dto.PageRequestDto;
+import com.store.arka.backend.infrastructure.web.dto.PageResponseDto;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Function;
+
+@Component
+public class PageDtoMapper {
+  private static final int DEFAULT_PAGE_SIZE = 20;
+
+  public PageQuery toPageQuery(PageRequestDto dto) {
+    int page = dto == null || dto.page() == null ? 0 : dto.page();
+    int size = dto == null || dto.size() == null ? DEFAULT_PAGE_SIZE : dto.size();
+    if (dto == null || dto.sort() == null || dto.sort().isBlank()) return new PageQuery(page, size, null, true);
+    String[] parts = dto.sort().split(",");
+    if (parts.length > 2) throw new InvalidArgumentException("Sort must be property[,asc|desc]");
+    boolean descending = false;
+    if (parts.length == 2) {
+      String direction = parts[1].trim().toLowerCase();
+      if (!direction.equals("asc") && !direction.equals("desc")) {
+        throw new InvalidArgumentException("Sort direction must be asc or desc");
+      }
+      descending = direction.equals("desc");
+    }
+    return new PageQuery(page, size, parts[0].trim(), descending);
+  }
+
+  public <D, T> PageResponseDto<T> toDto(PageResult<D> result, Function<D, T> mapper) {
+    PageResult<T> mapped = result.map(mapper);
+    return new PageResponseDto<>(mapped.items(), mapped.page(), mapped.size(), mapped.hasNext());
+  }
+}
@@ -1,5 +1,7 @@
 package com.store.arka.backend.infrastructure.web.mapper;
 
+import com.store.arka.backend.application.model.ProductSearchResult;
+import com.store.arka.backend.application.model.SearchFacet;
 import com.store.arka.backend.domain.model.Product;
 import com.store.arka.backend.infrastructure.web.dto.product.request.CreateProductDto;
 import com.store.arka.backend.infrastructure.web.dto.product.request.UpdateFieldsProductDto;
@@ -7,6 +9,8 @@ import com.store.arka.backend.infrastructure.web.dto.product.response.ProductRes
 import com.store.arka.backend.infrastructure.web.dto.product.response.ProductResponseToOrderDto;
 import com.store.arka.backend.infrastructure.web.dto.product.response.ProductResponseToPurchaseDto;
 import com.store.arka.backend.infrastructure.web.dto.product.response.ProductResponseToSupplierDto;
+import com.store.arka.backend.infrastructure.web.dto.product.response.ProductSearchResponseDto;
+import com.store.arka.backend.infrastructure.web.dto.product.response.SearchFacetResponseDto;
 import com.store.arka.backend.shared.util.NormalizationUtils;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
@@ -14,6 +18,7 @@ import org.springframework.stereotype.Component;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.stream.Collectors;
 
 @Component
 @RequiredArgsConstructor
@@ -68,6 +73,22 @@ public class ProductDtoMapper {
     );
   }
 
+  public ProductSearchResponseDto toSearchDto(ProductSearchResult result) {
+    if (result == null) return null;
+    return new ProductSearchResponseDto(
+        result.items().stream().map(this::toDto).collect(Collectors.toList()),
+        result.total(),
+        result.page(),
+        result.size(),
+        result.categories().stream().map(this::toFacetDto).collect(Collectors.toList()),
+        result.statuses().stream().map(this::toFacetDto).collect(Collectors.toList())
+    );
+  }
+
+  private SearchFacetResponseDto toFacetDto(SearchFacet facet) {
+    return new SearchFacetResponseDto(facet.value(), facet.label(), facet.count());
+  }
+
   public ProductResponseToOrderDto toOrderDto(Product domain) {
     if (domain == null) return null;
     return new ProductResponseToOrderDto(
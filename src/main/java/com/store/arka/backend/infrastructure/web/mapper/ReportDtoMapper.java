@@ -0,0 +1,45 @@
+package com.store.arka.backend.infrastructure.web.mapper;
+
+import com.store.arka.backend.application.model.CategorySalesReport;
+import com.store.arka.backend.application.model.DailySalesReport;
+import com.store.arka.backend.application.model.ProductSalesReport;
+import com.store.arka.backend.infrastructure.web.dto.report.response.CategorySalesResponseDto;
+import com.store.arka.backend.infrastructure.web.dto.report.response.DailySalesResponseDto;
+import com.store.arka.backend.infrastructure.web.dto.report.response.ProductSalesResponseDto;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ReportDtoMapper {
+  public ProductSalesResponseDto toDto(ProductSalesReport report) {
+    return new ProductSalesResponseDto(
+        report.productId(),
+        report.sku(),
+        report.productName(),
+        report.unitsSold(),
+        report.revenue(),
+        report.unitsPurchased(),
+        report.purchaseCost()
+    );
+  }
+
+  public CategorySalesResponseDto toDto(CategorySalesReport report) {
+    return new CategorySalesResponseDto(
+        report.categoryId(),
+        report.categoryName(),
+        report.unitsSold(),
+        report.revenue(),
+        report.unitsPurchased(),
+        report.purchaseCost()
+    );
+  }
+
+  public DailySalesResponseDto toDto(DailySalesReport report) {
+    return new DailySalesResponseDto(
+        report.date(),
+        report.unitsSold(),
+        report.revenue(),
+        report.unitsPurchased(),
+        report.purchaseCost()
+    );
+  }
+}
@@ -1,9 +1,12 @@
 package com.store.arka.backend.shared.util;
 
+import com.store.arka.backend.domain.exception.InvalidArgumentException;
 import com.store.arka.backend.domain.exception.InvalidEnumValueException;
 import com.store.arka.backend.domain.exception.InvalidIdException;
 import lombok.extern.slf4j.Slf4j;
 
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
 import java.util.UUID;
 
 @Slf4j
@@ -21,6 +24,19 @@ public final class PathUtils {
     }
   }
 
+  public static LocalDate validateAndParseDate(String value, String field) {
+    if(value == null || value.isBlank()) {
+      log.warn("[PATH_UTILS][VALIDATE_AND_PARSE_DATE] {} is required", field);
+      throw new InvalidArgumentException(field + " is required");
+    }
+    try {
+      return LocalDate.parse(value.trim());
+    } catch (DateTimeParseException ex) {
+      log.warn("[PATH_UTILS][VALIDATE_AND_PARSE_DATE] Invalid {} format {}", field, value);
+      throw new InvalidArgumentException("Invalid " + field + " format, expected yyyy-MM-dd");
+    }
+  }
+
   public static <E extends Enum<E>> E validateEnumOrThrow(Class<E> enumClass, String value, String model) {
     if(value == null) {
       log.warn("[PATH_UTILS][VALIDATE_ENUM_OR_THROW] {} in controller is required", model);
@@ -1,11 +1,13 @@
 package com.store.arka.backend.shared.util;
 
+import com.store.arka.backend.application.model.PageQuery;
 import com.store.arka.backend.domain.exception.InvalidArgumentException;
 import com.store.arka.backend.domain.exception.ModelNullException;
 import com.store.arka.backend.domain.exception.QuantityBadRequestException;
 import lombok.extern.slf4j.Slf4j;
 
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 @Slf4j
@@ -35,6 +37,26 @@ public final class ValidateAttributesUtils {
     }
   }
 
+  public static void validatePageQuery(PageQuery pageQuery, Set<String> sortFields) {
+    validateModel(pageQuery, "Page query");
+    if (pageQuery.page() < 0) {
+      log.warn("[VALIDATE_ATTRIBUTES][PAGE] Page=({}) out of range", pageQuery.page());
+      throw new InvalidArgumentException("Page cannot be less than 0");
+    }
+    validatePageSize(pageQuery.size(), PageQuery.MAX_SIZE);
+    if (pageQuery.sortBy() != null && !sortFields.contains(pageQuery.sortBy())) {
+      log.warn("[VALIDATE_ATTRIBUTES][SORT] Sort field=({}) not allowed", pageQuery.sortBy());
+      throw new InvalidArgumentException("Sort field must be one of " + sortFields);
+    }
+  }
+
+  public static void validatePageSize(Integer size, int maxSize) {
+    if (size == null || size <= 0 || size > maxSize) {
+      log.warn("[VALIDATE_ATTRIBUTES][PAGE_SIZE] Page size=({}) out of range", size);
+      throw new InvalidArgumentException("Page size must be between 1 and " + maxSize);
+    }
+  }
+
   public static void validateValueNotAllowed(String value, String name) {
     validateNullOrEmpty(value, name);
     List<String> forbiddenNames = List.of("null", "default", "admin");
@@ -0,0 +1,28 @@
+-- Índice de búsqueda de texto completo del catálogo: sku, nombre, categorías y descripción con pesos A/A/B/C.
+-- Solo contiene productos vigentes; ProductService lo actualiza al crear, editar, recategorizar, eliminar o restaurar.
+CREATE TABLE IF NOT EXISTS product_search_index
+(
+    product_id    UUID PRIMARY KEY REFERENCES products (id),
+    search_vector TSVECTOR  NOT NULL,
+    updated_at    TIMESTAMP NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_product_search_index_vector ON product_search_index USING GIN (search_vector);
+
+-- Filtro por estado y orden por precio sobre el conjunto encontrado
+CREATE INDEX IF NOT EXISTS idx_products_status_price_id ON products (status, price, id);
+
+-- Carga inicial con los productos existentes
+INSERT INTO product_search_index (product_id, search_vector, updated_at)
+SELECT p.id,
+       setweight(to_tsvector('simple', p.sku), 'A') ||
+       setweight(to_tsvector('spanish', p.name), 'A') ||
+       setweight(to_tsvector('spanish', coalesce(string_agg(c.name, ' '), '')), 'B') ||
+       setweight(to_tsvector('spanish', coalesce(p.description, '')), 'C'),
+       now()
+FROM products p
+         LEFT JOIN product_category pc ON pc.product_id = p.id
+         LEFT JOIN categories c ON c.id = pc.category_id
+WHERE p.status <> 'ELIMINATED'
+GROUP BY p.id
+ON CONFLICT (product_id) DO NOTHING;
@@ -0,0 +1,12 @@
+-- Versión global del catálogo (productos y categorías) usada como ETag de los listados públicos.
+-- Se incrementa después de confirmar cada escritura del catálogo, en su propia transacción corta.
+CREATE TABLE IF NOT EXISTS catalog_version
+(
+    id         SMALLINT  NOT NULL PRIMARY KEY,
+    version    BIGINT    NOT NULL,
+    updated_at TIMESTAMP NOT NULL
+);
+
+INSERT INTO catalog_version (id, version, updated_at)
+VALUES (1, 1, now())
+ON CONFLICT (id) DO NOTHING;
@@ -0,0 +1,24 @@
+-- Historial de órdenes por cliente (proyección desnormalizada) para la pantalla "Mis órdenes".
+-- Se mantiene desde las transiciones de OrderService; aquí se carga con las órdenes existentes.
+CREATE TABLE IF NOT EXISTS customer_order_history
+(
+    order_id         UUID           NOT NULL PRIMARY KEY REFERENCES orders (id),
+    customer_id      UUID           NOT NULL REFERENCES customers (id),
+    customer_user_id UUID           NOT NULL,
+    status           VARCHAR(20)    NOT NULL,
+    total            NUMERIC(38, 2) NOT NULL,
+    item_count       INTEGER        NOT NULL,
+    created_at       TIMESTAMP      NOT NULL,
+    updated_at       TIMESTAMP      NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_customer_order_history_keyset
+    ON customer_order_history (customer_id, created_at DESC, order_id DESC);
+
+INSERT INTO customer_order_history
+    (order_id, customer_id, customer_user_id, status, total, item_count, created_at, updated_at)
+SELECT o.id, o.customer_id, c.user_id, o.status, o.total,
+       (SELECT COUNT(*) FROM order_items i WHERE i.order_id = o.id), o.created_at, o.updated_at
+FROM orders o
+JOIN customers c ON c.id = o.customer_id
+ON CONFLICT (order_id) DO NOTHING;
@@ -0,0 +1,25 @@
+-- Fecha en que se registró la venta de cada orden y categorías de sus productos en ese momento,
+-- para que la cancelación de una orden pagada revierta los mismos acumulados diarios.
+ALTER TABLE orders ADD COLUMN IF NOT EXISTS paid_at TIMESTAMP;
+
+-- las órdenes ya pagadas no guardaron la fecha: la última actualización es la mejor aproximación
+UPDATE orders
+SET paid_at = updated_at
+WHERE paid_at IS NULL
+  AND status IN ('PAID', 'SHIPPED', 'DELIVERED');
+
+CREATE TABLE IF NOT EXISTS order_sale_categories
+(
+    order_id    UUID NOT NULL REFERENCES orders (id),
+    product_id  UUID NOT NULL REFERENCES products (id),
+    category_id UUID NOT NULL REFERENCES categories (id),
+    PRIMARY KEY (order_id, product_id, category_id)
+);
+
+INSERT INTO order_sale_categories (order_id, product_id, category_id)
+SELECT DISTINCT o.id, i.product_id, pc.category_id
+FROM orders o
+JOIN order_items i ON i.order_id = o.id
+JOIN product_category pc ON pc.product_id = i.product_id
+WHERE o.status IN ('PAID', 'SHIPPED', 'DELIVERED')
+ON CONFLICT DO NOTHING;
@@ -0,0 +1,3 @@
+-- Las reservas activas se suman por producto en cada validación de disponibilidad
+CREATE INDEX IF NOT EXISTS idx_stock_reservations_product_status
+    ON stock_reservations (product_id, status) INCLUDE (quantity, order_id);
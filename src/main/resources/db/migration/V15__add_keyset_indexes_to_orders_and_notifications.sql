@@ -0,0 +1,3 @@
+-- Índices para la paginación por cursor (created_at, id) de órdenes y notificaciones
+CREATE INDEX IF NOT EXISTS idx_orders_created_at_id ON orders (created_at, id);
+CREATE INDEX IF NOT EXISTS idx_notifications_created_at_id ON notifications (created_at, id);
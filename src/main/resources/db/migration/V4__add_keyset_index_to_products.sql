@@ -0,0 +1,2 @@
+-- Índice para la paginación por cursor (created_at, id) del catálogo
+CREATE INDEX IF NOT EXISTS idx_products_created_at_id ON products (created_at, id);
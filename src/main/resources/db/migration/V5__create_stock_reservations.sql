@@ -0,0 +1,15 @@
+-- Retenciones de stock tomadas al hacer checkout y liberadas al cancelar, vencer o confirmar la orden
+CREATE TABLE IF NOT EXISTS stock_reservations
+(
+    id         UUID        NOT NULL PRIMARY KEY,
+    order_id   UUID        NOT NULL REFERENCES orders (id),
+    product_id UUID        NOT NULL REFERENCES products (id),
+    quantity   INTEGER     NOT NULL CHECK (quantity > 0),
+    status     VARCHAR(20) NOT NULL,
+    expires_at TIMESTAMP   NOT NULL,
+    created_at TIMESTAMP   NOT NULL,
+    updated_at TIMESTAMP   NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_stock_reservations_order_status ON stock_reservations (order_id, status);
+CREATE INDEX IF NOT EXISTS idx_stock_reservations_status_expires ON stock_reservations (status, expires_at);
@@ -0,0 +1,14 @@
+-- Outbox de notificaciones: el correo se envía de forma asíncrona a partir del estado de entrega
+ALTER TABLE notifications ADD COLUMN IF NOT EXISTS delivery_status VARCHAR(20);
+ALTER TABLE notifications ADD COLUMN IF NOT EXISTS delivery_attempts INTEGER;
+ALTER TABLE notifications ADD COLUMN IF NOT EXISTS next_attempt_at TIMESTAMP;
+ALTER TABLE notifications ADD COLUMN IF NOT EXISTS sent_at TIMESTAMP;
+
+-- Las notificaciones existentes ya se enviaron de forma síncrona
+UPDATE notifications SET delivery_status = 'SENT', delivery_attempts = 1, sent_at = created_at
+WHERE delivery_status IS NULL;
+
+ALTER TABLE notifications ALTER COLUMN delivery_status SET NOT NULL;
+ALTER TABLE notifications ALTER COLUMN delivery_attempts SET NOT NULL;
+
+CREATE INDEX IF NOT EXISTS idx_notifications_delivery ON notifications (delivery_status, next_attempt_at);
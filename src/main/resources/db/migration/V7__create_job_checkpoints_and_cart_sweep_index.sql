@@ -0,0 +1,11 @@
+-- Índice para recorrer los carritos activos por (updated_at, id) en lotes
+CREATE INDEX IF NOT EXISTS idx_carts_status_updated_at_id ON carts (status, updated_at, id);
+
+-- Última posición procesada por cada tarea en segundo plano, para reanudar tras un reinicio
+CREATE TABLE IF NOT EXISTS job_checkpoints
+(
+    job_name       VARCHAR(100) NOT NULL PRIMARY KEY,
+    last_timestamp TIMESTAMP    NOT NULL,
+    last_id        UUID         NOT NULL,
+    updated_at     TIMESTAMP    NOT NULL
+);
@@ -0,0 +1,2 @@
+-- Índice para que el proceso de expiración recorra solo los pagos PENDING más antiguos
+CREATE INDEX IF NOT EXISTS idx_payments_status_created_at ON payments (status, created_at);
@@ -0,0 +1,25 @@
+-- Acumulados diarios por producto y por categoría para los reportes de ventas e inventario.
+-- Se mantienen de forma incremental desde las transiciones de órdenes y compras.
+CREATE TABLE IF NOT EXISTS daily_product_rollups
+(
+    rollup_date     DATE           NOT NULL,
+    product_id      UUID           NOT NULL REFERENCES products (id),
+    units_sold      BIGINT         NOT NULL DEFAULT 0,
+    revenue         NUMERIC(14, 2) NOT NULL DEFAULT 0,
+    units_purchased BIGINT         NOT NULL DEFAULT 0,
+    purchase_cost   NUMERIC(14, 2) NOT NULL DEFAULT 0,
+    updated_at      TIMESTAMP      NOT NULL,
+    PRIMARY KEY (rollup_date, product_id)
+);
+
+CREATE TABLE IF NOT EXISTS daily_category_rollups
+(
+    rollup_date     DATE           NOT NULL,
+    category_id     UUID           NOT NULL REFERENCES categories (id),
+    units_sold      BIGINT         NOT NULL DEFAULT 0,
+    revenue         NUMERIC(14, 2) NOT NULL DEFAULT 0,
+    units_purchased BIGINT         NOT NULL DEFAULT 0,
+    purchase_cost   NUMERIC(14, 2) NOT NULL DEFAULT 0,
+    updated_at      TIMESTAMP      NOT NULL,
+    PRIMARY KEY (rollup_date, category_id)
+);
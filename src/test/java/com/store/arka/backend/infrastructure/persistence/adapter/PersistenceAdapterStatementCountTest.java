@@ -0,0 +1,198 @@
+package com.store.arka.backend.infrastructure.persistence.adapter;
+
+import com.store.arka.backend.application.port.out.ICartAdapterPort;
+import com.store.arka.backend.application.port.out.IOrderAdapterPort;
+import com.store.arka.backend.application.port.out.IProductAdapterPort;
+import com.store.arka.backend.domain.enums.CartStatus;
+import com.store.arka.backend.domain.enums.OrderStatus;
+import com.store.arka.backend.domain.model.*;
+import com.store.arka.backend.infrastructure.persistence.entity.CartEntity;
+import com.store.arka.backend.infrastructure.persistence.entity.OrderEntity;
+import com.store.arka.backend.infrastructure.persistence.entity.ProductEntity;
+import com.store.arka.backend.infrastructure.persistence.mapper.CartMapper;
+import com.store.arka.backend.infrastructure.persistence.mapper.CustomerMapper;
+import com.store.arka.backend.infrastructure.persistence.mapper.OrderMapper;
+import com.store.arka.backend.infrastructure.persistence.mapper.ProductMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Sentencias por escritura sin el flush + refresh que antes releía cada entidad guardada (una SELECT
+ * más por fila y por colección inicializada). El contexto se limpia antes de guardar, así que las
+ * lecturas por lotes del mapeo de respuesta también cuentan. Cada caso mide además el camino anterior
+ * (mismo guardado + refresh + mapeo), registra ambas cifras en el log y comprueba lo que quedó guardado.
+ */
+@Slf4j
+class PersistenceAdapterStatementCountTest extends PersistenceAdapterTestSupport {
+  private static final int LINES = 20;
+  // 1 INSERT del producto
+  private static final int MAX_PRODUCT_CREATE = 1;
+  // SELECT del producto + SELECT de sus categorías (solo se reemplazan si cambian) + UPDATE
+  private static final int MAX_PRODUCT_UPDATE = 3;
+  // INSERT de la cabecera + 1 lote de ítems + cliente, productos y categorías por lotes
+  private static final int MAX_CREATE_WITH_ITEMS = 5;
+  // SELECT de la cabecera + ítems + cliente, productos y categorías por lotes + UPDATE de la cabecera
+  private static final int MAX_UPDATE_WITH_ITEMS = 6;
+
+  @Autowired
+  private IProductAdapterPort productAdapterPort;
+  @Autowired
+  private ICartAdapterPort cartAdapterPort;
+  @Autowired
+  private IOrderAdapterPort orderAdapterPort;
+  @Autowired
+  private CustomerMapper customerMapper;
+  @Autowired
+  private ProductMapper productMapper;
+  @Autowired
+  private CartMapper cartMapper;
+  @Autowired
+  private OrderMapper orderMapper;
+
+  @Test
+  void saveProductSkipsRefresh() {
+    String suffix = uniqueSuffix();
+    Product product = Product.create("COUNT-" + suffix, "Producto " + suffix, "Producto de prueba",
+        BigDecimal.valueOf(100), 50);
+
+    Measured<Product> created = measure(() -> productAdapterPort.saveCreateProduct(product));
+    UUID id = created.result().getId();
+    record("product create", created.statements(), ProductEntity.class, id, productMapper::toDomain);
+    assertThat(created.statements()).isLessThanOrEqualTo(MAX_PRODUCT_CREATE);
+    entityManager.clear();
+
+    created.result().updateFields("Producto editado " + suffix, "Descripción editada", BigDecimal.valueOf(120));
+    Measured<Product> updated = measure(() -> productAdapterPort.saveUpdateProduct(created.result()));
+    record("product update", updated.statements(), ProductEntity.class, id, productMapper::toDomain);
+    assertThat(updated.statements()).isLessThanOrEqualTo(MAX_PRODUCT_UPDATE);
+    assertThat(updated.result().getName()).isEqualTo("Producto editado " + suffix);
+
+    entityManager.clear();
+    ProductEntity persisted = entityManager.find(ProductEntity.class, id);
+    assertThat(persisted.getName()).isEqualTo("Producto editado " + suffix);
+    assertThat(persisted.getPrice()).isEqualByComparingTo(BigDecimal.valueOf(120));
+  }
+
+  @Test
+  void saveUnchangedProductKeepsVersionAndTimestamp() {
+    String suffix = uniqueSuffix();
+    Product created = productAdapterPort.saveCreateProduct(Product.create("COUNT-" + suffix,
+        "Producto " + suffix, "Producto de prueba", BigDecimal.valueOf(100), 50));
+    entityManager.flush();
+    entityManager.clear();
+    ProductEntity before = entityManager.find(ProductEntity.class, created.getId());
+    Product unchanged = productMapper.toDomain(before);
+    Long version = before.getVersion();
+    LocalDateTime updatedAt = before.getUpdatedAt();
+    entityManager.clear();
+
+    productAdapterPort.saveUpdateProduct(unchanged);
+    entityManager.flush();
+    entityManager.clear();
+
+    ProductEntity after = entityManager.find(ProductEntity.class, created.getId());
+    assertThat(after.getVersion()).isEqualTo(version);
+    assertThat(after.getUpdatedAt()).isEqualTo(updatedAt);
+  }
+
+  @Test
+  void jdbcTemplateStatementsAreCounted() {
+    List<ProductEntity> products = persistProducts("COUNT-" + uniqueSuffix(), LINES);
+    entityManager.flush();
+    Map<UUID, Integer> quantities = new HashMap<>();
+    products.forEach(product -> quantities.put(product.getId(), 5));
+
+    Measured<Map<UUID, Integer>> stockLevels = measure(() -> productAdapterPort.decreaseStockInBatch(quantities));
+    // un único executeBatch de JdbcTemplate para todas las filas
+    assertThat(stockLevels.statements()).isEqualTo(1);
+    assertThat(stockLevels.result()).hasSize(LINES).allSatisfy((productId, stock) -> assertThat(stock).isEqualTo(45));
+    entityManager.clear();
+    assertThat(entityManager.find(ProductEntity.class, products.get(0).getId()).getStock()).isEqualTo(45);
+  }
+
+  @Test
+  void saveCartSkipsRefresh() {
+    String suffix = uniqueSuffix();
+    Customer customer = customerMapper.toDomain(persistCustomer(suffix));
+    List<CartItem> items = new ArrayList<>();
+    persistProducts("COUNT-" + suffix, LINES)
+        .forEach(product -> items.add(CartItem.create(productMapper.toDomain(product), 2)));
+    entityManager.flush();
+    entityManager.clear();
+
+    Measured<Cart> created = measure(() -> cartAdapterPort.saveCreateCart(Cart.create(customer, items)));
+    UUID id = created.result().getId();
+    record("cart create", created.statements(), CartEntity.class, id, cartMapper::toDomain);
+    assertThat(created.statements()).isLessThanOrEqualTo(MAX_CREATE_WITH_ITEMS);
+    assertThat(created.result().getItems()).hasSize(LINES);
+    entityManager.clear();
+
+    created.result().checkout();
+    Measured<Cart> updated = measure(() -> cartAdapterPort.saveUpdateCart(created.result()));
+    record("cart update", updated.statements(), CartEntity.class, id, cartMapper::toDomain);
+    assertThat(updated.statements()).isLessThanOrEqualTo(MAX_UPDATE_WITH_ITEMS);
+    assertThat(updated.result().getStatus()).isEqualTo(CartStatus.CHECKED_OUT);
+
+    entityManager.clear();
+    CartEntity persisted = entityManager.find(CartEntity.class, id);
+    assertThat(persisted.getStatus()).isEqualTo(CartStatus.CHECKED_OUT);
+    assertThat(persisted.getItems()).hasSize(LINES).allSatisfy(item -> assertThat(item.getQuantity()).isEqualTo(2));
+  }
+
+  @Test
+  void saveOrderSkipsRefresh() {
+    String suffix = uniqueSuffix();
+    Customer customer = customerMapper.toDomain(persistCustomer(suffix));
+    List<OrderItem> items = new ArrayList<>();
+    persistProducts("COUNT-" + suffix, LINES)
+        .forEach(product -> items.add(OrderItem.create(productMapper.toDomain(product), 2)));
+    entityManager.flush();
+    entityManager.clear();
+
+    Measured<Order> created = measure(() ->
+        orderAdapterPort.saveCreateOrder(Order.create(UUID.randomUUID(), customer, items)));
+    UUID id = created.result().getId();
+    record("order create", created.statements(), OrderEntity.class, id, orderMapper::toDomain);
+    assertThat(created.statements()).isLessThanOrEqualTo(MAX_CREATE_WITH_ITEMS);
+    assertThat(created.result().getItems()).hasSize(LINES);
+    entityManager.clear();
+
+    created.result().confirm();
+    Measured<Order> updated = measure(() -> orderAdapterPort.saveUpdateOrder(created.result()));
+    record("order update", updated.statements(), OrderEntity.class, id, orderMapper::toDomain);
+    assertThat(updated.statements()).isLessThanOrEqualTo(MAX_UPDATE_WITH_ITEMS);
+    assertThat(updated.result().getStatus()).isEqualTo(OrderStatus.CONFIRMED);
+
+    entityManager.clear();
+    OrderEntity persisted = entityManager.find(OrderEntity.class, id);
+    assertThat(persisted.getStatus()).isEqualTo(OrderStatus.CONFIRMED);
+    assertThat(persisted.getTotal()).isEqualByComparingTo(created.result().getTotal());
+    assertThat(persisted.getItems()).hasSize(LINES).allSatisfy(item -> assertThat(item.getQuantity()).isEqualTo(2));
+  }
+
+  /**
+   * Reproduce sobre la entidad recién guardada lo que hacía el camino anterior (refresh + mapeo de la
+   * copia releída), registra las dos cifras y comprueba que el camino actual emite menos sentencias.
+   */
+  private <E> void record(String operation, int current, Class<E> type, UUID id, Consumer<E> mapping) {
+    E managed = entityManager.find(type, id);
+    sqlStatementCounter.reset();
+    entityManager.refresh(managed);
+    mapping.accept(managed);
+    int baseline = current + sqlStatementCounter.getCount();
+    log.info("[STATEMENT_COUNT][{}] baseline={} current={}", operation, baseline, current);
+    assertThat(current).isLessThan(baseline);
+  }
+}
@@ -0,0 +1,105 @@
+package com.store.arka.backend.infrastructure.persistence.adapter;
+
+import com.store.arka.backend.domain.enums.*;
+import com.store.arka.backend.infrastructure.config.SqlStatementCounter;
+import com.store.arka.backend.infrastructure.persistence.entity.*;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Base de las pruebas de adaptadores contra la base de datos: cada prueba corre en una transacción
+ * que se revierte al terminar y dispone de fábricas para las entidades mínimas que necesita.
+ */
+@SpringBootTest
+@Transactional
+abstract class PersistenceAdapterTestSupport {
+  @Autowired
+  protected SqlStatementCounter sqlStatementCounter;
+  @PersistenceContext
+  protected EntityManager entityManager;
+
+  protected static String uniqueSuffix() {
+    return UUID.randomUUID().toString().substring(0, 8);
+  }
+
+  // sentencias emitidas por la escritura, incluido el flush que la cierra
+  protected <T> Measured<T> measure(Supplier<T> write) {
+    sqlStatementCounter.reset();
+    T result = write.get();
+    entityManager.flush();
+    return new Measured<>(result, sqlStatementCounter.getCount());
+  }
+
+  protected List<ProductEntity> persistProducts(String skuPrefix, int count) {
+    List<ProductEntity> products = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      ProductEntity product = new ProductEntity();
+      product.setSku(skuPrefix + "-" + i);
+      product.setName("Producto " + i);
+      product.setDescription("Producto de prueba " + i);
+      product.setPrice(BigDecimal.valueOf(100 + i));
+      product.setCategories(new HashSet<>());
+      product.setStock(50);
+      product.setStatus(ProductStatus.ACTIVE);
+      entityManager.persist(product);
+      products.add(product);
+    }
+    return products;
+  }
+
+  protected SupplierEntity persistSupplier(String suffix) {
+    SupplierEntity supplier = new SupplierEntity();
+    supplier.setCommercialName("Proveedor " + suffix);
+    supplier.setContactName("Contacto " + suffix);
+    supplier.setEmail("proveedor-" + suffix + "@arka.com");
+    supplier.setPhone("3001234567");
+    supplier.setTaxId("NIT-" + suffix);
+    supplier.setAddress("Calle 1 # 2-3");
+    supplier.setCity("Bogotá");
+    supplier.setCountry(Country.COLOMBIA);
+    supplier.setStatus(SupplierStatus.ACTIVE);
+    entityManager.persist(supplier);
+    return supplier;
+  }
+
+  protected CustomerEntity persistCustomer(String suffix) {
+    UserEntity user = new UserEntity();
+    user.setUserName("user_" + suffix);
+    user.setEmail("user-" + suffix + "@arka.com");
+    user.setPassword("secret");
+    user.setRole(UserRole.CUSTOMER);
+    user.setStatus(UserStatus.ACTIVE);
+    entityManager.persist(user);
+    DocumentEntity document = new DocumentEntity();
+    document.setType(DocumentType.DNI);
+    document.setNumber("DOC-" + suffix);
+    document.setStatus(DocumentStatus.ACTIVE);
+    entityManager.persist(document);
+    CustomerEntity customer = new CustomerEntity();
+    customer.setUser(user);
+    customer.setDocument(document);
+    customer.setFirstName("Cliente");
+    customer.setLastName(suffix);
+    customer.setEmail("cliente-" + suffix + "@arka.com");
+    customer.setPhone("3001234567");
+    customer.setAddress("Calle 1 # 2-3");
+    customer.setCity("Bogotá");
+    customer.setCountry(Country.COLOMBIA);
+    customer.setStatus(CustomerStatus.ACTIVE);
+    entityManager.persist(customer);
+    return customer;
+  }
+
+  protected record Measured<T>(T result, int statements) {
+  }
+}
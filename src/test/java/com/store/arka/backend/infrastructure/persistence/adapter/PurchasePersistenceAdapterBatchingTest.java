@@ -0,0 +1,67 @@
+package com.store.arka.backend.infrastructure.persistence.adapter;
+
+import com.store.arka.backend.application.port.out.IPurchaseAdapterPort;
+import com.store.arka.backend.domain.model.Purchase;
+import com.store.arka.backend.domain.model.PurchaseItem;
+import com.store.arka.backend.infrastructure.persistence.entity.ProductEntity;
+import com.store.arka.backend.infrastructure.persistence.entity.PurchaseEntity;
+import com.store.arka.backend.infrastructure.persistence.entity.SupplierEntity;
+import com.store.arka.backend.infrastructure.persistence.mapper.ProductMapper;
+import com.store.arka.backend.infrastructure.persistence.mapper.SupplierMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PurchasePersistenceAdapterBatchingTest extends PersistenceAdapterTestSupport {
+  private static final int LINES = 200;
+  // 1 INSERT de la compra + 4 lotes de ítems (batch_size 50) + lecturas por lotes del mapeo de respuesta
+  private static final int MAX_STATEMENTS = 15;
+
+  @Autowired
+  private IPurchaseAdapterPort purchaseAdapterPort;
+  @Autowired
+  private SupplierMapper supplierMapper;
+  @Autowired
+  private ProductMapper productMapper;
+
+  @Test
+  void saveCreatePurchaseBatchesItemInserts() {
+    String suffix = uniqueSuffix();
+    SupplierEntity supplier = persistSupplier(suffix);
+    List<ProductEntity> products = persistProducts("BATCH-" + suffix, LINES);
+    entityManager.flush();
+
+    List<PurchaseItem> items = new ArrayList<>();
+    products.forEach(product ->
+        items.add(PurchaseItem.create(productMapper.toDomain(product), 2, BigDecimal.TEN)));
+    Purchase purchase = Purchase.create(supplierMapper.toDomain(supplier), items);
+    entityManager.clear();
+
+    Measured<Purchase> saved = measure(() -> purchaseAdapterPort.saveCreatePurchase(purchase));
+    assertThat(saved.result().getItems()).hasSize(LINES);
+    assertThat(saved.statements()).isLessThanOrEqualTo(MAX_STATEMENTS);
+
+    // lo persistido: una fila por línea, con su producto, cantidad y costo
+    entityManager.clear();
+    PurchaseEntity persisted = entityManager.find(PurchaseEntity.class, saved.result().getId());
+    assertThat(persisted.getSupplier().getId()).isEqualTo(supplier.getId());
+    assertThat(persisted.getTotal()).isEqualByComparingTo(BigDecimal.valueOf(LINES * 2 * 10));
+    assertThat(persisted.getItems()).hasSize(LINES)
+        .allSatisfy(item -> {
+          assertThat(item.getQuantity()).isEqualTo(2);
+          assertThat(item.getUnitCost()).isEqualByComparingTo(BigDecimal.TEN);
+        });
+    Set<UUID> productIds = persisted.getItems().stream()
+        .map(item -> item.getProduct().getId())
+        .collect(Collectors.toSet());
+    assertThat(productIds).isEqualTo(products.stream().map(ProductEntity::getId).collect(Collectors.toSet()));
+  }
+}